@@ -5,6 +5,8 @@ import com.example.Games.config.common.dto.ApiResponse;
 import com.example.Games.cart.dto.AddToCartRequest;
 import com.example.Games.cart.dto.CartOperationResponse;
 import com.example.Games.cart.dto.CartSummaryResponse;
+import com.example.Games.cart.order.CheckoutOrderService;
+import com.example.Games.cart.order.dto.CheckoutOrderResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +22,7 @@ import org.springframework.web.bind.annotation.*;
 public class CartController {
 
     private final CartService cartService;
+    private final CheckoutOrderService checkoutOrderService;
     private final ResponseMapStruct responseMapper;
 
     @PostMapping("/add")
@@ -55,6 +58,23 @@ public class CartController {
         );
     }
 
+    // Queued instead of run on the request thread; the order is polled at /orders/{orderId}
+    @PostMapping(value = "/checkout", headers = "Idempotency-Key")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<CheckoutOrderResponse>> submitCheckout(
+            @RequestHeader("Idempotency-Key") String idempotencyKey) {
+        CheckoutOrderResponse order = checkoutOrderService.submit(idempotencyKey);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(responseMapper.toSuccessResponse("Checkout accepted", order));
+    }
+
+    @GetMapping("/orders/{orderId}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<CheckoutOrderResponse>> getOrder(@PathVariable Long orderId) {
+        CheckoutOrderResponse order = checkoutOrderService.getOrder(orderId);
+        return ResponseEntity.ok(responseMapper.toSuccessResponse("Checkout order retrieved", order));
+    }
+
     @DeleteMapping("/clear")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<CartOperationResponse>> clearCart() {
@@ -3,9 +3,11 @@ package com.example.Games.cart;
 import com.example.Games.user.auth.User;
 import com.example.Games.game.Game;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,4 +23,8 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
 
     @Query("SELECT ci.game.id FROM CartItem ci WHERE ci.user = :user")
     List<Long> findGameIdsByUser(@Param("user") User user);
+
+    @Modifying
+    @Query("DELETE FROM CartItem ci WHERE ci.user = :user AND ci.game.id IN :gameIds")
+    void deleteByUserAndGameIdIn(@Param("user") User user, @Param("gameIds") Collection<Long> gameIds);
 }
@@ -8,11 +8,14 @@ import com.example.Games.config.exception.purchase.GameAlreadyOwnedException;
 import com.example.Games.config.exception.game.GameNotFoundException;
 import com.example.Games.config.exception.cart.GameAlreadyInCartException;
 import com.example.Games.config.exception.cart.CartOperationException;
+import com.example.Games.config.exception.purchase.PurchaseException;
 import com.example.Games.config.common.service.UserContextService;
+import com.example.Games.discount.DiscountIndex;
 import com.example.Games.game.Game;
 import com.example.Games.game.GameMapStruct;
 import com.example.Games.game.GameRepository;
-import com.example.Games.purchase.PurchaseRepository;
+import com.example.Games.game.dto.Response;
+import com.example.Games.purchase.OwnershipIndex;
 import com.example.Games.purchase.PurchaseService;
 import com.example.Games.purchase.dto.PurchaseResponse;
 import com.example.Games.user.auth.User;
@@ -36,7 +39,8 @@ public class CartService {
     private final PurchaseService purchaseService;
     private final GameMapStruct gameMapStruct;
     private final CartMapStruct cartMapper;
-    private final PurchaseRepository purchaseRepository;
+    private final OwnershipIndex ownership;
+    private final DiscountIndex discounts;
 
     private User getCurrentUser() {
         return userContextService.getAuthorizedUser();
@@ -48,9 +52,12 @@ public class CartService {
         Game game = gameRepository.findById(request.gameId())
                 .orElseThrow(() -> GameNotFoundException.byId(request.gameId()));
 
-        if (purchaseRepository.existsByUserIdAndGameId(user.getId(), game.getId())) {
+        if (ownership.owns(user.getId(), game.getId())) {
             throw new GameAlreadyOwnedException("You already own this game: " + game.getTitle());
         }
+        if (!game.isReleased()) {
+            throw PurchaseException.notReleased(game.getTitle());
+        }
         if (cartItemRepository.existsByUserAndGame(user, game)) {
             throw new GameAlreadyInCartException("Game is already in your cart: " + game.getTitle());
         }
@@ -88,7 +95,8 @@ public class CartService {
         User user = getCurrentUser();
         List<CartItemResponse> items = cartItemRepository.findByUserWithGame(user)
                 .stream()
-                .map(cartItem -> new CartItemResponse(gameMapStruct.toDto(cartItem.getGame())))
+                .map(cartItem -> gameMapStruct.toDto(cartItem.getGame()))
+                .map(game -> new CartItemResponse(discounts.discountedPrice(game).map(game::withPrice).orElse(game)))
                 .toList();
         
         log.debug("Retrieved cart for user '{}' with {} items", user.getUsername(), items.size());
@@ -108,14 +116,13 @@ public class CartService {
                 .map(CartItem::getGame)
                 .collect(Collectors.toList());
 
-        BigDecimal total = games.stream()
-                .map(Game::getPrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        log.info("Processing checkout for user '{}' with {} items, total: ${}",
-                user.getUsername(), cartItems.size(), total);
+        log.info("Processing checkout for user '{}' with {} items", user.getUsername(), cartItems.size());
 
         List<PurchaseResponse> purchaseResponses = purchaseService.purchaseGames(games, user);
+        // Summed from what was charged, so a discount starting or ending mid-checkout cannot skew the total
+        BigDecimal total = purchaseResponses.stream()
+                .map(PurchaseResponse::purchasePrice)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
 
         cartItemRepository.deleteAllByUser(user);
         
@@ -0,0 +1,108 @@
+package com.example.Games.cart.order;
+
+import com.example.Games.game.Game;
+import com.example.Games.user.auth.User;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// A checkout submitted under a client's Idempotency-Key. The unique (user, key) pair is the dedupe record: a retry
+// with the same key finds this row and gets its outcome instead of placing a second order. Its items snapshot the
+// cart and prices at submission, which is what the order charges.
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@EntityListeners(AuditingEntityListener.class)
+@Table(
+        name = "checkout_orders",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "idempotency_key"}),
+        indexes = @Index(name = "idx_checkout_orders_status_created", columnList = "status, created_at")
+)
+public class CheckoutOrder {
+
+    static final int MAX_REASON_LENGTH = 255;
+
+    @EqualsAndHashCode.Include
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private CheckoutOrderStatus status = CheckoutOrderStatus.PENDING;
+
+    @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Builder.Default
+    private List<CheckoutOrderItem> items = new ArrayList<>();
+
+    // Processing attempts that ended in a transient failure; the order fails once it has used them all
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(name = "items_purchased")
+    private Integer itemsPurchased;
+
+    @Column(name = "total_charged", precision = 10, scale = 2)
+    private BigDecimal totalCharged;
+
+    @Column(name = "failure_reason", length = MAX_REASON_LENGTH)
+    private String failureReason;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "settled_at")
+    private LocalDateTime settledAt;
+
+    public static CheckoutOrder submitted(User user, String idempotencyKey) {
+        return CheckoutOrder.builder()
+                .user(user)
+                .idempotencyKey(idempotencyKey)
+                .build();
+    }
+
+    public void addItem(Game game, BigDecimal price) {
+        items.add(CheckoutOrderItem.builder().order(this).game(game).price(price).build());
+    }
+
+    public boolean isPending() {
+        return status == CheckoutOrderStatus.PENDING;
+    }
+
+    public void complete(int itemsPurchased, BigDecimal totalCharged, LocalDateTime at) {
+        this.status = CheckoutOrderStatus.COMPLETED;
+        this.itemsPurchased = itemsPurchased;
+        this.totalCharged = totalCharged;
+        this.settledAt = at;
+    }
+
+    public int attemptFailed() {
+        return ++attempts;
+    }
+
+    public void fail(String reason, LocalDateTime at) {
+        this.status = CheckoutOrderStatus.FAILED;
+        this.failureReason = reason.length() > MAX_REASON_LENGTH ? reason.substring(0, MAX_REASON_LENGTH) : reason;
+        this.settledAt = at;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.Games.cart.order;
+
+import com.example.Games.game.Game;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.math.BigDecimal;
+
+// One game of an order with the price quoted when the order was accepted. The worker charges these lines, not
+// whatever the cart holds by the time it runs.
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Table(name = "checkout_order_items", uniqueConstraints = @UniqueConstraint(columnNames = {"order_id", "game_id"}))
+public class CheckoutOrderItem {
+
+    @EqualsAndHashCode.Include
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "checkout_order_items_seq")
+    @SequenceGenerator(name = "checkout_order_items_seq", sequenceName = "checkout_order_items_seq", allocationSize = 50)
+    private Long id;
+
+    // Cascades in the database, so the bulk cleanup of settled orders takes their lines with them
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "order_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private CheckoutOrder order;
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "game_id", nullable = false)
+    private Game game;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal price;
+}
@@ -0,0 +1,15 @@
+package com.example.Games.cart.order;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CheckoutOrderItemRepository extends JpaRepository<CheckoutOrderItem, Long> {
+
+    @Query("SELECT i FROM CheckoutOrderItem i JOIN FETCH i.game WHERE i.order.id = :orderId ORDER BY i.id")
+    List<CheckoutOrderItem> findByOrderIdWithGame(@Param("orderId") Long orderId);
+}
@@ -0,0 +1,10 @@
+package com.example.Games.cart.order;
+
+import com.example.Games.cart.order.dto.CheckoutOrderResponse;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface CheckoutOrderMapStruct {
+
+    CheckoutOrderResponse toDto(CheckoutOrder order);
+}
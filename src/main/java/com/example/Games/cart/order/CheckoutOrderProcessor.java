@@ -0,0 +1,76 @@
+package com.example.Games.cart.order;
+
+import com.example.Games.cart.CartItemRepository;
+import com.example.Games.config.exception.cart.CartOperationException;
+import com.example.Games.game.Game;
+import com.example.Games.purchase.PurchaseService;
+import com.example.Games.user.auth.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Runs one order's checkout in a single transaction that also marks the order completed, so an order is either
+// charged and COMPLETED or untouched. A checkout that throws rolls back whole and is failed in a separate transaction.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CheckoutOrderProcessor {
+
+    private final CheckoutOrderRepository orderRepository;
+    private final CheckoutOrderItemRepository itemRepository;
+    private final CartItemRepository cartItemRepository;
+    private final PurchaseService purchaseService;
+
+    // Charges the games and prices the order captured when it was accepted, not the cart as it is now
+    @Transactional(rollbackFor = Exception.class)
+    public void process(Long orderId) {
+        CheckoutOrder order = orderRepository.lockById(orderId).orElse(null);
+        if (order == null || !order.isPending()) {
+            return;
+        }
+        List<CheckoutOrderItem> items = itemRepository.findByOrderIdWithGame(orderId);
+        if (items.isEmpty()) {
+            throw CartOperationException.emptyCart();
+        }
+        User user = order.getUser();
+        List<Game> games = items.stream().map(CheckoutOrderItem::getGame).toList();
+        List<BigDecimal> prices = items.stream().map(CheckoutOrderItem::getPrice).toList();
+        BigDecimal total = prices.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        purchaseService.purchaseGames(games, prices, user);
+        // Only the ordered games leave the cart; anything added since stays for a later checkout
+        cartItemRepository.deleteByUserAndGameIdIn(user, games.stream().map(Game::getId).toList());
+
+        order.complete(items.size(), total, LocalDateTime.now());
+        log.info("Checkout order {} completed: {} games for ${}", orderId, items.size(), total);
+    }
+
+    @Transactional
+    public void fail(Long orderId, String reason) {
+        orderRepository.lockById(orderId)
+                .filter(CheckoutOrder::isPending)
+                .ifPresent(order -> {
+                    order.fail(reason, LocalDateTime.now());
+                    log.warn("Checkout order {} failed: {}", orderId, reason);
+                });
+    }
+
+    // Counts a transient failure; the order stays pending for the sweep until it has used every attempt
+    @Transactional
+    public void attemptFailed(Long orderId, int maxAttempts) {
+        orderRepository.lockById(orderId)
+                .filter(CheckoutOrder::isPending)
+                .ifPresent(order -> {
+                    if (order.attemptFailed() >= maxAttempts) {
+                        order.fail(String.format("Checkout could not be completed after %d attempts, please try again",
+                                maxAttempts), LocalDateTime.now());
+                        log.warn("Checkout order {} failed after {} attempts", orderId, maxAttempts);
+                    }
+                });
+    }
+}
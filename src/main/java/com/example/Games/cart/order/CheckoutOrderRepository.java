@@ -0,0 +1,36 @@
+package com.example.Games.cart.order;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CheckoutOrderRepository extends JpaRepository<CheckoutOrder, Long> {
+
+    Optional<CheckoutOrder> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+    Optional<CheckoutOrder> findByIdAndUserId(Long id, Long userId);
+
+    // Workers lock the order and re-read its status, so an order dispatched twice is charged once
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM CheckoutOrder o JOIN FETCH o.user WHERE o.id = :id")
+    Optional<CheckoutOrder> lockById(@Param("id") Long id);
+
+    // Orders a full queue, a transient failure or a restart left unprocessed
+    @Query("SELECT o.id FROM CheckoutOrder o WHERE o.status = 'PENDING' AND o.createdAt <= :before ORDER BY o.id")
+    List<Long> findPendingIdsCreatedBefore(@Param("before") LocalDateTime before);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM CheckoutOrder o WHERE o.status <> 'PENDING' AND o.settledAt < :before")
+    int deleteSettledBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,81 @@
+package com.example.Games.cart.order;
+
+import com.example.Games.cart.CartItem;
+import com.example.Games.cart.CartItemRepository;
+import com.example.Games.cart.order.dto.CheckoutOrderResponse;
+import com.example.Games.config.common.service.UserContextService;
+import com.example.Games.config.exception.cart.CartOperationException;
+import com.example.Games.config.exception.cart.CheckoutOrderNotFoundException;
+import com.example.Games.discount.DiscountIndex;
+import com.example.Games.game.Game;
+import com.example.Games.user.auth.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// Accepts checkouts under a client-chosen Idempotency-Key and hands them to the CheckoutQueue. A retry with a key
+// already used returns the original order in whatever state it has reached, so a client that timed out can resend
+// the same request without being charged twice. The order snapshots the cart and its prices as accepted; later
+// cart edits do not change what it charges.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CheckoutOrderService {
+
+    static final int MAX_KEY_LENGTH = 100;
+
+    private final CheckoutOrderRepository orderRepository;
+    private final CartItemRepository cartItemRepository;
+    private final CheckoutOrderMapStruct orderMapper;
+    private final UserContextService userContextService;
+    private final CheckoutQueue queue;
+    private final DiscountIndex discounts;
+
+    // Deliberately not transactional: the insert commits on its own, so a duplicate key from a concurrent retry
+    // can be answered by re-reading the winner's row
+    public CheckoutOrderResponse submit(String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw CartOperationException.invalidIdempotencyKey(MAX_KEY_LENGTH);
+        }
+        User user = userContextService.getAuthorizedUser();
+        CheckoutOrder existing = orderRepository.findByUserIdAndIdempotencyKey(user.getId(), idempotencyKey)
+                .orElse(null);
+        if (existing != null) {
+            log.debug("Checkout retry with key '{}' answered from order {}", idempotencyKey, existing.getId());
+            return orderMapper.toDto(existing);
+        }
+        List<CartItem> cart = cartItemRepository.findByUserWithGame(user);
+        if (cart.isEmpty()) {
+            throw CartOperationException.emptyCart();
+        }
+        CheckoutOrder submitted = CheckoutOrder.submitted(user, idempotencyKey);
+        for (CartItem item : cart) {
+            Game game = item.getGame();
+            submitted.addItem(game, discounts.discountedPrice(game).orElse(game.getPrice()));
+        }
+
+        CheckoutOrder order;
+        try {
+            order = orderRepository.saveAndFlush(submitted);
+        } catch (DataIntegrityViolationException e) {
+            return orderRepository.findByUserIdAndIdempotencyKey(user.getId(), idempotencyKey)
+                    .map(orderMapper::toDto)
+                    .orElseThrow(() -> e);
+        }
+        queue.submit(order.getId());
+        log.info("Checkout order {} accepted for user '{}'", order.getId(), user.getUsername());
+        return orderMapper.toDto(order);
+    }
+
+    @Transactional(readOnly = true)
+    public CheckoutOrderResponse getOrder(Long orderId) {
+        User user = userContextService.getAuthorizedUser();
+        return orderRepository.findByIdAndUserId(orderId, user.getId())
+                .map(orderMapper::toDto)
+                .orElseThrow(() -> CheckoutOrderNotFoundException.byId(orderId));
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.Games.cart.order;
+
+public enum CheckoutOrderStatus {
+    PENDING,
+    COMPLETED,
+    FAILED
+}
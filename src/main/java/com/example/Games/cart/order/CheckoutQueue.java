@@ -0,0 +1,133 @@
+package com.example.Games.cart.order;
+
+import com.example.Games.config.common.transaction.AfterCommit;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// Feeds checkout orders to a fixed pool of workers through a bounded queue, so a burst of checkouts waits in the
+// queue instead of holding request threads and connections. The queue is only memory: an order that finds it full,
+// hits a transient database failure or is cut off by a restart stays PENDING and is picked up by the sweep, until
+// it has failed max-attempts times. Constraint violations are permanent and fail the order at once.
+@Slf4j
+@Component
+public class CheckoutQueue {
+
+    private final CheckoutOrderRepository orderRepository;
+    private final CheckoutOrderProcessor processor;
+    private final Duration retryAfter;
+    private final Duration retention;
+    private final int maxAttempts;
+    private final ThreadPoolExecutor executor;
+    // Orders queued or running here, so the sweep does not dispatch one twice
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+
+    public CheckoutQueue(CheckoutOrderRepository orderRepository,
+                         CheckoutOrderProcessor processor,
+                         @Value("${games.checkout.workers:4}") int workers,
+                         @Value("${games.checkout.queue-capacity:1000}") int queueCapacity,
+                         @Value("${games.checkout.retry-after:PT30S}") Duration retryAfter,
+                         @Value("${games.checkout.retention:P7D}") Duration retention,
+                         @Value("${games.checkout.max-attempts:5}") int maxAttempts) {
+        this.orderRepository = orderRepository;
+        this.processor = processor;
+        this.retryAfter = retryAfter;
+        this.retention = retention;
+        this.maxAttempts = maxAttempts;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("checkout-", 0).daemon().factory());
+    }
+
+    // Dispatched once the order row has committed, so a worker never looks for an order it cannot see yet
+    public void submit(Long orderId) {
+        AfterCommit.run(() -> dispatch(orderId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${games.checkout.sweep-interval:PT30S}",
+            fixedDelayString = "${games.checkout.sweep-interval:PT30S}")
+    public void sweep() {
+        orderRepository.findPendingIdsCreatedBefore(LocalDateTime.now().minus(retryAfter)).forEach(this::dispatch);
+    }
+
+    // Idempotency keys are honoured for the retention period; older settled orders are dropped
+    @Scheduled(initialDelayString = "${games.checkout.cleanup-interval:PT1H}",
+            fixedDelayString = "${games.checkout.cleanup-interval:PT1H}")
+    public void cleanUp() {
+        int removed = orderRepository.deleteSettledBefore(LocalDateTime.now().minus(retention));
+        if (removed > 0) {
+            log.info("Removed {} settled checkout orders older than {}", removed, retention);
+        }
+    }
+
+    boolean dispatch(Long orderId) {
+        if (!queued.add(orderId)) {
+            return false;
+        }
+        try {
+            executor.execute(() -> run(orderId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            queued.remove(orderId);
+            log.warn("Checkout queue is full, order {} left pending for the next sweep", orderId);
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void run(Long orderId) {
+        try {
+            processor.process(orderId);
+        } catch (DataIntegrityViolationException e) {
+            // A purchase row the order needs already exists, e.g. the game was bought elsewhere since the order
+            log.warn("Checkout order {} conflicts with existing data", orderId, e);
+            failQuietly(orderId, "Checkout conflicts with a purchase made since the order was placed");
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Checkout order {} hit a database failure, left pending for the next sweep", orderId, e);
+            countAttemptQuietly(orderId);
+        } catch (RuntimeException e) {
+            failQuietly(orderId, Objects.requireNonNullElse(e.getMessage(), e.getClass().getSimpleName()));
+        } finally {
+            queued.remove(orderId);
+        }
+    }
+
+    private void failQuietly(Long orderId, String reason) {
+        try {
+            processor.fail(orderId, reason);
+        } catch (RuntimeException e) {
+            log.error("Could not mark checkout order {} failed, left pending for the next sweep", orderId, e);
+        }
+    }
+
+    // When the database is down this fails too, and the attempt simply is not counted
+    private void countAttemptQuietly(Long orderId) {
+        try {
+            processor.attemptFailed(orderId, maxAttempts);
+        } catch (RuntimeException e) {
+            log.error("Could not count a failed attempt of checkout order {}", orderId, e);
+        }
+    }
+}
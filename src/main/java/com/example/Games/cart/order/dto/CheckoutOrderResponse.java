@@ -0,0 +1,17 @@
+package com.example.Games.cart.order.dto;
+
+import com.example.Games.cart.order.CheckoutOrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record CheckoutOrderResponse(
+        Long id,
+        String idempotencyKey,
+        CheckoutOrderStatus status,
+        Integer itemsPurchased,
+        BigDecimal totalCharged,
+        String failureReason,
+        LocalDateTime createdAt,
+        LocalDateTime settledAt
+) {}
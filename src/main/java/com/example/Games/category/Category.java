@@ -20,7 +20,9 @@ import java.util.List;
 @Builder
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "categories")
+@Table(name = "categories", indexes = {
+        @Index(name = "idx_categories_sync_version", columnList = "sync_version")
+})
 public class Category {
 
     @EqualsAndHashCode.Include
@@ -47,6 +49,10 @@ public class Category {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Delta-sync position, written only by GameSyncStamper as the writing transaction commits
+    @Column(name = "sync_version", insertable = false, updatable = false)
+    private Long syncVersion;
+
     public void updateName(String name) {
         if (name == null || name.trim().isEmpty()) {
             throw new IllegalArgumentException("Category name cannot be null or empty");
@@ -56,7 +62,4 @@ public class Category {
         }
         this.name = name.trim();
     }
-    public int getGameCount() {
-        return games != null ? games.size() : 0;
-    }
 }
@@ -2,6 +2,7 @@ package com.example.Games.category;
 
 import com.example.Games.config.common.mappers.ResponseMapStruct;
 import com.example.Games.config.common.dto.ApiResponse;
+import com.example.Games.category.dto.CategoryGameCount;
 import com.example.Games.category.dto.CategoryRequest;
 import com.example.Games.category.dto.CategoryResponse;
 import jakarta.validation.Valid;
@@ -37,6 +38,12 @@ public class CategoryController {
         return ResponseEntity.ok(responseMapper.toSuccessResponse(categories));
     }
 
+    @GetMapping("/counts")
+    public ResponseEntity<ApiResponse<List<CategoryGameCount>>> getGameCounts() {
+        List<CategoryGameCount> counts = categoryService.getCategoryGameCounts();
+        return ResponseEntity.ok(responseMapper.toSuccessResponse(counts));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<CategoryResponse>> getById(@PathVariable Long id) {
         CategoryResponse category = categoryService.getCategoryById(id);
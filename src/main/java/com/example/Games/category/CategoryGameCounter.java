@@ -0,0 +1,89 @@
+package com.example.Games.category;
+
+import com.example.Games.category.dto.CategoryGameCount;
+import com.example.Games.config.common.transaction.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// Game count per category, seeded by one GROUP BY at startup and then adjusted by every game and category write,
+// so listing the counts never touches the games table or a category's lazy games collection. Only this node's
+// writes adjust it, so the GROUP BY is re-run on a schedule and every node converges on the database counts.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryGameCounter {
+
+    private static final Comparator<CategoryGameCount> BY_NAME = Comparator
+            .comparing(CategoryGameCount::categoryName)
+            .thenComparing(CategoryGameCount::categoryId);
+
+    private final CategoryRepository categoryRepository;
+
+    private volatile ConcurrentMap<Long, CategoryGameCount> counts = new ConcurrentHashMap<>();
+
+    // Swaps in a fresh map, so readers never see it half filled; an adjustment racing the swap is lost only until
+    // the next reload
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${games.categories.count-reload-interval:PT5M}",
+            fixedDelayString = "${games.categories.count-reload-interval:PT5M}")
+    public void reload() {
+        List<CategoryGameCount> rows = categoryRepository.countGamesPerCategory();
+        ConcurrentMap<Long, CategoryGameCount> fresh = new ConcurrentHashMap<>();
+        rows.forEach(row -> fresh.put(row.categoryId(), row));
+        counts = fresh;
+        log.debug("Category game counters loaded for {} categories", rows.size());
+    }
+
+    public List<CategoryGameCount> all() {
+        return counts.values().stream().sorted(BY_NAME).toList();
+    }
+
+    public long count(Long categoryId) {
+        CategoryGameCount count = counts.get(categoryId);
+        return count != null ? count.gameCount() : 0;
+    }
+
+    // Adjustments are applied after commit so a rolled-back write never shows up in the counts
+    public void categoryCreated(Long categoryId, String name) {
+        AfterCommit.run(() -> counts.putIfAbsent(categoryId, new CategoryGameCount(categoryId, name, 0)));
+    }
+
+    public void categoryRenamed(Long categoryId, String name) {
+        AfterCommit.run(() -> counts.computeIfPresent(categoryId, (id, count) -> count.withName(name)));
+    }
+
+    public void categoryDeleted(Long categoryId) {
+        AfterCommit.run(() -> counts.remove(categoryId));
+    }
+
+    public void gameAdded(Long categoryId) {
+        AfterCommit.run(() -> adjust(categoryId, 1));
+    }
+
+    public void gameRemoved(Long categoryId) {
+        AfterCommit.run(() -> adjust(categoryId, -1));
+    }
+
+    public void gameMoved(Long fromCategoryId, Long toCategoryId) {
+        if (fromCategoryId.equals(toCategoryId)) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            adjust(fromCategoryId, -1);
+            adjust(toCategoryId, 1);
+        });
+    }
+
+    private void adjust(Long categoryId, long delta) {
+        counts.computeIfPresent(categoryId, (id, count) -> count.plus(delta));
+    }
+}
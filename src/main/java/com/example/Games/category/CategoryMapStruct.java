@@ -15,6 +15,7 @@ public interface CategoryMapStruct {
     @Mapping(target = "createdBy", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "syncVersion", ignore = true)
     Category toEntity(CategoryRequest request);
 
     @Mapping(target = "createdByUsername", source = "createdBy.username")
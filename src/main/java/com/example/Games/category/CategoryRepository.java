@@ -1,10 +1,15 @@
 package com.example.Games.category;
 
+import com.example.Games.category.dto.CategoryGameCount;
+import com.example.Games.category.dto.CategoryResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +24,28 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     @Query("SELECT COUNT(g) FROM Game g WHERE g.category.id = :categoryId")
     int countGamesByCategoryId(@Param("categoryId") Long categoryId);
 
+    // Every category with its game count in one aggregate; the LEFT JOIN keeps empty categories at zero
+    @Query("SELECT new com.example.Games.category.dto.CategoryGameCount(c.id, c.name, COUNT(g)) " +
+           "FROM Category c LEFT JOIN c.games g GROUP BY c.id, c.name ORDER BY c.name")
+    List<CategoryGameCount> countGamesPerCategory();
+
+    // Renames since a delta sync, so clients can patch the category embedded in their games
+    @Query("SELECT new com.example.Games.category.dto.CategoryResponse(c.id, c.name, cb.username, cb.id, " +
+           "c.createdAt, c.updatedAt) FROM Category c JOIN c.createdBy cb " +
+           "WHERE c.syncVersion > :after AND c.syncVersion <= :until ORDER BY c.syncVersion, c.id")
+    List<CategoryResponse> findResponsesChangedBetween(@Param("after") long after, @Param("until") long until);
+
+    @Query("SELECT MIN(c.syncVersion) FROM Category c WHERE c.updatedAt > :since")
+    Optional<Long> findMinSyncVersionUpdatedAfter(@Param("since") LocalDateTime since);
+
+    // Run by GameSyncStamper just before commit, after the transaction's own writes are flushed
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Category c SET c.syncVersion = :version WHERE c.id IN :ids")
+    int stampSyncVersion(@Param("version") long version, @Param("ids") Collection<Long> ids);
+
+    @Query("SELECT c.id FROM Category c WHERE c.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT c FROM Category c JOIN FETCH c.createdBy WHERE c.id = :id")
     Optional<Category> findByIdWithCreator(@Param("id") Long id);
 }
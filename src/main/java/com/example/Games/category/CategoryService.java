@@ -1,15 +1,23 @@
 package com.example.Games.category;
 
+import com.example.Games.category.dto.CategoryGameCount;
 import com.example.Games.category.dto.CategoryRequest;
 import com.example.Games.category.dto.CategoryResponse;
+import com.example.Games.config.cache.CacheConfig;
+import com.example.Games.config.cache.CatalogCacheEvictor;
+import com.example.Games.config.cache.CatalogVersion;
 import com.example.Games.config.common.service.UserContextService;
 import com.example.Games.config.exception.category.CategoryNotFoundException;
 import com.example.Games.config.exception.category.CategoryAlreadyExistsException;
 import com.example.Games.config.exception.category.CategoryInUseException;
 import com.example.Games.config.exception.category.UnauthorizedCategoryAccessException;
+import com.example.Games.game.GameCatalog;
+import com.example.Games.game.GameSyncStamper;
+import com.example.Games.typeahead.TypeaheadIndex;
 import com.example.Games.user.auth.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +31,12 @@ public class CategoryService {
     private final CategoryRepository categoryRepository;
     private final CategoryMapStruct categoryMapStruct;
     private final UserContextService userContextService;
+    private final CatalogCacheEvictor catalogCache;
+    private final GameCatalog gameCatalog;
+    private final CatalogVersion catalogVersion;
+    private final CategoryGameCounter gameCounter;
+    private final TypeaheadIndex typeahead;
+    private final GameSyncStamper syncStamper;
 
     public User getCurrentUser() {
         return userContextService.getAuthorizedUser();
@@ -40,23 +54,33 @@ public class CategoryService {
         Category category = categoryMapStruct.toEntity(request);
         category.setCreatedBy(currentUser);
         Category savedCategory = categoryRepository.save(category);
+        syncStamper.categoryChanged(savedCategory.getId());
+        catalogCache.evictCategoryList();
+        gameCounter.categoryCreated(savedCategory.getId(), savedCategory.getName());
+        typeahead.categorySaved(savedCategory.getId(), savedCategory.getName());
+        catalogVersion.bumpAfterCommit();
         log.info("Successfully created category '{}' with ID: {} by user: {}", 
                 savedCategory.getName(), savedCategory.getId(), currentUser.getUsername());
         return categoryMapStruct.toDto(savedCategory);
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.CATEGORIES)
     public List<CategoryResponse> getAllCategories() {
         log.debug("Retrieving all categories");
 
         List<Category> categories = categoryRepository.findAll();
         log.debug("Found {} categories", categories.size());
         
-        return categoryMapStruct.toDtoList(categories);
+        return List.copyOf(categoryMapStruct.toDtoList(categories));
     }
 
+    public List<CategoryGameCount> getCategoryGameCounts() {
+        return gameCounter.all();
+    }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.CATEGORIES_BY_ID, key = "#id")
     public CategoryResponse getCategoryById(Long id) {
         log.debug("Retrieving category with ID: {}", id);
 
@@ -88,6 +112,12 @@ public class CategoryService {
 
         category.updateName(updateRequest.name());
         Category updatedCategory = categoryRepository.save(category);
+        syncStamper.categoryChanged(id);
+        catalogCache.evictCategory(id);
+        gameCatalog.refreshAll();
+        gameCounter.categoryRenamed(id, updatedCategory.getName());
+        typeahead.categorySaved(id, updatedCategory.getName());
+        catalogVersion.bumpAfterCommit();
         
         log.info("Successfully updated category ID: {} to name: '{}' by user: {}", 
                 id, updatedCategory.getName(), currentUser.getUsername());
@@ -113,6 +143,10 @@ public class CategoryService {
         }
         
         categoryRepository.deleteById(id);
+        catalogCache.evictCategory(id);
+        gameCounter.categoryDeleted(id);
+        typeahead.categoryRemoved(id);
+        catalogVersion.bumpAfterCommit();
         
         log.info("Successfully deleted category '{}' with ID: {} by user: {}", category.getName(), id, currentUser.getUsername());
     }
@@ -0,0 +1,15 @@
+package com.example.Games.category.dto;
+
+public record CategoryGameCount(
+        Long categoryId,
+        String categoryName,
+        long gameCount
+) {
+    public CategoryGameCount withName(String name) {
+        return new CategoryGameCount(categoryId, name, gameCount);
+    }
+
+    public CategoryGameCount plus(long delta) {
+        return new CategoryGameCount(categoryId, categoryName, gameCount + delta);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.Games.config.cache;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String GAMES_BY_ID = "gamesById";
+    public static final String GAMES_BY_TITLE = "gamesByTitle";
+    public static final String CATEGORIES_BY_ID = "categoriesById";
+    public static final String CATEGORIES = "categories";
+}
@@ -0,0 +1,97 @@
+package com.example.Games.config.cache;
+
+import com.example.Games.config.common.transaction.AfterCommit;
+import com.example.Games.game.GameDocumentCache;
+import com.example.Games.game.dto.Response;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogCacheEvictor {
+
+    private final CacheManager cacheManager;
+    private final GameDocumentCache gameDocuments;
+
+    // Evictions wait for commit: evicting earlier would let a concurrent reader re-cache the old row.
+    // Rendered documents go last, since a document miss is re-rendered from the Response caches above.
+    public void evictGame(Long gameId, String... titles) {
+        AfterCommit.run(() -> {
+            evict(CacheConfig.GAMES_BY_ID, gameId);
+            for (String title : titles) {
+                if (title != null) {
+                    evict(CacheConfig.GAMES_BY_TITLE, title);
+                }
+            }
+            gameDocuments.evictGame(gameId);
+            log.debug("Evicted cached game {} (titles: {})", gameId, List.of(titles));
+        });
+    }
+
+    // For changes that know only the game id, such as a discount starting: title entries are matched by game id
+    public void evictGameById(Long gameId) {
+        AfterCommit.run(() -> {
+            evict(CacheConfig.GAMES_BY_ID, gameId);
+            evictGamesMatching(CacheConfig.GAMES_BY_TITLE, game -> gameId.equals(game.id()));
+            gameDocuments.evictGame(gameId);
+            log.debug("Evicted cached game {}", gameId);
+        });
+    }
+
+    public void evictCategoryList() {
+        AfterCommit.run(() -> clear(CacheConfig.CATEGORIES));
+    }
+
+    // A category change also invalidates every cached game that embeds that category
+    public void evictCategory(Long categoryId) {
+        AfterCommit.run(() -> {
+            evict(CacheConfig.CATEGORIES_BY_ID, categoryId);
+            clear(CacheConfig.CATEGORIES);
+            evictGamesInCategory(categoryId);
+            log.debug("Evicted cached category {} and its games", categoryId);
+        });
+    }
+
+    // Only the cached games of the category, for changes to their prices rather than to the category itself
+    public void evictCategoryGames(Long categoryId) {
+        AfterCommit.run(() -> {
+            evictGamesInCategory(categoryId);
+            log.debug("Evicted cached games of category {}", categoryId);
+        });
+    }
+
+    private void evictGamesInCategory(Long categoryId) {
+        Predicate<Response> inCategory = game -> game.category() != null && categoryId.equals(game.category().id());
+        evictGamesMatching(CacheConfig.GAMES_BY_ID, inCategory);
+        evictGamesMatching(CacheConfig.GAMES_BY_TITLE, inCategory);
+        gameDocuments.evictCategory(categoryId);
+    }
+
+    private void evictGamesMatching(String cacheName, Predicate<Response> predicate) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            nativeCache.asMap().values().removeIf(value -> value instanceof Response game && predicate.test(game));
+        }
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
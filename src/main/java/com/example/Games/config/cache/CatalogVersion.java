@@ -0,0 +1,30 @@
+package com.example.Games.config.cache;
+
+import com.example.Games.config.common.transaction.AfterCommit;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Version of everything served under the public catalog GETs; the source of their ETags. The bodies come from this
+// instance's caches and indexes, which pick up other instances' writes by periodic catch-up or expiry, so the tag is
+// weak and per instance: it names this instance and start, and a tag handed out elsewhere or before a restart never
+// matches and simply costs one full response.
+public class CatalogVersion {
+
+    private final String instance = Long.toString(UUID.randomUUID().getMostSignificantBits() >>> 1, 36);
+    private final AtomicLong version = new AtomicLong();
+
+    public long current() {
+        return version.get();
+    }
+
+    public String etag() {
+        return "W/\"catalog-" + instance + "-" + Long.toString(current(), 36) + "\"";
+    }
+
+    // Write paths call this after their cache, index and snapshot updates, so it runs last after commit
+    // and a client can never pair the new tag with a stale body
+    public void bumpAfterCommit() {
+        AfterCommit.run(version::incrementAndGet);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.Games.config.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+@Configuration
+public class CatalogWebConfig implements WebMvcConfigurer {
+
+    @Value("${catalog.http.max-age:0s}")
+    private Duration maxAge;
+
+    // Declared here rather than scanned, so web slices that pick up this configurer get the version with it
+    @Bean
+    public CatalogVersion catalogVersion() {
+        return new CatalogVersion();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // The catalog is the same for every caller, so shared caches may store it as long as they revalidate
+        CacheControl cacheControl = CacheControl.maxAge(maxAge).cachePublic().mustRevalidate();
+        // Delta sync releases settled writes over time without a version bump, so it must not be answered with 304
+        registry.addInterceptor(new CatalogEtagInterceptor(catalogVersion(), cacheControl))
+                .addPathPatterns("/api/v1/games/**", "/api/v1/categories/**")
+                .excludePathPatterns("/api/v1/games/changes");
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.Games.config.common.fields;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// A parsed ?fields= list. Queries select only these expressions and join only what they need,
+// so an association nobody asked for is neither joined nor loaded; rows become maps holding just these keys.
+public record FieldSelection(
+        String root,
+        String rootAlias,
+        List<SparseField> fields
+) {
+
+    public List<String> names() {
+        return fields.stream().map(SparseField::name).toList();
+    }
+
+    // Extra expressions (keyset columns, for instance) are appended after the selected fields and left out of toMap
+    public List<Object[]> rows(EntityManager entityManager, String where, String orderBy,
+                               Map<String, Object> parameters, int offset, int limit, String... extra) {
+        String select = Stream.concat(fields.stream().map(SparseField::expression), Stream.of(extra))
+                .collect(Collectors.joining(", "));
+        String jpql = "SELECT " + select + " FROM " + root + joins() + where(where) + " ORDER BY " + orderBy;
+
+        TypedQuery<Object> query = entityManager.createQuery(jpql, Object.class)
+                .setFirstResult(offset)
+                .setMaxResults(limit);
+        parameters.forEach(query::setParameter);
+        // A single selected expression comes back bare rather than as a one-element array
+        return query.getResultList().stream()
+                .map(row -> row instanceof Object[] columns ? columns : new Object[]{row})
+                .toList();
+    }
+
+    public List<Map<String, Object>> list(EntityManager entityManager, String where, String orderBy,
+                                          Map<String, Object> parameters) {
+        return rows(entityManager, where, orderBy, parameters, 0, Integer.MAX_VALUE).stream()
+                .map(this::toMap)
+                .toList();
+    }
+
+    // The count runs on the root alone, so it never pays for the joins either
+    public Page<Map<String, Object>> page(EntityManager entityManager, String where, String orderBy,
+                                          Map<String, Object> parameters, Pageable pageable) {
+        List<Map<String, Object>> content = rows(entityManager, where, orderBy, parameters,
+                (int) pageable.getOffset(), pageable.getPageSize()).stream()
+                .map(this::toMap)
+                .toList();
+
+        TypedQuery<Long> count = entityManager.createQuery(
+                "SELECT COUNT(" + rootAlias + ") FROM " + root + where(where), Long.class);
+        parameters.forEach(count::setParameter);
+        return new PageImpl<>(content, pageable, count.getSingleResult());
+    }
+
+    public Map<String, Object> toMap(Object[] row) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            SparseField field = fields.get(i);
+            values.put(field.name(), field.convert(row[i]));
+        }
+        return values;
+    }
+
+    // Value of the extra expression at the given index, in the order passed to rows
+    public Object extra(Object[] row, int index) {
+        return row[fields.size() + index];
+    }
+
+    private String joins() {
+        Set<String> joins = new LinkedHashSet<>();
+        fields.forEach(field -> joins.addAll(field.joins()));
+        return joins.stream().map(join -> " " + join).collect(Collectors.joining());
+    }
+
+    private static String where(String condition) {
+        return condition == null || condition.isBlank() ? "" : " WHERE " + condition;
+    }
+}
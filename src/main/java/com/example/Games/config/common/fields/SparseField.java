@@ -0,0 +1,26 @@
+package com.example.Games.config.common.fields;
+
+import java.util.List;
+import java.util.function.Function;
+
+// One selectable response field: the JPQL expression that produces it and the joins that expression needs,
+// listed in dependency order (a join's own prerequisites come before it)
+public record SparseField(
+        String name,
+        String expression,
+        List<String> joins,
+        Function<Object, Object> converter
+) {
+
+    public static SparseField of(String name, String expression, String... joins) {
+        return new SparseField(name, expression, List.of(joins), Function.identity());
+    }
+
+    public SparseField converted(Function<Object, Object> converter) {
+        return new SparseField(name, expression, joins, converter);
+    }
+
+    Object convert(Object value) {
+        return value == null ? null : converter.apply(value);
+    }
+}
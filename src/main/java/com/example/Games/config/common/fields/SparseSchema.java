@@ -0,0 +1,49 @@
+package com.example.Games.config.common.fields;
+
+import com.example.Games.config.exception.common.InvalidFieldSelectionException;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// The fields a list endpoint can be narrowed to with ?fields=, all selected from one root entity
+public final class SparseSchema {
+
+    private final String root;
+    private final String rootAlias;
+    private final Map<String, SparseField> fields = new LinkedHashMap<>();
+
+    public SparseSchema(String root, List<SparseField> fields) {
+        this.root = root;
+        this.rootAlias = root.substring(root.lastIndexOf(' ') + 1);
+        fields.forEach(field -> this.fields.put(field.name(), field));
+    }
+
+    // Parses a comma-separated field list; order is kept, duplicates collapse, unknown names are rejected
+    public FieldSelection select(String requested) {
+        Set<String> names = new LinkedHashSet<>();
+        for (String name : requested == null ? new String[0] : requested.split(",")) {
+            if (!name.isBlank()) {
+                names.add(name.trim());
+            }
+        }
+        if (names.isEmpty()) {
+            throw InvalidFieldSelectionException.empty(fields.keySet());
+        }
+        return new FieldSelection(root, rootAlias, names.stream()
+                .map(name -> {
+                    SparseField field = fields.get(name);
+                    if (field == null) {
+                        throw InvalidFieldSelectionException.unknownField(name, fields.keySet());
+                    }
+                    return field;
+                })
+                .toList());
+    }
+
+    public Set<String> fieldNames() {
+        return fields.keySet();
+    }
+}
@@ -3,11 +3,14 @@ package com.example.Games.config.exception;
 import com.example.Games.config.common.mappers.ResponseMapStruct;
 import com.example.Games.config.common.dto.ApiResponse;
 import com.example.Games.config.exception.cart.CartOperationException;
+import com.example.Games.config.exception.common.InvalidFieldSelectionException;
 import com.example.Games.config.exception.purchase.GameAlreadyOwnedException;
 import com.example.Games.config.exception.purchase.PurchaseException;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -23,7 +26,9 @@ import jakarta.validation.ConstraintViolationException;
 import java.util.HashMap;
 import java.util.Map;
 
+// Catch-all advice, consulted after every domain handler so its RuntimeException fallback never shadows them
 @Slf4j
+@Order(Ordered.LOWEST_PRECEDENCE)
 @RestControllerAdvice
 @RequiredArgsConstructor
 public class GlobalExceptionHandler {
@@ -58,6 +63,13 @@ public class GlobalExceptionHandler {
                 .body(responseMapper.toErrorResponse("Validation failed", errors));
     }
 
+    @ExceptionHandler(InvalidFieldSelectionException.class)
+    public ResponseEntity<ApiResponse<Object>> handleInvalidFieldSelection(InvalidFieldSelectionException ex) {
+        log.warn("Invalid field selection: {}", ex.getMessage());
+        return ResponseEntity.badRequest()
+                .body(responseMapper.toErrorResponse(ex.getMessage()));
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<ApiResponse<Object>> handleAccessDenied(AccessDeniedException ex) {
         log.warn("Access denied: {}", ex.getMessage());
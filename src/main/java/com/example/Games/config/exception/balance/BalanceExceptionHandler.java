@@ -7,10 +7,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 @Slf4j
+@Order(1)
 @RestControllerAdvice
 @RequiredArgsConstructor
 public class BalanceExceptionHandler {
@@ -44,4 +46,12 @@ public class BalanceExceptionHandler {
         return ResponseEntity.status(HttpStatus.PAYMENT_REQUIRED)
                 .body(responseMapper.toErrorResponse(ex.getMessage()));
     }
+
+    // A versioned balance write lost to a concurrent debit or credit; nothing was applied, so the request can be retried
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Object>> handleConcurrentBalanceUpdate(ObjectOptimisticLockingFailureException ex) {
+        log.warn("Concurrent update of {}: {}", ex.getPersistentClassName(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(responseMapper.toErrorResponse("Balance was changed by another operation, please retry"));
+    }
 }
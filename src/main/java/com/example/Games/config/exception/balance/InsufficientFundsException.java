@@ -1,7 +1,14 @@
 package com.example.Games.config.exception.balance;
 
+import java.math.BigDecimal;
+
 public class InsufficientFundsException extends RuntimeException {
     public InsufficientFundsException(String message) {
         super(message);
     }
+
+    public static InsufficientFundsException requested(BigDecimal current, BigDecimal requested) {
+        return new InsufficientFundsException(
+                String.format("Insufficient funds. Current: $%.2f, Requested: $%.2f", current, requested));
+    }
 }
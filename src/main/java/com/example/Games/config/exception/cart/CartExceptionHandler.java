@@ -5,12 +5,14 @@ import com.example.Games.config.common.mappers.ResponseMapStruct;
 import com.example.Games.config.exception.purchase.GameAlreadyOwnedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 @Slf4j
+@Order(1)
 @RestControllerAdvice
 @RequiredArgsConstructor
 public class CartExceptionHandler {
@@ -37,4 +39,11 @@ public class CartExceptionHandler {
         return ResponseEntity.badRequest()
                 .body(responseMapper.toErrorResponse(ex.getMessage()));
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(CheckoutOrderNotFoundException.class)
+    public ResponseEntity<ApiResponse<Object>> handleCheckoutOrderNotFound(CheckoutOrderNotFoundException ex) {
+        log.warn("Checkout order not found: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(responseMapper.toErrorResponse(ex.getMessage()));
+    }
+}
@@ -15,4 +15,10 @@ public class CartOperationException extends RuntimeException {
             String.format("Game with ID %d is not in your cart", gameId)
         );
     }
+
+    public static CartOperationException invalidIdempotencyKey(int maxLength) {
+        return new CartOperationException(
+            String.format("Idempotency-Key must be non-blank and at most %d characters", maxLength)
+        );
+    }
 }
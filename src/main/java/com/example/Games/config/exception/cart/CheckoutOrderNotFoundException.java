@@ -0,0 +1,12 @@
+package com.example.Games.config.exception.cart;
+
+public class CheckoutOrderNotFoundException extends RuntimeException {
+
+    public CheckoutOrderNotFoundException(String message) {
+        super(message);
+    }
+
+    public static CheckoutOrderNotFoundException byId(Long orderId) {
+        return new CheckoutOrderNotFoundException("Checkout order not found with ID: " + orderId);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.Games.config.exception.common;
+
+import java.util.Collection;
+
+public class InvalidFieldSelectionException extends RuntimeException {
+    public InvalidFieldSelectionException(String message) {
+        super(message);
+    }
+
+    public static InvalidFieldSelectionException unknownField(String field, Collection<String> allowed) {
+        return new InvalidFieldSelectionException(
+                String.format("Unknown field '%s'; allowed fields: %s", field, String.join(",", allowed)));
+    }
+
+    public static InvalidFieldSelectionException empty(Collection<String> allowed) {
+        return new InvalidFieldSelectionException(
+                "No fields requested; allowed fields: " + String.join(",", allowed));
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.Games.config.exception.discount;
+
+import com.example.Games.config.common.dto.ApiResponse;
+import com.example.Games.config.common.mappers.ResponseMapStruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@Slf4j
+@Order(1)
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class DiscountExceptionHandler {
+
+    private final ResponseMapStruct responseMapper;
+
+    @ExceptionHandler(DiscountNotFoundException.class)
+    public ResponseEntity<ApiResponse<Object>> handleDiscountNotFound(DiscountNotFoundException ex) {
+        log.warn("Discount not found: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(responseMapper.toErrorResponse(ex.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidDiscountException.class)
+    public ResponseEntity<ApiResponse<Object>> handleInvalidDiscount(InvalidDiscountException ex) {
+        log.warn("Invalid discount: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(responseMapper.toErrorResponse(ex.getMessage()));
+    }
+
+    @ExceptionHandler(UnauthorizedDiscountAccessException.class)
+    public ResponseEntity<ApiResponse<Object>> handleUnauthorizedDiscountAccess(UnauthorizedDiscountAccessException ex) {
+        log.warn("Unauthorized discount access: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(responseMapper.toErrorResponse(ex.getMessage()));
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.Games.config.exception.discount;
+
+public class DiscountNotFoundException extends RuntimeException {
+
+    public DiscountNotFoundException(String message) {
+        super(message);
+    }
+
+    public static DiscountNotFoundException byId(Long discountId) {
+        return new DiscountNotFoundException("Discount not found with ID: " + discountId);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.Games.config.exception.discount;
+
+public class InvalidDiscountException extends RuntimeException {
+
+    public InvalidDiscountException(String message) {
+        super(message);
+    }
+
+    public static InvalidDiscountException invalidWindow() {
+        return new InvalidDiscountException("Discount must end after it starts");
+    }
+
+    public static InvalidDiscountException alreadyEnded() {
+        return new InvalidDiscountException("Discount must end in the future");
+    }
+}
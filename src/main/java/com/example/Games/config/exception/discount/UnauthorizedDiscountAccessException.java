@@ -0,0 +1,14 @@
+package com.example.Games.config.exception.discount;
+
+public class UnauthorizedDiscountAccessException extends RuntimeException {
+
+    public UnauthorizedDiscountAccessException(String message) {
+        super(message);
+    }
+
+    public static UnauthorizedDiscountAccessException notCreator(Long discountId, String username) {
+        return new UnauthorizedDiscountAccessException(
+            String.format("User '%s' is not the creator of discount with ID: %d", username, discountId)
+        );
+    }
+}
@@ -20,4 +20,44 @@ public class InvalidGameDataException extends RuntimeException {
     public static InvalidGameDataException invalidPriceRange() {
         return new InvalidGameDataException("Minimum price cannot be greater than maximum price");
     }
+
+    public static InvalidGameDataException invalidSortKey(String sortKey) {
+        return new InvalidGameDataException("Unsupported sort key: " + sortKey);
+    }
+
+    public static InvalidGameDataException invalidSortDirection(String direction) {
+        return new InvalidGameDataException("Unsupported sort direction: " + direction);
+    }
+
+    public static InvalidGameDataException invalidCursor() {
+        return new InvalidGameDataException("Cursor is malformed or does not match the requested sort");
+    }
+
+    public static InvalidGameDataException invalidSyncToken() {
+        return new InvalidGameDataException("Sync token is malformed");
+    }
+
+    public static InvalidGameDataException expiredSyncToken() {
+        return new InvalidGameDataException("Sync position is older than the kept deletions; start a full sync");
+    }
+
+    public static InvalidGameDataException invalidBatchSize(int maxSize) {
+        return new InvalidGameDataException("Batch lookup needs between 1 and " + maxSize + " ids");
+    }
+
+    public static InvalidGameDataException invalidImportHeader(String required) {
+        return new InvalidGameDataException("CSV import needs a header row with the columns " + required);
+    }
+
+    public static InvalidGameDataException unsupportedImportFormat(String contentType) {
+        return new InvalidGameDataException("Unsupported import content type: " + contentType);
+    }
+
+    public static InvalidGameDataException invalidBulkPriceScope() {
+        return new InvalidGameDataException("Bulk price update needs either gameIds or categoryId, not both");
+    }
+
+    public static InvalidGameDataException bulkPriceBelowMinimum(Long gameId) {
+        return new InvalidGameDataException("Price change would take game " + gameId + " below $0.01");
+    }
 }
@@ -0,0 +1,27 @@
+package com.example.Games.config.exception.license;
+
+import com.example.Games.config.common.dto.ApiResponse;
+import com.example.Games.config.common.mappers.ResponseMapStruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@Slf4j
+@Order(1)
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class LicenseExceptionHandler {
+
+    private final ResponseMapStruct responseMapper;
+
+    @ExceptionHandler(LicenseNotGrantedException.class)
+    public ResponseEntity<ApiResponse<Object>> handleLicenseNotGranted(LicenseNotGrantedException ex) {
+        log.warn("License not granted: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(responseMapper.toErrorResponse(ex.getMessage()));
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.Games.config.exception.license;
+
+public class LicenseNotGrantedException extends RuntimeException {
+
+    public LicenseNotGrantedException(String message) {
+        super(message);
+    }
+
+    public static LicenseNotGrantedException notOwned(Long gameId) {
+        return new LicenseNotGrantedException("You do not own the game with ID: " + gameId);
+    }
+}
@@ -14,4 +14,19 @@ public class PurchaseException extends RuntimeException {
     public static PurchaseException selfPurchases(List<String> gameTitles) {
         return new PurchaseException("You cannot purchase your own game: " + gameTitles);
     }
+    public static PurchaseException notReleased(String gameTitle) {
+        return new PurchaseException("Game is not released yet, pre-order it instead: " + gameTitle);
+    }
+    public static PurchaseException notReleased(List<String> gameTitles) {
+        return new PurchaseException("Games are not released yet, pre-order them instead: " + gameTitles);
+    }
+    public static PurchaseException alreadyReleased(String gameTitle) {
+        return new PurchaseException("Game is already released, purchase it instead: " + gameTitle);
+    }
+    public static PurchaseException alreadyPreOrdered(String gameTitle) {
+        return new PurchaseException("You already pre-ordered this game: " + gameTitle);
+    }
+    public static PurchaseException notPreOrdered(Long gameId) {
+        return new PurchaseException("You have no pending pre-order for game with ID: " + gameId);
+    }
 }
@@ -0,0 +1,16 @@
+package com.example.Games.config.exception.review;
+
+public class InvalidReviewException extends RuntimeException {
+
+    public InvalidReviewException(String message) {
+        super(message);
+    }
+
+    public static InvalidReviewException invalidSort(String sort) {
+        return new InvalidReviewException("Invalid review sort '" + sort + "', expected helpful or recent");
+    }
+
+    public static InvalidReviewException invalidCursor() {
+        return new InvalidReviewException("Invalid or expired review cursor");
+    }
+}
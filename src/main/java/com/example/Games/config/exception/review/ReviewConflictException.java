@@ -0,0 +1,16 @@
+package com.example.Games.config.exception.review;
+
+public class ReviewConflictException extends RuntimeException {
+
+    public ReviewConflictException(String message) {
+        super(message);
+    }
+
+    public static ReviewConflictException alreadyReviewed(String gameTitle) {
+        return new ReviewConflictException("You already reviewed this game: " + gameTitle);
+    }
+
+    public static ReviewConflictException alreadyVoted(Long reviewId) {
+        return new ReviewConflictException("You already marked review " + reviewId + " as helpful");
+    }
+}
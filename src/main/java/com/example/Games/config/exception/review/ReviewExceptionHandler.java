@@ -0,0 +1,48 @@
+package com.example.Games.config.exception.review;
+
+import com.example.Games.config.common.dto.ApiResponse;
+import com.example.Games.config.common.mappers.ResponseMapStruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@Slf4j
+@Order(1)
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class ReviewExceptionHandler {
+
+    private final ResponseMapStruct responseMapper;
+
+    @ExceptionHandler(ReviewNotFoundException.class)
+    public ResponseEntity<ApiResponse<Object>> handleReviewNotFound(ReviewNotFoundException ex) {
+        log.warn("Review not found: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(responseMapper.toErrorResponse(ex.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidReviewException.class)
+    public ResponseEntity<ApiResponse<Object>> handleInvalidReview(InvalidReviewException ex) {
+        log.warn("Invalid review request: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(responseMapper.toErrorResponse(ex.getMessage()));
+    }
+
+    @ExceptionHandler(ReviewNotAllowedException.class)
+    public ResponseEntity<ApiResponse<Object>> handleReviewNotAllowed(ReviewNotAllowedException ex) {
+        log.warn("Review not allowed: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(responseMapper.toErrorResponse(ex.getMessage()));
+    }
+
+    @ExceptionHandler(ReviewConflictException.class)
+    public ResponseEntity<ApiResponse<Object>> handleReviewConflict(ReviewConflictException ex) {
+        log.warn("Review conflict: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(responseMapper.toErrorResponse(ex.getMessage()));
+    }
+}
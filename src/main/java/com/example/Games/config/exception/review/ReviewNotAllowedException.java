@@ -0,0 +1,16 @@
+package com.example.Games.config.exception.review;
+
+public class ReviewNotAllowedException extends RuntimeException {
+
+    public ReviewNotAllowedException(String message) {
+        super(message);
+    }
+
+    public static ReviewNotAllowedException notOwned(String gameTitle) {
+        return new ReviewNotAllowedException("You can only review games you own: " + gameTitle);
+    }
+
+    public static ReviewNotAllowedException ownReview(Long reviewId) {
+        return new ReviewNotAllowedException("You cannot vote on your own review with ID: " + reviewId);
+    }
+}
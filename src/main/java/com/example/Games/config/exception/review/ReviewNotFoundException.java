@@ -0,0 +1,16 @@
+package com.example.Games.config.exception.review;
+
+public class ReviewNotFoundException extends RuntimeException {
+
+    public ReviewNotFoundException(String message) {
+        super(message);
+    }
+
+    public static ReviewNotFoundException byId(Long reviewId) {
+        return new ReviewNotFoundException("Review not found with ID: " + reviewId);
+    }
+
+    public static ReviewNotFoundException ownForGame(Long gameId) {
+        return new ReviewNotFoundException("You have not reviewed game with ID: " + gameId);
+    }
+}
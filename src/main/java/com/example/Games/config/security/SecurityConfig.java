@@ -45,6 +45,12 @@ public class SecurityConfig {
                         // Public category endpoints
                         .requestMatchers(HttpMethod.GET, "/api/v1/categories/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/categories/**").permitAll() // Backward compatibility
+
+                        .requestMatchers(HttpMethod.GET, "/api/v1/typeahead/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/discounts").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/reviews/game/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/tags/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/licenses/public-key").permitAll()
                         
                         // Documentation and monitoring
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
@@ -0,0 +1,60 @@
+package com.example.Games.discount;
+
+import com.example.Games.user.auth.User;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// A percentage off one game or every game of a category during [startsAt, endsAt). The target is a plain id
+// rather than a foreign key, so deleting a game never has to clean up its past sales first.
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "discounts", indexes = {
+        @Index(name = "idx_discounts_target", columnList = "scope, target_id, ends_at"),
+        @Index(name = "idx_discounts_ends_at", columnList = "ends_at")
+})
+public class Discount {
+
+    @EqualsAndHashCode.Include
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DiscountScope scope;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Column(nullable = false, precision = 5, scale = 2)
+    private BigDecimal percent;
+
+    @Column(name = "starts_at", nullable = false)
+    private LocalDateTime startsAt;
+
+    @Column(name = "ends_at", nullable = false)
+    private LocalDateTime endsAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "created_by_id", nullable = false)
+    private User createdBy;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public DiscountTarget target() {
+        return new DiscountTarget(scope, targetId);
+    }
+}
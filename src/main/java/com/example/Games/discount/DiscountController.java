@@ -0,0 +1,46 @@
+package com.example.Games.discount;
+
+import com.example.Games.config.common.dto.ApiResponse;
+import com.example.Games.config.common.mappers.ResponseMapStruct;
+import com.example.Games.discount.dto.DiscountRequest;
+import com.example.Games.discount.dto.DiscountResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/discounts")
+public class DiscountController {
+
+    private final DiscountService discountService;
+    private final ResponseMapStruct responseMapper;
+
+    @PostMapping
+    @PreAuthorize("@authorizationUtils.isDeveloper()")
+    public ResponseEntity<ApiResponse<DiscountResponse>> create(@RequestBody @Valid DiscountRequest request) {
+        DiscountResponse discount = discountService.createDiscount(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(responseMapper.toSuccessResponse("Discount scheduled successfully", discount));
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<DiscountResponse>>> getCurrentAndUpcoming() {
+        List<DiscountResponse> discounts = discountService.getCurrentAndUpcomingDiscounts();
+        return ResponseEntity.ok(responseMapper.toSuccessResponse(discounts));
+    }
+
+    @DeleteMapping("/{id}")
+    @PreAuthorize("@authorizationUtils.isDeveloper()")
+    public ResponseEntity<ApiResponse<Object>> delete(@PathVariable Long id) {
+        discountService.deleteDiscount(id);
+        return ResponseEntity.ok(responseMapper.toSuccessResponse("Discount deleted successfully"));
+    }
+}
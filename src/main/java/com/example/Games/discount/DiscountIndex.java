@@ -0,0 +1,160 @@
+package com.example.Games.discount;
+
+import com.example.Games.config.cache.CatalogCacheEvictor;
+import com.example.Games.config.cache.CatalogVersion;
+import com.example.Games.config.common.transaction.AfterCommit;
+import com.example.Games.game.Game;
+import com.example.Games.game.dto.Response;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+// Current and upcoming discounts as one DiscountTimeline per game or category, so pricing a game is two map lookups
+// and two binary searches. Prices are computed at read time; the caches that hold priced games are evicted target
+// by target when a discount is written and again when the clock crosses one of its start or end boundaries. Writes
+// only rebuild the index of the node that made them, so every node also reloads from the database on an interval.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DiscountIndex {
+
+    static final BigDecimal MIN_PRICE = new BigDecimal("0.01");
+
+    private final DiscountRepository discountRepository;
+    private final CatalogCacheEvictor catalogCache;
+    private final CatalogVersion catalogVersion;
+
+    // Replaced whole by a reload, so lookups never see it half built
+    private volatile ConcurrentMap<DiscountTarget, DiscountTimeline> timelines = new ConcurrentHashMap<>();
+    // Upcoming boundaries with the targets whose cached prices go stale at each; guarded by this
+    private final NavigableMap<LocalDateTime, Set<DiscountTarget>> boundaries = new TreeMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${games.discounts.reload-interval:PT1M}",
+            fixedDelayString = "${games.discounts.reload-interval:PT1M}")
+    public void reload() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<DiscountTarget, List<Discount>> byTarget = discountRepository.findNotEndedBy(now).stream()
+                .collect(Collectors.groupingBy(Discount::target));
+        Set<DiscountTarget> changed = new HashSet<>();
+        synchronized (this) {
+            ConcurrentMap<DiscountTarget, DiscountTimeline> previous = timelines;
+            timelines = new ConcurrentHashMap<>();
+            boundaries.clear();
+            byTarget.forEach((target, discounts) -> publish(target, DiscountTimeline.of(discounts), now));
+            changed.addAll(previous.keySet());
+            changed.addAll(timelines.keySet());
+            changed.removeIf(target -> Objects.equals(previous.get(target), timelines.get(target)));
+        }
+        log.debug("Discount index loaded for {} games and categories, {} changed", byTarget.size(), changed.size());
+        // Discounts written on other nodes reach this node's cached prices here
+        if (!changed.isEmpty()) {
+            changed.forEach(this::evict);
+            catalogVersion.bumpAfterCommit();
+        }
+    }
+
+    public Optional<BigDecimal> discountedPrice(Game game) {
+        Long categoryId = game.getCategory() != null ? game.getCategory().getId() : null;
+        return percentOff(game.getId(), categoryId, LocalDateTime.now())
+                .map(percent -> discounted(game.getPrice(), percent));
+    }
+
+    public Optional<BigDecimal> discountedPrice(Response game) {
+        Long categoryId = game.category() != null ? game.category().id() : null;
+        return percentOff(game.id(), categoryId, LocalDateTime.now())
+                .map(percent -> discounted(game.price(), percent));
+    }
+
+    // Discounts do not stack: a game gets the larger of its own and its category's
+    Optional<BigDecimal> percentOff(Long gameId, Long categoryId, LocalDateTime at) {
+        BigDecimal game = percentAt(DiscountTarget.game(gameId), at);
+        BigDecimal category = categoryId != null ? percentAt(DiscountTarget.category(categoryId), at) : null;
+        if (game == null || category == null) {
+            return Optional.ofNullable(game != null ? game : category);
+        }
+        return Optional.of(game.max(category));
+    }
+
+    static BigDecimal discounted(BigDecimal price, BigDecimal percent) {
+        BigDecimal off = price.multiply(percent).movePointLeft(2);
+        return price.subtract(off).setScale(2, RoundingMode.HALF_UP).max(MIN_PRICE);
+    }
+
+    // Rebuilds just this target's timeline once the discount write commits, then drops the prices cached for it
+    public void targetChanged(DiscountTarget target) {
+        AfterCommit.run(() -> rebuild(target));
+        evict(target);
+    }
+
+    // Boundaries are only cache invalidations: lookups already read the timeline at the current time
+    @Scheduled(fixedDelayString = "${games.discounts.tick:PT1S}")
+    public void applyBoundaries() {
+        LocalDateTime now = LocalDateTime.now();
+        Set<DiscountTarget> crossed = new HashSet<>();
+        synchronized (this) {
+            NavigableMap<LocalDateTime, Set<DiscountTarget>> due = boundaries.headMap(now, true);
+            due.values().forEach(crossed::addAll);
+            due.clear();
+            crossed.forEach(target -> timelines.computeIfPresent(target,
+                    (key, timeline) -> timeline.endedBy(now) ? null : timeline));
+        }
+        if (crossed.isEmpty()) {
+            return;
+        }
+        crossed.forEach(this::evict);
+        catalogVersion.bumpAfterCommit();
+        log.debug("Discount boundaries crossed for {} games and categories", crossed.size());
+    }
+
+    private BigDecimal percentAt(DiscountTarget target, LocalDateTime at) {
+        DiscountTimeline timeline = timelines.get(target);
+        return timeline != null ? timeline.percentAt(at) : null;
+    }
+
+    // Boundaries of the replaced timeline stay queued; crossing one only costs a redundant eviction
+    private synchronized void rebuild(DiscountTarget target) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Discount> discounts = discountRepository.findNotEndedByTarget(target.scope(), target.id(), now);
+        if (discounts.isEmpty()) {
+            timelines.remove(target);
+            return;
+        }
+        publish(target, DiscountTimeline.of(discounts), now);
+    }
+
+    private void publish(DiscountTarget target, DiscountTimeline timeline, LocalDateTime now) {
+        timelines.put(target, timeline);
+        for (LocalDateTime boundary : timeline.boundaries()) {
+            if (boundary.isAfter(now)) {
+                boundaries.computeIfAbsent(boundary, key -> new HashSet<>()).add(target);
+            }
+        }
+    }
+
+    private void evict(DiscountTarget target) {
+        if (target.scope() == DiscountScope.GAME) {
+            catalogCache.evictGameById(target.id());
+        } else {
+            catalogCache.evictCategoryGames(target.id());
+        }
+    }
+}
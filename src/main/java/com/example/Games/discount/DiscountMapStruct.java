@@ -0,0 +1,23 @@
+package com.example.Games.discount;
+
+import com.example.Games.discount.dto.DiscountRequest;
+import com.example.Games.discount.dto.DiscountResponse;
+import com.example.Games.user.auth.User;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface DiscountMapStruct {
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "createdBy", source = "createdBy")
+    Discount toEntity(DiscountRequest request, User createdBy);
+
+    @Mapping(target = "createdByUsername", source = "createdBy.username")
+    DiscountResponse toDto(Discount discount);
+
+    List<DiscountResponse> toDtoList(List<Discount> discounts);
+}
@@ -0,0 +1,27 @@
+package com.example.Games.discount;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DiscountRepository extends JpaRepository<Discount, Long> {
+
+    // Current and upcoming discounts; anything that already ended can never change a price again
+    @Query("SELECT d FROM Discount d JOIN FETCH d.createdBy WHERE d.endsAt > :now ORDER BY d.startsAt, d.id")
+    List<Discount> findNotEndedBy(@Param("now") LocalDateTime now);
+
+    @Query("SELECT d FROM Discount d WHERE d.scope = :scope AND d.targetId = :targetId AND d.endsAt > :now " +
+           "ORDER BY d.startsAt, d.id")
+    List<Discount> findNotEndedByTarget(@Param("scope") DiscountScope scope,
+                                        @Param("targetId") Long targetId,
+                                        @Param("now") LocalDateTime now);
+
+    @Query("SELECT d FROM Discount d JOIN FETCH d.createdBy WHERE d.id = :id")
+    Optional<Discount> findByIdWithCreator(@Param("id") Long id);
+}
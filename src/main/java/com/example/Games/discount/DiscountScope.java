@@ -0,0 +1,6 @@
+package com.example.Games.discount;
+
+public enum DiscountScope {
+    GAME,
+    CATEGORY
+}
@@ -0,0 +1,104 @@
+package com.example.Games.discount;
+
+import com.example.Games.category.Category;
+import com.example.Games.category.CategoryRepository;
+import com.example.Games.config.cache.CatalogVersion;
+import com.example.Games.config.common.service.UserContextService;
+import com.example.Games.config.exception.category.CategoryNotFoundException;
+import com.example.Games.config.exception.category.UnauthorizedCategoryAccessException;
+import com.example.Games.config.exception.discount.DiscountNotFoundException;
+import com.example.Games.config.exception.discount.InvalidDiscountException;
+import com.example.Games.config.exception.discount.UnauthorizedDiscountAccessException;
+import com.example.Games.config.exception.game.GameNotFoundException;
+import com.example.Games.config.exception.game.UnauthorizedGameAccessException;
+import com.example.Games.discount.dto.DiscountRequest;
+import com.example.Games.discount.dto.DiscountResponse;
+import com.example.Games.game.Game;
+import com.example.Games.game.GameRepository;
+import com.example.Games.user.auth.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Scheduled sales: a developer discounts their own games, or every game of a category they created. Prices are
+// never rewritten; DiscountIndex applies the percentage whenever a game is read or bought inside the window.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DiscountService {
+
+    private final DiscountRepository discountRepository;
+    private final GameRepository gameRepository;
+    private final CategoryRepository categoryRepository;
+    private final DiscountMapStruct discountMapStruct;
+    private final DiscountIndex discountIndex;
+    private final CatalogVersion catalogVersion;
+    private final UserContextService userContextService;
+
+    private User getCurrentUser() {
+        return userContextService.getAuthorizedUser();
+    }
+
+    @Transactional
+    public DiscountResponse createDiscount(DiscountRequest request) {
+        User currentUser = getCurrentUser();
+
+        if (!request.endsAt().isAfter(request.startsAt())) {
+            throw InvalidDiscountException.invalidWindow();
+        }
+        if (!request.endsAt().isAfter(LocalDateTime.now())) {
+            throw InvalidDiscountException.alreadyEnded();
+        }
+        checkTargetOwner(request.scope(), request.targetId(), currentUser);
+
+        Discount saved = discountRepository.save(discountMapStruct.toEntity(request, currentUser));
+        discountIndex.targetChanged(saved.target());
+        catalogVersion.bumpAfterCommit();
+
+        log.info("{}% discount on {} {} from {} to {} created by user '{}'", saved.getPercent(), saved.getScope(),
+                saved.getTargetId(), saved.getStartsAt(), saved.getEndsAt(), currentUser.getUsername());
+        return discountMapStruct.toDto(saved);
+    }
+
+    @Transactional(readOnly = true)
+    public List<DiscountResponse> getCurrentAndUpcomingDiscounts() {
+        return discountMapStruct.toDtoList(discountRepository.findNotEndedBy(LocalDateTime.now()));
+    }
+
+    @Transactional
+    public void deleteDiscount(Long id) {
+        User currentUser = getCurrentUser();
+
+        Discount discount = discountRepository.findByIdWithCreator(id)
+                .orElseThrow(() -> DiscountNotFoundException.byId(id));
+
+        if (!discount.getCreatedBy().getId().equals(currentUser.getId())) {
+            throw UnauthorizedDiscountAccessException.notCreator(id, currentUser.getUsername());
+        }
+
+        discountRepository.delete(discount);
+        discountIndex.targetChanged(discount.target());
+        catalogVersion.bumpAfterCommit();
+        log.info("Discount with ID {} deleted by user '{}'", id, currentUser.getUsername());
+    }
+
+    private void checkTargetOwner(DiscountScope scope, Long targetId, User currentUser) {
+        if (scope == DiscountScope.GAME) {
+            Game game = gameRepository.findByIdWithAuthor(targetId)
+                    .orElseThrow(() -> GameNotFoundException.byId(targetId));
+            if (!game.getAuthor().getId().equals(currentUser.getId())) {
+                throw UnauthorizedGameAccessException.notOwner(targetId, currentUser.getUsername());
+            }
+        } else {
+            Category category = categoryRepository.findByIdWithCreator(targetId)
+                    .orElseThrow(() -> CategoryNotFoundException.byId(targetId));
+            if (!category.getCreatedBy().getId().equals(currentUser.getId())) {
+                throw UnauthorizedCategoryAccessException.notOwner(targetId, currentUser.getUsername());
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.Games.discount;
+
+// The game or category a discount applies to; the key of its timeline in DiscountIndex
+public record DiscountTarget(DiscountScope scope, Long id) {
+
+    public static DiscountTarget game(Long gameId) {
+        return new DiscountTarget(DiscountScope.GAME, gameId);
+    }
+
+    public static DiscountTarget category(Long categoryId) {
+        return new DiscountTarget(DiscountScope.CATEGORY, categoryId);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.Games.discount;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+// The effective percentage of one target over time. The start and end of every discount cut the time line into
+// segments that each hold the largest percentage covering them, so a lookup is one binary search over the cuts.
+final class DiscountTimeline {
+
+    private final LocalDateTime[] cuts;
+    // percents[i] applies from cuts[i] until cuts[i + 1]; null where no discount runs
+    private final BigDecimal[] percents;
+
+    private DiscountTimeline(LocalDateTime[] cuts, BigDecimal[] percents) {
+        this.cuts = cuts;
+        this.percents = percents;
+    }
+
+    static DiscountTimeline of(List<Discount> discounts) {
+        TreeSet<LocalDateTime> boundaries = new TreeSet<>();
+        for (Discount discount : discounts) {
+            boundaries.add(discount.getStartsAt());
+            boundaries.add(discount.getEndsAt());
+        }
+        LocalDateTime[] cuts = boundaries.toArray(LocalDateTime[]::new);
+        BigDecimal[] percents = new BigDecimal[cuts.length];
+        for (Discount discount : discounts) {
+            int from = Arrays.binarySearch(cuts, discount.getStartsAt());
+            int to = Arrays.binarySearch(cuts, discount.getEndsAt());
+            for (int i = from; i < to; i++) {
+                if (percents[i] == null || percents[i].compareTo(discount.getPercent()) < 0) {
+                    percents[i] = discount.getPercent();
+                }
+            }
+        }
+        return new DiscountTimeline(cuts, percents);
+    }
+
+    BigDecimal percentAt(LocalDateTime at) {
+        int index = Arrays.binarySearch(cuts, at);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        return index < 0 ? null : percents[index];
+    }
+
+    // The last cut is always the end of a discount, so nothing runs from it onwards
+    boolean endedBy(LocalDateTime at) {
+        return cuts.length == 0 || !cuts[cuts.length - 1].isAfter(at);
+    }
+
+    List<LocalDateTime> boundaries() {
+        return List.of(cuts);
+    }
+
+    // Lets a periodic reload tell which targets actually changed, so only their cached prices are dropped
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof DiscountTimeline that
+                && Arrays.equals(cuts, that.cuts) && Arrays.equals(percents, that.percents);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(cuts) + Arrays.hashCode(percents);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.Games.discount.dto;
+
+import com.example.Games.discount.DiscountScope;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// targetId is a game id for GAME scope and a category id for CATEGORY scope
+public record DiscountRequest(
+        @NotNull(message = "Scope is required")
+        DiscountScope scope,
+
+        @NotNull(message = "Target ID is required")
+        Long targetId,
+
+        @NotNull(message = "Percent is required")
+        @DecimalMin(value = "0.01", message = "Percent must be at least 0.01")
+        @DecimalMax(value = "100", inclusive = false, message = "Percent must be less than 100")
+        @Digits(integer = 2, fraction = 2, message = "Percent can have at most 2 decimal places")
+        BigDecimal percent,
+
+        @NotNull(message = "Start is required")
+        LocalDateTime startsAt,
+
+        @NotNull(message = "End is required")
+        LocalDateTime endsAt
+) {}
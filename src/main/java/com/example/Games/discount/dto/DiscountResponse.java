@@ -0,0 +1,17 @@
+package com.example.Games.discount.dto;
+
+import com.example.Games.discount.DiscountScope;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record DiscountResponse(
+        Long id,
+        DiscountScope scope,
+        Long targetId,
+        BigDecimal percent,
+        LocalDateTime startsAt,
+        LocalDateTime endsAt,
+        String createdByUsername,
+        LocalDateTime createdAt
+) {}
@@ -0,0 +1,261 @@
+package com.example.Games.game;
+
+import com.example.Games.game.dto.Response;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+// Immutable read model of the whole catalog; a write never mutates it, GameCatalog publishes a replacement instead.
+// Games are ordered by price (as long cents) then id, so price queries are binary searches and slices;
+// author and category listings are int arrays of positions into that order, so reads never copy rows.
+public final class CatalogSnapshot {
+
+    private static final Comparator<Response> BY_PRICE = Comparator
+            .comparing(Response::price)
+            .thenComparing(Response::id);
+
+    static final CatalogSnapshot EMPTY = of(List.of());
+
+    private final Response[] games;
+    private final long[] priceCents;
+    private final Map<String, int[]> byAuthor;
+    private final Map<Long, int[]> byCategory;
+
+    private CatalogSnapshot(Response[] games) {
+        this.games = games;
+        this.priceCents = Arrays.stream(games).mapToLong(game -> toCents(game.price())).toArray();
+        this.byAuthor = positionsBy(Response::author, Comparator.naturalOrder());
+        this.byCategory = positionsBy(game -> game.category().id(),
+                Comparator.<Integer, String>comparing(position -> games[position].title())
+                        .thenComparing(position -> games[position].id()));
+    }
+
+    private CatalogSnapshot(Response[] games, CatalogSnapshot positions) {
+        this.games = games;
+        this.priceCents = positions.priceCents;
+        this.byAuthor = positions.byAuthor;
+        this.byCategory = positions.byCategory;
+    }
+
+    public static CatalogSnapshot of(Collection<Response> games) {
+        Response[] ordered = games.toArray(Response[]::new);
+        Arrays.sort(ordered, BY_PRICE);
+        return new CatalogSnapshot(ordered);
+    }
+
+    // The rows are already in order, so one game is spliced in at its binary-search position and the snapshot is
+    // built once, without a re-sort
+    public CatalogSnapshot with(Response game) {
+        Response[] kept = remaining(game.id());
+        int at = -Arrays.binarySearch(kept, game, BY_PRICE) - 1;
+        Response[] updated = new Response[kept.length + 1];
+        System.arraycopy(kept, 0, updated, 0, at);
+        updated[at] = game;
+        System.arraycopy(kept, at, updated, at + 1, kept.length - at);
+        return new CatalogSnapshot(updated);
+    }
+
+    // Swaps in a row whose price, author, category and title are unchanged, e.g. after a rating change, sharing the
+    // price order and listing positions instead of rebuilding them; any other change goes through with
+    public CatalogSnapshot replacing(Response game) {
+        int at = Arrays.binarySearch(games, game, BY_PRICE);
+        if (at < 0 || !games[at].author().equals(game.author()) || !games[at].title().equals(game.title())
+                || !games[at].category().id().equals(game.category().id())) {
+            return with(game);
+        }
+        Response[] updated = games.clone();
+        updated[at] = game;
+        return new CatalogSnapshot(updated, this);
+    }
+
+    public CatalogSnapshot without(Long gameId) {
+        return new CatalogSnapshot(remaining(gameId));
+    }
+
+    // Adds or replaces several games with a single re-sort, e.g. after a bulk import batch
+    public CatalogSnapshot withAll(Collection<Response> changed) {
+        Map<Long, Response> merged = new HashMap<>();
+        Arrays.stream(games).forEach(game -> merged.put(game.id(), game));
+        changed.forEach(game -> merged.put(game.id(), game));
+        return of(merged.values());
+    }
+
+    // Replaces changed games and drops those no longer live, e.g. when catching up a snapshot read from disk
+    public CatalogSnapshot merge(Collection<Response> changed, Set<Long> liveIds) {
+        Map<Long, Response> merged = new HashMap<>();
+        Arrays.stream(games).filter(game -> liveIds.contains(game.id())).forEach(game -> merged.put(game.id(), game));
+        changed.forEach(game -> merged.put(game.id(), game));
+        return of(merged.values());
+    }
+
+    // Applies another node's writes with a single re-sort; the same snapshot when every row already matches
+    public CatalogSnapshot patch(Collection<Response> changed, Collection<Long> removed) {
+        if (changed.isEmpty() && removed.isEmpty()) {
+            return this;
+        }
+        Map<Long, Response> merged = new HashMap<>();
+        Arrays.stream(games).forEach(game -> merged.put(game.id(), game));
+        boolean differs = false;
+        for (Response game : changed) {
+            differs |= !game.equals(merged.put(game.id(), game));
+        }
+        for (Long gameId : removed) {
+            differs |= merged.remove(gameId) != null;
+        }
+        return differs ? of(merged.values()) : this;
+    }
+
+    public int size() {
+        return games.length;
+    }
+
+    // Every game in price order
+    public List<Response> games() {
+        return Collections.unmodifiableList(Arrays.asList(games));
+    }
+
+    // Newest game or embedded category modification; rows changed after it are missing from this snapshot
+    public Optional<LocalDateTime> lastModified() {
+        return Arrays.stream(games)
+                .flatMap(game -> Stream.of(game.createdAt(), game.updatedAt(),
+                        game.category().createdAt(), game.category().updatedAt()))
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder());
+    }
+
+    public List<Response> inPriceRange(BigDecimal minPrice, BigDecimal maxPrice, int limit) {
+        int from = lowerBound(bound(minPrice, RoundingMode.CEILING));
+        int to = lowerBound(Math.addExact(bound(maxPrice, RoundingMode.FLOOR), 1));
+        return slice(Arrays.asList(games), from, (int) Math.min(to, (long) from + limit));
+    }
+
+    // Price order within optional bounds, keeping the games the id filter accepts: the bounds are binary searches and
+    // the filter one test per row in between, e.g. a tag bitmap lookup
+    public List<Response> inPriceRange(BigDecimal minPrice, BigDecimal maxPrice, LongPredicate filter, int limit) {
+        int from = minPrice == null ? 0 : lowerBound(bound(minPrice, RoundingMode.CEILING));
+        int to = maxPrice == null ? games.length : lowerBound(Math.addExact(bound(maxPrice, RoundingMode.FLOOR), 1));
+        List<Response> matches = new ArrayList<>(Math.min(limit, Math.max(0, to - from)));
+        for (int position = from; position < to && matches.size() < limit; position++) {
+            if (filter.test(games[position].id())) {
+                matches.add(games[position]);
+            }
+        }
+        return Collections.unmodifiableList(matches);
+    }
+
+    public List<Response> sortedByPrice(boolean ascending, int limit) {
+        List<Response> all = Arrays.asList(games);
+        return slice(ascending ? all : all.reversed(), 0, Math.min(games.length, limit));
+    }
+
+    public List<Response> byAuthor(String author, int limit) {
+        int[] positions = byAuthor.getOrDefault(author, new int[0]);
+        return new Positions(positions, 0, Math.min(positions.length, limit));
+    }
+
+    // Games of one category ordered by title
+    public List<Response> byCategory(Long categoryId, long offset, int size) {
+        int[] positions = byCategory.getOrDefault(categoryId, new int[0]);
+        int from = (int) Math.min(offset, positions.length);
+        return new Positions(positions, from, (int) Math.min(positions.length, (long) from + size));
+    }
+
+    public int countInCategory(Long categoryId) {
+        return byCategory.getOrDefault(categoryId, new int[0]).length;
+    }
+
+    private <K> Map<K, int[]> positionsBy(Function<Response, K> key, Comparator<Integer> order) {
+        return IntStream.range(0, games.length).boxed()
+                .collect(Collectors.groupingBy(position -> key.apply(games[position]),
+                        Collectors.collectingAndThen(Collectors.toList(), positions -> positions.stream()
+                                .sorted(order)
+                                .mapToInt(Integer::intValue)
+                                .toArray())));
+    }
+
+    // First position whose price is >= cents
+    private int lowerBound(long cents) {
+        int low = 0;
+        int high = priceCents.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (priceCents[mid] < cents) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static List<Response> slice(List<Response> games, int from, int to) {
+        return Collections.unmodifiableList(games.subList(from, Math.max(from, to)));
+    }
+
+    // Every game but gameId, still in price order
+    private Response[] remaining(Long gameId) {
+        return Arrays.stream(games).filter(game -> !game.id().equals(gameId)).toArray(Response[]::new);
+    }
+
+    static long toCents(BigDecimal price) {
+        return price.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    // Query bounds may be arbitrary decimals, so clamp instead of overflowing
+    private static long bound(BigDecimal price, RoundingMode rounding) {
+        BigDecimal cents = price.movePointRight(2).setScale(0, rounding);
+        if (cents.compareTo(BigDecimal.valueOf(Long.MAX_VALUE - 1)) > 0) {
+            return Long.MAX_VALUE - 1;
+        }
+        if (cents.compareTo(BigDecimal.valueOf(Long.MIN_VALUE)) < 0) {
+            return Long.MIN_VALUE;
+        }
+        return cents.longValueExact();
+    }
+
+    // Read-only view that resolves positions lazily, so a listing allocates no per-row objects
+    private final class Positions extends AbstractList<Response> implements RandomAccess {
+
+        private final int[] positions;
+        private final int from;
+        private final int to;
+
+        private Positions(int[] positions, int from, int to) {
+            this.positions = positions;
+            this.from = from;
+            this.to = Math.max(from, to);
+        }
+
+        @Override
+        public Response get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return games[positions[from + index]];
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+}
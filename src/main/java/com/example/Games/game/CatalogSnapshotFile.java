@@ -0,0 +1,206 @@
+package com.example.Games.game;
+
+import com.example.Games.category.dto.CategoryResponse;
+import com.example.Games.game.dto.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+// Binary copy of the catalog snapshot on local disk, so a restarted instance can serve the catalog before it has
+// queried the database. Author, title and category strings are stored once in a string table and categories once
+// in a category table; games refer to both by index. A trailing CRC32 rejects torn or foreign files.
+@Slf4j
+@Component
+public class CatalogSnapshotFile {
+
+    private static final int MAGIC = 0x47434154; // "GCAT"
+    private static final int FORMAT_VERSION = 2;
+    private static final long NO_TIME = Long.MIN_VALUE;
+
+    private final Path path;
+
+    public CatalogSnapshotFile(@Value("${catalog.snapshot.path:}") String path) {
+        this.path = path == null || path.isBlank() ? null : Path.of(path);
+    }
+
+    // Empty when the file is disabled, missing or unreadable; the caller then loads from the database
+    public Optional<CatalogSnapshot> read() {
+        if (path == null || !Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            CatalogSnapshot snapshot = decode(buffer);
+            log.info("Catalog snapshot mapped from {} with {} games", path, snapshot.size());
+            return Optional.of(snapshot);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable catalog snapshot file {}: {}", path, e.toString());
+            return Optional.empty();
+        }
+    }
+
+    // Written to a sibling temp file and moved into place, so readers never see a partial file
+    public synchronized void write(CatalogSnapshot snapshot) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Path directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try {
+                Files.write(temp, encode(snapshot));
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            log.info("Catalog snapshot with {} games written to {}", snapshot.size(), path);
+        } catch (IOException e) {
+            log.warn("Could not write catalog snapshot file {}: {}", path, e.toString());
+        }
+    }
+
+    static byte[] encode(CatalogSnapshot snapshot) throws IOException {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        Map<CategoryResponse, Integer> categories = new LinkedHashMap<>();
+        for (Response game : snapshot.games()) {
+            intern(strings, game.title());
+            intern(strings, game.author());
+            intern(strings, game.category().name());
+            intern(strings, game.category().createdByUsername());
+            categories.putIfAbsent(game.category(), categories.size());
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+
+        out.writeInt(strings.size());
+        for (String value : strings.keySet()) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(utf8.length);
+            out.write(utf8);
+        }
+
+        out.writeInt(categories.size());
+        for (CategoryResponse category : categories.keySet()) {
+            out.writeLong(category.id());
+            out.writeInt(strings.get(category.name()));
+            out.writeInt(strings.get(category.createdByUsername()));
+            out.writeLong(category.createdById());
+            writeTime(out, category.createdAt());
+            writeTime(out, category.updatedAt());
+        }
+
+        out.writeInt(snapshot.size());
+        for (Response game : snapshot.games()) {
+            out.writeLong(game.id());
+            out.writeInt(strings.get(game.title()));
+            out.writeInt(strings.get(game.author()));
+            out.writeLong(game.price().unscaledValue().longValueExact());
+            out.writeInt(game.price().scale());
+            out.writeInt(categories.get(game.category()));
+            writeTime(out, game.createdAt());
+            writeTime(out, game.updatedAt());
+            // An unrated game has no average; its count of zero says so
+            out.writeLong(game.ratingCount());
+            if (game.ratingCount() > 0) {
+                out.writeLong(game.averageRating().unscaledValue().longValueExact());
+                out.writeInt(game.averageRating().scale());
+            }
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(bytes.toByteArray());
+        out.writeLong(crc.getValue());
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    static CatalogSnapshot decode(ByteBuffer buffer) {
+        int payloadLength = buffer.limit() - Long.BYTES;
+        if (payloadLength < 2 * Integer.BYTES) {
+            throw new IllegalStateException("file too short");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().limit(payloadLength));
+        if (crc.getValue() != buffer.getLong(payloadLength)) {
+            throw new IllegalStateException("checksum mismatch");
+        }
+        if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+            throw new IllegalStateException("not a catalog snapshot in format " + FORMAT_VERSION);
+        }
+
+        String[] strings = new String[buffer.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] utf8 = new byte[buffer.getInt()];
+            buffer.get(utf8);
+            strings[i] = new String(utf8, StandardCharsets.UTF_8);
+        }
+
+        CategoryResponse[] categories = new CategoryResponse[buffer.getInt()];
+        for (int i = 0; i < categories.length; i++) {
+            Long id = buffer.getLong();
+            String name = strings[buffer.getInt()];
+            String createdByUsername = strings[buffer.getInt()];
+            Long createdById = buffer.getLong();
+            categories[i] = new CategoryResponse(id, name, createdByUsername, createdById,
+                    readTime(buffer), readTime(buffer));
+        }
+
+        int gameCount = buffer.getInt();
+        List<Response> games = new ArrayList<>(gameCount);
+        for (int i = 0; i < gameCount; i++) {
+            Long id = buffer.getLong();
+            String title = strings[buffer.getInt()];
+            String author = strings[buffer.getInt()];
+            BigDecimal price = BigDecimal.valueOf(buffer.getLong(), buffer.getInt());
+            CategoryResponse category = categories[buffer.getInt()];
+            LocalDateTime createdAt = readTime(buffer);
+            LocalDateTime updatedAt = readTime(buffer);
+            long ratingCount = buffer.getLong();
+            BigDecimal averageRating = ratingCount > 0 ? BigDecimal.valueOf(buffer.getLong(), buffer.getInt()) : null;
+            games.add(new Response(id, title, author, price, category, createdAt, updatedAt,
+                    averageRating, ratingCount));
+        }
+        // Stored in price order already, so this sort is a single linear pass
+        return CatalogSnapshot.of(games);
+    }
+
+    private static void intern(Map<String, Integer> strings, String value) {
+        strings.putIfAbsent(value, strings.size());
+    }
+
+    private static void writeTime(DataOutputStream out, LocalDateTime time) throws IOException {
+        out.writeLong(time == null ? NO_TIME : time.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(time == null ? 0 : time.getNano());
+    }
+
+    private static LocalDateTime readTime(ByteBuffer buffer) {
+        long seconds = buffer.getLong();
+        int nanos = buffer.getInt();
+        return seconds == NO_TIME ? null : LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+}
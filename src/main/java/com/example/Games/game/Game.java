@@ -5,6 +5,7 @@ import com.example.Games.user.auth.User;
 import com.example.Games.config.exception.game.InvalidGameDataException;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -22,7 +23,12 @@ import java.util.Objects;
 @Builder
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "games")
+@Table(name = "games", indexes = {
+        @Index(name = "idx_games_price_id", columnList = "price, id"),
+        @Index(name = "idx_games_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_games_updated_at_id", columnList = "updated_at, id"),
+        @Index(name = "idx_games_sync_version_id", columnList = "sync_version, id")
+})
 public class Game {
 
     @EqualsAndHashCode.Include
@@ -52,6 +58,41 @@ public class Game {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Delta-sync position, written only by GameSyncStamper as the writing transaction commits
+    @Column(name = "sync_version", insertable = false, updatable = false)
+    private Long syncVersion;
+
+    // Last tag change, so other nodes' tag indexes can catch up; set only by a bulk update, never with updatedAt
+    @Column(name = "tags_updated_at", insertable = false, updatable = false)
+    private LocalDateTime tagsUpdatedAt;
+
+    // Null for a game that was on sale from the start; until this instant it can only be pre-ordered
+    @Column(name = "release_at")
+    private LocalDateTime releaseAt;
+
+    public boolean isReleased() {
+        return releaseAt == null || !releaseAt.isAfter(LocalDateTime.now());
+    }
+
+    // Running rating totals, adjusted by ReviewService in the same transaction as each review write
+    @Column(name = "rating_sum", nullable = false)
+    @ColumnDefault("0")
+    private long ratingSum;
+
+    @Column(name = "rating_count", nullable = false)
+    @ColumnDefault("0")
+    private long ratingCount;
+
+    public BigDecimal getAverageRating() {
+        return averageRating(ratingSum, ratingCount);
+    }
+
+    // Null until the first rating, rather than a misleading zero
+    public static BigDecimal averageRating(long ratingSum, long ratingCount) {
+        return ratingCount == 0 ? null
+                : BigDecimal.valueOf(ratingSum).divide(BigDecimal.valueOf(ratingCount), 2, RoundingMode.HALF_UP);
+    }
+
     public void updatePrice(BigDecimal price) {
         validatePositiveAmount(price);
         this.price = price.setScale(2, RoundingMode.HALF_UP);
@@ -0,0 +1,160 @@
+package com.example.Games.game;
+
+import com.example.Games.config.cache.CatalogVersion;
+import com.example.Games.config.common.transaction.AfterCommit;
+import com.example.Games.game.dto.GameView;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+// Holds the current CatalogSnapshot. Readers take the reference without locking; writers are serialized and
+// swap in a new snapshot once their transaction has committed. Writes made on other nodes arrive with the periodic
+// catch-up.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GameCatalog {
+
+    private final GameRepository gameRepository;
+    private final GameMapStruct gameMapStruct;
+    private final CatalogSnapshotFile snapshotFile;
+    private final GameTombstoneRepository tombstoneRepository;
+    private final CatalogVersion catalogVersion;
+
+    @Value("${games.catch-up.overlap:PT1M}")
+    private Duration catchUpOverlap;
+
+    private volatile CatalogSnapshot snapshot = CatalogSnapshot.EMPTY;
+    // Set while the snapshot came from disk and has not been caught up with the database yet
+    private LocalDateTime warmUntil;
+    private volatile boolean current;
+    // When the last load or catch-up started
+    private LocalDateTime caughtUpAt;
+    private volatile CatalogSnapshot persisted;
+
+    public CatalogSnapshot snapshot() {
+        return snapshot;
+    }
+
+    // Runs before the web server starts, so the first requests already see the catalog from the last run
+    @PostConstruct
+    public synchronized void warmStart() {
+        snapshotFile.read().ifPresent(stored -> {
+            snapshot = stored;
+            persisted = stored;
+            warmUntil = stored.lastModified().orElse(null);
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        if (warmUntil == null) {
+            reload();
+            return;
+        }
+        // The overlap re-reads rows whose transactions were still open when the file was written
+        LocalDateTime since = warmUntil.minus(catchUpOverlap);
+        caughtUpAt = LocalDateTime.now();
+        List<GameView> changed = gameRepository.findViewsModifiedSince(since);
+        snapshot = snapshot.merge(gameMapStruct.fromViews(changed), Set.copyOf(gameRepository.findAllIds()));
+        warmUntil = null;
+        current = true;
+        log.info("Catalog snapshot caught up with {} games changed since {} ({} games)",
+                changed.size(), since, snapshot.size());
+    }
+
+    public synchronized void reload() {
+        caughtUpAt = LocalDateTime.now();
+        snapshot = CatalogSnapshot.of(gameMapStruct.fromViews(gameRepository.findAllViews(Sort.unsorted())));
+        warmUntil = null;
+        current = true;
+        log.info("Catalog snapshot loaded with {} games", snapshot.size());
+    }
+
+    // Re-reads games changed since the last pass and drops deleted ones. The overlap re-reads rows whose
+    // transactions were still open then; rows the snapshot already holds as they are cost nothing.
+    @Scheduled(initialDelayString = "${games.catch-up.interval:PT1M}",
+            fixedDelayString = "${games.catch-up.interval:PT1M}")
+    public synchronized void catchUp() {
+        if (!current) {
+            return;
+        }
+        LocalDateTime since = caughtUpAt.minus(catchUpOverlap);
+        caughtUpAt = LocalDateTime.now();
+        CatalogSnapshot patched = snapshot.patch(
+                gameMapStruct.fromViews(gameRepository.findViewsModifiedSince(since)),
+                tombstoneRepository.findGameIdsDeletedSince(since));
+        if (patched != snapshot) {
+            snapshot = patched;
+            catalogVersion.bumpAfterCommit();
+            log.debug("Catalog snapshot caught up with changes since {} ({} games)", since, snapshot.size());
+        }
+    }
+
+    // Re-reads one committed game row; a missing row means the game was deleted
+    public void refresh(Long gameId) {
+        AfterCommit.run(() -> republish(gameId));
+    }
+
+    // One query and one re-sort for a whole batch of committed rows
+    public void refresh(Collection<Long> gameIds) {
+        List<Long> ids = List.copyOf(gameIds);
+        AfterCommit.run(() -> republish(ids));
+    }
+
+    // A rating moves none of the snapshot's orderings, so the game's row is swapped in place
+    public void refreshRating(Long gameId) {
+        AfterCommit.run(() -> republishRating(gameId));
+    }
+
+    // For changes that touch many embedded rows at once, such as a category rename
+    public void refreshAll() {
+        AfterCommit.run(this::reload);
+    }
+
+    // Only a snapshot that has caught up with the database is written, and only when it changed since the last write
+    @Scheduled(initialDelayString = "${catalog.snapshot.write-interval:PT5M}",
+            fixedDelayString = "${catalog.snapshot.write-interval:PT5M}")
+    @PreDestroy
+    public void persist() {
+        CatalogSnapshot latest = snapshot;
+        if (!current || latest == persisted) {
+            return;
+        }
+        snapshotFile.write(latest);
+        persisted = latest;
+    }
+
+    private synchronized void republish(Long gameId) {
+        List<GameView> rows = gameRepository.findViewsByIdIn(List.of(gameId));
+        snapshot = rows.isEmpty()
+                ? snapshot.without(gameId)
+                : snapshot.with(gameMapStruct.fromView(rows.getFirst()));
+        log.debug("Catalog snapshot republished for game {} ({} games)", gameId, snapshot.size());
+    }
+
+    private synchronized void republishRating(Long gameId) {
+        List<GameView> rows = gameRepository.findViewsByIdIn(List.of(gameId));
+        if (!rows.isEmpty()) {
+            snapshot = snapshot.replacing(gameMapStruct.fromView(rows.getFirst()));
+        }
+    }
+
+    private synchronized void republish(List<Long> gameIds) {
+        snapshot = snapshot.withAll(gameMapStruct.fromViews(gameRepository.findViewsByIdIn(gameIds)));
+        log.debug("Catalog snapshot republished for {} games ({} games)", gameIds.size(), snapshot.size());
+    }
+}
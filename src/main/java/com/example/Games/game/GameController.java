@@ -2,12 +2,27 @@ package com.example.Games.game;
 
 import com.example.Games.config.common.mappers.ResponseMapStruct;
 import com.example.Games.config.common.dto.ApiResponse;
+import com.example.Games.game.dto.BulkPriceUpdateRequest;
+import com.example.Games.game.dto.BulkPriceUpdateResponse;
 import com.example.Games.game.dto.CreateRequest;
+import com.example.Games.game.dto.CursorPagedResponse;
+import com.example.Games.game.dto.GameBatchResponse;
+import com.example.Games.game.dto.GameChangesResponse;
+import com.example.Games.game.dto.GameImportError;
+import com.example.Games.game.dto.GameImportProgress;
+import com.example.Games.game.dto.GameSearchRequest;
+import com.example.Games.game.dto.GameSearchResponse;
 import com.example.Games.game.dto.PagedResponse;
 import com.example.Games.game.dto.Response;
+import com.example.Games.game.dto.SlicedResponse;
+import com.example.Games.game.dto.SparseCursorPagedResponse;
 import com.example.Games.game.dto.UpdateRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.annotation.Validated;
 import lombok.RequiredArgsConstructor;
@@ -16,7 +31,14 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -28,6 +50,9 @@ public class GameController {
 
     private final GameService gameService;
     private final ResponseMapStruct responseMapper;
+    private final GameDocumentCache gameDocuments;
+    private final GameImportService importService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @PreAuthorize("@authorizationUtils.isDeveloper()")
@@ -37,6 +62,47 @@ public class GameController {
                 .body(responseMapper.toSuccessResponse("Game created successfully", response));
     }
 
+    // Rows stream in as NDJSON or CSV; rejected rows and per-batch progress stream back as NDJSON, summary last
+    @PostMapping("/import")
+    @PreAuthorize("@authorizationUtils.isDeveloper()")
+    public void importGames(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        GameImportFormat format = GameImportFormat.fromContentType(request.getContentType());
+        Charset charset = request.getCharacterEncoding() != null
+                ? Charset.forName(request.getCharacterEncoding())
+                : StandardCharsets.UTF_8;
+
+        GameImportProgress summary = importService.importGames(
+                new InputStreamReader(request.getInputStream(), charset), format, new GameImportListener() {
+                    @Override
+                    public void rowFailed(GameImportError error) {
+                        writeLine(response, error, false);
+                    }
+
+                    @Override
+                    public void batchImported(GameImportProgress progress) {
+                        writeLine(response, progress, true);
+                    }
+                });
+        writeLine(response, summary, true);
+    }
+
+    // Nothing is written before the first result, so a bad header still gets a regular error response
+    private void writeLine(HttpServletResponse response, Object value, boolean flush) {
+        try {
+            if (!response.isCommitted()) {
+                response.setContentType(GameImportFormat.NDJSON_VALUE);
+            }
+            OutputStream out = response.getOutputStream();
+            out.write(objectMapper.writeValueAsBytes(value));
+            out.write('\n');
+            if (flush) {
+                out.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("@authorizationUtils.isDeveloper()")
     public ResponseEntity<ApiResponse<Response>> updateGame(
@@ -48,22 +114,65 @@ public class GameController {
         );
     }
 
+    @PatchMapping("/prices")
+    @PreAuthorize("@authorizationUtils.isDeveloper()")
+    public ResponseEntity<ApiResponse<BulkPriceUpdateResponse>> updatePrices(
+            @Valid @RequestBody BulkPriceUpdateRequest request) {
+        BulkPriceUpdateResponse response = gameService.updatePrices(request);
+        return ResponseEntity.ok(responseMapper.toSuccessResponse("Prices updated successfully", response));
+    }
+
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Response>>> getAllGames() {
-        List<Response> games = gameService.getAllGames();
+    public ResponseEntity<ApiResponse<CursorPagedResponse>> getAllGames(
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Positive int limit) {
+        CursorPagedResponse games = gameService.getAllGames(sort, direction, cursor, limit);
         return ResponseEntity.ok(responseMapper.toSuccessResponse("Games retrieved successfully",games));
     }
 
+    @GetMapping(params = "fields")
+    public ResponseEntity<ApiResponse<SparseCursorPagedResponse>> getAllGamesSparse(
+            @RequestParam String fields,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Positive int limit) {
+        SparseCursorPagedResponse games = gameService.getAllGames(sort, direction, cursor, limit, fields);
+        return ResponseEntity.ok(responseMapper.toSuccessResponse("Games retrieved successfully", games));
+    }
+
+    @GetMapping("/batch")
+    public ResponseEntity<ApiResponse<GameBatchResponse>> getGamesByIds(@RequestParam List<Long> ids) {
+        GameBatchResponse games = gameService.getGamesByIds(ids);
+        return ResponseEntity.ok(responseMapper.toSuccessResponse("Games retrieved successfully", games));
+    }
+
+    // Delta sync: pass either a timestamp or the nextToken of the previous call; hasMore means call again at once
+    @GetMapping("/changes")
+    public ResponseEntity<ApiResponse<GameChangesResponse>> getChanges(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(required = false) String token,
+            @RequestParam(defaultValue = "200") @Positive int limit) {
+        GameChangesResponse changes = gameService.getChanges(since, token, limit);
+        return ResponseEntity.ok(responseMapper.toSuccessResponse("Changes retrieved successfully", changes));
+    }
+
+    // Served from pre-rendered bytes written straight to the servlet stream
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<Response>> getGameById(@PathVariable @Positive Long id) {
-        Response response = gameService.getGameById(id);
-        return ResponseEntity.ok(responseMapper.toSuccessResponse("Game retrieved successfully",response));
+    public void getGameById(@PathVariable @Positive Long id,
+                            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        gameDocuments.byId(id, () -> responseMapper.toSuccessResponse("Game retrieved successfully",
+                        gameService.getGameById(id)))
+                .writeTo(request, response);
     }
 
     @GetMapping("/title/{title}")
-    public ResponseEntity<ApiResponse<Response>> getGameByTitle(@PathVariable String title) {
-        Response response = gameService.getGameByTitle(title);
-        return ResponseEntity.ok(responseMapper.toSuccessResponse(response));
+    public void getGameByTitle(@PathVariable String title,
+                               HttpServletRequest request, HttpServletResponse response) throws IOException {
+        gameDocuments.byTitle(title, () -> responseMapper.toSuccessResponse(gameService.getGameByTitle(title)))
+                .writeTo(request, response);
     }
 
     @DeleteMapping("/{id}")
@@ -75,34 +184,72 @@ public class GameController {
         );
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<GameSearchResponse>> searchGames(
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String author,
+            @RequestParam(required = false) List<Long> categoryIds,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Positive int limit) {
+        GameSearchRequest request = new GameSearchRequest(
+                title, author, categoryIds, minPrice, maxPrice, sort, direction, cursor, limit);
+        GameSearchResponse result = gameService.searchGames(request);
+        return ResponseEntity.ok(responseMapper.toSuccessResponse("Search completed", result));
+    }
+
     @GetMapping("/search/title")
-    public ResponseEntity<ApiResponse<List<Response>>> searchByTitle(@RequestParam String title) {
-        List<Response> games = gameService.searchByTitle(title);
+    public ResponseEntity<ApiResponse<List<Response>>> searchByTitle(
+            @RequestParam String title,
+            @RequestParam(defaultValue = "20") @Positive int limit) {
+        List<Response> games = gameService.searchByTitle(title, limit);
         return ResponseEntity.ok(
                 responseMapper.toSuccessResponse("Search completed", games)
         );
     }
 
     @GetMapping("/search/author")
-    public ResponseEntity<ApiResponse<List<Response>>> searchByAuthor(@RequestParam String author) {
-        List<Response> games = gameService.searchGamesByAuthor(author);
+    public ResponseEntity<ApiResponse<List<Response>>> searchByAuthor(
+            @RequestParam String author,
+            @RequestParam(defaultValue = "20") @Positive int limit) {
+        List<Response> games = gameService.searchGamesByAuthor(author, limit);
+        return ResponseEntity.ok(
+                responseMapper.toSuccessResponse("Search completed", games)
+        );
+    }
+
+    @GetMapping("/search/tags")
+    public ResponseEntity<ApiResponse<List<Response>>> searchByTags(
+            @RequestParam(required = false) List<String> all,
+            @RequestParam(required = false) List<String> any,
+            @RequestParam(required = false) List<String> none,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(defaultValue = "20") @Positive int limit) {
+        List<Response> games = gameService.searchGamesByTags(all, any, none, minPrice, maxPrice, limit);
         return ResponseEntity.ok(
                 responseMapper.toSuccessResponse("Search completed", games)
         );
     }
 
+    // Filters and sorts on list prices, but each game shows its discounted price when a sale is running
     @GetMapping("/filter/price")
     public ResponseEntity<ApiResponse<List<Response>>> filterByPriceRange(@RequestParam BigDecimal min,
-                                                                         @RequestParam BigDecimal max) {
-        List<Response> games = gameService.getGamesInPriceRange(min, max);
+                                                                         @RequestParam BigDecimal max,
+                                                                         @RequestParam(defaultValue = "20") @Positive int limit) {
+        List<Response> games = gameService.getGamesInPriceRange(min, max, limit);
         return ResponseEntity.ok(
                 responseMapper.toSuccessResponse("Price filter applied", games)
         );
     }
 
     @GetMapping("/sorted")
-    public ResponseEntity<ApiResponse<List<Response>>> getSortedByPrice(@RequestParam(defaultValue = "true") boolean ascending) {
-        List<Response> games = gameService.getGamesSortedByPrice(ascending);
+    public ResponseEntity<ApiResponse<List<Response>>> getSortedByPrice(@RequestParam(defaultValue = "true") boolean ascending,
+                                                                       @RequestParam(defaultValue = "20") @Positive int limit) {
+        List<Response> games = gameService.getGamesSortedByPrice(ascending, limit);
         String sortDirection = ascending ? "ascending" : "descending";
         return ResponseEntity.ok(
                 responseMapper.toSuccessResponse("Games sorted by price " + sortDirection, games)
@@ -119,4 +266,16 @@ public class GameController {
                 responseMapper.toSuccessResponse("Games retrieved for category", games)
         );
     }
+
+    // ?count=false skips the totals and only reports whether a next page exists
+    @GetMapping(value = "/category/{categoryId}", params = "count=false")
+    public ResponseEntity<ApiResponse<SlicedResponse>> getGamesByCategorySlice(
+            @PathVariable @Positive Long categoryId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        SlicedResponse games = gameService.getGamesByCategorySlice(categoryId, page, size);
+        return ResponseEntity.ok(
+                responseMapper.toSuccessResponse("Games retrieved for category", games)
+        );
+    }
 }
@@ -0,0 +1,49 @@
+package com.example.Games.game;
+
+import com.example.Games.config.exception.game.InvalidGameDataException;
+import com.example.Games.game.dto.Response;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Opaque keyset position: the sort the page was produced with plus the last row's sort value and id
+public record GameCursor(
+        GameSortKey sortKey,
+        Sort.Direction direction,
+        Long lastId,
+        Object lastValue
+) {
+
+    private static final String SEPARATOR = "|";
+
+    public static GameCursor after(GameSortKey sortKey, Sort.Direction direction, Response last) {
+        return new GameCursor(sortKey, direction, last.id(), sortKey.valueOf(last));
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, sortKey.name(), direction.name(), lastId.toString(), String.valueOf(lastValue));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static GameCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // The sort value goes last so titles containing the separator survive the split
+            String[] parts = raw.split("\\" + SEPARATOR, 4);
+            if (parts.length != 4) {
+                throw InvalidGameDataException.invalidCursor();
+            }
+            GameSortKey sortKey = GameSortKey.valueOf(parts[0]);
+            return new GameCursor(
+                    sortKey,
+                    Sort.Direction.valueOf(parts[1]),
+                    Long.valueOf(parts[2]),
+                    sortKey.parse(parts[3])
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw InvalidGameDataException.invalidCursor();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.Games.game;
+
+import com.example.Games.config.cache.RenderedDocument;
+import com.example.Games.config.common.dto.ApiResponse;
+import com.example.Games.game.dto.Response;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+// Fully rendered bodies of GET /api/v1/games/{id} and /title/{title}; a hit skips mapping, Jackson and gzip entirely.
+// Entries remember their game and category, so CatalogCacheEvictor can drop exactly the documents a write touched.
+@Component
+public class GameDocumentCache {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, Document> byId;
+    private final Cache<String, Document> byTitle;
+
+    public GameDocumentCache(ObjectMapper objectMapper,
+                             @Value("${games.documents.max-size:64MB}") DataSize maxSize,
+                             @Value("${games.documents.ttl:10m}") Duration ttl) {
+        this.objectMapper = objectMapper;
+        this.byId = newCache(maxSize.toBytes() / 2, ttl);
+        this.byTitle = newCache(maxSize.toBytes() / 2, ttl);
+    }
+
+    private record Document(Long gameId, Long categoryId, RenderedDocument rendered) {
+    }
+
+    public RenderedDocument byId(Long gameId, Supplier<ApiResponse<Response>> loader) {
+        return byId.get(gameId, key -> render(loader.get())).rendered();
+    }
+
+    public RenderedDocument byTitle(String title, Supplier<ApiResponse<Response>> loader) {
+        return byTitle.get(title, key -> render(loader.get())).rendered();
+    }
+
+    // Title entries are matched by game id, so the old title of a renamed game goes too
+    public void evictGame(Long gameId) {
+        byId.invalidate(gameId);
+        evictIf(document -> gameId.equals(document.gameId()));
+    }
+
+    public void evictCategory(Long categoryId) {
+        evictIf(document -> categoryId.equals(document.categoryId()));
+    }
+
+    public void clear() {
+        byId.invalidateAll();
+        byTitle.invalidateAll();
+    }
+
+    private void evictIf(Predicate<Document> predicate) {
+        byId.asMap().values().removeIf(predicate);
+        byTitle.asMap().values().removeIf(predicate);
+    }
+
+    private Document render(ApiResponse<Response> body) {
+        Response game = body.data();
+        Long categoryId = game.category() != null ? game.category().id() : null;
+        return new Document(game.id(), categoryId, RenderedDocument.render(objectMapper, body));
+    }
+
+    private static <K> Cache<K, Document> newCache(long maxBytes, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((K key, Document document) -> document.rendered().weight())
+                .expireAfterWrite(ttl)
+                .build();
+    }
+}
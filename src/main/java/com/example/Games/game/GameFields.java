@@ -0,0 +1,30 @@
+package com.example.Games.game;
+
+import com.example.Games.config.common.fields.SparseField;
+import com.example.Games.config.common.fields.SparseSchema;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+// Fields a game listing can be narrowed to; the category is exposed flat because a partial nested object has no stable shape
+final class GameFields {
+
+    static final SparseSchema SCHEMA = new SparseSchema("Game g", List.of(
+            SparseField.of("id", "g.id"),
+            SparseField.of("title", "g.title"),
+            SparseField.of("author", "a.username", "JOIN g.author a"),
+            SparseField.of("price", "g.price"),
+            SparseField.of("categoryId", "g.category.id"),
+            SparseField.of("categoryName", "c.name", "JOIN g.category c"),
+            SparseField.of("createdAt", "g.createdAt"),
+            SparseField.of("updatedAt", "g.updatedAt"),
+            SparseField.of("averageRating",
+                    "CASE WHEN g.ratingCount = 0 THEN NULL ELSE g.ratingSum * 1.0 / g.ratingCount END")
+                    .converted(value -> new BigDecimal(value.toString()).setScale(2, RoundingMode.HALF_UP)),
+            SparseField.of("ratingCount", "g.ratingCount")
+    ));
+
+    private GameFields() {
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.Games.game;
+
+import com.example.Games.config.exception.game.InvalidGameDataException;
+import org.springframework.http.MediaType;
+
+public enum GameImportFormat {
+    NDJSON,
+    CSV;
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final String CSV_VALUE = "text/csv";
+
+    public static GameImportFormat fromContentType(String contentType) {
+        MediaType type = contentType == null ? null : MediaType.parseMediaType(contentType);
+        if (type != null && type.isCompatibleWith(MediaType.parseMediaType(NDJSON_VALUE))) {
+            return NDJSON;
+        }
+        if (type != null && type.isCompatibleWith(MediaType.parseMediaType(CSV_VALUE))) {
+            return CSV;
+        }
+        throw InvalidGameDataException.unsupportedImportFormat(contentType);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.Games.game;
+
+import com.example.Games.game.dto.GameImportError;
+import com.example.Games.game.dto.GameImportProgress;
+
+// Receives import results while the file is still being read, so nothing per row has to be kept
+public interface GameImportListener {
+
+    void rowFailed(GameImportError error);
+
+    void batchImported(GameImportProgress progress);
+}
@@ -0,0 +1,218 @@
+package com.example.Games.game;
+
+import com.example.Games.config.common.service.UserContextService;
+import com.example.Games.config.exception.game.InvalidGameDataException;
+import com.example.Games.game.dto.CreateRequest;
+import com.example.Games.game.dto.GameImportError;
+import com.example.Games.game.dto.GameImportProgress;
+import com.example.Games.user.auth.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Streams a bulk import one line at a time and hands it to GameImportWriter in fixed-size batches, so memory stays
+// flat however large the file is. Not transactional itself: each batch commits on its own.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameImportService {
+
+    static final int BATCH_SIZE = 500;
+    static final List<String> CSV_COLUMNS = List.of("title", "price", "categoryid");
+
+    private final GameImportWriter writer;
+    private final UserContextService userContextService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public GameImportProgress importGames(Reader source, GameImportFormat format, GameImportListener listener)
+            throws IOException {
+        User author = userContextService.getAuthorizedUser();
+        BufferedReader reader = source instanceof BufferedReader buffered ? buffered : new BufferedReader(source);
+        Run run = new Run(author, listener);
+
+        Map<String, Integer> columns = null;
+        long line = 0;
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            if (format == GameImportFormat.CSV && columns == null) {
+                columns = csvHeader(text);
+                continue;
+            }
+            CreateRequest game;
+            try {
+                game = format == GameImportFormat.NDJSON
+                        ? objectMapper.readValue(text, CreateRequest.class)
+                        : csvRow(text, columns);
+            } catch (JsonProcessingException | IllegalArgumentException | DateTimeParseException e) {
+                run.reject(new GameImportError(line, null, "Row could not be parsed as " + format));
+                continue;
+            }
+            String violation = firstViolation(game);
+            if (violation != null) {
+                run.reject(new GameImportError(line, game == null ? null : game.title(), violation));
+                continue;
+            }
+            run.add(new GameImportWriter.Row(line, game));
+        }
+        run.flush();
+
+        GameImportProgress summary = run.progress(true);
+        log.info("Bulk import by developer '{}' finished: {} rows, {} imported, {} rejected",
+                author.getUsername(), summary.processed(), summary.imported(), summary.failed());
+        return summary;
+    }
+
+    private String firstViolation(CreateRequest game) {
+        if (game == null) {
+            return "Row is empty";
+        }
+        return validator.validate(game).stream()
+                .min(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(ConstraintViolation::getMessage)
+                .orElse(null);
+    }
+
+    private static Map<String, Integer> csvHeader(String text) {
+        List<String> names = csvFields(text);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.keySet().containsAll(CSV_COLUMNS)) {
+            throw InvalidGameDataException.invalidImportHeader("title,price,categoryId");
+        }
+        return columns;
+    }
+
+    // Blank cells become nulls, so they are reported by the same validation messages as a JSON row. The releaseAt
+    // column is optional.
+    private static CreateRequest csvRow(String text, Map<String, Integer> columns) {
+        List<String> fields = csvFields(text);
+        String title = cell(fields, columns.get("title"));
+        String price = cell(fields, columns.get("price"));
+        String categoryId = cell(fields, columns.get("categoryid"));
+        String releaseAt = cell(fields, columns.get("releaseat"));
+        return new CreateRequest(
+                title,
+                price == null ? null : new BigDecimal(price),
+                categoryId == null ? null : Long.valueOf(categoryId),
+                releaseAt == null ? null : LocalDateTime.parse(releaseAt));
+    }
+
+    private static String cell(List<String> fields, Integer index) {
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // RFC 4180 fields on a single line: quoted fields may contain commas and "" for a quote
+    static List<String> csvFields(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    // Running totals and the batch being filled
+    private final class Run {
+
+        private final User author;
+        private final GameImportListener listener;
+        private final List<GameImportWriter.Row> batch = new ArrayList<>(BATCH_SIZE);
+        private long processed;
+        private long failed;
+
+        private Run(User author, GameImportListener listener) {
+            this.author = author;
+            this.listener = listener;
+        }
+
+        void reject(GameImportError error) {
+            processed++;
+            failed++;
+            listener.rowFailed(error);
+        }
+
+        void add(GameImportWriter.Row row) {
+            batch.add(row);
+            if (batch.size() == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<GameImportWriter.Row> rows = List.copyOf(batch);
+            batch.clear();
+            List<GameImportError> errors;
+            try {
+                errors = writer.importBatch(rows, author);
+            } catch (DataIntegrityViolationException e) {
+                // A concurrent writer took one of the titles between the check and the insert; the batch rolled back
+                errors = rows.stream()
+                        .map(row -> new GameImportError(row.line(), row.game().title(),
+                                "Batch rolled back by a conflicting concurrent write, retry these rows"))
+                        .toList();
+            }
+            processed += rows.size();
+            failed += errors.size();
+            errors.forEach(listener::rowFailed);
+            listener.batchImported(progress(false));
+        }
+
+        GameImportProgress progress(boolean done) {
+            return new GameImportProgress(processed, processed - failed, failed, done);
+        }
+    }
+}
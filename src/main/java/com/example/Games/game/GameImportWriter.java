@@ -0,0 +1,126 @@
+package com.example.Games.game;
+
+import com.example.Games.category.CategoryGameCounter;
+import com.example.Games.category.CategoryRepository;
+import com.example.Games.config.cache.CatalogVersion;
+import com.example.Games.config.exception.category.CategoryNotFoundException;
+import com.example.Games.config.exception.game.GameTitleAlreadyExistsException;
+import com.example.Games.game.dto.CreateRequest;
+import com.example.Games.game.dto.GameImportError;
+import com.example.Games.game.dto.GameTerm;
+import com.example.Games.game.dto.GameTitle;
+import com.example.Games.gameHistory.GameHistoryService;
+import com.example.Games.purchase.preorder.ReleaseScheduler;
+import com.example.Games.typeahead.TypeaheadIndex;
+import com.example.Games.user.auth.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Writes one import batch in its own transaction: two set-based lookups validate every title and category,
+// then the games go out as one JDBC batch and their CREATE history rows as batched inserts with pooled ids
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GameImportWriter {
+
+    private static final String INSERT_GAME = "INSERT INTO games (title, author_id, price, category_id, " +
+            "created_at, updated_at, release_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final GameRepository gameRepository;
+    private final CategoryRepository categoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final GameHistoryService historyService;
+    private final GameTitleIndex titleIndex;
+    private final GameCatalog catalog;
+    private final CategoryGameCounter categoryCounter;
+    private final TypeaheadIndex typeahead;
+    private final CatalogVersion catalogVersion;
+    private final ReleaseScheduler releases;
+    private final GameSyncStamper syncStamper;
+
+    record Row(long line, CreateRequest game) {
+    }
+
+    // Returns the rejected rows; every other row of the batch is inserted
+    @Transactional
+    public List<GameImportError> importBatch(List<Row> rows, User author) {
+        Set<Long> categoryIds = new HashSet<>(categoryRepository.findExistingIds(
+                rows.stream().map(row -> row.game().categoryId()).collect(Collectors.toSet())));
+        Set<String> takenTitles = gameRepository.findTitlesByTitleIn(
+                        rows.stream().map(row -> row.game().title()).collect(Collectors.toSet()))
+                .stream()
+                .map(GameTitle::title)
+                .collect(Collectors.toCollection(HashSet::new));
+
+        List<Row> accepted = new ArrayList<>(rows.size());
+        List<GameImportError> errors = new ArrayList<>();
+        for (Row row : rows) {
+            CreateRequest game = row.game();
+            if (!categoryIds.contains(game.categoryId())) {
+                errors.add(new GameImportError(row.line(), game.title(),
+                        CategoryNotFoundException.byId(game.categoryId()).getMessage()));
+            } else if (!takenTitles.add(game.title())) {
+                errors.add(new GameImportError(row.line(), game.title(),
+                        GameTitleAlreadyExistsException.withTitle(game.title()).getMessage()));
+            } else {
+                accepted.add(row);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return errors;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_GAME, accepted, accepted.size(), (statement, row) -> {
+            statement.setString(1, row.game().title());
+            statement.setLong(2, author.getId());
+            statement.setBigDecimal(3, row.game().price().setScale(2, RoundingMode.HALF_UP));
+            statement.setLong(4, row.game().categoryId());
+            statement.setTimestamp(5, now);
+            statement.setTimestamp(6, now);
+            LocalDateTime releaseAt = row.game().releaseAt();
+            statement.setTimestamp(7, releaseAt == null ? null : Timestamp.valueOf(releaseAt));
+        });
+
+        // Titles are unique, so one IN query recovers the identity keys the batch generated
+        Map<String, Long> ids = gameRepository.findTitlesByTitleIn(
+                        accepted.stream().map(row -> row.game().title()).toList())
+                .stream()
+                .collect(Collectors.toMap(GameTitle::title, GameTitle::id));
+        historyService.recordGameCreations(accepted.stream()
+                .collect(Collectors.toMap(row -> ids.get(row.game().title()), row -> row.game().title())), author);
+
+        List<GameTerm> terms = new ArrayList<>(accepted.size());
+        for (Row row : accepted) {
+            Long id = ids.get(row.game().title());
+            Long categoryId = row.game().categoryId();
+            titleIndex.index(id, row.game().title());
+            categoryCounter.gameAdded(categoryId);
+            terms.add(new GameTerm(id, row.game().title(), categoryId, author.getId(), author.getUsername()));
+            if (row.game().releaseAt() != null) {
+                releases.schedule(id, row.game().releaseAt());
+            }
+        }
+        typeahead.gamesSaved(terms);
+        syncStamper.gamesChanged(ids.values());
+        catalog.refresh(ids.values());
+        catalogVersion.bumpAfterCommit();
+
+        log.info("Imported {} games for developer '{}', {} rows rejected",
+                accepted.size(), author.getUsername(), errors.size());
+        return errors;
+    }
+}
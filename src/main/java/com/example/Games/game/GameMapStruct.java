@@ -3,6 +3,7 @@ package com.example.Games.game;
 import com.example.Games.category.Category;
 import com.example.Games.category.CategoryMapStruct;
 import com.example.Games.game.dto.CreateRequest;
+import com.example.Games.game.dto.GameView;
 import com.example.Games.game.dto.Response;
 import com.example.Games.user.auth.User;
 import org.mapstruct.Mapper;
@@ -18,10 +19,25 @@ public interface GameMapStruct {
     @Mapping(target = "author", source = "author")
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "ratingSum", ignore = true)
+    @Mapping(target = "ratingCount", ignore = true)
+    @Mapping(target = "syncVersion", ignore = true)
+    @Mapping(target = "tagsUpdatedAt", ignore = true)
     Game toEntity(CreateRequest request, Category category, User author);
 
     @Mapping(target = "author", source = "author.username")
     Response toDto(Game game);
 
     List<Response> toDtoList(List<Game> games);
+
+    @Mapping(target = "category.id", source = "categoryId")
+    @Mapping(target = "category.name", source = "categoryName")
+    @Mapping(target = "category.createdByUsername", source = "categoryCreatedByUsername")
+    @Mapping(target = "category.createdById", source = "categoryCreatedById")
+    @Mapping(target = "category.createdAt", source = "categoryCreatedAt")
+    @Mapping(target = "category.updatedAt", source = "categoryUpdatedAt")
+    @Mapping(target = "averageRating", expression = "java(Game.averageRating(view.ratingSum(), view.ratingCount()))")
+    Response fromView(GameView view);
+
+    List<Response> fromViews(List<GameView> views);
 }
@@ -1,18 +1,30 @@
 package com.example.Games.game;
 
+import com.example.Games.game.dto.GamePrice;
+import com.example.Games.game.dto.GameRelease;
+import com.example.Games.game.dto.GameSyncKey;
+import com.example.Games.game.dto.GameTerm;
+import com.example.Games.game.dto.GameTitle;
+import com.example.Games.game.dto.GameView;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface GameRepository extends JpaRepository<Game, Long> {
+public interface GameRepository extends JpaRepository<Game, Long>, GameRepositoryCustom {
 
     Optional<Game> findByTitle(String title);
     
@@ -40,4 +52,96 @@ public interface GameRepository extends JpaRepository<Game, Long> {
     // Fetch games with authors to avoid N+1
     @Query("SELECT g FROM Game g JOIN FETCH g.author WHERE g.id IN :gameIds")
     List<Game> findAllByIdWithAuthor(@Param("gameIds") List<Long> gameIds);
-    }
+
+    // DTO projections: author and category are joined into the row, so mapping never touches a lazy proxy
+    @Query(GameView.SELECT + " WHERE LOWER(g.title) LIKE LOWER(CONCAT('%', :title, '%'))")
+    List<GameView> findViewsByTitleContaining(@Param("title") String title);
+
+    @Query(GameView.SELECT + " WHERE a.username = :username")
+    List<GameView> findViewsByAuthorUsername(@Param("username") String username);
+
+    @Query(GameView.SELECT + " WHERE g.price BETWEEN :minPrice AND :maxPrice")
+    List<GameView> findViewsInPriceRange(@Param("minPrice") BigDecimal minPrice, @Param("maxPrice") BigDecimal maxPrice);
+
+    @Query(GameView.SELECT)
+    List<GameView> findAllViews(Sort sort);
+
+    @Query(value = GameView.SELECT + " WHERE c.id = :categoryId",
+            countQuery = "SELECT COUNT(g) FROM Game g WHERE g.category.id = :categoryId")
+    Page<GameView> findViewsByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    @Query(GameView.SELECT + " WHERE g.id IN :ids")
+    List<GameView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Rows a catalog snapshot written at :since can be missing: the game or its embedded category changed after it
+    @Query(GameView.SELECT + " WHERE COALESCE(g.updatedAt, g.createdAt) >= :since " +
+            "OR COALESCE(c.updatedAt, c.createdAt) >= :since")
+    List<GameView> findViewsModifiedSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT g.id FROM Game g")
+    List<Long> findAllIds();
+
+    // Delta-sync page: keyset on (syncVersion, id) after the token, bounded by the committed clock value
+    @Query("SELECT new com.example.Games.game.dto.GameSyncKey(g.id, g.syncVersion) FROM Game g " +
+            "WHERE g.syncVersion <= :until " +
+            "AND (g.syncVersion > :after OR (g.syncVersion = :after AND g.id > :afterId)) " +
+            "ORDER BY g.syncVersion, g.id")
+    List<GameSyncKey> findSyncKeysChangedBetween(@Param("after") long after, @Param("afterId") long afterId,
+                                                 @Param("until") long until, Pageable pageable);
+
+    // Where a timestamp-based sync starts: the oldest version among games written after it
+    @Query("SELECT MIN(g.syncVersion) FROM Game g WHERE g.updatedAt > :since")
+    Optional<Long> findMinSyncVersionUpdatedAfter(@Param("since") LocalDateTime since);
+
+    // Run by GameSyncStamper just before commit, after the transaction's own writes are flushed
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Game g SET g.syncVersion = :version WHERE g.id IN :ids")
+    int stampSyncVersion(@Param("version") long version, @Param("ids") Collection<Long> ids);
+
+    // Bulk repricing locks its rows first, so the old prices it records cannot change underneath it
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.example.Games.game.dto.GamePrice(g.id, g.title, g.price, g.author.id) " +
+            "FROM Game g WHERE g.id IN :ids ORDER BY g.id")
+    List<GamePrice> lockPricesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.example.Games.game.dto.GamePrice(g.id, g.title, g.price, g.author.id) " +
+            "FROM Game g WHERE g.category.id = :categoryId AND g.author.id = :authorId ORDER BY g.id")
+    List<GamePrice> lockPricesByCategoryAndAuthor(@Param("categoryId") Long categoryId,
+                                                  @Param("authorId") Long authorId);
+
+    // One statement per id chunk; auditing does not see bulk updates, so updatedAt is set here
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Game g SET g.price = ROUND(g.price * :factor + :amount, 2), g.updatedAt = :now " +
+            "WHERE g.id IN :ids")
+    int adjustPrices(@Param("factor") BigDecimal factor, @Param("amount") BigDecimal amount,
+                     @Param("now") LocalDateTime now, @Param("ids") Collection<Long> ids);
+
+    // Running rating totals move in the database, so concurrent reviews of one game never lose an update
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Game g SET g.ratingSum = g.ratingSum + :sumDelta, g.ratingCount = g.ratingCount + :countDelta, " +
+            "g.updatedAt = :now WHERE g.id = :id")
+    int adjustRating(@Param("id") Long id, @Param("sumDelta") long sumDelta, @Param("countDelta") long countDelta,
+                     @Param("now") LocalDateTime now);
+
+    // Set-based title lookup for bulk import: which titles are taken, and the ids of freshly inserted rows
+    @Query("SELECT new com.example.Games.game.dto.GameTitle(g.id, g.title) FROM Game g WHERE g.title IN :titles")
+    List<GameTitle> findTitlesByTitleIn(@Param("titles") Collection<String> titles);
+
+    // Only what the in-memory title index needs to rebuild at startup
+    @Query("SELECT new com.example.Games.game.dto.GameTitle(g.id, g.title) FROM Game g")
+    List<GameTitle> findAllTitles();
+
+    // Titles a node's index can be missing: games created or edited, possibly on another node, since :since
+    @Query("SELECT new com.example.Games.game.dto.GameTitle(g.id, g.title) FROM Game g " +
+            "WHERE COALESCE(g.updatedAt, g.createdAt) >= :since")
+    List<GameTitle> findTitlesModifiedSince(@Param("since") LocalDateTime since);
+
+    // Releases still ahead, for the release scheduler to put back on its wheel at startup
+    @Query("SELECT new com.example.Games.game.dto.GameRelease(g.id, g.releaseAt) FROM Game g WHERE g.releaseAt > :now")
+    List<GameRelease> findReleasesAfter(@Param("now") LocalDateTime now);
+
+    @Query("SELECT new com.example.Games.game.dto.GameTerm(g.id, g.title, g.category.id, a.id, a.username) " +
+           "FROM Game g JOIN g.author a")
+    List<GameTerm> findAllTerms();
+}
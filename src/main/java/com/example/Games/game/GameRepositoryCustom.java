@@ -0,0 +1,26 @@
+package com.example.Games.game;
+
+import com.example.Games.config.common.fields.FieldSelection;
+import com.example.Games.game.dto.CategoryFacet;
+import com.example.Games.game.dto.GameView;
+import com.example.Games.game.dto.PriceBucket;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public interface GameRepositoryCustom {
+
+    // Keyset page: rows matching every constraint the filter sets, strictly after the cursor in (sortKey, id) order
+    List<GameView> search(GameSearchFilter filter, GameSortKey sortKey, Sort.Direction direction,
+                          GameCursor cursor, int limit);
+
+    // Same keyset walk over every game, selecting only the chosen fields; each row ends with g.id and the sort value
+    List<Object[]> listFields(FieldSelection selection, GameSortKey sortKey, Sort.Direction direction,
+                              GameCursor cursor, int limit);
+
+    List<CategoryFacet> countByCategory(GameSearchFilter filter);
+
+    // One bucket below the first bound, one between each pair and one above the last; bounds must be ascending
+    List<PriceBucket> countByPriceBucket(GameSearchFilter filter, List<BigDecimal> bounds);
+}
@@ -0,0 +1,154 @@
+package com.example.Games.game;
+
+import com.example.Games.config.common.fields.FieldSelection;
+import com.example.Games.game.dto.CategoryFacet;
+import com.example.Games.game.dto.GameView;
+import com.example.Games.game.dto.PriceBucket;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class GameRepositoryCustomImpl implements GameRepositoryCustom {
+
+    private static final String FROM = " FROM Game g JOIN g.author a JOIN g.category c";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<GameView> search(GameSearchFilter filter, GameSortKey sortKey, Sort.Direction direction,
+                                 GameCursor cursor, int limit) {
+        Map<String, Object> parameters = new HashMap<>();
+        List<String> clauses = filterClauses(filter, parameters);
+        addKeysetClause(clauses, parameters, sortKey, direction, cursor);
+
+        String jpql = GameView.SELECT + where(clauses) + " ORDER BY " + orderBy(sortKey, direction);
+        TypedQuery<GameView> query = entityManager.createQuery(jpql, GameView.class)
+                .setMaxResults(limit);
+        parameters.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    @Override
+    public List<Object[]> listFields(FieldSelection selection, GameSortKey sortKey, Sort.Direction direction,
+                                     GameCursor cursor, int limit) {
+        Map<String, Object> parameters = new HashMap<>();
+        List<String> clauses = new ArrayList<>();
+        addKeysetClause(clauses, parameters, sortKey, direction, cursor);
+
+        return selection.rows(entityManager, String.join(" AND ", clauses), orderBy(sortKey, direction),
+                parameters, 0, limit, "g.id", "g." + sortKey.property());
+    }
+
+    private static void addKeysetClause(List<String> clauses, Map<String, Object> parameters,
+                                        GameSortKey sortKey, Sort.Direction direction, GameCursor cursor) {
+        if (cursor == null) {
+            return;
+        }
+        String property = "g." + sortKey.property();
+        String comparison = direction.isAscending() ? ">" : "<";
+        parameters.put("lastId", cursor.lastId());
+        if (sortKey == GameSortKey.ID) {
+            clauses.add("g.id " + comparison + " :lastId");
+        } else {
+            parameters.put("lastValue", cursor.lastValue());
+            clauses.add("(" + property + " " + comparison + " :lastValue OR ("
+                    + property + " = :lastValue AND g.id " + comparison + " :lastId))");
+        }
+    }
+
+    private static String orderBy(GameSortKey sortKey, Sort.Direction direction) {
+        String order = direction.isAscending() ? "ASC" : "DESC";
+        return sortKey == GameSortKey.ID
+                ? "g.id " + order
+                : "g." + sortKey.property() + " " + order + ", g.id " + order;
+    }
+
+    @Override
+    public List<CategoryFacet> countByCategory(GameSearchFilter filter) {
+        Map<String, Object> parameters = new HashMap<>();
+        String jpql = "SELECT new com.example.Games.game.dto.CategoryFacet(c.id, c.name, COUNT(g))" + FROM
+                + where(filterClauses(filter, parameters))
+                + " GROUP BY c.id, c.name ORDER BY COUNT(g) DESC, c.name ASC";
+
+        TypedQuery<CategoryFacet> query = entityManager.createQuery(jpql, CategoryFacet.class);
+        parameters.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    // All buckets are counted by one conditional-aggregate row instead of a query per bucket
+    @Override
+    public List<PriceBucket> countByPriceBucket(GameSearchFilter filter, List<BigDecimal> bounds) {
+        Map<String, Object> parameters = new HashMap<>();
+        List<String> sums = new ArrayList<>();
+        for (int i = 0; i <= bounds.size(); i++) {
+            List<String> conditions = new ArrayList<>();
+            if (i > 0) {
+                conditions.add("g.price >= :bound" + (i - 1));
+            }
+            if (i < bounds.size()) {
+                conditions.add("g.price < :bound" + i);
+                parameters.put("bound" + i, bounds.get(i));
+            }
+            sums.add("SUM(CASE WHEN " + String.join(" AND ", conditions) + " THEN 1 ELSE 0 END)");
+        }
+        String jpql = "SELECT " + String.join(", ", sums) + FROM + where(filterClauses(filter, parameters));
+
+        Query query = entityManager.createQuery(jpql);
+        parameters.forEach(query::setParameter);
+        Object result = query.getSingleResult();
+        Object[] counts = result instanceof Object[] row ? row : new Object[]{result};
+
+        long[] bucketCounts = new long[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            bucketCounts[i] = counts[i] == null ? 0 : ((Number) counts[i]).longValue();
+        }
+        return PriceBucket.of(bounds, bucketCounts);
+    }
+
+    private static List<String> filterClauses(GameSearchFilter filter, Map<String, Object> parameters) {
+        List<String> clauses = new ArrayList<>();
+        if (filter.gameIds() != null) {
+            clauses.add("g.id IN :gameIds");
+            parameters.put("gameIds", filter.gameIds());
+        }
+        if (filter.titleContains() != null) {
+            clauses.add("LOWER(g.title) LIKE :titlePattern ESCAPE '\\'");
+            parameters.put("titlePattern", "%" + escapeLike(filter.titleContains().toLowerCase(Locale.ROOT)) + "%");
+        }
+        if (filter.author() != null) {
+            clauses.add("a.username = :author");
+            parameters.put("author", filter.author());
+        }
+        if (filter.categoryIds() != null && !filter.categoryIds().isEmpty()) {
+            clauses.add("c.id IN :categoryIds");
+            parameters.put("categoryIds", filter.categoryIds());
+        }
+        if (filter.minPrice() != null) {
+            clauses.add("g.price >= :minPrice");
+            parameters.put("minPrice", filter.minPrice());
+        }
+        if (filter.maxPrice() != null) {
+            clauses.add("g.price <= :maxPrice");
+            parameters.put("maxPrice", filter.maxPrice());
+        }
+        return clauses;
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static String where(List<String> clauses) {
+        return clauses.isEmpty() ? "" : " WHERE " + String.join(" AND ", clauses);
+    }
+}
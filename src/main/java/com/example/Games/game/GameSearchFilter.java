@@ -0,0 +1,28 @@
+package com.example.Games.game;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+// Optional search constraints; a null (or empty list of categories) leaves that dimension unconstrained. A title
+// filter arrives as the ids the title index matched, or as titleContains when it matched too many to bind.
+public record GameSearchFilter(
+        Collection<Long> gameIds,
+        String titleContains,
+        String author,
+        List<Long> categoryIds,
+        BigDecimal minPrice,
+        BigDecimal maxPrice
+) {
+
+    public static final GameSearchFilter NONE = new GameSearchFilter(null, null, null, null, null, null);
+
+    // Facet counts ignore their own dimension, so a client can see what widening the selection would yield
+    public GameSearchFilter withoutCategories() {
+        return new GameSearchFilter(gameIds, titleContains, author, null, minPrice, maxPrice);
+    }
+
+    public GameSearchFilter withoutPrice() {
+        return new GameSearchFilter(gameIds, titleContains, author, categoryIds, null, null);
+    }
+}
@@ -1,41 +1,112 @@
 package com.example.Games.game;
 
 import com.example.Games.category.Category;
+import com.example.Games.category.CategoryGameCounter;
 import com.example.Games.category.CategoryRepository;
+import com.example.Games.category.dto.CategoryResponse;
+import com.example.Games.config.cache.CacheConfig;
+import com.example.Games.config.cache.CatalogCacheEvictor;
+import com.example.Games.config.cache.CatalogVersion;
 import com.example.Games.config.exception.game.GameNotFoundException;
 import com.example.Games.config.exception.game.GameTitleAlreadyExistsException;
 import com.example.Games.config.exception.game.UnauthorizedGameAccessException;
 import com.example.Games.config.exception.category.CategoryNotFoundException;
+import com.example.Games.config.common.fields.FieldSelection;
 import com.example.Games.config.common.service.UserContextService;
+import com.example.Games.config.exception.game.InvalidGameDataException;
+import com.example.Games.discount.DiscountIndex;
+import com.example.Games.game.dto.BulkPriceUpdateRequest;
+import com.example.Games.game.dto.BulkPriceUpdateResponse;
 import com.example.Games.game.dto.CreateRequest;
+import com.example.Games.game.dto.CursorPagedResponse;
+import com.example.Games.game.dto.GameBatchItem;
+import com.example.Games.game.dto.GameBatchResponse;
+import com.example.Games.game.dto.GameChangesResponse;
+import com.example.Games.game.dto.GamePrice;
+import com.example.Games.game.dto.GameSearchRequest;
+import com.example.Games.game.dto.GameSearchResponse;
+import com.example.Games.game.dto.GameSyncKey;
+import com.example.Games.game.dto.GameTerm;
+import com.example.Games.game.dto.GameView;
 import com.example.Games.game.dto.PagedResponse;
+import com.example.Games.game.dto.PriceBucket;
+import com.example.Games.game.dto.PriceChange;
+import com.example.Games.game.dto.PriceChangeMode;
 import com.example.Games.game.dto.Response;
+import com.example.Games.game.dto.SearchFacets;
+import com.example.Games.game.dto.SlicedResponse;
+import com.example.Games.game.dto.SparseCursorPagedResponse;
 import com.example.Games.game.dto.UpdateRequest;
 import com.example.Games.gameHistory.GameHistoryService;
 import com.example.Games.gameHistory.dto.FieldChange;
+import com.example.Games.purchase.preorder.PreOrderRepository;
+import com.example.Games.purchase.preorder.ReleaseScheduler;
+import com.example.Games.review.ReviewRepository;
+import com.example.Games.review.ReviewVoteRepository;
+import com.example.Games.tag.GameTagRepository;
+import com.example.Games.tag.TagIndex;
+import com.example.Games.tag.TagSelection;
+import com.example.Games.typeahead.TypeaheadIndex;
 import com.example.Games.user.auth.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GameService {
 
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_BATCH_SIZE = 500;
+    // Bounds each IN list; with parameter padding only a handful of distinct statements ever reach the plan cache
+    static final int BATCH_CHUNK_SIZE = 100;
+    static final int MAX_SYNC_PAGE_SIZE = 1000;
+    static final BigDecimal MIN_PRICE = new BigDecimal("0.01");
+    static final List<BigDecimal> PRICE_BUCKET_BOUNDS = Stream.of("10", "20", "40", "60")
+            .map(BigDecimal::new)
+            .toList();
+
     private final GameRepository gameRepository;
     private final CategoryRepository categoryRepository;
     private final GameMapStruct gameMapStruct;
     private final GameHistoryService historyService;
     private final UserContextService userContextService;
+    private final CatalogCacheEvictor catalogCache;
+    private final GameTitleIndex titleIndex;
+    private final GameCatalog catalog;
+    private final CatalogVersion catalogVersion;
+    private final CategoryGameCounter categoryCounter;
+    private final TypeaheadIndex typeahead;
+    private final GameTombstoneRepository tombstoneRepository;
+    private final GameSyncClockRepository syncClockRepository;
+    private final GameSyncStamper syncStamper;
+    private final DiscountIndex discounts;
+    private final ReleaseScheduler releases;
+    private final PreOrderRepository preOrderRepository;
+    private final TagIndex tagIndex;
+    private final GameTagRepository gameTagRepository;
+    private final ReviewRepository reviewRepository;
+    private final ReviewVoteRepository reviewVoteRepository;
 
     private User getCurrentUser() {
         return userContextService.getAuthorizedUser();
@@ -53,8 +124,18 @@ public class GameService {
 
         Game game = gameMapStruct.toEntity(request, category, currentUser);
         Game savedGame = gameRepository.save(game);
+        syncStamper.gameChanged(savedGame.getId());
 
         historyService.recordGameCreation(savedGame , currentUser);
+        titleIndex.index(savedGame.getId(), savedGame.getTitle());
+        catalog.refresh(savedGame.getId());
+        categoryCounter.gameAdded(category.getId());
+        typeahead.gameSaved(new GameTerm(savedGame.getId(), savedGame.getTitle(), category.getId(),
+                currentUser.getId(), currentUser.getUsername()));
+        if (savedGame.getReleaseAt() != null) {
+            releases.schedule(savedGame.getId(), savedGame.getReleaseAt());
+        }
+        catalogVersion.bumpAfterCommit();
 
         log.info("Game '{}' created by user '{}'", savedGame.getTitle(), currentUser.getUsername());
         
@@ -73,9 +154,9 @@ public class GameService {
         }
 
         List<FieldChange> changes = new ArrayList<>();
+        String oldTitle = game.getTitle();
 
         if (request.title() != null) {
-            String oldTitle = game.getTitle();
             gameRepository.findByTitle(request.title())
                     .ifPresent(existing -> {
                         if (!existing.getId().equals(id)) {
@@ -100,36 +181,314 @@ public class GameService {
             game.updateCategory(category);
             if (oldCategoryId != null) {
                 changes.add(FieldChange.of("category", oldCategoryId.toString(), category.getId().toString()));
+                categoryCounter.gameMoved(oldCategoryId, category.getId());
             }
         }
 
         Game updatedGame = gameRepository.save(game);
+        syncStamper.gameChanged(id);
         historyService.recordGameUpdates(updatedGame, changes, currentUser);
+        catalogCache.evictGame(id, oldTitle, updatedGame.getTitle());
+        if (!updatedGame.getTitle().equals(oldTitle)) {
+            titleIndex.index(id, updatedGame.getTitle());
+        }
+        if (request.title() != null || request.categoryId() != null) {
+            typeahead.gameSaved(new GameTerm(id, updatedGame.getTitle(), updatedGame.getCategory().getId(),
+                    currentUser.getId(), currentUser.getUsername()));
+        }
+        catalog.refresh(id);
+        catalogVersion.bumpAfterCommit();
         log.info("Game '{}' updated by user '{}'", updatedGame.getTitle(), currentUser.getUsername());
         return gameMapStruct.toDto(updatedGame);
     }
 
+    // Locks the targeted rows, checks ownership, then reprices them with one UPDATE per id chunk and one history batch
+    @Transactional
+    public BulkPriceUpdateResponse updatePrices(BulkPriceUpdateRequest request) {
+        User currentUser = getCurrentUser();
+        List<GamePrice> games = lockRepricedGames(request, currentUser);
+
+        BigDecimal factor = request.mode() == PriceChangeMode.PERCENT
+                ? BigDecimal.ONE.add(request.value().movePointLeft(2))
+                : BigDecimal.ONE;
+        BigDecimal amount = request.mode() == PriceChangeMode.AMOUNT ? request.value() : BigDecimal.ZERO;
+        List<PriceChange> changes = games.stream()
+                .map(game -> new PriceChange(game.id(), game.title(), game.price(),
+                        game.price().multiply(factor).add(amount).setScale(2, RoundingMode.HALF_UP)))
+                .toList();
+        for (PriceChange change : changes) {
+            if (change.newPrice().compareTo(MIN_PRICE) < 0) {
+                throw InvalidGameDataException.bulkPriceBelowMinimum(change.gameId());
+            }
+        }
+        if (changes.isEmpty()) {
+            return new BulkPriceUpdateResponse(0, List.of());
+        }
+
+        List<Long> ids = changes.stream().map(PriceChange::gameId).toList();
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < ids.size(); from += BATCH_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + BATCH_CHUNK_SIZE, ids.size()));
+            gameRepository.adjustPrices(factor, amount, now, chunk);
+        }
+        syncStamper.gamesChanged(ids);
+        historyService.recordPriceChanges(changes, currentUser);
+        changes.forEach(change -> catalogCache.evictGame(change.gameId(), change.title()));
+        catalog.refresh(ids);
+        catalogVersion.bumpAfterCommit();
+
+        log.info("{} game prices changed by {} {} by user '{}'",
+                changes.size(), request.value(), request.mode(), currentUser.getUsername());
+        return new BulkPriceUpdateResponse(changes.size(), changes);
+    }
+
+    private List<GamePrice> lockRepricedGames(BulkPriceUpdateRequest request, User currentUser) {
+        boolean byIds = request.gameIds() != null && !request.gameIds().isEmpty();
+        if (byIds == (request.categoryId() != null)) {
+            throw InvalidGameDataException.invalidBulkPriceScope();
+        }
+        if (!byIds) {
+            if (!categoryRepository.existsById(request.categoryId())) {
+                throw CategoryNotFoundException.byId(request.categoryId());
+            }
+            return gameRepository.lockPricesByCategoryAndAuthor(request.categoryId(), currentUser.getId());
+        }
+
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(request.gameIds()));
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw InvalidGameDataException.invalidBatchSize(MAX_BATCH_SIZE);
+        }
+        List<GamePrice> games = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += BATCH_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + BATCH_CHUNK_SIZE, ids.size()));
+            games.addAll(gameRepository.lockPricesByIdIn(chunk));
+        }
+        Set<Long> found = games.stream().map(GamePrice::id).collect(Collectors.toSet());
+        for (Long id : ids) {
+            if (!found.contains(id)) {
+                throw GameNotFoundException.byId(id);
+            }
+        }
+        for (GamePrice game : games) {
+            if (!game.authorId().equals(currentUser.getId())) {
+                throw UnauthorizedGameAccessException.notOwner(game.id(), currentUser.getUsername());
+            }
+        }
+        return games;
+    }
+
+    // Resolves every id with one view query per chunk (author and category joined in) and answers in request order
+    @Transactional(readOnly = true)
+    public GameBatchResponse getGamesByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_BATCH_SIZE || ids.stream().anyMatch(Objects::isNull)) {
+            throw InvalidGameDataException.invalidBatchSize(MAX_BATCH_SIZE);
+        }
+        List<Long> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+        Map<Long, Response> games = new HashMap<>();
+        for (int from = 0; from < distinctIds.size(); from += BATCH_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + BATCH_CHUNK_SIZE, distinctIds.size()));
+            gameRepository.findViewsByIdIn(chunk)
+                    .forEach(view -> games.put(view.id(), priced(gameMapStruct.fromView(view))));
+        }
+
+        List<GameBatchItem> items = ids.stream()
+                .map(id -> games.containsKey(id) ? GameBatchItem.found(games.get(id)) : GameBatchItem.notFound(id))
+                .toList();
+        int found = (int) items.stream().filter(GameBatchItem::found).count();
+        return new GameBatchResponse(items, found, items.size() - found);
+    }
+
+    // Games changed after the token (or timestamp) plus the deletions and category renames in the same window, up to
+    // the last committed sync version
+    @Transactional(readOnly = true)
+    public GameChangesResponse getChanges(LocalDateTime since, String token, int limit) {
+        GameSyncClock clock = syncClockRepository.findById(GameSyncClock.ID).orElse(GameSyncClock.EMPTY);
+        long until = clock.getVersion();
+        GameSyncToken from;
+        if (token != null) {
+            from = GameSyncToken.decode(token);
+        } else if (since != null) {
+            from = GameSyncToken.since(syncVersionAt(since, until));
+        } else {
+            from = GameSyncToken.BEGINNING;
+        }
+        // A full sync needs no deletions; any other window must start where every tombstone is still kept
+        if (from != GameSyncToken.BEGINNING && from.afterVersion() < clock.getPurgedThrough()) {
+            throw InvalidGameDataException.expiredSyncToken();
+        }
+        if (from.afterVersion() > until || from.equals(GameSyncToken.since(until))) {
+            return new GameChangesResponse(List.of(), List.of(), List.of(), from.encode(), false);
+        }
+
+        int pageSize = Math.min(Math.max(limit, 1), MAX_SYNC_PAGE_SIZE);
+        List<GameSyncKey> keys = gameRepository.findSyncKeysChangedBetween(from.afterVersion(), from.afterId(), until,
+                PageRequest.of(0, pageSize + 1));
+        boolean hasMore = keys.size() > pageSize;
+        List<GameSyncKey> page = hasMore ? keys.subList(0, pageSize) : keys;
+        List<Response> changed = syncedGames(page);
+
+        // A short page ends the window at the clock; a full one ends it at its last game
+        GameSyncToken next = hasMore
+                ? new GameSyncToken(page.getLast().syncVersion(), page.getLast().id())
+                : GameSyncToken.since(until);
+        List<Long> deleted = tombstoneRepository.findGameIdsDeletedBetween(from.afterVersion(), next.afterVersion());
+        List<CategoryResponse> categories = categoryRepository.findResponsesChangedBetween(from.afterVersion(),
+                next.afterVersion());
+        return new GameChangesResponse(changed, deleted, categories, next.encode(), hasMore);
+    }
+
+    // A timestamp maps to just below the oldest version written after it, so some earlier changes may repeat
+    private long syncVersionAt(LocalDateTime since, long current) {
+        return Stream.of(gameRepository.findMinSyncVersionUpdatedAfter(since),
+                        categoryRepository.findMinSyncVersionUpdatedAfter(since),
+                        tombstoneRepository.findMinSyncVersionDeletedAfter(since))
+                .flatMap(Optional::stream)
+                .min(Long::compare)
+                .map(version -> version - 1)
+                .orElse(current);
+    }
+
+    // Views in page order; a game deleted since the page was read drops out and arrives as a tombstone instead
+    private List<Response> syncedGames(List<GameSyncKey> page) {
+        Map<Long, GameView> views = new HashMap<>();
+        for (int from = 0; from < page.size(); from += BATCH_CHUNK_SIZE) {
+            List<Long> chunk = page.subList(from, Math.min(from + BATCH_CHUNK_SIZE, page.size())).stream()
+                    .map(GameSyncKey::id)
+                    .toList();
+            gameRepository.findViewsByIdIn(chunk).forEach(view -> views.put(view.id(), view));
+        }
+        return page.stream()
+                .map(key -> views.get(key.id()))
+                .filter(Objects::nonNull)
+                .map(gameMapStruct::fromView)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPagedResponse getAllGames(String sort, String direction, String cursor, int limit) {
+        KeysetPage page = keysetPage(GameSearchFilter.NONE, sort, direction, cursor, limit);
+        return new CursorPagedResponse(page.games(), page.nextCursor(), page.hasNext(), page.limit());
+    }
+
+    // Sparse variant: the query selects and joins only what the requested fields need
     @Transactional(readOnly = true)
-    public List<Response> getAllGames() {
-        return gameRepository.findAll()
-                .stream()
-                .map(gameMapStruct::toDto)
+    public SparseCursorPagedResponse getAllGames(String sort, String direction, String cursor, int limit, String fields) {
+        FieldSelection selection = GameFields.SCHEMA.select(fields);
+        Keyset keyset = keyset(sort, direction, cursor, limit);
+        int pageSize = keyset.pageSize();
+        List<Object[]> rows = gameRepository.listFields(selection, keyset.sortKey(), keyset.direction(),
+                keyset.after(), pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+
+        List<Object[]> page = rows.subList(0, Math.min(pageSize, rows.size()));
+        String nextCursor = null;
+        if (hasNext) {
+            Object[] last = page.getLast();
+            nextCursor = new GameCursor(keyset.sortKey(), keyset.direction(),
+                    (Long) selection.extra(last, 0), selection.extra(last, 1)).encode();
+        }
+        return new SparseCursorPagedResponse(page.stream().map(selection::toMap).toList(), nextCursor, hasNext, pageSize);
+    }
+
+    // Any combination of filters compiles into one keyset query; facets cost two aggregate queries on page one
+    @Transactional(readOnly = true)
+    public GameSearchResponse searchGames(GameSearchRequest request) {
+        if (request.minPrice() != null && request.maxPrice() != null
+                && request.minPrice().compareTo(request.maxPrice()) > 0) {
+            throw InvalidGameDataException.invalidPriceRange();
+        }
+        boolean firstPage = request.cursor() == null;
+        Set<Long> titleMatches = null;
+        String titleContains = null;
+        if (request.title() != null && !request.title().isBlank()) {
+            Optional<Set<Long>> matches = titleIndex.idsContaining(request.title());
+            if (matches.isPresent() && matches.get().isEmpty()) {
+                return new GameSearchResponse(List.of(), null, false, pageSize(request.limit()),
+                        firstPage ? emptyFacets() : null);
+            }
+            // A title too common to bind as ids is matched in SQL, next to the other filters
+            titleMatches = matches.orElse(null);
+            titleContains = matches.isPresent() ? null : GameTitleIndex.normalize(request.title());
+        }
+
+        GameSearchFilter filter = new GameSearchFilter(titleMatches, titleContains, request.author(),
+                request.categoryIds(), request.minPrice(), request.maxPrice());
+        KeysetPage page = keysetPage(filter, request.sort(), request.direction(), request.cursor(), request.limit());
+        SearchFacets facets = firstPage
+                ? new SearchFacets(
+                        gameRepository.countByCategory(filter.withoutCategories()),
+                        gameRepository.countByPriceBucket(filter.withoutPrice(), PRICE_BUCKET_BOUNDS))
+                : null;
+
+        return new GameSearchResponse(page.games(), page.nextCursor(), page.hasNext(), page.limit(), facets);
+    }
+
+    private record KeysetPage(List<Response> games, String nextCursor, boolean hasNext, int limit) {
+    }
+
+    private record Keyset(GameSortKey sortKey, Sort.Direction direction, GameCursor after, int pageSize) {
+    }
+
+    private static Keyset keyset(String sort, String direction, String cursor, int limit) {
+        GameSortKey sortKey = GameSortKey.from(sort);
+        Sort.Direction sortDirection = Sort.Direction.fromOptionalString(direction)
+                .orElseThrow(() -> InvalidGameDataException.invalidSortDirection(direction));
+        GameCursor after = cursor != null ? GameCursor.decode(cursor) : null;
+
+        if (after != null && (after.sortKey() != sortKey || after.direction() != sortDirection)) {
+            throw InvalidGameDataException.invalidCursor();
+        }
+        return new Keyset(sortKey, sortDirection, after, pageSize(limit));
+    }
+
+    private KeysetPage keysetPage(GameSearchFilter filter, String sort, String direction, String cursor, int limit) {
+        Keyset keyset = keyset(sort, direction, cursor, limit);
+        int pageSize = keyset.pageSize();
+        // One extra row tells us whether another page exists without a COUNT query
+        List<GameView> rows = gameRepository.search(filter, keyset.sortKey(), keyset.direction(), keyset.after(),
+                pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+
+        List<Response> games = rows.stream()
+                .limit(pageSize)
+                .map(gameMapStruct::fromView)
                 .toList();
+        String nextCursor = hasNext
+                ? GameCursor.after(keyset.sortKey(), keyset.direction(), games.getLast()).encode()
+                : null;
+
+        return new KeysetPage(priced(games), nextCursor, hasNext, pageSize);
+    }
+
+    // Games are read at the price a purchase would be charged right now. Filters, sorts and cursors work on list
+    // prices, and so do the delta-sync feed and sparse field maps.
+    private Response priced(Response game) {
+        return discounts.discountedPrice(game).map(game::withPrice).orElse(game);
+    }
+
+    private List<Response> priced(List<Response> games) {
+        return games.stream().map(this::priced).toList();
+    }
+
+    private static SearchFacets emptyFacets() {
+        return new SearchFacets(List.of(), PriceBucket.of(PRICE_BUCKET_BOUNDS, new long[PRICE_BUCKET_BOUNDS.size() + 1]));
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.GAMES_BY_ID, key = "#id")
     public Response getGameById(Long id) {
         Game game = gameRepository.findById(id)
                 .orElseThrow(() -> GameNotFoundException.byId(id));
-        return gameMapStruct.toDto(game);
+        return priced(gameMapStruct.toDto(game));
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.GAMES_BY_TITLE, key = "#title")
     public Response getGameByTitle(String title) {
         
         Game game = gameRepository.findByTitle(title)
                 .orElseThrow(() -> GameNotFoundException.byTitle(title));
-        return gameMapStruct.toDto(game);
+        return priced(gameMapStruct.toDto(game));
     }
 
     @Transactional
@@ -145,64 +504,96 @@ public class GameService {
         }
         
         historyService.recordGameDeletion(game, currentUser);
+        preOrderRepository.deleteByGameId(id);
+        gameTagRepository.deleteByGameId(id);
+        reviewVoteRepository.deleteByGameId(id);
+        reviewRepository.deleteByGameId(id);
         gameRepository.deleteById(id);
+        tombstoneRepository.save(GameTombstone.of(id));
+        syncStamper.gameDeleted(id);
+        catalogCache.evictGame(id, game.getTitle());
+        titleIndex.unindex(id);
+        catalog.refresh(id);
+        categoryCounter.gameRemoved(game.getCategory().getId());
+        typeahead.gameRemoved(id);
+        tagIndex.gameRemoved(id);
+        catalogVersion.bumpAfterCommit();
         log.info("Game with ID {} deleted by user '{}'", id, currentUser.getUsername());
     }
 
     @Transactional(readOnly = true)
-    public List<Response> searchByTitle(String title) {
-        
-        return gameRepository.findByTitleContainingIgnoreCase(title)
-                .stream()
-                .map(gameMapStruct::toDto)
+    public List<Response> searchByTitle(String title, int limit) {
+        List<Long> rankedIds = titleIndex.search(title, pageSize(limit));
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        // The IN query loses the index ranking, so restore it; ids deleted since the lookup simply drop out
+        Map<Long, GameView> views = gameRepository.findViewsByIdIn(rankedIds).stream()
+                .collect(Collectors.toMap(GameView::id, Function.identity()));
+        return rankedIds.stream()
+                .map(views::get)
+                .filter(Objects::nonNull)
+                .map(gameMapStruct::fromView)
+                .map(this::priced)
                 .toList();
     }
 
-    @Transactional(readOnly = true)
-    public List<Response> searchGamesByAuthor(String author) {
-        
-        return gameRepository.findByAuthor_Username(author)
-                .stream()
-                .map(gameMapStruct::toDto)
-                .toList();
+    // Author, price and category listings are served from the in-memory catalog snapshot, not SQL
+    public List<Response> searchGamesByAuthor(String author, int limit) {
+        return priced(catalog.snapshot().byAuthor(author, pageSize(limit)));
     }
 
-    @Transactional(readOnly = true)
-    public List<Response> getGamesInPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
-        return gameRepository.findGamesInPriceRange(minPrice, maxPrice)
-                .stream()
-                .map(gameMapStruct::toDto)
-                .toList();
+    public List<Response> getGamesInPriceRange(BigDecimal minPrice, BigDecimal maxPrice, int limit) {
+        return priced(catalog.snapshot().inPriceRange(minPrice, maxPrice, pageSize(limit)));
     }
 
-    @Transactional(readOnly = true)
-    public List<Response> getGamesSortedByPrice(boolean ascending) {
-        List<Game> games = ascending 
-                ? gameRepository.findAllByOrderByPriceAsc()
-                : gameRepository.findAllByOrderByPriceDesc();
-                
-        return games.stream()
-                .map(gameMapStruct::toDto)
-                .toList();
+    // The tag filter is a bitmap operation on TagIndex; price bounds and order come from the snapshot
+    public List<Response> searchGamesByTags(List<String> all, List<String> any, List<String> none,
+                                            BigDecimal minPrice, BigDecimal maxPrice, int limit) {
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw InvalidGameDataException.invalidPriceRange();
+        }
+        TagSelection selection = tagIndex.select(all, any, none);
+        if (selection.isEmpty()) {
+            return List.of();
+        }
+        return priced(catalog.snapshot().inPriceRange(minPrice, maxPrice, selection, pageSize(limit)));
+    }
+
+    public List<Response> getGamesSortedByPrice(boolean ascending, int limit) {
+        return priced(catalog.snapshot().sortedByPrice(ascending, pageSize(limit)));
     }
 
-    @Transactional(readOnly = true)
     public PagedResponse getGamesByCategoryPaged(Long categoryId, int page, int size) {
-        
-        Pageable pageable = PageRequest.of(page, size, Sort.by("title"));
-        Page<Game> gamesPage = gameRepository.findByCategoryId(categoryId, pageable);
-        
-        List<Response> games = gamesPage.getContent()
-                .stream()
-                .map(gameMapStruct::toDto)
-                .toList();
-                
+        Pageable pageable = PageRequest.of(page, size);
+        CatalogSnapshot snapshot = catalog.snapshot();
+        int totalElements = snapshot.countInCategory(categoryId);
+
         return new PagedResponse(
-                games,
-                gamesPage.getNumber(),
-                gamesPage.getSize(),
-                gamesPage.getTotalElements(),
-                gamesPage.getTotalPages()
+                priced(snapshot.byCategory(categoryId, pageable.getOffset(), pageable.getPageSize())),
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                totalElements,
+                (totalElements + pageable.getPageSize() - 1) / pageable.getPageSize()
         );
     }
+
+    // Slice mode: one extra row tells whether another page exists, so no total has to be computed
+    public SlicedResponse getGamesByCategorySlice(Long categoryId, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        int fetch = (int) Math.min(pageable.getPageSize() + 1L, Integer.MAX_VALUE);
+        List<Response> games = catalog.snapshot().byCategory(categoryId, pageable.getOffset(), fetch);
+        boolean hasNext = games.size() > pageable.getPageSize();
+
+        return new SlicedResponse(
+                priced(hasNext ? games.subList(0, pageable.getPageSize()) : games),
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                hasNext
+        );
+    }
+
+    private static int pageSize(int limit) {
+        return Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+    }
 }
@@ -0,0 +1,46 @@
+package com.example.Games.game;
+
+import com.example.Games.config.exception.game.InvalidGameDataException;
+import com.example.Games.game.dto.Response;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+public enum GameSortKey {
+    ID("id", Long::valueOf, Response::id),
+    PRICE("price", BigDecimal::new, Response::price),
+    CREATED_AT("createdAt", LocalDateTime::parse, Response::createdAt),
+    TITLE("title", value -> value, Response::title);
+
+    private final String property;
+    private final Function<String, Object> parser;
+    private final Function<Response, Object> extractor;
+
+    GameSortKey(String property, Function<String, Object> parser, Function<Response, Object> extractor) {
+        this.property = property;
+        this.parser = parser;
+        this.extractor = extractor;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    public Object parse(String value) {
+        return parser.apply(value);
+    }
+
+    public Object valueOf(Response game) {
+        return extractor.apply(game);
+    }
+
+    public static GameSortKey from(String value) {
+        for (GameSortKey key : values()) {
+            if (key.property.equalsIgnoreCase(value) || key.name().equalsIgnoreCase(value)) {
+                return key;
+            }
+        }
+        throw InvalidGameDataException.invalidSortKey(value);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.Games.game;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Single-row counter behind delta sync: the last sync version handed to a committing transaction, and the newest
+// version whose tombstones have been purged (a token from before it can no longer see every deletion)
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "game_sync_clock")
+public class GameSyncClock {
+
+    static final int ID = 1;
+    static final GameSyncClock EMPTY = new GameSyncClock(ID, 0, 0);
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(name = "purged_through", nullable = false)
+    private long purgedThrough;
+}
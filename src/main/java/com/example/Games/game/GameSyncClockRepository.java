@@ -0,0 +1,24 @@
+package com.example.Games.game;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface GameSyncClockRepository extends JpaRepository<GameSyncClock, Integer> {
+
+    // Takes the clock row lock, which the caller keeps until it commits; 0 when the row does not exist yet
+    @Modifying
+    @Query("UPDATE GameSyncClock c SET c.version = c.version + 1 WHERE c.id = " + GameSyncClock.ID)
+    int advance();
+
+    @Query("SELECT c.version FROM GameSyncClock c WHERE c.id = " + GameSyncClock.ID)
+    long findVersion();
+
+    @Modifying
+    @Query("UPDATE GameSyncClock c SET c.purgedThrough = :through " +
+           "WHERE c.id = " + GameSyncClock.ID + " AND c.purgedThrough < :through")
+    int raisePurgedThrough(@Param("through") long through);
+}
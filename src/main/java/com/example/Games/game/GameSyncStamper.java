@@ -0,0 +1,102 @@
+package com.example.Games.game;
+
+import com.example.Games.category.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+// Gives every game, category and tombstone a transaction wrote the next sync version just before it commits. The
+// increment locks the clock row until that commit, so versions are handed out in commit order: once a reader sees
+// version v on the clock, every row stamped v or lower is visible to it, however long its transaction ran. The
+// stamped rows are already locked by the writer itself, so the stamping cannot deadlock against another writer.
+@Component
+@RequiredArgsConstructor
+public class GameSyncStamper {
+
+    private static final int CHUNK_SIZE = GameService.BATCH_CHUNK_SIZE;
+
+    private final GameSyncClockRepository clockRepository;
+    private final GameRepository gameRepository;
+    private final CategoryRepository categoryRepository;
+    private final GameTombstoneRepository tombstoneRepository;
+
+    public void gameChanged(Long gameId) {
+        pending().games.add(gameId);
+    }
+
+    public void gamesChanged(Collection<Long> gameIds) {
+        pending().games.addAll(gameIds);
+    }
+
+    public void categoryChanged(Long categoryId) {
+        pending().categories.add(categoryId);
+    }
+
+    public void gameDeleted(Long gameId) {
+        Pending pending = pending();
+        pending.games.remove(gameId);
+        pending.tombstones.add(gameId);
+    }
+
+    // Kept among the transaction's own synchronizations, so a suspended outer transaction keeps its ids apart
+    private Pending pending() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Sync versions are assigned at commit, so writes need a transaction");
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof Pending pending && pending.owner() == this) {
+                return pending;
+            }
+        }
+        Pending pending = new Pending();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    long advance() {
+        if (clockRepository.advance() == 0) {
+            // First write against an unseeded database; a concurrent first writer fails on the key and rolls back
+            clockRepository.saveAndFlush(new GameSyncClock(GameSyncClock.ID, 1, 0));
+        }
+        return clockRepository.findVersion();
+    }
+
+    private void stamp(Pending pending) {
+        long version = advance();
+        inChunks(pending.games, chunk -> gameRepository.stampSyncVersion(version, chunk));
+        inChunks(pending.categories, chunk -> categoryRepository.stampSyncVersion(version, chunk));
+        inChunks(pending.tombstones, chunk -> tombstoneRepository.stampSyncVersion(version, chunk));
+    }
+
+    private static void inChunks(Set<Long> ids, Consumer<List<Long>> action) {
+        List<Long> all = new ArrayList<>(ids);
+        for (int from = 0; from < all.size(); from += CHUNK_SIZE) {
+            action.accept(all.subList(from, Math.min(from + CHUNK_SIZE, all.size())));
+        }
+    }
+
+    // Ids written by one transaction, stamped in its beforeCommit
+    private final class Pending implements TransactionSynchronization {
+
+        private final Set<Long> games = new LinkedHashSet<>();
+        private final Set<Long> categories = new LinkedHashSet<>();
+        private final Set<Long> tombstones = new LinkedHashSet<>();
+
+        private GameSyncStamper owner() {
+            return GameSyncStamper.this;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            stamp(this);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.Games.game;
+
+import com.example.Games.config.exception.game.InvalidGameDataException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Opaque delta-sync position: every change up to and including (afterVersion, afterId) has been delivered.
+// Versions come from GameSyncClock in commit order, so no later commit can land behind a token.
+public record GameSyncToken(
+        long afterVersion,
+        long afterId
+) {
+
+    // Rows written before sync versions existed sit at version 0, so a full sync starts below it
+    static final GameSyncToken BEGINNING = since(-1);
+
+    private static final String SEPARATOR = "|";
+
+    // Everything at the version itself counts as delivered
+    public static GameSyncToken since(long version) {
+        return new GameSyncToken(version, Long.MAX_VALUE);
+    }
+
+    public String encode() {
+        String raw = afterVersion + SEPARATOR + afterId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static GameSyncToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR);
+            if (parts.length != 2) {
+                throw InvalidGameDataException.invalidSyncToken();
+            }
+            return new GameSyncToken(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw InvalidGameDataException.invalidSyncToken();
+        }
+    }
+}
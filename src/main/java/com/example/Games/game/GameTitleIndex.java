@@ -0,0 +1,262 @@
+package com.example.Games.game;
+
+import com.example.Games.config.cache.CatalogVersion;
+import com.example.Games.config.common.transaction.AfterCommit;
+import com.example.Games.game.dto.GameTitle;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+// In-memory trigram inverted index over game titles; serves substring and typo-tolerant title search. Writes on
+// this node update it after commit; writes on other nodes arrive with the periodic catch-up.
+@Slf4j
+@Component
+public class GameTitleIndex {
+
+    private static final int GRAM = 3;
+
+    private final GameRepository gameRepository;
+    private final GameTombstoneRepository tombstoneRepository;
+    private final CatalogVersion catalogVersion;
+    private final double similarityThreshold;
+    private final int maxFilterIds;
+    private final Duration catchUpOverlap;
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // When the last rebuild or catch-up started; null until the first rebuild
+    private volatile LocalDateTime caughtUpAt;
+
+    public GameTitleIndex(GameRepository gameRepository,
+                          GameTombstoneRepository tombstoneRepository,
+                          CatalogVersion catalogVersion,
+                          @Value("${games.search.title.similarity-threshold:0.3}") double similarityThreshold,
+                          @Value("${games.search.title.max-filter-ids:1000}") int maxFilterIds,
+                          @Value("${games.catch-up.overlap:PT1M}") Duration catchUpOverlap) {
+        this.gameRepository = gameRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.catalogVersion = catalogVersion;
+        this.similarityThreshold = similarityThreshold;
+        this.maxFilterIds = maxFilterIds;
+        this.catchUpOverlap = catchUpOverlap;
+    }
+
+    private record Entry(String title, Set<String> grams) {
+    }
+
+    private record Match(Long id, boolean substring, double similarity, int length) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime started = LocalDateTime.now();
+        List<GameTitle> titles = gameRepository.findAllTitles();
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            postings.clear();
+            titles.forEach(title -> add(title.id(), title.title()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        caughtUpAt = started;
+        log.info("Game title index rebuilt with {} titles and {} trigrams", titles.size(), postings.size());
+    }
+
+    // Re-indexes titles changed since the last pass and drops deleted games. The overlap re-reads rows whose
+    // transactions were still open then; titles already indexed as they are cost nothing.
+    @Scheduled(initialDelayString = "${games.catch-up.interval:PT1M}",
+            fixedDelayString = "${games.catch-up.interval:PT1M}")
+    public void catchUp() {
+        LocalDateTime previous = caughtUpAt;
+        if (previous == null) {
+            return;
+        }
+        LocalDateTime started = LocalDateTime.now();
+        LocalDateTime since = previous.minus(catchUpOverlap);
+        List<GameTitle> changed = gameRepository.findTitlesModifiedSince(since);
+        List<Long> deleted = tombstoneRepository.findGameIdsDeletedSince(since);
+        int applied = 0;
+        lock.writeLock().lock();
+        try {
+            for (GameTitle title : changed) {
+                Entry entry = entries.get(title.id());
+                if (entry == null || !entry.title().equals(normalize(title.title()))) {
+                    remove(title.id());
+                    add(title.id(), title.title());
+                    applied++;
+                }
+            }
+            for (Long gameId : deleted) {
+                if (entries.containsKey(gameId)) {
+                    remove(gameId);
+                    applied++;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        caughtUpAt = started;
+        if (applied > 0) {
+            catalogVersion.bumpAfterCommit();
+            log.debug("Game title index caught up with {} changes since {}", applied, since);
+        }
+    }
+
+    // Index changes are applied after commit so a rolled-back write never becomes searchable
+    public void index(Long gameId, String title) {
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(gameId);
+                add(gameId, title);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void unindex(Long gameId) {
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(gameId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    // Ids of matching games, best first: substring hits, then by trigram similarity, then shorter titles
+    public List<Long> search(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Set<String> queryGrams = trigrams(normalized);
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> shared = new HashMap<>();
+            if (normalized.length() < GRAM) {
+                // Too short to carry an inner trigram; a scan is cheap and still finds mid-word hits
+                entries.keySet().forEach(id -> shared.put(id, 0));
+            }
+            for (String gram : queryGrams) {
+                for (Long id : postings.getOrDefault(gram, Set.of())) {
+                    shared.merge(id, 1, Integer::sum);
+                }
+            }
+
+            return shared.entrySet().stream()
+                    .map(candidate -> match(candidate.getKey(), candidate.getValue(), normalized, queryGrams.size()))
+                    .filter(match -> match.substring() || match.similarity() >= similarityThreshold)
+                    .sorted(Comparator.comparing(Match::substring).reversed()
+                            .thenComparing(Comparator.comparingDouble(Match::similarity).reversed())
+                            .thenComparingInt(Match::length)
+                            .thenComparing(Match::id))
+                    .limit(limit)
+                    .map(Match::id)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Every game whose title contains the query, without typo tolerance; used as an exact search filter. Empty when
+    // more than max-filter-ids games match, since that many ids would overrun the bind parameters of an IN list; the
+    // caller then matches the title in SQL instead.
+    public Optional<Set<Long>> idsContaining(String query) {
+        String normalized = normalize(query);
+        lock.readLock().lock();
+        try {
+            Collection<Long> candidates = entries.keySet();
+            if (normalized.length() >= GRAM) {
+                // A containing title holds every inner trigram of the query, so the rarest one bounds the scan
+                candidates = innerTrigrams(normalized).stream()
+                        .map(gram -> postings.getOrDefault(gram, Set.of()))
+                        .min(Comparator.comparingInt(Set::size))
+                        .orElseGet(Set::of);
+            }
+            Set<Long> matches = candidates.stream()
+                    .filter(id -> entries.get(id).title().contains(normalized))
+                    .limit(maxFilterIds + 1L)
+                    .collect(Collectors.toSet());
+            return matches.size() > maxFilterIds ? Optional.empty() : Optional.of(matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Match match(Long id, int sharedGrams, String query, int queryGramCount) {
+        Entry entry = entries.get(id);
+        double similarity = (double) sharedGrams / (queryGramCount + entry.grams().size() - sharedGrams);
+        return new Match(id, entry.title().contains(query), similarity, entry.title().length());
+    }
+
+    private void add(Long gameId, String title) {
+        String normalized = normalize(title);
+        Set<String> grams = trigrams(normalized);
+        entries.put(gameId, new Entry(normalized, grams));
+        grams.forEach(gram -> postings.computeIfAbsent(gram, key -> new HashSet<>()).add(gameId));
+    }
+
+    private void remove(Long gameId) {
+        Entry previous = entries.remove(gameId);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : previous.grams()) {
+            Set<Long> ids = postings.get(gram);
+            ids.remove(gameId);
+            if (ids.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> innerTrigrams(String normalized) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    // Padding marks the start and end of the title, so prefixes and suffixes weigh in on similarity
+    static Set<String> trigrams(String normalized) {
+        return innerTrigrams("  " + normalized + " ");
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.Games.game;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// Marks a deleted game for delta sync; the games row is gone and its history rows cannot outlive it.
+// Kept for games.sync.tombstone-retention, after which GameTombstoneRetention drops it.
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "game_tombstones", indexes = {
+        @Index(name = "idx_game_tombstones_deleted_at", columnList = "deleted_at"),
+        @Index(name = "idx_game_tombstones_sync_version", columnList = "sync_version")
+})
+public class GameTombstone {
+
+    @Id
+    @Column(name = "game_id")
+    private Long gameId;
+
+    @Column(name = "deleted_at", nullable = false, updatable = false)
+    private LocalDateTime deletedAt;
+
+    // Delta-sync position, written only by GameSyncStamper as the deleting transaction commits
+    @Column(name = "sync_version", insertable = false, updatable = false)
+    private Long syncVersion;
+
+    public static GameTombstone of(Long gameId) {
+        return GameTombstone.builder().gameId(gameId).deletedAt(LocalDateTime.now()).build();
+    }
+}
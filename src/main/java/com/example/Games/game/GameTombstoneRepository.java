@@ -0,0 +1,39 @@
+package com.example.Games.game;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface GameTombstoneRepository extends JpaRepository<GameTombstone, Long> {
+
+    @Query("SELECT t.gameId FROM GameTombstone t WHERE t.syncVersion > :after AND t.syncVersion <= :until " +
+           "ORDER BY t.syncVersion, t.gameId")
+    List<Long> findGameIdsDeletedBetween(@Param("after") long after, @Param("until") long until);
+
+    // Deletions an in-memory index can be missing, possibly made on another node
+    @Query("SELECT t.gameId FROM GameTombstone t WHERE t.deletedAt >= :since")
+    List<Long> findGameIdsDeletedSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT MIN(t.syncVersion) FROM GameTombstone t WHERE t.deletedAt > :since")
+    Optional<Long> findMinSyncVersionDeletedAfter(@Param("since") LocalDateTime since);
+
+    // The newest version among tombstones past retention; everything up to it is purged together
+    @Query("SELECT MAX(t.syncVersion) FROM GameTombstone t WHERE t.deletedAt < :before")
+    Optional<Long> findMaxSyncVersionDeletedBefore(@Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("DELETE FROM GameTombstone t WHERE t.syncVersion <= :through")
+    int deleteStampedThrough(@Param("through") long through);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE GameTombstone t SET t.syncVersion = :version WHERE t.gameId IN :ids")
+    int stampSyncVersion(@Param("version") long version, @Param("ids") Collection<Long> ids);
+}
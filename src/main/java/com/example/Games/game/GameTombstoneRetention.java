@@ -0,0 +1,43 @@
+package com.example.Games.game;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// Drops tombstones older than the retention and records the newest version dropped on the clock, so delta sync
+// refuses a token from before it instead of silently missing those deletions
+@Slf4j
+@Component
+public class GameTombstoneRetention {
+
+    private final GameTombstoneRepository tombstoneRepository;
+    private final GameSyncClockRepository clockRepository;
+    private final Duration retention;
+
+    public GameTombstoneRetention(GameTombstoneRepository tombstoneRepository,
+                                  GameSyncClockRepository clockRepository,
+                                  @Value("${games.sync.tombstone-retention:P30D}") Duration retention) {
+        this.tombstoneRepository = tombstoneRepository;
+        this.clockRepository = clockRepository;
+        this.retention = retention;
+    }
+
+    // Purges by version rather than by age, so the clock's bound covers exactly what is gone
+    @Transactional
+    @Scheduled(initialDelayString = "${games.sync.tombstone-cleanup-interval:PT1H}",
+            fixedDelayString = "${games.sync.tombstone-cleanup-interval:PT1H}")
+    public void purge() {
+        tombstoneRepository.findMaxSyncVersionDeletedBefore(LocalDateTime.now().minus(retention))
+                .ifPresent(through -> {
+                    int removed = tombstoneRepository.deleteStampedThrough(through);
+                    clockRepository.raisePurgedThrough(through);
+                    log.info("Removed {} game tombstones older than {}, through sync version {}",
+                            removed, retention, through);
+                });
+    }
+}
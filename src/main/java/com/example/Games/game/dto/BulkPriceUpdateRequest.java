@@ -0,0 +1,19 @@
+package com.example.Games.game.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+// Targets either the listed games or all of the caller's games in one category
+public record BulkPriceUpdateRequest(
+        List<@NotNull Long> gameIds,
+
+        Long categoryId,
+
+        @NotNull(message = "Mode is required")
+        PriceChangeMode mode,
+
+        @NotNull(message = "Value is required")
+        BigDecimal value
+) {}
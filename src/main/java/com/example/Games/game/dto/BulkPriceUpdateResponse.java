@@ -0,0 +1,9 @@
+package com.example.Games.game.dto;
+
+import java.util.List;
+
+public record BulkPriceUpdateResponse(
+        int updated,
+        List<PriceChange> changes
+) {
+}
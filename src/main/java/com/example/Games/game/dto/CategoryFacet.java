@@ -0,0 +1,8 @@
+package com.example.Games.game.dto;
+
+public record CategoryFacet(
+        Long categoryId,
+        String categoryName,
+        long count
+) {
+}
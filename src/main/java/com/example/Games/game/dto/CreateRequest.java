@@ -1,11 +1,13 @@
 package com.example.Games.game.dto;
 
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 public record CreateRequest(
         @NotBlank(message = "Title is required")
@@ -17,5 +19,14 @@ public record CreateRequest(
         BigDecimal price,
 
         @NotNull(message = "Category ID is required")
-        Long categoryId
-) {}
+        Long categoryId,
+
+        // Optional; a future release opens the game for pre-orders until then
+        @Future(message = "Release must be in the future")
+        LocalDateTime releaseAt
+) {
+
+    public CreateRequest(String title, BigDecimal price, Long categoryId) {
+        this(title, price, categoryId, null);
+    }
+}
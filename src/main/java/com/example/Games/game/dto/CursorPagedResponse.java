@@ -0,0 +1,11 @@
+package com.example.Games.game.dto;
+
+import java.util.List;
+
+public record CursorPagedResponse(
+        List<Response> games,
+        String nextCursor,
+        boolean hasNext,
+        int limit
+) {
+}
@@ -0,0 +1,16 @@
+package com.example.Games.game.dto;
+
+// One requested id of a batch lookup; a missing game keeps its slot with found = false and no game
+public record GameBatchItem(
+        Long id,
+        boolean found,
+        Response game
+) {
+    public static GameBatchItem found(Response game) {
+        return new GameBatchItem(game.id(), true, game);
+    }
+
+    public static GameBatchItem notFound(Long id) {
+        return new GameBatchItem(id, false, null);
+    }
+}
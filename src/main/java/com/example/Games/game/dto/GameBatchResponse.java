@@ -0,0 +1,10 @@
+package com.example.Games.game.dto;
+
+import java.util.List;
+
+public record GameBatchResponse(
+        List<GameBatchItem> games,
+        int found,
+        int notFound
+) {
+}
@@ -0,0 +1,15 @@
+package com.example.Games.game.dto;
+
+import com.example.Games.category.dto.CategoryResponse;
+
+import java.util.List;
+
+// Apply changed, then deleted, then patch the embedded categories; pass nextToken back on the next sync
+public record GameChangesResponse(
+        List<Response> changed,
+        List<Long> deleted,
+        List<CategoryResponse> changedCategories,
+        String nextToken,
+        boolean hasMore
+) {
+}
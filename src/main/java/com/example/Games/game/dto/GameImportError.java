@@ -0,0 +1,8 @@
+package com.example.Games.game.dto;
+
+// One rejected import row; line is the 1-based line number in the uploaded file
+public record GameImportError(
+        long line,
+        String title,
+        String error
+) {}
@@ -0,0 +1,9 @@
+package com.example.Games.game.dto;
+
+// Running totals after each committed batch; the last one has done set
+public record GameImportProgress(
+        long processed,
+        long imported,
+        long failed,
+        boolean done
+) {}
@@ -0,0 +1,7 @@
+package com.example.Games.game.dto;
+
+import java.math.BigDecimal;
+
+// What a bulk repricing reads per game: enough to check ownership and record the old price
+public record GamePrice(Long id, String title, BigDecimal price, Long authorId) {
+}
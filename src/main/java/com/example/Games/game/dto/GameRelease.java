@@ -0,0 +1,6 @@
+package com.example.Games.game.dto;
+
+import java.time.LocalDateTime;
+
+public record GameRelease(Long gameId, LocalDateTime releaseAt) {
+}
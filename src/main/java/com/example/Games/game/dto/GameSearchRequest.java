@@ -0,0 +1,17 @@
+package com.example.Games.game.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record GameSearchRequest(
+        String title,
+        String author,
+        List<Long> categoryIds,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        String sort,
+        String direction,
+        String cursor,
+        int limit
+) {
+}
@@ -0,0 +1,13 @@
+package com.example.Games.game.dto;
+
+import java.util.List;
+
+// Facets describe the whole result set, so they are only computed for the first page (null on continuations)
+public record GameSearchResponse(
+        List<Response> games,
+        String nextCursor,
+        boolean hasNext,
+        int limit,
+        SearchFacets facets
+) {
+}
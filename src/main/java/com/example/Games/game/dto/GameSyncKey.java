@@ -0,0 +1,4 @@
+package com.example.Games.game.dto;
+
+public record GameSyncKey(Long id, Long syncVersion) {
+}
@@ -0,0 +1,5 @@
+package com.example.Games.game.dto;
+
+// Only what the typeahead index needs: the title plus the category and developer it counts towards
+public record GameTerm(Long id, String title, Long categoryId, Long authorId, String author) {
+}
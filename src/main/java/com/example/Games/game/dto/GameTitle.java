@@ -0,0 +1,4 @@
+package com.example.Games.game.dto;
+
+public record GameTitle(Long id, String title) {
+}
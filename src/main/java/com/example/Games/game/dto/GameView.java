@@ -0,0 +1,29 @@
+package com.example.Games.game.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Flat row produced by a JPQL constructor expression; GameMapStruct nests it into Response
+public record GameView(
+        Long id,
+        String title,
+        String author,
+        BigDecimal price,
+        Long categoryId,
+        String categoryName,
+        String categoryCreatedByUsername,
+        Long categoryCreatedById,
+        LocalDateTime categoryCreatedAt,
+        LocalDateTime categoryUpdatedAt,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        long ratingSum,
+        long ratingCount
+) {
+
+    public static final String SELECT = "SELECT new com.example.Games.game.dto.GameView(" +
+            "g.id, g.title, a.username, g.price, " +
+            "c.id, c.name, cb.username, cb.id, c.createdAt, c.updatedAt, " +
+            "g.createdAt, g.updatedAt, g.ratingSum, g.ratingCount) " +
+            "FROM Game g JOIN g.author a JOIN g.category c JOIN c.createdBy cb";
+}
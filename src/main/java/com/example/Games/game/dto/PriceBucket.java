@@ -0,0 +1,25 @@
+package com.example.Games.game.dto;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+// Games priced in [from, to); a null bound means the bucket is open on that side
+public record PriceBucket(
+        BigDecimal from,
+        BigDecimal to,
+        long count
+) {
+
+    // counts holds one entry per bucket: below the first bound, between each pair, and above the last
+    public static List<PriceBucket> of(List<BigDecimal> bounds, long[] counts) {
+        List<PriceBucket> buckets = new ArrayList<>(bounds.size() + 1);
+        for (int i = 0; i <= bounds.size(); i++) {
+            buckets.add(new PriceBucket(
+                    i > 0 ? bounds.get(i - 1) : null,
+                    i < bounds.size() ? bounds.get(i) : null,
+                    counts[i]));
+        }
+        return buckets;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.Games.game.dto;
+
+import java.math.BigDecimal;
+
+public record PriceChange(
+        Long gameId,
+        String title,
+        BigDecimal oldPrice,
+        BigDecimal newPrice
+) {
+}
@@ -0,0 +1,8 @@
+package com.example.Games.game.dto;
+
+public enum PriceChangeMode {
+    // value is a percentage of the current price, e.g. -20 for a 20% discount
+    PERCENT,
+    // value is added to the current price, e.g. -5.00
+    AMOUNT
+}
@@ -14,5 +14,18 @@ public record Response(
         BigDecimal price,
         CategoryResponse category,
         LocalDateTime createdAt,
-        LocalDateTime updatedAt
-) {}
+        LocalDateTime updatedAt,
+        BigDecimal averageRating,
+        long ratingCount
+) {
+
+    // An unrated game
+    public Response(Long id, String title, String author, BigDecimal price, CategoryResponse category,
+                    LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, title, author, price, category, createdAt, updatedAt, null, 0);
+    }
+
+    public Response withPrice(BigDecimal price) {
+        return new Response(id, title, author, price, category, createdAt, updatedAt, averageRating, ratingCount);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.Games.game.dto;
+
+import java.util.List;
+
+public record SearchFacets(
+        List<CategoryFacet> categories,
+        List<PriceBucket> priceBuckets
+) {
+}
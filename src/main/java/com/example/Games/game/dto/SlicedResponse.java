@@ -0,0 +1,11 @@
+package com.example.Games.game.dto;
+
+import java.util.List;
+
+public record SlicedResponse(
+        List<Response> games,
+        int pageNumber,
+        int pageSize,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,13 @@
+package com.example.Games.game.dto;
+
+import java.util.List;
+import java.util.Map;
+
+// CursorPagedResponse whose games carry only the fields named in ?fields=
+public record SparseCursorPagedResponse(
+        List<Map<String, Object>> games,
+        String nextCursor,
+        boolean hasNext,
+        int limit
+) {
+}
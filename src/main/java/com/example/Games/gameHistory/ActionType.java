@@ -1,8 +1,18 @@
 package com.example.Games.gameHistory;
 
 public enum ActionType {
-    CREATE,
-    UPDATE,
-    DELETE,
-    PURCHASE
+    CREATE("Game Created"),
+    UPDATE("Game Updated"),
+    DELETE("Game Deleted"),
+    PURCHASE("Game Purchased");
+
+    private final String description;
+
+    ActionType(String description) {
+        this.description = description;
+    }
+
+    public String description() {
+        return description;
+    }
 }
@@ -20,7 +20,8 @@ import java.time.LocalDateTime;
 public class GameHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "game_history_seq")
+    @SequenceGenerator(name = "game_history_seq", sequenceName = "game_history_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
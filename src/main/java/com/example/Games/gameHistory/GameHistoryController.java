@@ -11,6 +11,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/v1/history")
@@ -32,6 +34,19 @@ public class GameHistoryController {
         );
     }
 
+    @GetMapping(value = "/game/{gameId}", params = "fields")
+    @PreAuthorize("@authorizationUtils.isAdmin()")
+    public ResponseEntity<ApiResponse<Page<Map<String, Object>>>> getGameHistorySparse(
+            @PathVariable Long gameId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam String fields) {
+        Page<Map<String, Object>> history = historyService.getGameHistory(gameId, page, size, fields);
+        return ResponseEntity.ok(
+                responseMapper.toSuccessResponse("Game history retrieved", history)
+        );
+    }
+
     @GetMapping("/developer/{developerId}")
     @PreAuthorize("@authorizationUtils.isAdmin()")
     public ResponseEntity<ApiResponse<DeveloperActivityResponse>> getDeveloperActivity(@PathVariable Long developerId) {
@@ -53,6 +68,19 @@ public class GameHistoryController {
         );
     }
 
+    @GetMapping(value = "/developer/{developerId}/history", params = "fields")
+    @PreAuthorize("@authorizationUtils.isAdmin()")
+    public ResponseEntity<ApiResponse<Page<Map<String, Object>>>> getDeveloperHistorySparse(
+            @PathVariable Long developerId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam String fields) {
+        Page<Map<String, Object>> history = historyService.getDeveloperHistory(developerId, page, size, fields);
+        return ResponseEntity.ok(
+                responseMapper.toSuccessResponse("Developer history retrieved", history)
+        );
+    }
+
     @GetMapping("/my/game/{gameId}")
     @PreAuthorize("@authorizationUtils.isDeveloper()")
     public ResponseEntity<ApiResponse<Page<GameHistoryResponse>>> getMyGameHistory(
@@ -65,6 +93,19 @@ public class GameHistoryController {
         );
     }
 
+    @GetMapping(value = "/my/game/{gameId}", params = "fields")
+    @PreAuthorize("@authorizationUtils.isDeveloper()")
+    public ResponseEntity<ApiResponse<Page<Map<String, Object>>>> getMyGameHistorySparse(
+            @PathVariable Long gameId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam String fields) {
+        Page<Map<String, Object>> history = historyService.getMyGameHistory(gameId, page, size, fields);
+        return ResponseEntity.ok(
+                responseMapper.toSuccessResponse("My game history retrieved", history)
+        );
+    }
+
     @GetMapping("/my/activity")
     @PreAuthorize("@authorizationUtils.isDeveloper()")
     public ResponseEntity<ApiResponse<DeveloperActivityResponse>> getMyDeveloperActivity() {
@@ -84,4 +125,16 @@ public class GameHistoryController {
                 responseMapper.toSuccessResponse("My developer history retrieved", history)
         );
     }
+
+    @GetMapping(value = "/my/history", params = "fields")
+    @PreAuthorize("@authorizationUtils.isDeveloper()")
+    public ResponseEntity<ApiResponse<Page<Map<String, Object>>>> getMyDeveloperHistorySparse(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam String fields) {
+        Page<Map<String, Object>> history = historyService.getMyDeveloperHistory(page, size, fields);
+        return ResponseEntity.ok(
+                responseMapper.toSuccessResponse("My developer history retrieved", history)
+        );
+    }
 }
@@ -0,0 +1,29 @@
+package com.example.Games.gameHistory;
+
+import com.example.Games.config.common.fields.SparseField;
+import com.example.Games.config.common.fields.SparseSchema;
+
+import java.util.List;
+
+// Fields a history listing can be narrowed to; names match the JSON properties of GameHistoryResponse
+final class GameHistoryFields {
+
+    static final SparseSchema SCHEMA = new SparseSchema("GameHistory h", List.of(
+            SparseField.of("id", "h.id"),
+            SparseField.of("game_id", "h.game.id"),
+            SparseField.of("game_title", "g.title", "JOIN h.game g"),
+            SparseField.of("action_type", "h.actionType")
+                    .converted(value -> ((ActionType) value).name()),
+            SparseField.of("action_description", "h.actionType")
+                    .converted(value -> ((ActionType) value).description()),
+            SparseField.of("field_changed", "h.fieldChanged"),
+            SparseField.of("old_value", "h.oldValue"),
+            SparseField.of("new_value", "h.newValue"),
+            SparseField.of("changed_by", "u.username", "JOIN h.changedBy u"),
+            SparseField.of("changed_at", "h.changedAt"),
+            SparseField.of("description", "h.description")
+    ));
+
+    private GameHistoryFields() {
+    }
+}
@@ -68,12 +68,7 @@ public interface GameHistoryMapStruct {
     GameHistory purchaseAction(Game game, User purchaser, BigDecimal purchasePrice);
 
     default String getActionDescription(ActionType actionType) {
-        return switch (actionType) {
-            case CREATE -> "Game Created";
-            case UPDATE -> "Game Updated";
-            case DELETE -> "Game Deleted";
-            case PURCHASE -> "Game Purchased";
-        };
+        return actionType.description();
     }
 
     default DeveloperActivityResponse createDeveloperActivityResponse(
@@ -12,7 +12,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface GameHistoryRepository extends JpaRepository<GameHistory, Long> {
+public interface GameHistoryRepository extends JpaRepository<GameHistory, Long>, GameHistoryRepositoryCustom {
 
     @Query(
         value = "SELECT h FROM GameHistory h JOIN FETCH h.game JOIN FETCH h.changedBy WHERE h.game.id = :gameId ORDER BY h.changedAt DESC",
@@ -0,0 +1,15 @@
+package com.example.Games.gameHistory;
+
+import com.example.Games.config.common.fields.FieldSelection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Map;
+
+public interface GameHistoryRepositoryCustom {
+
+    // History pages, newest first, selecting only the chosen fields
+    Page<Map<String, Object>> findFieldsByGameId(FieldSelection selection, Long gameId, Pageable pageable);
+
+    Page<Map<String, Object>> findFieldsByChangedById(FieldSelection selection, Long userId, Pageable pageable);
+}
@@ -0,0 +1,27 @@
+package com.example.Games.gameHistory;
+
+import com.example.Games.config.common.fields.FieldSelection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Map;
+
+public class GameHistoryRepositoryCustomImpl implements GameHistoryRepositoryCustom {
+
+    private static final String NEWEST_FIRST = "h.changedAt DESC, h.id DESC";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Map<String, Object>> findFieldsByGameId(FieldSelection selection, Long gameId, Pageable pageable) {
+        return selection.page(entityManager, "h.game.id = :gameId", NEWEST_FIRST, Map.of("gameId", gameId), pageable);
+    }
+
+    @Override
+    public Page<Map<String, Object>> findFieldsByChangedById(FieldSelection selection, Long userId, Pageable pageable) {
+        return selection.page(entityManager, "h.changedBy.id = :userId", NEWEST_FIRST, Map.of("userId", userId), pageable);
+    }
+}
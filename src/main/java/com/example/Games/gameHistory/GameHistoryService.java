@@ -1,11 +1,13 @@
 package com.example.Games.gameHistory;
 
+import com.example.Games.config.common.fields.FieldSelection;
 import com.example.Games.config.common.service.UserContextService;
 import com.example.Games.config.exception.auth.UserNotFoundException;
 import com.example.Games.config.exception.game.GameNotFoundException;
 import com.example.Games.config.exception.gameHistory.GameHistoryException;
 import com.example.Games.game.Game;
 import com.example.Games.game.GameRepository;
+import com.example.Games.game.dto.PriceChange;
 import com.example.Games.gameHistory.dto.DeveloperActivityResponse;
 import com.example.Games.gameHistory.dto.FieldChange;
 import com.example.Games.gameHistory.dto.GameHistoryResponse;
@@ -22,6 +24,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -63,6 +66,46 @@ public class GameHistoryService {
                 actualChanges.size(), game.getTitle(), currentUser.getUsername());
     }
 
+    // CREATE rows for games inserted outside the persistence context, such as a bulk import, keyed by id with their titles
+    @Transactional
+    public void recordGameCreations(Map<Long, String> titles, User currentUser) {
+        List<GameHistory> historyRecords = titles.entrySet().stream()
+                .map(game -> GameHistory.builder()
+                        .game(gameRepository.getReferenceById(game.getKey()))
+                        .actionType(ActionType.CREATE)
+                        .changedBy(currentUser)
+                        .description(String.format("Game '%s' created", game.getValue()))
+                        .build())
+                .toList();
+
+        historyRepository.saveAll(historyRecords);
+        log.info("Recorded {} game creations by developer '{}'", historyRecords.size(), currentUser.getUsername());
+    }
+
+    // Game references are proxies, so building the rows costs no reads; with pooled ids the inserts go out in JDBC
+    // batches. The rows match what updateAction records for a price edit.
+    @Transactional
+    public void recordPriceChanges(List<PriceChange> changes, User currentUser) {
+        List<GameHistory> historyRecords = changes.stream()
+                .filter(change -> change.oldPrice().compareTo(change.newPrice()) != 0)
+                .map(change -> GameHistory.builder()
+                        .game(gameRepository.getReferenceById(change.gameId()))
+                        .actionType(ActionType.UPDATE)
+                        .fieldChanged("price")
+                        .oldValue(change.oldPrice().toString())
+                        .newValue(change.newPrice().toString())
+                        .changedBy(currentUser)
+                        .description(String.format("Game '%s' field '%s' updated", change.title(), "price"))
+                        .build())
+                .toList();
+        if (historyRecords.isEmpty()) {
+            return;
+        }
+
+        historyRepository.saveAll(historyRecords);
+        log.info("Recorded {} price changes by developer '{}'", historyRecords.size(), currentUser.getUsername());
+    }
+
     @Transactional
     public void recordGameDeletion(Game game, User currentUser) {
 
@@ -164,13 +207,7 @@ public class GameHistoryService {
 
     @Transactional(readOnly = true)
     public Page<GameHistoryResponse> getMyGameHistory(Long gameId, int page, int size) {
-        User developer = getCurrentUser();
-
-        Game myGame = gameRepository.findByIdWithAuthor(gameId)
-                .orElseThrow(() -> GameNotFoundException.byId(gameId));
-        if (!myGame.getAuthor().getId().equals(developer.getId())) {
-            throw GameHistoryException.unauthorizedAccess(gameId, developer.getUsername());
-        }
+        requireOwnGame(gameId);
         Pageable pageable = PageRequest.of(page, size);
         Page<GameHistory> historyPage = historyRepository.findByGameIdWithRelations(gameId, pageable);
         return historyPage.map(gameHistoryMapper::toDto);
@@ -197,4 +234,40 @@ public class GameHistoryService {
         Page<GameHistory> historyPage = historyRepository.findByChangedByIdWithRelations(developer.getId(), pageable);
         return historyPage.map(gameHistoryMapper::toDto);
     }
+
+    // Sparse variants: only the requested fields are selected, so the game and user are joined only when needed
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getMyGameHistory(Long gameId, int page, int size, String fields) {
+        FieldSelection selection = GameHistoryFields.SCHEMA.select(fields);
+        requireOwnGame(gameId);
+        return historyRepository.findFieldsByGameId(selection, gameId, PageRequest.of(page, size));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getGameHistory(Long gameId, int page, int size, String fields) {
+        FieldSelection selection = GameHistoryFields.SCHEMA.select(fields);
+        return historyRepository.findFieldsByGameId(selection, gameId, PageRequest.of(page, size));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getDeveloperHistory(Long developerId, int page, int size, String fields) {
+        FieldSelection selection = GameHistoryFields.SCHEMA.select(fields);
+        return historyRepository.findFieldsByChangedById(selection, developerId, PageRequest.of(page, size));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getMyDeveloperHistory(int page, int size, String fields) {
+        FieldSelection selection = GameHistoryFields.SCHEMA.select(fields);
+        return historyRepository.findFieldsByChangedById(selection, getCurrentUser().getId(), PageRequest.of(page, size));
+    }
+
+    private void requireOwnGame(Long gameId) {
+        User developer = getCurrentUser();
+
+        Game myGame = gameRepository.findByIdWithAuthor(gameId)
+                .orElseThrow(() -> GameNotFoundException.byId(gameId));
+        if (!myGame.getAuthor().getId().equals(developer.getId())) {
+            throw GameHistoryException.unauthorizedAccess(gameId, developer.getUsername());
+        }
+    }
 }
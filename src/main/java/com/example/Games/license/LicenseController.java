@@ -0,0 +1,33 @@
+package com.example.Games.license;
+
+import com.example.Games.config.common.dto.ApiResponse;
+import com.example.Games.config.common.mappers.ResponseMapStruct;
+import com.example.Games.license.dto.LicenseKeyResponse;
+import com.example.Games.license.dto.LicenseResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/licenses")
+public class LicenseController {
+
+    private final LicenseService licenseService;
+    private final ResponseMapStruct responseMapper;
+
+    @GetMapping("/game/{gameId}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<LicenseResponse>> getLicense(@PathVariable Long gameId) {
+        LicenseResponse license = licenseService.getLicense(gameId);
+        return ResponseEntity.ok(responseMapper.toSuccessResponse("License issued", license));
+    }
+
+    @GetMapping("/public-key")
+    public ResponseEntity<ApiResponse<LicenseKeyResponse>> getPublicKey() {
+        return ResponseEntity.ok(responseMapper.toSuccessResponse(licenseService.getPublicKey()));
+    }
+}
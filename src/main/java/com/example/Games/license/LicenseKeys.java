@@ -0,0 +1,122 @@
+package com.example.Games.license;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+
+// The EC key pair licenses are signed with. Only the public half is ever handed out, so a launcher can verify a
+// license offline but cannot mint one. Without configured keys a pair is generated per start, which is only fit
+// for development: every license issued before a restart stops verifying. So outside the dev and test profiles
+// missing keys stop the application from starting, as do configured keys that are not halves of one pair.
+@Slf4j
+@Component
+public class LicenseKeys {
+
+    static final SignatureAlgorithm ALGORITHM = SignatureAlgorithm.ES256;
+
+    private final KeyPair keyPair;
+    private final String keyId;
+
+    // Profiles in which a missing key pair is replaced by a temporary one instead of failing startup
+    static final Profiles TEMPORARY_KEYS_ALLOWED = Profiles.of("dev", "test");
+
+    private static final byte[] PROBE = "license-key-probe".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    public LicenseKeys(@Value("${games.licenses.private-key:}") String privateKey,
+                       @Value("${games.licenses.public-key:}") String publicKey,
+                       Environment environment) {
+        this(privateKey, publicKey, environment.acceptsProfiles(TEMPORARY_KEYS_ALLOWED));
+    }
+
+    LicenseKeys(String privateKey, String publicKey, boolean temporaryAllowed) {
+        if (privateKey.isBlank() || publicKey.isBlank()) {
+            if (!temporaryAllowed) {
+                throw new IllegalStateException("games.licenses.private-key and games.licenses.public-key must be "
+                        + "set; a temporary pair is only generated under the dev or test profile");
+            }
+            log.warn("No license signing keys configured, generated a temporary pair; licenses will not verify after a restart");
+            this.keyPair = Keys.keyPairFor(ALGORITHM);
+        } else {
+            this.keyPair = decode(privateKey.trim(), publicKey.trim());
+            verifyPair(keyPair);
+        }
+        this.keyId = keyId(keyPair.getPublic());
+    }
+
+    PrivateKey signingKey() {
+        return keyPair.getPrivate();
+    }
+
+    public PublicKey publicKey() {
+        return keyPair.getPublic();
+    }
+
+    // Sent as the token's kid header, so a launcher holding several keys during a rotation knows which one to use
+    public String keyId() {
+        return keyId;
+    }
+
+    // Base64 X.509 SubjectPublicKeyInfo, the body of a PEM public key
+    public String encodedPublicKey() {
+        return Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded());
+    }
+
+    private static KeyPair decode(String privateKey, String publicKey) {
+        try {
+            KeyFactory factory = KeyFactory.getInstance("EC");
+            return new KeyPair(
+                    factory.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(publicKey))),
+                    factory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(privateKey))));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException(
+                    "games.licenses keys must be a Base64 PKCS#8 EC private key and its Base64 X.509 public key", e);
+        }
+    }
+
+    // A public key from another pair would hand launchers a key no license verifies against
+    private static void verifyPair(KeyPair pair) {
+        try {
+            Signature signer = Signature.getInstance(ALGORITHM.getJcaName());
+            signer.initSign(pair.getPrivate());
+            signer.update(PROBE);
+            byte[] signature = signer.sign();
+            Signature verifier = Signature.getInstance(ALGORITHM.getJcaName());
+            verifier.initVerify(pair.getPublic());
+            verifier.update(PROBE);
+            if (!verifier.verify(signature)) {
+                throw new IllegalStateException(
+                        "games.licenses.public-key does not belong to games.licenses.private-key");
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("games.licenses keys could not sign and verify a probe", e);
+        }
+    }
+
+    private static String keyId(PublicKey key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getEncoded());
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.Games.license;
+
+import com.example.Games.config.common.service.UserContextService;
+import com.example.Games.config.exception.license.LicenseNotGrantedException;
+import com.example.Games.license.dto.LicenseKeyResponse;
+import com.example.Games.license.dto.LicenseResponse;
+import com.example.Games.purchase.OwnershipIndex;
+import com.example.Games.user.auth.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Jwts;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+// Issues signed licenses a launcher can cache and verify offline until they expire. Ownership comes from the
+// OwnershipIndex, and purchases are never revoked, so a license only has to expire to pick up nothing new.
+@Slf4j
+@Service
+public class LicenseService {
+
+    static final String ISSUER = "Games-API";
+    static final String GAME_CLAIM = "gid";
+
+    private final OwnershipIndex ownership;
+    private final UserContextService userContextService;
+    private final LicenseKeys keys;
+    private final Duration ttl;
+    // A license is handed out again until half its lifetime is used, so a launcher asking on every start costs a
+    // cache hit instead of a signature, and still always gets at least half a lifetime of offline use
+    private final Cache<Holder, LicenseResponse> issued;
+
+    private record Holder(Long userId, Long gameId) {
+    }
+
+    public LicenseService(OwnershipIndex ownership,
+                          UserContextService userContextService,
+                          LicenseKeys keys,
+                          @Value("${games.licenses.ttl:P7D}") Duration ttl,
+                          @Value("${games.licenses.max-cached:100000}") long maxCached) {
+        this.ownership = ownership;
+        this.userContextService = userContextService;
+        this.keys = keys;
+        this.ttl = ttl;
+        this.issued = Caffeine.newBuilder()
+                .maximumSize(maxCached)
+                .expireAfterWrite(ttl.dividedBy(2))
+                .build();
+    }
+
+    public LicenseResponse getLicense(Long gameId) {
+        User currentUser = userContextService.getAuthorizedUser();
+        if (!ownership.owns(currentUser.getId(), gameId)) {
+            throw LicenseNotGrantedException.notOwned(gameId);
+        }
+        return issued.get(new Holder(currentUser.getId(), gameId), this::sign);
+    }
+
+    public LicenseKeyResponse getPublicKey() {
+        return new LicenseKeyResponse(keys.keyId(), LicenseKeys.ALGORITHM.getValue(), keys.encodedPublicKey());
+    }
+
+    private LicenseResponse sign(Holder holder) {
+        Instant issuedAt = Instant.now();
+        Instant expiresAt = issuedAt.plus(ttl);
+        String token = Jwts.builder()
+                .setHeaderParam("kid", keys.keyId())
+                .setSubject(holder.userId().toString())
+                .claim(GAME_CLAIM, holder.gameId())
+                .setIssuer(ISSUER)
+                .setIssuedAt(Date.from(issuedAt))
+                .setExpiration(Date.from(expiresAt))
+                .signWith(keys.signingKey(), LicenseKeys.ALGORITHM)
+                .compact();
+        log.debug("Issued license for game {} to user {}", holder.gameId(), holder.userId());
+        return new LicenseResponse(holder.gameId(), token, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()));
+    }
+}
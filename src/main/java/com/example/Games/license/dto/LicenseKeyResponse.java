@@ -0,0 +1,7 @@
+package com.example.Games.license.dto;
+
+public record LicenseKeyResponse(
+        String keyId,
+        String algorithm,
+        String publicKey
+) {}
@@ -0,0 +1,9 @@
+package com.example.Games.license.dto;
+
+import java.time.LocalDateTime;
+
+public record LicenseResponse(
+        Long gameId,
+        String token,
+        LocalDateTime expiresAt
+) {}
@@ -0,0 +1,89 @@
+package com.example.Games.purchase;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+// Immutable set of game ids in whichever of two layouts is smaller, the way roaring bitmaps pick a container:
+// a sorted int array (32 bits a game) for the typical sparse library, or a bitmap (a bit per id up to the
+// largest) once a library is dense enough for that to be cheaper. Ids outside the int range, which a sequence only
+// reaches after billions of games, sit in a separate sorted long array.
+final class GameIdSet {
+
+    private static final long[] NO_WIDE_IDS = new long[0];
+
+    static final GameIdSet EMPTY = new GameIdSet(new int[0], null, NO_WIDE_IDS);
+
+    private final int[] sorted;
+    private final BitSet bitmap;
+    private final long[] wide;
+    private final int size;
+
+    private GameIdSet(int[] sorted, BitSet bitmap, long[] wide) {
+        this.sorted = sorted;
+        this.bitmap = bitmap;
+        this.wide = wide;
+        this.size = (bitmap != null ? bitmap.cardinality() : sorted.length) + wide.length;
+    }
+
+    static GameIdSet of(Collection<Long> gameIds) {
+        return of(gameIds.stream().mapToLong(Long::longValue));
+    }
+
+    private static GameIdSet of(LongStream gameIds) {
+        long[] all = gameIds.sorted().distinct().toArray();
+        if (all.length == 0) {
+            return EMPTY;
+        }
+        int[] ids = Arrays.stream(all).filter(GameIdSet::fitsInt).mapToInt(id -> (int) id).toArray();
+        long[] wide = ids.length == all.length ? NO_WIDE_IDS
+                : Arrays.stream(all).filter(id -> !fitsInt(id)).toArray();
+        long arrayBits = (long) Integer.SIZE * ids.length;
+        long bitmapBits = ids.length == 0 ? 0 : ids[ids.length - 1] + 1L;
+        if (bitmapBits >= arrayBits) {
+            return new GameIdSet(ids, null, wide);
+        }
+        BitSet bitmap = new BitSet(ids[ids.length - 1] + 1);
+        for (int id : ids) {
+            bitmap.set(id);
+        }
+        return new GameIdSet(null, bitmap, wide);
+    }
+
+    boolean contains(long gameId) {
+        if (!fitsInt(gameId)) {
+            return Arrays.binarySearch(wide, gameId) >= 0;
+        }
+        return bitmap != null ? bitmap.get((int) gameId) : Arrays.binarySearch(sorted, (int) gameId) >= 0;
+    }
+
+    // Libraries only ever grow, and rarely, so a purchase copies the set rather than making it mutable
+    GameIdSet with(Collection<Long> gameIds) {
+        return of(LongStream.concat(ids(), gameIds.stream().mapToLong(Long::longValue)));
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isBitmap() {
+        return bitmap != null;
+    }
+
+    // Ascending
+    List<Long> toList() {
+        return ids().boxed().toList();
+    }
+
+    private LongStream ids() {
+        IntStream narrow = bitmap != null ? bitmap.stream() : Arrays.stream(sorted);
+        return LongStream.concat(narrow.asLongStream(), Arrays.stream(wide));
+    }
+
+    private static boolean fitsInt(long gameId) {
+        return gameId >= 0 && gameId <= Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.Games.purchase;
+
+import com.example.Games.config.common.transaction.AfterCommit;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+// The games each user owns, so ownership checks are answered from memory instead of a purchase_history probe per
+// check. A user's set is loaded on first use, kept in a bounded cache, and extended once each purchase commits.
+// Purchases made through another node only reach this one by a reload, so a set is refreshed in the background
+// once it is older than refresh-after, however often it is read; idle users are dropped.
+@Component
+public class OwnershipIndex {
+
+    private final LoadingCache<Long, GameIdSet> libraries;
+
+    public OwnershipIndex(PurchaseRepository purchaseRepository,
+                          @Value("${games.ownership.max-users:100000}") long maxUsers,
+                          @Value("${games.ownership.idle-expiry:30m}") Duration idleExpiry,
+                          @Value("${games.ownership.refresh-after:PT5M}") Duration refreshAfter) {
+        this.libraries = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(idleExpiry)
+                .refreshAfterWrite(refreshAfter)
+                .build(userId -> GameIdSet.of(purchaseRepository.findGameIdsByUserId(userId)));
+    }
+
+    public boolean owns(Long userId, Long gameId) {
+        return libraries.get(userId).contains(gameId);
+    }
+
+    // The owned ones among gameIds, in request order
+    public List<Long> ownedAmong(Long userId, Collection<Long> gameIds) {
+        GameIdSet owned = libraries.get(userId);
+        return new LinkedHashSet<>(gameIds).stream()
+                .filter(owned::contains)
+                .toList();
+    }
+
+    // Every owned game id, ascending
+    public List<Long> library(Long userId) {
+        return libraries.get(userId).toList();
+    }
+
+    // Applied after commit and only to a loaded set; a set loaded later reads the committed rows anyway. Caffeine
+    // holds this compute until an in-flight load of the same user finishes, so a load that read too early is patched.
+    public void purchased(Long userId, Collection<Long> gameIds) {
+        List<Long> added = List.copyOf(gameIds);
+        AfterCommit.run(() -> libraries.asMap().computeIfPresent(userId, (id, owned) -> owned.with(added)));
+    }
+}
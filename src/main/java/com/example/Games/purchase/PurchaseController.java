@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RestController
@@ -47,6 +48,15 @@ public class PurchaseController {
         );
     }
 
+    @GetMapping("/library/ids")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<List<Long>>> getMyLibraryIds() {
+        List<Long> gameIds = purchaseService.getMyLibraryIds();
+        return ResponseEntity.ok(
+                responseMapper.toSuccessResponse("Library retrieved", gameIds)
+        );
+    }
+
     @GetMapping("/history")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<List<PurchaseResponse>>> getMyPurchaseHistory() {
@@ -65,6 +75,25 @@ public class PurchaseController {
         );
     }
 
+    @GetMapping(value = "/history", params = "fields")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getMyPurchaseHistorySparse(@RequestParam String fields) {
+        List<Map<String, Object>> history = purchaseService.getMyPurchaseHistory(fields);
+        return ResponseEntity.ok(
+                responseMapper.toSuccessResponse("Purchase history retrieved", history)
+        );
+    }
+
+    @GetMapping(value = "/history/paged", params = "fields")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<Page<Map<String, Object>>>> getMyPurchaseHistoryPagedSparse(
+            @RequestParam String fields, Pageable pageable) {
+        Page<Map<String, Object>> history = purchaseService.getMyPurchaseHistoryPaged(pageable, fields);
+        return ResponseEntity.ok(
+                responseMapper.toSuccessResponse("Paged purchase history retrieved", history)
+        );
+    }
+
     @GetMapping("/admin/user/{userId}/history")
     @PreAuthorize("@authorizationUtils.isAdmin()")
     public ResponseEntity<ApiResponse<List<PurchaseResponse>>> getUserPurchaseHistory(@PathVariable Long userId) {
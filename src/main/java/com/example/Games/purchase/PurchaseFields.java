@@ -0,0 +1,29 @@
+package com.example.Games.purchase;
+
+import com.example.Games.config.common.fields.SparseField;
+import com.example.Games.config.common.fields.SparseSchema;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+// Fields a purchase listing can be narrowed to; names and formats match PurchaseResponse
+final class PurchaseFields {
+
+    private static final DateTimeFormatter PURCHASED_AT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    static final SparseSchema SCHEMA = new SparseSchema("PurchaseHistory p", List.of(
+            SparseField.of("purchaseId", "p.id"),
+            SparseField.of("gameId", "p.game.id"),
+            SparseField.of("gameTitle", "g.title", "JOIN p.game g"),
+            SparseField.of("gameAuthor", "a.username", "JOIN p.game g", "JOIN g.author a"),
+            SparseField.of("purchasePrice", "p.purchasePrice"),
+            SparseField.of("currentGamePrice", "g.price", "JOIN p.game g"),
+            SparseField.of("purchasedAt", "p.purchasedAt")
+                    .converted(value -> PURCHASED_AT.format((LocalDateTime) value)),
+            SparseField.of("priceDifference", "g.price - p.purchasePrice", "JOIN p.game g")
+    ));
+
+    private PurchaseFields() {
+    }
+}
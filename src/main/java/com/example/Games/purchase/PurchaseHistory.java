@@ -26,7 +26,8 @@ public class PurchaseHistory {
 
     @EqualsAndHashCode.Include
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "purchase_history_seq")
+    @SequenceGenerator(name = "purchase_history_seq", sequenceName = "purchase_history_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -14,9 +14,9 @@ public interface PurchaseMapStruct {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "purchasedAt", ignore = true)
-    @Mapping(target = "purchasePrice", source = "game.price")
+    @Mapping(target = "purchasePrice", source = "purchasePrice")
     @Mapping(target = "game", source = "game")
-    PurchaseHistory createPurchase(User user, Game game);
+    PurchaseHistory createPurchase(User user, Game game, BigDecimal purchasePrice);
 
     @Mapping(target = "purchaseId", source = "id")
     @Mapping(target = "gameId", source = "game.id")
@@ -1,5 +1,6 @@
 package com.example.Games.purchase;
 
+import com.example.Games.purchase.dto.GamePurchaseCount;
 import com.example.Games.user.auth.User;
 import com.example.Games.game.Game;
 import org.springframework.data.domain.Page;
@@ -11,17 +12,22 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PurchaseRepository extends JpaRepository<PurchaseHistory, Long> {
+public interface PurchaseRepository extends JpaRepository<PurchaseHistory, Long>, PurchaseRepositoryCustom {
 
     // Check if user owns a game
     boolean existsByUserIdAndGameId(Long userId, Long gameId);
 
+    // A whole library in one index range scan; OwnershipIndex loads it once and answers checks from memory
+    @Query("SELECT p.game.id FROM PurchaseHistory p WHERE p.user.id = :userId")
+    List<Long> findGameIdsByUserId(@Param("userId") Long userId);
+
     @Query("SELECT p.game.id FROM PurchaseHistory p WHERE p.user.id = :userId AND p.game.id IN :gameIds")
-    List<Long> findOwnedGameIds(@Param("userId") Long userId, @Param("gameIds") List<Long> gameIds);
+    List<Long> findGameIdsOwnedAmong(@Param("userId") Long userId, @Param("gameIds") Collection<Long> gameIds);
 
     @Query("SELECT p FROM PurchaseHistory p " +
             "JOIN FETCH p.game g " +
@@ -60,4 +66,9 @@ public interface PurchaseRepository extends JpaRepository<PurchaseHistory, Long>
 
     @Query("SELECT SUM(p.purchasePrice) FROM PurchaseHistory p WHERE p.game.author.id = :developerId")
     Optional<BigDecimal> calculateTotalRevenueForDeveloper(@Param("developerId") Long developerId);
+
+    // Sales per game in one aggregate; games that never sold have no row
+    @Query("SELECT new com.example.Games.purchase.dto.GamePurchaseCount(p.game.id, COUNT(p)) " +
+           "FROM PurchaseHistory p GROUP BY p.game.id")
+    List<GamePurchaseCount> countPurchasesPerGame();
 }
@@ -0,0 +1,16 @@
+package com.example.Games.purchase;
+
+import com.example.Games.config.common.fields.FieldSelection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+
+public interface PurchaseRepositoryCustom {
+
+    // A user's purchases, newest first, selecting only the chosen fields
+    List<Map<String, Object>> findFieldsByUserId(FieldSelection selection, Long userId);
+
+    Page<Map<String, Object>> findFieldsByUserId(FieldSelection selection, Long userId, Pageable pageable);
+}
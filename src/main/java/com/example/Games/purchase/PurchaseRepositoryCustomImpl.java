@@ -0,0 +1,29 @@
+package com.example.Games.purchase;
+
+import com.example.Games.config.common.fields.FieldSelection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+
+public class PurchaseRepositoryCustomImpl implements PurchaseRepositoryCustom {
+
+    private static final String BY_USER = "p.user.id = :userId";
+    private static final String NEWEST_FIRST = "p.purchasedAt DESC, p.id DESC";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findFieldsByUserId(FieldSelection selection, Long userId) {
+        return selection.list(entityManager, BY_USER, NEWEST_FIRST, Map.of("userId", userId));
+    }
+
+    @Override
+    public Page<Map<String, Object>> findFieldsByUserId(FieldSelection selection, Long userId, Pageable pageable) {
+        return selection.page(entityManager, BY_USER, NEWEST_FIRST, Map.of("userId", userId), pageable);
+    }
+}
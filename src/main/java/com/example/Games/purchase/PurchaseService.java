@@ -1,7 +1,9 @@
 package com.example.Games.purchase;
 
+import com.example.Games.config.common.fields.FieldSelection;
 import com.example.Games.config.common.service.UserContextService;
 import com.example.Games.config.exception.game.GameNotFoundException;
+import com.example.Games.discount.DiscountIndex;
 import com.example.Games.game.Game;
 import com.example.Games.game.GameRepository;
 import com.example.Games.game.GameMapStruct;
@@ -25,6 +27,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.ArrayList;
 import java.util.stream.Collectors;
 
@@ -41,21 +44,39 @@ public class PurchaseService {
     private final GameMapStruct gameMapStruct;
     private final PurchaseMapStruct purchaseMapper;
     private final UserContextService userContextService;
+    private final DiscountIndex discounts;
+    private final OwnershipIndex ownership;
 
     private User getCurrentUser() {
         return userContextService.getAuthorizedUser();
     }
 
+    // What a purchase is charged now: the list price less any running discount
+    private BigDecimal effectivePrice(Game game) {
+        return discounts.discountedPrice(game).orElse(game.getPrice());
+    }
+
     private void validateGamePurchases(User user, List<Game> games, List<Long> gameIds) {
         if (games.size() != gameIds.size()) {
             throw new GameNotFoundException("One or more games not found");
         }
-        List<Long> ownedIds = purchaseRepository.findOwnedGameIds(user.getId(), gameIds);
+        List<Long> ownedIds = ownership.ownedAmong(user.getId(), gameIds);
         if (!ownedIds.isEmpty()) {
             throw new GameAlreadyOwnedException(
                     "You already own games with IDs: " + ownedIds
             );
         }
+        validatePurchasable(user, games);
+    }
+
+    private void validatePurchasable(User user, List<Game> games) {
+        List<String> unreleased = games.stream()
+                .filter(g -> !g.isReleased())
+                .map(Game::getTitle)
+                .toList();
+        if (!unreleased.isEmpty()) {
+            throw PurchaseException.notReleased(unreleased);
+        }
         List<String> ownGames = games.stream()
                 .filter(g -> g.getAuthor().getId().equals(user.getId()))
                 .map(Game::getTitle)
@@ -73,22 +94,27 @@ public class PurchaseService {
         Game game = gameRepository.findByIdWithAuthor(gameId)
                 .orElseThrow(() -> new GameNotFoundException("Game not found"));
 
-        if (purchaseRepository.existsByUserIdAndGameId(currentUser.getId(), game.getId())) {
+        if (ownership.owns(currentUser.getId(), game.getId())) {
             throw new GameAlreadyOwnedException("You already own this game: " + game.getTitle());
         }
 
         if (game.getAuthor().getId().equals(currentUser.getId())) {
             throw PurchaseException.selfPurchase(game.getTitle());
         }
+        if (!game.isReleased()) {
+            throw PurchaseException.notReleased(game.getTitle());
+        }
 
-        BalanceTransaction balanceTransaction = balanceService.createPurchaseTransaction(game.getPrice() , currentUser);
+        BigDecimal price = effectivePrice(game);
+        BalanceTransaction balanceTransaction = balanceService.createPurchaseTransaction(price, currentUser);
 
-        PurchaseHistory purchase = purchaseMapper.createPurchase(currentUser, game);
+        PurchaseHistory purchase = purchaseMapper.createPurchase(currentUser, game, price);
         purchaseRepository.save(purchase);
-        gameHistoryService.recordGamePurchase(game, currentUser, game.getPrice());
+        ownership.purchased(currentUser.getId(), List.of(game.getId()));
+        gameHistoryService.recordGamePurchase(game, currentUser, price);
 
         log.info("Game '{}' purchased by user '{}' for ${} - Purchase ID: {}, Transaction ID: {}", 
-                game.getTitle(), currentUser.getUsername(), game.getPrice(), 
+                game.getTitle(), currentUser.getUsername(), price, 
                 purchase.getId(), balanceTransaction.getId());
 
         return purchaseMapper.toPurchaseResponse(purchase);
@@ -105,21 +131,36 @@ public class PurchaseService {
 
     @Transactional
     public List<PurchaseResponse> purchaseGames(List<Game> games, User user) {
+        // Priced once, so the charge, the purchase rows and the history all agree even across a discount boundary
+        return purchaseGames(games, games.stream().map(this::effectivePrice).toList(), user);
+    }
 
-        BigDecimal totalCost = games.stream()
-                .map(Game::getPrice)
+    // Charges the given prices, such as those a queued checkout quoted when it was accepted. The cart or order was
+    // put together before this transaction, so it is validated again here, with ownership read from the database
+    // rather than this node's ownership cache, which misses purchases made on other nodes.
+    @Transactional
+    public List<PurchaseResponse> purchaseGames(List<Game> games, List<BigDecimal> prices, User user) {
+        List<Long> ownedIds = purchaseRepository.findGameIdsOwnedAmong(user.getId(),
+                games.stream().map(Game::getId).toList());
+        if (!ownedIds.isEmpty()) {
+            throw new GameAlreadyOwnedException("You already own games with IDs: " + ownedIds);
+        }
+        validatePurchasable(user, games);
+
+        BigDecimal totalCost = prices.stream()
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
         BalanceTransaction balanceTransaction = balanceService.createPurchaseTransaction(totalCost ,user);
 
         List<PurchaseHistory> purchases = new ArrayList<>();
-        for (Game game : games) {
-            PurchaseHistory purchase = purchaseMapper.createPurchase(user, game);
+        for (int i = 0; i < games.size(); i++) {
+            PurchaseHistory purchase = purchaseMapper.createPurchase(user, games.get(i), prices.get(i));
             purchases.add(purchase);
         }
 
         purchases = purchaseRepository.saveAll(purchases);
-        gameHistoryService.recordGamePurchases(games, user);
+        ownership.purchased(user.getId(), games.stream().map(Game::getId).toList());
+        gameHistoryService.recordGamePurchases(games, user, prices);
 
         log.info("Batch purchase completed for user '{}': {} games purchased for ${} - Transaction ID: {}", 
                 user.getUsername(), games.size(), totalCost, balanceTransaction.getId());
@@ -137,13 +178,18 @@ public class PurchaseService {
         validateGamePurchases(currentUser, games, gameIds);
 
         BigDecimal totalCost = games.stream()
-                .map(Game::getPrice)
+                .map(this::effectivePrice)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
         return balanceService.canAfford(totalCost);
     }
 
 
+    // Answered from the ownership index, without touching purchase_history once the library is loaded
+    public List<Long> getMyLibraryIds() {
+        return ownership.library(getCurrentUser().getId());
+    }
+
     @Transactional(readOnly = true)
     public List<PurchaseResponse> getMyPurchaseHistory() {
         User currentUser = getCurrentUser();
@@ -158,6 +204,19 @@ public class PurchaseService {
                 .map(purchaseMapper::toPurchaseResponse);
     }
     
+    // Sparse variants: only the requested fields are selected, so the game and author are joined only when needed
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getMyPurchaseHistory(String fields) {
+        FieldSelection selection = PurchaseFields.SCHEMA.select(fields);
+        return purchaseRepository.findFieldsByUserId(selection, getCurrentUser().getId());
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getMyPurchaseHistoryPaged(Pageable pageable, String fields) {
+        FieldSelection selection = PurchaseFields.SCHEMA.select(fields);
+        return purchaseRepository.findFieldsByUserId(selection, getCurrentUser().getId(), pageable);
+    }
+
     @Transactional(readOnly = true)
     public List<PurchaseResponse> getUserPurchaseHistory(Long userId) {
         return purchaseMapper.toPurchaseResponseList(
@@ -0,0 +1,7 @@
+package com.example.Games.purchase.dto;
+
+public record GamePurchaseCount(
+        Long gameId,
+        long purchases
+) {
+}
@@ -0,0 +1,76 @@
+package com.example.Games.purchase.preorder;
+
+import com.example.Games.game.Game;
+import com.example.Games.user.auth.User;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// A claim on an unreleased game. Nothing is charged up front: at release the pre-order is settled into a
+// PurchaseHistory row and a balance transaction at the price of that moment, or marked failed with the reason.
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@EntityListeners(AuditingEntityListener.class)
+@Table(
+        name = "pre_orders",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "game_id"}),
+        indexes = @Index(name = "idx_pre_orders_game_status", columnList = "game_id, status")
+)
+public class PreOrder {
+
+    @EqualsAndHashCode.Include
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "game_id", nullable = false)
+    private Game game;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private PreOrderStatus status = PreOrderStatus.PENDING;
+
+    @Column(name = "charged_price", precision = 10, scale = 2)
+    private BigDecimal chargedPrice;
+
+    @Column(name = "failure_reason")
+    private String failureReason;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "settled_at")
+    private LocalDateTime settledAt;
+
+    public boolean isPending() {
+        return status == PreOrderStatus.PENDING;
+    }
+
+    public void fulfil(BigDecimal price, LocalDateTime at) {
+        this.status = PreOrderStatus.FULFILLED;
+        this.chargedPrice = price;
+        this.settledAt = at;
+    }
+
+    public void fail(String reason, LocalDateTime at) {
+        this.status = PreOrderStatus.FAILED;
+        this.failureReason = reason;
+        this.settledAt = at;
+    }
+}
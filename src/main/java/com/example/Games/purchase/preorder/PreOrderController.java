@@ -0,0 +1,45 @@
+package com.example.Games.purchase.preorder;
+
+import com.example.Games.config.common.dto.ApiResponse;
+import com.example.Games.config.common.mappers.ResponseMapStruct;
+import com.example.Games.purchase.preorder.dto.PreOrderResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/preorders")
+public class PreOrderController {
+
+    private final PreOrderService preOrderService;
+    private final ResponseMapStruct responseMapper;
+
+    @PostMapping("/{gameId}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<PreOrderResponse>> preOrder(@PathVariable Long gameId) {
+        PreOrderResponse preOrder = preOrderService.preOrder(gameId);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(responseMapper.toSuccessResponse("Game pre-ordered successfully", preOrder));
+    }
+
+    @DeleteMapping("/{gameId}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<Object>> cancel(@PathVariable Long gameId) {
+        preOrderService.cancel(gameId);
+        return ResponseEntity.ok(responseMapper.toSuccessResponse("Pre-order cancelled successfully"));
+    }
+
+    @GetMapping("/me")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<List<PreOrderResponse>>> getMyPreOrders() {
+        List<PreOrderResponse> preOrders = preOrderService.getMyPreOrders();
+        return ResponseEntity.ok(responseMapper.toSuccessResponse(preOrders));
+    }
+}
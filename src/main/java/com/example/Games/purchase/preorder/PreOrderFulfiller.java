@@ -0,0 +1,79 @@
+package com.example.Games.purchase.preorder;
+
+import com.example.Games.config.exception.game.GameNotFoundException;
+import com.example.Games.discount.DiscountIndex;
+import com.example.Games.game.Game;
+import com.example.Games.game.GameRepository;
+import com.example.Games.gameHistory.GameHistoryService;
+import com.example.Games.purchase.PurchaseHistory;
+import com.example.Games.purchase.OwnershipIndex;
+import com.example.Games.purchase.PurchaseMapStruct;
+import com.example.Games.purchase.PurchaseRepository;
+import com.example.Games.user.auth.User;
+import com.example.Games.user.balance.BalanceService;
+import com.example.Games.user.balance.transaction.OperationType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+// Settles one chunk of a release in its own short transaction, so the balances it charges stay locked for a chunk
+// rather than for the whole release. Each charge is the same conditional UPDATE a purchase makes, and every
+// pre-order of the chunk is charged the same price.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PreOrderFulfiller {
+
+    private final PreOrderRepository preOrderRepository;
+    private final GameRepository gameRepository;
+    private final BalanceService balanceService;
+    private final PurchaseRepository purchaseRepository;
+    private final PurchaseMapStruct purchaseMapper;
+    private final GameHistoryService gameHistoryService;
+    private final DiscountIndex discounts;
+    private final OwnershipIndex ownership;
+
+    @Transactional
+    public ReleaseResult fulfil(Long gameId, Collection<Long> preOrderIds) {
+        List<PreOrder> pending = preOrderRepository.lockPendingByIdIn(preOrderIds);
+        if (pending.isEmpty()) {
+            return ReleaseResult.EMPTY;
+        }
+        Game game = gameRepository.findById(gameId)
+                .orElseThrow(() -> GameNotFoundException.byId(gameId));
+        BigDecimal price = discounts.discountedPrice(game).orElse(game.getPrice());
+
+        LocalDateTime now = LocalDateTime.now();
+        List<PurchaseHistory> purchases = new ArrayList<>(pending.size());
+        int failed = 0;
+        // Charged in user order, so two chunks charging overlapping users lock their balances in the same order
+        List<PreOrder> byUser = pending.stream()
+                .sorted(Comparator.comparing(preOrder -> preOrder.getUser().getId()))
+                .toList();
+        for (PreOrder preOrder : byUser) {
+            User user = preOrder.getUser();
+            if (balanceService.debit(user, price, OperationType.PURCHASE, "Pre-order").isEmpty()) {
+                preOrder.fail(String.format("Insufficient funds at release: $%.2f required", price), now);
+                failed++;
+                continue;
+            }
+            purchases.add(purchaseMapper.createPurchase(user, game, price));
+            ownership.purchased(user.getId(), List.of(gameId));
+            gameHistoryService.recordGamePurchase(game, user, price);
+            preOrder.fulfil(price, now);
+        }
+        purchaseRepository.saveAll(purchases);
+
+        log.debug("Release of game {} settled a chunk: {} fulfilled at ${}, {} failed",
+                gameId, purchases.size(), price, failed);
+        return new ReleaseResult(purchases.size(), failed, 0);
+    }
+}
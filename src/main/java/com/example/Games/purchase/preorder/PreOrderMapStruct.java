@@ -0,0 +1,29 @@
+package com.example.Games.purchase.preorder;
+
+import com.example.Games.game.Game;
+import com.example.Games.purchase.preorder.dto.PreOrderResponse;
+import com.example.Games.user.auth.User;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface PreOrderMapStruct {
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "status", constant = "PENDING")
+    @Mapping(target = "chargedPrice", ignore = true)
+    @Mapping(target = "failureReason", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "settledAt", ignore = true)
+    @Mapping(target = "game", source = "game")
+    PreOrder createPreOrder(User user, Game game);
+
+    @Mapping(target = "gameId", source = "game.id")
+    @Mapping(target = "gameTitle", source = "game.title")
+    @Mapping(target = "releaseAt", source = "game.releaseAt")
+    PreOrderResponse toDto(PreOrder preOrder);
+
+    List<PreOrderResponse> toDtoList(List<PreOrder> preOrders);
+}
@@ -0,0 +1,44 @@
+package com.example.Games.purchase.preorder;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PreOrderRepository extends JpaRepository<PreOrder, Long> {
+
+    boolean existsByUserIdAndGameId(Long userId, Long gameId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM PreOrder p WHERE p.user.id = :userId AND p.game.id = :gameId")
+    Optional<PreOrder> lockByUserIdAndGameId(@Param("userId") Long userId, @Param("gameId") Long gameId);
+
+    @Query("SELECT p FROM PreOrder p JOIN FETCH p.game WHERE p.user.id = :userId ORDER BY p.createdAt DESC")
+    List<PreOrder> findByUserIdWithGame(@Param("userId") Long userId);
+
+    // Ids only, so a release can be cut into chunks before any row is locked
+    @Query("SELECT p.id FROM PreOrder p WHERE p.game.id = :gameId AND p.status = 'PENDING' ORDER BY p.id")
+    List<Long> findPendingIdsByGameId(@Param("gameId") Long gameId);
+
+    // A chunk locks its rows and re-reads their status, so a release dispatched twice settles each pre-order once
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM PreOrder p JOIN FETCH p.user WHERE p.id IN :ids AND p.status = 'PENDING' ORDER BY p.id")
+    List<PreOrder> lockPendingByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Released games that still have unsettled pre-orders: missed ticks, restarts and chunks that rolled back
+    @Query("SELECT DISTINCT p.game.id FROM PreOrder p WHERE p.status = 'PENDING' AND p.game.releaseAt <= :now")
+    List<Long> findGameIdsPendingReleasedBy(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM PreOrder p WHERE p.game.id = :gameId")
+    int deleteByGameId(@Param("gameId") Long gameId);
+}
@@ -0,0 +1,72 @@
+package com.example.Games.purchase.preorder;
+
+import com.example.Games.config.common.service.UserContextService;
+import com.example.Games.config.exception.game.GameNotFoundException;
+import com.example.Games.config.exception.purchase.PurchaseException;
+import com.example.Games.game.Game;
+import com.example.Games.game.GameRepository;
+import com.example.Games.purchase.preorder.dto.PreOrderResponse;
+import com.example.Games.user.auth.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// Pre-orders of unreleased games. Placing one charges nothing; ReleaseScheduler settles it when the game comes out.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PreOrderService {
+
+    private final PreOrderRepository preOrderRepository;
+    private final GameRepository gameRepository;
+    private final PreOrderMapStruct preOrderMapper;
+    private final UserContextService userContextService;
+
+    private User getCurrentUser() {
+        return userContextService.getAuthorizedUser();
+    }
+
+    @Transactional
+    public PreOrderResponse preOrder(Long gameId) {
+        User currentUser = getCurrentUser();
+
+        Game game = gameRepository.findByIdWithAuthor(gameId)
+                .orElseThrow(() -> GameNotFoundException.byId(gameId));
+
+        if (game.isReleased()) {
+            throw PurchaseException.alreadyReleased(game.getTitle());
+        }
+        if (game.getAuthor().getId().equals(currentUser.getId())) {
+            throw PurchaseException.selfPurchase(game.getTitle());
+        }
+        if (preOrderRepository.existsByUserIdAndGameId(currentUser.getId(), gameId)) {
+            throw PurchaseException.alreadyPreOrdered(game.getTitle());
+        }
+
+        PreOrder saved = preOrderRepository.save(preOrderMapper.createPreOrder(currentUser, game));
+        log.info("Game '{}' pre-ordered by user '{}' for release at {}",
+                game.getTitle(), currentUser.getUsername(), game.getReleaseAt());
+        return preOrderMapper.toDto(saved);
+    }
+
+    // Only a pending pre-order can be cancelled; the lock waits out a release that is settling it right now
+    @Transactional
+    public void cancel(Long gameId) {
+        User currentUser = getCurrentUser();
+
+        PreOrder preOrder = preOrderRepository.lockByUserIdAndGameId(currentUser.getId(), gameId)
+                .filter(PreOrder::isPending)
+                .orElseThrow(() -> PurchaseException.notPreOrdered(gameId));
+
+        preOrderRepository.delete(preOrder);
+        log.info("Pre-order of game {} cancelled by user '{}'", gameId, currentUser.getUsername());
+    }
+
+    @Transactional(readOnly = true)
+    public List<PreOrderResponse> getMyPreOrders() {
+        return preOrderMapper.toDtoList(preOrderRepository.findByUserIdWithGame(getCurrentUser().getId()));
+    }
+}
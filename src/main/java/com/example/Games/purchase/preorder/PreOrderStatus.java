@@ -0,0 +1,7 @@
+package com.example.Games.purchase.preorder;
+
+public enum PreOrderStatus {
+    PENDING,
+    FULFILLED,
+    FAILED
+}
@@ -0,0 +1,19 @@
+package com.example.Games.purchase.preorder;
+
+// Outcome of settling a release or one chunk of it; errored pre-orders rolled back and stay pending for the sweep
+public record ReleaseResult(int fulfilled, int failed, int errored) {
+
+    public static final ReleaseResult EMPTY = new ReleaseResult(0, 0, 0);
+
+    public static ReleaseResult errored(int count) {
+        return new ReleaseResult(0, 0, count);
+    }
+
+    public ReleaseResult plus(ReleaseResult other) {
+        return new ReleaseResult(fulfilled + other.fulfilled, failed + other.failed, errored + other.errored);
+    }
+
+    public int total() {
+        return fulfilled + failed + errored;
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.Games.purchase.preorder;
+
+import com.example.Games.config.common.transaction.AfterCommit;
+import com.example.Games.game.GameRepository;
+import com.example.Games.game.dto.GameRelease;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Releases games on time. Upcoming releases sit on a TimingWheel that the scheduler thread advances every tick;
+// a due game's pending pre-orders are cut into chunks and settled in parallel on a small pool, so the tick never
+// waits on the database. The wheel only lives in memory: a periodic sweep settles anything a restart, a missed
+// tick or a rolled-back chunk left pending.
+@Slf4j
+@Component
+public class ReleaseScheduler {
+
+    static final int CHUNK_SIZE = 100;
+
+    private final GameRepository gameRepository;
+    private final PreOrderRepository preOrderRepository;
+    private final PreOrderFulfiller fulfiller;
+    private final TimingWheel<Long> wheel;
+    private final ExecutorService executor;
+    // Games whose chunks are still running, so the sweep does not dispatch the same release twice
+    private final Set<Long> releasing = ConcurrentHashMap.newKeySet();
+
+    public ReleaseScheduler(GameRepository gameRepository,
+                            PreOrderRepository preOrderRepository,
+                            PreOrderFulfiller fulfiller,
+                            @Value("${games.releases.tick:PT1S}") Duration tick,
+                            @Value("${games.releases.wheel-size:3600}") int wheelSize,
+                            @Value("${games.releases.parallelism:4}") int parallelism) {
+        this.gameRepository = gameRepository;
+        this.preOrderRepository = preOrderRepository;
+        this.fulfiller = fulfiller;
+        this.wheel = new TimingWheel<>(tick, wheelSize, System.currentTimeMillis());
+        this.executor = Executors.newFixedThreadPool(parallelism,
+                Thread.ofPlatform().name("game-release-", 0).daemon().factory());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<GameRelease> upcoming = gameRepository.findReleasesAfter(LocalDateTime.now());
+        upcoming.forEach(release -> enqueue(release.gameId(), release.releaseAt()));
+        log.info("Release scheduler loaded {} upcoming releases", upcoming.size());
+        sweep();
+    }
+
+    // Joins the wheel once the game is committed, so a rolled-back create never fires
+    public void schedule(Long gameId, LocalDateTime releaseAt) {
+        AfterCommit.run(() -> enqueue(gameId, releaseAt));
+    }
+
+    @Scheduled(fixedDelayString = "${games.releases.tick:PT1S}")
+    public void tick() {
+        List<Long> due;
+        synchronized (this) {
+            due = wheel.advance(System.currentTimeMillis());
+        }
+        due.forEach(this::release);
+    }
+
+    @Scheduled(initialDelayString = "${games.releases.sweep-interval:PT1M}",
+            fixedDelayString = "${games.releases.sweep-interval:PT1M}")
+    public void sweep() {
+        preOrderRepository.findGameIdsPendingReleasedBy(LocalDateTime.now()).forEach(this::release);
+    }
+
+    // Completes once every chunk has settled; a failing chunk is logged and left pending for the next sweep
+    CompletableFuture<ReleaseResult> release(Long gameId) {
+        if (!releasing.add(gameId)) {
+            return CompletableFuture.completedFuture(ReleaseResult.EMPTY);
+        }
+        List<Long> ids;
+        try {
+            ids = preOrderRepository.findPendingIdsByGameId(gameId);
+        } catch (RuntimeException e) {
+            releasing.remove(gameId);
+            throw e;
+        }
+
+        List<CompletableFuture<ReleaseResult>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = List.copyOf(ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size())));
+            chunks.add(CompletableFuture.supplyAsync(() -> fulfiller.fulfil(gameId, chunk), executor)
+                    .exceptionally(e -> {
+                        log.error("Release of game {} failed for a chunk of {} pre-orders", gameId, chunk.size(), e);
+                        return ReleaseResult.errored(chunk.size());
+                    }));
+        }
+        return CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new))
+                .thenApply(done -> chunks.stream()
+                        .map(CompletableFuture::join)
+                        .reduce(ReleaseResult.EMPTY, ReleaseResult::plus))
+                .whenComplete((result, e) -> {
+                    releasing.remove(gameId);
+                    if (result != null && result.total() > 0) {
+                        log.info("Game {} released: {} pre-orders fulfilled, {} failed, {} left pending",
+                                gameId, result.fulfilled(), result.failed(), result.errored());
+                    }
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private synchronized void enqueue(Long gameId, LocalDateTime releaseAt) {
+        wheel.schedule(gameId, releaseAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.Games.purchase.preorder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+// Hashed timing wheel: one slot per tick, and an entry more than a revolution away carries the number of whole
+// turns it still has to wait. Scheduling is O(1) and each tick only walks its own slot, however many entries are
+// pending. An entry is never due before its deadline and at most one tick after it. Not thread-safe.
+final class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final List<List<Entry<T>>> slots;
+    // The next tick to expire; deadlines before it are due on the next advance
+    private long currentTick;
+    private int size;
+
+    TimingWheel(Duration tick, int wheelSize, long startMillis) {
+        if (tick.toMillis() <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("Tick and wheel size must be positive");
+        }
+        this.tickMillis = tick.toMillis();
+        this.slots = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            slots.add(new ArrayList<>());
+        }
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    private static final class Entry<T> {
+
+        private final T item;
+        private long turns;
+
+        private Entry(T item, long turns) {
+            this.item = item;
+            this.turns = turns;
+        }
+    }
+
+    void schedule(T item, long deadlineMillis) {
+        long deadlineTick = Math.max(Math.ceilDiv(deadlineMillis, tickMillis), currentTick);
+        long turns = (deadlineTick - currentTick) / slots.size();
+        slots.get(slot(deadlineTick)).add(new Entry<>(item, turns));
+        size++;
+    }
+
+    // Expires every tick that has fully started by nowMillis and returns its due items in deadline order
+    List<T> advance(long nowMillis) {
+        long nowTick = Math.floorDiv(nowMillis, tickMillis);
+        List<T> due = new ArrayList<>();
+        for (; currentTick <= nowTick; currentTick++) {
+            if (size == 0) {
+                currentTick = nowTick + 1;
+                break;
+            }
+            Iterator<Entry<T>> entries = slots.get(slot(currentTick)).iterator();
+            while (entries.hasNext()) {
+                Entry<T> entry = entries.next();
+                if (entry.turns == 0) {
+                    due.add(entry.item);
+                    entries.remove();
+                    size--;
+                } else {
+                    entry.turns--;
+                }
+            }
+        }
+        return due;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int slot(long tick) {
+        return (int) Math.floorMod(tick, (long) slots.size());
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.Games.purchase.preorder.dto;
+
+import com.example.Games.purchase.preorder.PreOrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record PreOrderResponse(
+        Long id,
+        Long gameId,
+        String gameTitle,
+        LocalDateTime releaseAt,
+        PreOrderStatus status,
+        BigDecimal chargedPrice,
+        String failureReason,
+        LocalDateTime createdAt,
+        LocalDateTime settledAt
+) {}
@@ -0,0 +1,69 @@
+package com.example.Games.review;
+
+import com.example.Games.game.Game;
+import com.example.Games.user.auth.User;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+// One owner's rating of a game, with an optional text. The two indexes serve the two keyset orders of a game's
+// review listing, each ending in the id tie-breaker.
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@EntityListeners(AuditingEntityListener.class)
+@Table(
+        name = "reviews",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "game_id"}),
+        indexes = {
+                @Index(name = "idx_reviews_game_helpful_id", columnList = "game_id, helpful_count, id"),
+                @Index(name = "idx_reviews_game_created_at_id", columnList = "game_id, created_at, id")
+        }
+)
+public class Review {
+
+    @EqualsAndHashCode.Include
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "game_id", nullable = false)
+    private Game game;
+
+    @Column(nullable = false)
+    private int rating;
+
+    @Column(length = 4000)
+    private String body;
+
+    @Column(name = "helpful_count", nullable = false)
+    @ColumnDefault("0")
+    private int helpfulCount;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public void edit(int rating, String body) {
+        this.rating = rating;
+        this.body = body;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.Games.review;
+
+import com.example.Games.config.common.dto.ApiResponse;
+import com.example.Games.config.common.mappers.ResponseMapStruct;
+import com.example.Games.review.dto.ReviewPageResponse;
+import com.example.Games.review.dto.ReviewRequest;
+import com.example.Games.review.dto.ReviewResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/reviews")
+public class ReviewController {
+
+    private final ReviewService reviewService;
+    private final ResponseMapStruct responseMapper;
+
+    @GetMapping("/game/{gameId}")
+    public ResponseEntity<ApiResponse<ReviewPageResponse>> getReviews(
+            @PathVariable Long gameId,
+            @RequestParam(defaultValue = "helpful") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        ReviewPageResponse page = reviewService.getReviews(gameId, sort, cursor, limit);
+        return ResponseEntity.ok(responseMapper.toSuccessResponse(page));
+    }
+
+    @PostMapping("/game/{gameId}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<ReviewResponse>> create(@PathVariable Long gameId,
+                                                              @RequestBody @Valid ReviewRequest request) {
+        ReviewResponse review = reviewService.createReview(gameId, request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(responseMapper.toSuccessResponse("Review posted successfully", review));
+    }
+
+    @PutMapping("/game/{gameId}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<ReviewResponse>> update(@PathVariable Long gameId,
+                                                              @RequestBody @Valid ReviewRequest request) {
+        ReviewResponse review = reviewService.updateMyReview(gameId, request);
+        return ResponseEntity.ok(responseMapper.toSuccessResponse("Review updated successfully", review));
+    }
+
+    @DeleteMapping("/game/{gameId}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<Object>> delete(@PathVariable Long gameId) {
+        reviewService.deleteMyReview(gameId);
+        return ResponseEntity.ok(responseMapper.toSuccessResponse("Review deleted successfully"));
+    }
+
+    @PostMapping("/{reviewId}/helpful")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<Object>> markHelpful(@PathVariable Long reviewId) {
+        reviewService.markHelpful(reviewId);
+        return ResponseEntity.ok(responseMapper.toSuccessResponse("Review marked as helpful"));
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.Games.review;
+
+import com.example.Games.config.exception.review.InvalidReviewException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Opaque keyset position in a game's reviews: the sort plus the last row's sort value and id
+public record ReviewCursor(
+        ReviewSort sort,
+        Long lastId,
+        Object lastValue
+) {
+
+    private static final String SEPARATOR = "|";
+
+    public static ReviewCursor after(ReviewSort sort, Review last) {
+        return new ReviewCursor(sort, last.getId(), sort.valueOf(last));
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, sort.name(), lastId.toString(), String.valueOf(lastValue));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ReviewCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 3);
+            if (parts.length != 3) {
+                throw InvalidReviewException.invalidCursor();
+            }
+            ReviewSort sort = ReviewSort.valueOf(parts[0]);
+            return new ReviewCursor(sort, Long.valueOf(parts[1]), sort.parse(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw InvalidReviewException.invalidCursor();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.Games.review;
+
+import com.example.Games.game.Game;
+import com.example.Games.review.dto.ReviewRequest;
+import com.example.Games.review.dto.ReviewResponse;
+import com.example.Games.user.auth.User;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface ReviewMapStruct {
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "helpfulCount", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "user", source = "user")
+    @Mapping(target = "game", source = "game")
+    Review toEntity(ReviewRequest request, User user, Game game);
+
+    @Mapping(target = "gameId", source = "game.id")
+    @Mapping(target = "username", source = "user.username")
+    ReviewResponse toDto(Review review);
+
+    List<ReviewResponse> toDtoList(List<Review> reviews);
+}
@@ -0,0 +1,59 @@
+package com.example.Games.review;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ReviewRepository extends JpaRepository<Review, Long> {
+
+    boolean existsByUserIdAndGameId(Long userId, Long gameId);
+
+    // Locked, so two edits of the same review cannot both apply their rating delta to the old rating
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Review r WHERE r.user.id = :userId AND r.game.id = :gameId")
+    Optional<Review> lockByUserIdAndGameId(@Param("userId") Long userId, @Param("gameId") Long gameId);
+
+    @Query("SELECT r FROM Review r JOIN FETCH r.user WHERE r.id = :id")
+    Optional<Review> findByIdWithUser(@Param("id") Long id);
+
+    // Keyset pages: the first page and the page after a cursor, for each order
+    @Query("SELECT r FROM Review r JOIN FETCH r.user WHERE r.game.id = :gameId " +
+            "ORDER BY r.helpfulCount DESC, r.id DESC")
+    List<Review> findMostHelpful(@Param("gameId") Long gameId, Pageable pageable);
+
+    @Query("SELECT r FROM Review r JOIN FETCH r.user WHERE r.game.id = :gameId " +
+            "AND (r.helpfulCount < :helpfulCount OR (r.helpfulCount = :helpfulCount AND r.id < :id)) " +
+            "ORDER BY r.helpfulCount DESC, r.id DESC")
+    List<Review> findMostHelpfulAfter(@Param("gameId") Long gameId, @Param("helpfulCount") int helpfulCount,
+                                      @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT r FROM Review r JOIN FETCH r.user WHERE r.game.id = :gameId " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findMostRecent(@Param("gameId") Long gameId, Pageable pageable);
+
+    @Query("SELECT r FROM Review r JOIN FETCH r.user WHERE r.game.id = :gameId " +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findMostRecentAfter(@Param("gameId") Long gameId, @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id, Pageable pageable);
+
+    // In the database, so concurrent votes never overwrite each other's increment
+    @Modifying
+    @Query("UPDATE Review r SET r.helpfulCount = r.helpfulCount + 1 WHERE r.id = :id")
+    int incrementHelpfulCount(@Param("id") Long id);
+
+    // Votes reference reviews, so ReviewVoteRepository.deleteByGameId runs first
+    @Modifying
+    @Query("DELETE FROM Review r WHERE r.game.id = :gameId")
+    int deleteByGameId(@Param("gameId") Long gameId);
+}
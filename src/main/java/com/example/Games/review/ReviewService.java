@@ -0,0 +1,165 @@
+package com.example.Games.review;
+
+import com.example.Games.config.cache.CatalogCacheEvictor;
+import com.example.Games.config.common.service.UserContextService;
+import com.example.Games.config.exception.game.GameNotFoundException;
+import com.example.Games.config.exception.review.InvalidReviewException;
+import com.example.Games.config.exception.review.ReviewConflictException;
+import com.example.Games.config.exception.review.ReviewNotAllowedException;
+import com.example.Games.config.exception.review.ReviewNotFoundException;
+import com.example.Games.game.Game;
+import com.example.Games.game.GameCatalog;
+import com.example.Games.game.GameRepository;
+import com.example.Games.purchase.OwnershipIndex;
+import com.example.Games.review.dto.ReviewPageResponse;
+import com.example.Games.review.dto.ReviewRequest;
+import com.example.Games.review.dto.ReviewResponse;
+import com.example.Games.user.auth.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Owners rate and review the games they bought. Every write moves the game's rating sum and count in the same
+// transaction, so catalog reads show the average without aggregating reviews.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewService {
+
+    static final int MAX_PAGE_SIZE = 50;
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewVoteRepository voteRepository;
+    private final GameRepository gameRepository;
+    private final OwnershipIndex ownership;
+    private final ReviewMapStruct reviewMapper;
+    private final UserContextService userContextService;
+    private final CatalogCacheEvictor catalogCache;
+    private final GameCatalog catalog;
+
+    private User getCurrentUser() {
+        return userContextService.getAuthorizedUser();
+    }
+
+    @Transactional
+    public ReviewResponse createReview(Long gameId, ReviewRequest request) {
+        User currentUser = getCurrentUser();
+
+        Game game = gameRepository.findById(gameId)
+                .orElseThrow(() -> GameNotFoundException.byId(gameId));
+
+        if (!ownership.owns(currentUser.getId(), gameId)) {
+            throw ReviewNotAllowedException.notOwned(game.getTitle());
+        }
+        if (reviewRepository.existsByUserIdAndGameId(currentUser.getId(), gameId)) {
+            throw ReviewConflictException.alreadyReviewed(game.getTitle());
+        }
+
+        Review saved;
+        try {
+            saved = reviewRepository.saveAndFlush(reviewMapper.toEntity(request, currentUser, game));
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent review by the same user passed the check first; the unique key kept the second out
+            throw ReviewConflictException.alreadyReviewed(game.getTitle());
+        }
+        ratingChanged(gameId, request.rating(), 1);
+
+        log.info("Game '{}' rated {} by user '{}'", game.getTitle(), request.rating(), currentUser.getUsername());
+        return reviewMapper.toDto(saved);
+    }
+
+    @Transactional
+    public ReviewResponse updateMyReview(Long gameId, ReviewRequest request) {
+        User currentUser = getCurrentUser();
+
+        Review review = reviewRepository.lockByUserIdAndGameId(currentUser.getId(), gameId)
+                .orElseThrow(() -> ReviewNotFoundException.ownForGame(gameId));
+
+        int delta = request.rating() - review.getRating();
+        review.edit(request.rating(), request.body());
+        if (delta != 0) {
+            ratingChanged(gameId, delta, 0);
+        }
+
+        log.info("Review of game {} updated by user '{}'", gameId, currentUser.getUsername());
+        return reviewMapper.toDto(review);
+    }
+
+    @Transactional
+    public void deleteMyReview(Long gameId) {
+        User currentUser = getCurrentUser();
+
+        Review review = reviewRepository.lockByUserIdAndGameId(currentUser.getId(), gameId)
+                .orElseThrow(() -> ReviewNotFoundException.ownForGame(gameId));
+
+        voteRepository.deleteByReviewId(review.getId());
+        reviewRepository.delete(review);
+        ratingChanged(gameId, -review.getRating(), -1);
+
+        log.info("Review of game {} deleted by user '{}'", gameId, currentUser.getUsername());
+    }
+
+    @Transactional
+    public void markHelpful(Long reviewId) {
+        User currentUser = getCurrentUser();
+
+        Review review = reviewRepository.findByIdWithUser(reviewId)
+                .orElseThrow(() -> ReviewNotFoundException.byId(reviewId));
+
+        if (review.getUser().getId().equals(currentUser.getId())) {
+            throw ReviewNotAllowedException.ownReview(reviewId);
+        }
+        if (voteRepository.existsByReviewIdAndUserId(reviewId, currentUser.getId())) {
+            throw ReviewConflictException.alreadyVoted(reviewId);
+        }
+
+        voteRepository.save(ReviewVote.of(review, currentUser));
+        reviewRepository.incrementHelpfulCount(reviewId);
+    }
+
+    // Helpfulness moves while a reader pages, so a review voted up mid-way can repeat or be skipped; recency is stable
+    @Transactional(readOnly = true)
+    public ReviewPageResponse getReviews(Long gameId, String sort, String cursor, int limit) {
+        ReviewSort reviewSort = ReviewSort.from(sort);
+        ReviewCursor after = cursor != null ? ReviewCursor.decode(cursor) : null;
+        if (after != null && after.sort() != reviewSort) {
+            throw InvalidReviewException.invalidCursor();
+        }
+        if (!gameRepository.existsById(gameId)) {
+            throw GameNotFoundException.byId(gameId);
+        }
+
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        // One extra row tells us whether another page exists without a COUNT query
+        Pageable rows = PageRequest.of(0, pageSize + 1);
+        List<Review> page = switch (reviewSort) {
+            case HELPFUL -> after == null
+                    ? reviewRepository.findMostHelpful(gameId, rows)
+                    : reviewRepository.findMostHelpfulAfter(gameId, (Integer) after.lastValue(), after.lastId(), rows);
+            case RECENT -> after == null
+                    ? reviewRepository.findMostRecent(gameId, rows)
+                    : reviewRepository.findMostRecentAfter(gameId, (LocalDateTime) after.lastValue(), after.lastId(),
+                    rows);
+        };
+        boolean hasNext = page.size() > pageSize;
+        List<Review> reviews = hasNext ? page.subList(0, pageSize) : page;
+        String nextCursor = hasNext ? ReviewCursor.after(reviewSort, reviews.getLast()).encode() : null;
+
+        return new ReviewPageResponse(reviewMapper.toDtoList(reviews), nextCursor, hasNext, pageSize);
+    }
+
+    // The game's cached documents and catalog entry carry the average, so they go stale with every rating change.
+    // Only that game is touched: listings and other games are unaffected by its rating.
+    private void ratingChanged(Long gameId, long sumDelta, long countDelta) {
+        gameRepository.adjustRating(gameId, sumDelta, countDelta, LocalDateTime.now());
+        catalogCache.evictGameById(gameId);
+        catalog.refreshRating(gameId);
+    }
+}
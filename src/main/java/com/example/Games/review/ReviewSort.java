@@ -0,0 +1,39 @@
+package com.example.Games.review;
+
+import com.example.Games.config.exception.review.InvalidReviewException;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+// The two orders a game's reviews can be listed in, both descending with the id as tie-breaker
+public enum ReviewSort {
+    HELPFUL("helpful", Integer::valueOf, Review::getHelpfulCount),
+    RECENT("recent", LocalDateTime::parse, Review::getCreatedAt);
+
+    private final String property;
+    private final Function<String, Object> parser;
+    private final Function<Review, Object> extractor;
+
+    ReviewSort(String property, Function<String, Object> parser, Function<Review, Object> extractor) {
+        this.property = property;
+        this.parser = parser;
+        this.extractor = extractor;
+    }
+
+    public Object parse(String value) {
+        return parser.apply(value);
+    }
+
+    public Object valueOf(Review review) {
+        return extractor.apply(review);
+    }
+
+    public static ReviewSort from(String value) {
+        for (ReviewSort sort : values()) {
+            if (sort.property.equalsIgnoreCase(value) || sort.name().equalsIgnoreCase(value)) {
+                return sort;
+            }
+        }
+        throw InvalidReviewException.invalidSort(value);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.Games.review;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReviewVoteRepository extends JpaRepository<ReviewVote, Long> {
+
+    boolean existsByReviewIdAndUserId(Long reviewId, Long userId);
+
+    @Modifying
+    @Query("DELETE FROM ReviewVote v WHERE v.review.id = :reviewId")
+    int deleteByReviewId(@Param("reviewId") Long reviewId);
+
+    @Modifying
+    @Query("DELETE FROM ReviewVote v WHERE v.review.id IN (SELECT r.id FROM Review r WHERE r.game.id = :gameId)")
+    int deleteByGameId(@Param("gameId") Long gameId);
+}
@@ -0,0 +1,11 @@
+package com.example.Games.review.dto;
+
+import java.util.List;
+
+public record ReviewPageResponse(
+        List<ReviewResponse> reviews,
+        String nextCursor,
+        boolean hasNext,
+        int limit
+) {
+}
@@ -0,0 +1,16 @@
+package com.example.Games.review.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record ReviewRequest(
+        @NotNull(message = "Rating is required")
+        @Min(value = 1, message = "Rating must be between 1 and 5")
+        @Max(value = 5, message = "Rating must be between 1 and 5")
+        Integer rating,
+
+        @Size(max = 4000, message = "Review must be at most 4000 characters")
+        String body
+) {}
@@ -0,0 +1,14 @@
+package com.example.Games.review.dto;
+
+import java.time.LocalDateTime;
+
+public record ReviewResponse(
+        Long id,
+        Long gameId,
+        String username,
+        int rating,
+        String body,
+        int helpfulCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {}
@@ -0,0 +1,39 @@
+package com.example.Games.tag;
+
+import com.example.Games.game.Game;
+import jakarta.persistence.*;
+import lombok.*;
+
+// One row of the game-tag many-to-many; the tag_id index serves the startup scan and tag lookups
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Table(name = "game_tags",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"game_id", "tag_id"}),
+        indexes = @Index(name = "idx_game_tags_tag_id", columnList = "tag_id"))
+public class GameTag {
+
+    @EqualsAndHashCode.Include
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "game_id", nullable = false)
+    private Game game;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tag_id", nullable = false)
+    private Tag tag;
+
+    public static GameTag of(Game game, Tag tag) {
+        return GameTag.builder()
+                .game(game)
+                .tag(tag)
+                .build();
+    }
+}
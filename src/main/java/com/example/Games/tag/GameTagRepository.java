@@ -0,0 +1,40 @@
+package com.example.Games.tag;
+
+import com.example.Games.tag.dto.GameTagName;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface GameTagRepository extends JpaRepository<GameTag, Long> {
+
+    @Query("SELECT new com.example.Games.tag.dto.GameTagName(gt.game.id, t.name) FROM GameTag gt JOIN gt.tag t")
+    List<GameTagName> findAllNames();
+
+    @Query("SELECT t.name FROM GameTag gt JOIN gt.tag t WHERE gt.game.id = :gameId ORDER BY t.name")
+    List<String> findNamesByGameId(@Param("gameId") Long gameId);
+
+    @Query("SELECT new com.example.Games.tag.dto.GameTagName(gt.game.id, t.name) FROM GameTag gt JOIN gt.tag t " +
+           "WHERE gt.game.id IN :gameIds")
+    List<GameTagName> findNamesByGameIdIn(@Param("gameIds") Collection<Long> gameIds);
+
+    // Games retagged, possibly on another node, since :since
+    @Query("SELECT g.id FROM Game g WHERE g.tagsUpdatedAt >= :since")
+    List<Long> findGameIdsRetaggedSince(@Param("since") LocalDateTime since);
+
+    // A bulk update, so retagging leaves the game's own updatedAt alone
+    @Modifying
+    @Query("UPDATE Game g SET g.tagsUpdatedAt = :now WHERE g.id = :gameId")
+    int markRetagged(@Param("gameId") Long gameId, @Param("now") LocalDateTime now);
+
+    // A bulk delete runs at once, so the replacement rows of the same transaction cannot hit the unique key
+    @Modifying
+    @Query("DELETE FROM GameTag gt WHERE gt.game.id = :gameId")
+    int deleteByGameId(@Param("gameId") Long gameId);
+}
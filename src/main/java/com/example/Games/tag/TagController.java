@@ -0,0 +1,45 @@
+package com.example.Games.tag;
+
+import com.example.Games.config.common.dto.ApiResponse;
+import com.example.Games.config.common.mappers.ResponseMapStruct;
+import com.example.Games.tag.dto.GameTagsRequest;
+import com.example.Games.tag.dto.GameTagsResponse;
+import com.example.Games.tag.dto.TagResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/tags")
+public class TagController {
+
+    private final TagService tagService;
+    private final ResponseMapStruct responseMapper;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<TagResponse>>> getAllTags() {
+        List<TagResponse> tags = tagService.getAllTags();
+        return ResponseEntity.ok(responseMapper.toSuccessResponse(tags));
+    }
+
+    @GetMapping("/game/{gameId}")
+    public ResponseEntity<ApiResponse<GameTagsResponse>> getGameTags(@PathVariable Long gameId) {
+        GameTagsResponse tags = tagService.getGameTags(gameId);
+        return ResponseEntity.ok(responseMapper.toSuccessResponse(tags));
+    }
+
+    @PutMapping("/game/{gameId}")
+    @PreAuthorize("@authorizationUtils.isDeveloper()")
+    public ResponseEntity<ApiResponse<GameTagsResponse>> setGameTags(@PathVariable Long gameId,
+                                                                     @RequestBody @Valid GameTagsRequest request) {
+        GameTagsResponse tags = tagService.setGameTags(gameId, request);
+        return ResponseEntity.ok(responseMapper.toSuccessResponse("Game tags updated successfully", tags));
+    }
+}
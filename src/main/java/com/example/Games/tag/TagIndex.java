@@ -0,0 +1,269 @@
+package com.example.Games.tag;
+
+import com.example.Games.config.cache.CatalogVersion;
+import com.example.Games.config.common.transaction.AfterCommit;
+import com.example.Games.game.GameTombstoneRepository;
+import com.example.Games.tag.dto.GameTagName;
+import com.example.Games.tag.dto.TagResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// One bitmap of game ids per tag, so an AND/OR/NOT tag filter is a few word-wise bitmap operations instead of a
+// join per tag. Game ids are dense sequence values, so a plain BitSet indexed by id stays a bit per game; the rare id
+// beyond the int range is kept in a per-tag set next to the bitmap instead. Tag writes on this node update it after
+// commit; those on other nodes arrive with the periodic catch-up.
+@Slf4j
+@Component
+public class TagIndex {
+
+    private static final Comparator<TagResponse> BY_POPULARITY = Comparator
+            .comparingInt(TagResponse::gameCount).reversed()
+            .thenComparing(TagResponse::name);
+
+    private final GameTagRepository gameTagRepository;
+    private final GameTombstoneRepository tombstoneRepository;
+    private final CatalogVersion catalogVersion;
+    private final Duration catchUpOverlap;
+
+    private final Map<String, BitSet> bitmaps = new HashMap<>();
+    private final Map<String, Set<Long>> wideGames = new HashMap<>();
+    // Kept so a game can be cleared from its bitmaps without touching every tag
+    private final Map<Long, Set<String>> tagsByGame = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // When the last rebuild or catch-up started; null until the first rebuild
+    private volatile LocalDateTime caughtUpAt;
+
+    public TagIndex(GameTagRepository gameTagRepository,
+                    GameTombstoneRepository tombstoneRepository,
+                    CatalogVersion catalogVersion,
+                    @Value("${games.catch-up.overlap:PT1M}") Duration catchUpOverlap) {
+        this.gameTagRepository = gameTagRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.catalogVersion = catalogVersion;
+        this.catchUpOverlap = catchUpOverlap;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime started = LocalDateTime.now();
+        List<GameTagName> rows = gameTagRepository.findAllNames();
+        lock.writeLock().lock();
+        try {
+            bitmaps.clear();
+            wideGames.clear();
+            tagsByGame.clear();
+            Map<Long, Set<String>> grouped = new HashMap<>();
+            rows.forEach(row -> grouped.computeIfAbsent(row.gameId(), id -> new HashSet<>()).add(row.tag()));
+            grouped.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        caughtUpAt = started;
+        log.info("Tag index rebuilt with {} tags over {} games", bitmaps.size(), tagsByGame.size());
+    }
+
+    // Re-reads the tag sets of games retagged since the last pass and drops deleted games. The overlap re-reads
+    // games whose transactions were still open then; tag sets already indexed as they are cost nothing.
+    @Scheduled(initialDelayString = "${games.catch-up.interval:PT1M}",
+            fixedDelayString = "${games.catch-up.interval:PT1M}")
+    public void catchUp() {
+        LocalDateTime previous = caughtUpAt;
+        if (previous == null) {
+            return;
+        }
+        LocalDateTime started = LocalDateTime.now();
+        LocalDateTime since = previous.minus(catchUpOverlap);
+        List<Long> retagged = gameTagRepository.findGameIdsRetaggedSince(since);
+        Map<Long, Set<String>> tagSets = new HashMap<>();
+        retagged.forEach(gameId -> tagSets.put(gameId, new HashSet<>()));
+        if (!retagged.isEmpty()) {
+            gameTagRepository.findNamesByGameIdIn(retagged)
+                    .forEach(row -> tagSets.get(row.gameId()).add(row.tag()));
+        }
+        List<Long> deleted = tombstoneRepository.findGameIdsDeletedSince(since);
+        int applied = 0;
+        lock.writeLock().lock();
+        try {
+            for (Map.Entry<Long, Set<String>> tagSet : tagSets.entrySet()) {
+                if (!tagSet.getValue().equals(tagsByGame.getOrDefault(tagSet.getKey(), Set.of()))) {
+                    remove(tagSet.getKey());
+                    add(tagSet.getKey(), tagSet.getValue());
+                    applied++;
+                }
+            }
+            for (Long gameId : deleted) {
+                if (tagsByGame.containsKey(gameId)) {
+                    remove(gameId);
+                    applied++;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        caughtUpAt = started;
+        if (applied > 0) {
+            catalogVersion.bumpAfterCommit();
+            log.debug("Tag index caught up with {} changed games since {}", applied, since);
+        }
+    }
+
+    // Index changes are applied after commit so a rolled-back write never becomes filterable
+    public void gameTagged(Long gameId, Set<String> tags) {
+        Set<String> names = Set.copyOf(tags);
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(gameId);
+                add(gameId, names);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void gameRemoved(Long gameId) {
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(gameId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    // Every tag in use, most used first
+    public List<TagResponse> tags() {
+        lock.readLock().lock();
+        try {
+            Set<String> names = new HashSet<>(bitmaps.keySet());
+            names.addAll(wideGames.keySet());
+            return names.stream()
+                    .map(name -> new TagResponse(name, bitmap(name).cardinality() + wide(name).size()))
+                    .sorted(BY_POPULARITY)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Games carrying every tag of all and at least one of any (when given), and none of none. Names are normalized;
+    // an unknown tag matches no game. The result is a private copy, so it stays valid after the lock is released.
+    public TagSelection select(Collection<String> all, Collection<String> any, Collection<String> none) {
+        lock.readLock().lock();
+        try {
+            BitSet included = null;
+            Set<Long> wideIncluded = null;
+            if (all != null) {
+                for (String tag : all) {
+                    included = intersect(included, bitmap(tag));
+                    wideIncluded = intersect(wideIncluded, wide(tag));
+                }
+            }
+            if (any != null && !any.isEmpty()) {
+                included = intersect(included, union(any));
+                wideIncluded = intersect(wideIncluded, wideUnion(any));
+            }
+            BitSet excluded = none != null ? union(none) : new BitSet();
+            Set<Long> wideExcluded = none != null ? wideUnion(none) : Set.of();
+            return new TagSelection(included, excluded, wideIncluded, wideExcluded);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet bitmap(String tag) {
+        return bitmaps.getOrDefault(Tag.normalize(tag), new BitSet());
+    }
+
+    private Set<Long> wide(String tag) {
+        return wideGames.getOrDefault(Tag.normalize(tag), Set.of());
+    }
+
+    private BitSet union(Collection<String> tags) {
+        BitSet union = new BitSet();
+        tags.forEach(tag -> union.or(bitmap(tag)));
+        return union;
+    }
+
+    private Set<Long> wideUnion(Collection<String> tags) {
+        Set<Long> union = new HashSet<>();
+        tags.forEach(tag -> union.addAll(wide(tag)));
+        return union;
+    }
+
+    private static Set<Long> intersect(Set<Long> result, Set<Long> games) {
+        if (result == null) {
+            return new HashSet<>(games);
+        }
+        result.retainAll(games);
+        return result;
+    }
+
+    static boolean fitsBitmap(long gameId) {
+        return gameId >= 0 && gameId <= Integer.MAX_VALUE;
+    }
+
+    private static BitSet intersect(BitSet result, BitSet bitmap) {
+        if (result == null) {
+            return (BitSet) bitmap.clone();
+        }
+        result.and(bitmap);
+        return result;
+    }
+
+    private void add(Long gameId, Set<String> tags) {
+        if (tags.isEmpty()) {
+            return;
+        }
+        if (fitsBitmap(gameId)) {
+            int bit = gameId.intValue();
+            tags.forEach(tag -> bitmaps.computeIfAbsent(tag, key -> new BitSet()).set(bit));
+        } else {
+            tags.forEach(tag -> wideGames.computeIfAbsent(tag, key -> new HashSet<>()).add(gameId));
+        }
+        tagsByGame.put(gameId, tags);
+    }
+
+    private void remove(Long gameId) {
+        Set<String> previous = tagsByGame.remove(gameId);
+        if (previous == null) {
+            return;
+        }
+        if (!fitsBitmap(gameId)) {
+            for (String tag : previous) {
+                Set<Long> games = wideGames.get(tag);
+                games.remove(gameId);
+                if (games.isEmpty()) {
+                    wideGames.remove(tag);
+                }
+            }
+            return;
+        }
+        int bit = gameId.intValue();
+        for (String tag : previous) {
+            BitSet bitmap = bitmaps.get(tag);
+            bitmap.clear(bit);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(tag);
+            }
+        }
+    }
+}
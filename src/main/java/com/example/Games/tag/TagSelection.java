@@ -0,0 +1,30 @@
+package com.example.Games.tag;
+
+import java.util.BitSet;
+import java.util.Set;
+import java.util.function.LongPredicate;
+
+// Outcome of a tag query as game-id bitmaps: the games carrying the required tags, or null when no tag was required
+// (every game qualifies), minus the games carrying an excluded tag. Ids beyond the int range have no bit and are
+// answered from the matching sets instead.
+public record TagSelection(BitSet included, BitSet excluded, Set<Long> wideIncluded, Set<Long> wideExcluded)
+        implements LongPredicate {
+
+    public TagSelection(BitSet included, BitSet excluded) {
+        this(included, excluded, included == null ? null : Set.of(), Set.of());
+    }
+
+    @Override
+    public boolean test(long gameId) {
+        if (!TagIndex.fitsBitmap(gameId)) {
+            return (wideIncluded == null || wideIncluded.contains(gameId)) && !wideExcluded.contains(gameId);
+        }
+        int bit = (int) gameId;
+        return (included == null || included.get(bit)) && !excluded.get(bit);
+    }
+
+    // True when the query cannot match any game, so the caller can skip the catalog scan
+    public boolean isEmpty() {
+        return included != null && included.isEmpty() && wideIncluded.isEmpty();
+    }
+}
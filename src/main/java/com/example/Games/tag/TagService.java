@@ -0,0 +1,87 @@
+package com.example.Games.tag;
+
+import com.example.Games.config.cache.CatalogVersion;
+import com.example.Games.config.common.service.UserContextService;
+import com.example.Games.config.exception.game.GameNotFoundException;
+import com.example.Games.config.exception.game.UnauthorizedGameAccessException;
+import com.example.Games.game.Game;
+import com.example.Games.game.GameRepository;
+import com.example.Games.tag.dto.GameTagsRequest;
+import com.example.Games.tag.dto.GameTagsResponse;
+import com.example.Games.tag.dto.TagResponse;
+import com.example.Games.user.auth.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TagService {
+
+    private final TagRepository tagRepository;
+    private final GameTagRepository gameTagRepository;
+    private final GameRepository gameRepository;
+    private final TagIndex tagIndex;
+    private final UserContextService userContextService;
+    private final CatalogVersion catalogVersion;
+
+    private User getCurrentUser() {
+        return userContextService.getAuthorizedUser();
+    }
+
+    // Replaces the game's whole tag set; tags nobody used before are created on the way
+    @Transactional
+    public GameTagsResponse setGameTags(Long gameId, GameTagsRequest request) {
+        User currentUser = getCurrentUser();
+
+        Game game = gameRepository.findByIdWithAuthor(gameId)
+                .orElseThrow(() -> GameNotFoundException.byId(gameId));
+
+        if (!game.getAuthor().getId().equals(currentUser.getId())) {
+            throw UnauthorizedGameAccessException.notOwner(gameId, currentUser.getUsername());
+        }
+
+        Set<String> names = request.tags().stream()
+                .map(Tag::normalize)
+                .collect(Collectors.toCollection(TreeSet::new));
+        Map<String, Tag> tags = tagRepository.findByNameIn(names).stream()
+                .collect(Collectors.toMap(Tag::getName, Function.identity()));
+        List<Tag> created = names.stream()
+                .filter(name -> !tags.containsKey(name))
+                .map(Tag::named)
+                .toList();
+        tagRepository.saveAll(created).forEach(tag -> tags.put(tag.getName(), tag));
+
+        gameTagRepository.deleteByGameId(gameId);
+        gameTagRepository.saveAll(names.stream().map(name -> GameTag.of(game, tags.get(name))).toList());
+        gameTagRepository.markRetagged(gameId, LocalDateTime.now());
+        tagIndex.gameTagged(gameId, names);
+        catalogVersion.bumpAfterCommit();
+
+        log.info("Game '{}' tagged {} by user '{}'", game.getTitle(), names, currentUser.getUsername());
+        return new GameTagsResponse(gameId, List.copyOf(names));
+    }
+
+    @Transactional(readOnly = true)
+    public GameTagsResponse getGameTags(Long gameId) {
+        if (!gameRepository.existsById(gameId)) {
+            throw GameNotFoundException.byId(gameId);
+        }
+        return new GameTagsResponse(gameId, gameTagRepository.findNamesByGameId(gameId));
+    }
+
+    // Counts come from the bitmaps, not a GROUP BY
+    public List<TagResponse> getAllTags() {
+        return tagIndex.tags();
+    }
+}
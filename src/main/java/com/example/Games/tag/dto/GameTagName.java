@@ -0,0 +1,6 @@
+package com.example.Games.tag.dto;
+
+public record GameTagName(
+        Long gameId,
+        String tag
+) {}
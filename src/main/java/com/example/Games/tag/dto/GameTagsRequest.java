@@ -0,0 +1,17 @@
+package com.example.Games.tag.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record GameTagsRequest(
+        @NotNull(message = "Tags are required")
+        @Size(max = 20, message = "A game can have at most 20 tags")
+        List<@NotBlank(message = "Tag cannot be blank")
+             @Size(max = 50, message = "Tag must be at most 50 characters")
+             @Pattern(regexp = "[\\p{L}\\p{N}][\\p{L}\\p{N} -]*", message = "Tag may only contain letters, digits, spaces and hyphens")
+             String> tags
+) {}
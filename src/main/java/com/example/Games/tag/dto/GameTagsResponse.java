@@ -0,0 +1,8 @@
+package com.example.Games.tag.dto;
+
+import java.util.List;
+
+public record GameTagsResponse(
+        Long gameId,
+        List<String> tags
+) {}
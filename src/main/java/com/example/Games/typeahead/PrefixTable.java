@@ -0,0 +1,174 @@
+package com.example.Games.typeahead;
+
+import com.example.Games.typeahead.dto.Suggestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+// Immutable prefix structure over every suggestion label. Each label is keyed once per word start, and all keys
+// are sorted into one array, so the keys sharing a prefix form a contiguous range found by two binary searches.
+// A segment tree over that array holds the heaviest key of every node, so the best k of a range come out
+// best first without visiting the rest of it.
+final class PrefixTable {
+
+    static final PrefixTable EMPTY = of(List.of());
+
+    record Entry(Suggestion suggestion, long weight) {
+    }
+
+    private record Key(String text, int entry) {
+    }
+
+    // A key range together with the position of its heaviest key
+    private record Range(int from, int to, int best) {
+    }
+
+    private final String[] keys;
+    private final int[] entryOf;
+    private final long[] weights;
+    private final Suggestion[] suggestions;
+    private final int[] tree;
+
+    private PrefixTable(Key[] sorted, List<Entry> entries) {
+        int size = sorted.length;
+        this.keys = new String[size];
+        this.entryOf = new int[size];
+        this.weights = new long[size];
+        this.suggestions = entries.stream().map(Entry::suggestion).toArray(Suggestion[]::new);
+        for (int i = 0; i < size; i++) {
+            keys[i] = sorted[i].text();
+            entryOf[i] = sorted[i].entry();
+            weights[i] = entries.get(sorted[i].entry()).weight();
+        }
+        // Bottom-up tree: leaves at [size, 2 * size), node i covers its children 2i and 2i + 1
+        this.tree = new int[2 * size];
+        for (int i = 0; i < size; i++) {
+            tree[size + i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            tree[i] = heavier(tree[2 * i], tree[2 * i + 1]);
+        }
+    }
+
+    static PrefixTable of(List<Entry> entries) {
+        List<Key> keys = new ArrayList<>();
+        for (int entry = 0; entry < entries.size(); entry++) {
+            for (String text : wordSuffixes(normalize(entries.get(entry).suggestion().label()))) {
+                keys.add(new Key(text, entry));
+            }
+        }
+        Key[] sorted = keys.toArray(Key[]::new);
+        Arrays.sort(sorted, Comparator.comparing(Key::text).thenComparingInt(Key::entry));
+        return new PrefixTable(sorted, List.copyOf(entries));
+    }
+
+    int size() {
+        return suggestions.length;
+    }
+
+    // Heaviest suggestions with a word starting with the prefix; ties go to the alphabetically first key
+    List<Suggestion> complete(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int from = lowerBound(normalized);
+        int to = endOfPrefix(normalized, from);
+        if (from == to) {
+            return List.of();
+        }
+
+        PriorityQueue<Range> ranges = new PriorityQueue<>((a, b) -> a.best() == b.best() ? 0
+                : heavier(a.best(), b.best()) == a.best() ? -1 : 1);
+        ranges.add(new Range(from, to, heaviest(from, to)));
+        Set<Integer> emitted = new LinkedHashSet<>();
+        while (!ranges.isEmpty() && emitted.size() < limit) {
+            Range range = ranges.poll();
+            // A label keyed under several matching words still surfaces only once
+            emitted.add(entryOf[range.best()]);
+            if (range.from() < range.best()) {
+                ranges.add(new Range(range.from(), range.best(), heaviest(range.from(), range.best())));
+            }
+            if (range.best() + 1 < range.to()) {
+                ranges.add(new Range(range.best() + 1, range.to(), heaviest(range.best() + 1, range.to())));
+            }
+        }
+        return emitted.stream().map(entry -> suggestions[entry]).toList();
+    }
+
+    private int heaviest(int from, int to) {
+        int size = keys.length;
+        int best = -1;
+        for (int left = from + size, right = to + size; left < right; left >>= 1, right >>= 1) {
+            if ((left & 1) == 1) {
+                best = heavier(best, tree[left++]);
+            }
+            if ((right & 1) == 1) {
+                best = heavier(best, tree[--right]);
+            }
+        }
+        return best;
+    }
+
+    private int heavier(int a, int b) {
+        if (a < 0 || b < 0) {
+            return Math.max(a, b);
+        }
+        if (weights[a] != weights[b]) {
+            return weights[a] > weights[b] ? a : b;
+        }
+        return Math.min(a, b);
+    }
+
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Keys at or after the lower bound that start with the prefix are contiguous
+    private int endOfPrefix(String prefix, int from) {
+        int low = from;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].startsWith(prefix)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    // "the witcher 3" is keyed as itself, "witcher 3" and "3", so any word of a label can start the completion
+    private static Set<String> wordSuffixes(String normalized) {
+        Set<String> suffixes = new HashSet<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            boolean wordStart = i == 0 || !Character.isLetterOrDigit(normalized.charAt(i - 1));
+            if (wordStart && Character.isLetterOrDigit(normalized.charAt(i))) {
+                suffixes.add(normalized.substring(i));
+            }
+        }
+        return suffixes;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.Games.typeahead;
+
+import com.example.Games.config.common.dto.ApiResponse;
+import com.example.Games.config.common.mappers.ResponseMapStruct;
+import com.example.Games.typeahead.dto.Suggestion;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/typeahead")
+@RequiredArgsConstructor
+@Validated
+public class TypeaheadController {
+
+    static final int MAX_SUGGESTIONS = 20;
+
+    private final TypeaheadIndex typeaheadIndex;
+    private final ResponseMapStruct responseMapper;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<Suggestion>>> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "8") @Positive int limit) {
+        List<Suggestion> suggestions = typeaheadIndex.complete(q, Math.min(limit, MAX_SUGGESTIONS));
+        return ResponseEntity.ok(responseMapper.toSuccessResponse(suggestions));
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.Games.typeahead;
+
+import com.example.Games.category.Category;
+import com.example.Games.category.CategoryRepository;
+import com.example.Games.config.common.transaction.AfterCommit;
+import com.example.Games.game.GameRepository;
+import com.example.Games.game.dto.GameTerm;
+import com.example.Games.purchase.PurchaseRepository;
+import com.example.Games.purchase.dto.GamePurchaseCount;
+import com.example.Games.typeahead.dto.Suggestion;
+import com.example.Games.typeahead.dto.SuggestionType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Typeahead over game titles, category names and developer usernames, weighted by popularity: a game by its
+// sales, a category or developer by its games plus their sales. Readers query an immutable PrefixTable without
+// locking. The table is rebuilt from the repositories in the background, which also picks up new sales. Game and
+// category writes in between are applied after commit and coalesced: the table is republished at most once per
+// publish delay, however many writes landed in it.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TypeaheadIndex {
+
+    private final GameRepository gameRepository;
+    private final CategoryRepository categoryRepository;
+    private final PurchaseRepository purchaseRepository;
+
+    private final Map<Long, GameTerm> games = new HashMap<>();
+    private final Map<Long, String> categories = new HashMap<>();
+    private final Map<Long, Long> purchases = new HashMap<>();
+    // Changes committed while a rebuild reads the repositories; replayed onto its result so none is lost
+    private List<Runnable> sinceRebuild;
+    // Set by a write the published table does not show yet; guarded by this
+    private boolean stale;
+
+    private volatile PrefixTable table = PrefixTable.EMPTY;
+
+    public List<Suggestion> complete(String prefix, int limit) {
+        return table.complete(prefix, limit);
+    }
+
+    public int size() {
+        return table.size();
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${games.typeahead.rebuild-interval:PT10M}")
+    public void rebuild() {
+        synchronized (this) {
+            sinceRebuild = new ArrayList<>();
+        }
+        try {
+            List<GameTerm> gameRows = gameRepository.findAllTerms();
+            List<Category> categoryRows = categoryRepository.findAll();
+            List<GamePurchaseCount> purchaseRows = purchaseRepository.countPurchasesPerGame();
+
+            synchronized (this) {
+                games.clear();
+                categories.clear();
+                purchases.clear();
+                gameRows.forEach(game -> games.put(game.id(), game));
+                categoryRows.forEach(category -> categories.put(category.getId(), category.getName()));
+                purchaseRows.forEach(row -> purchases.put(row.gameId(), row.purchases()));
+                sinceRebuild.forEach(Runnable::run);
+                publish();
+            }
+            log.info("Typeahead index rebuilt with {} suggestions", table.size());
+        } finally {
+            synchronized (this) {
+                sinceRebuild = null;
+            }
+        }
+    }
+
+    // Changes are applied after commit so a rolled-back write never shows up as a suggestion
+    public void gameSaved(GameTerm game) {
+        AfterCommit.run(() -> apply(() -> games.put(game.id(), game)));
+    }
+
+    // A whole import batch lands in one change, so the table is republished once rather than per game
+    public void gamesSaved(Collection<GameTerm> saved) {
+        List<GameTerm> terms = List.copyOf(saved);
+        AfterCommit.run(() -> apply(() -> terms.forEach(game -> games.put(game.id(), game))));
+    }
+
+    public void gameRemoved(Long gameId) {
+        AfterCommit.run(() -> apply(() -> {
+            games.remove(gameId);
+            purchases.remove(gameId);
+        }));
+    }
+
+    public void categorySaved(Long categoryId, String name) {
+        AfterCommit.run(() -> apply(() -> categories.put(categoryId, name)));
+    }
+
+    public void categoryRemoved(Long categoryId) {
+        AfterCommit.run(() -> apply(() -> categories.remove(categoryId)));
+    }
+
+    @Scheduled(fixedDelayString = "${games.typeahead.publish-delay:PT0.5S}")
+    public synchronized void publishPending() {
+        if (stale) {
+            publish();
+        }
+    }
+
+    private synchronized void apply(Runnable change) {
+        change.run();
+        if (sinceRebuild != null) {
+            sinceRebuild.add(change);
+        }
+        stale = true;
+    }
+
+    private void publish() {
+        Map<Long, Long> categoryWeights = new HashMap<>();
+        Map<Long, Long> developerWeights = new HashMap<>();
+        Map<Long, String> developers = new HashMap<>();
+        List<PrefixTable.Entry> entries = new ArrayList<>();
+
+        for (GameTerm game : games.values()) {
+            long sales = purchases.getOrDefault(game.id(), 0L);
+            entries.add(new PrefixTable.Entry(new Suggestion(SuggestionType.GAME, game.id(), game.title()), sales));
+            categoryWeights.merge(game.categoryId(), 1 + sales, Long::sum);
+            developerWeights.merge(game.authorId(), 1 + sales, Long::sum);
+            developers.put(game.authorId(), game.author());
+        }
+        categories.forEach((id, name) -> entries.add(new PrefixTable.Entry(
+                new Suggestion(SuggestionType.CATEGORY, id, name), categoryWeights.getOrDefault(id, 0L))));
+        developers.forEach((id, username) -> entries.add(new PrefixTable.Entry(
+                new Suggestion(SuggestionType.DEVELOPER, id, username), developerWeights.get(id))));
+
+        table = PrefixTable.of(entries);
+        stale = false;
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.Games.typeahead.dto;
+
+public record Suggestion(
+        SuggestionType type,
+        Long id,
+        String label
+) {
+}
@@ -0,0 +1,7 @@
+package com.example.Games.typeahead.dto;
+
+public enum SuggestionType {
+    GAME,
+    CATEGORY,
+    DEVELOPER
+}
@@ -38,6 +38,10 @@ public class Balance {
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal amount;
 
+    // Entity writes are version-checked, so a stale copy fails instead of overwriting a conditional debit or credit
+    @Version
+    private Long version;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -57,12 +61,12 @@ public class Balance {
 
 
     public void deposit(BigDecimal value) {
-        validatePositiveValue(value, "Deposit");
+        requirePositive(value, "Deposit");
         this.amount = this.amount.add(value).setScale(2, RoundingMode.HALF_UP);
     }
 
     public void withdraw(BigDecimal value) {
-        validatePositiveValue(value, "Withdrawal");
+        requirePositive(value, "Withdrawal");
         validateSufficientFunds(value);
         this.amount = this.amount.subtract(value).setScale(2, RoundingMode.HALF_UP);
     }
@@ -73,17 +77,14 @@ public class Balance {
 
     public void validateSufficientFunds(BigDecimal amount) {
         if (this.amount.compareTo(amount) < 0) {
-            throw new InsufficientFundsException(
-                    String.format("Insufficient funds. Current: $%.2f, Requested: $%.2f",
-                            this.amount, amount)
-            );
+            throw InsufficientFundsException.requested(this.amount, amount);
         }
     }
     public boolean hasSufficientFunds(BigDecimal amount) {
         return this.amount.compareTo(amount) >= 0;
     }
 
-    private void validatePositiveValue(BigDecimal amount, String operation) {
+    static void requirePositive(BigDecimal amount, String operation) {
         if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
             throw new InvalidAmountException(operation);
         }
@@ -1,13 +1,43 @@
 package com.example.Games.user.balance;
 
 import com.example.Games.user.auth.User;
+import com.example.Games.user.balance.dto.BalanceAmount;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 
 public interface BalanceRepository extends JpaRepository<Balance, Long> {
 
     Optional<Balance> findByUser(User user);
+
+    // Locked in id order, so two callers locking overlapping users cannot deadlock each other
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Balance b WHERE b.user.id IN :userIds ORDER BY b.id")
+    List<Balance> lockByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    // Debits in one statement only while the balance covers the amount, so concurrent debits neither overdraw nor
+    // lose each other's updates. Returns 0 when the user has no balance or too little on it.
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Balance b SET b.amount = b.amount - :amount, b.version = b.version + 1, b.updatedAt = :now " +
+            "WHERE b.user.id = :userId AND b.amount >= :amount")
+    int debit(@Param("userId") Long userId, @Param("amount") BigDecimal amount, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Balance b SET b.amount = b.amount + :amount, b.version = b.version + 1, b.updatedAt = :now " +
+            "WHERE b.user.id = :userId")
+    int credit(@Param("userId") Long userId, @Param("amount") BigDecimal amount, @Param("now") LocalDateTime now);
+
+    // Read straight from the row, past any managed copy, so it sees the value the last debit or credit wrote
+    @Query("SELECT new com.example.Games.user.balance.dto.BalanceAmount(b.id, b.amount) FROM Balance b " +
+            "WHERE b.user.id = :userId")
+    Optional<BalanceAmount> findAmountByUserId(@Param("userId") Long userId);
 }
@@ -8,6 +8,7 @@ import com.example.Games.user.balance.transaction.BalanceTransactionRepository;
 import com.example.Games.user.balance.transaction.OperationType;
 import com.example.Games.config.exception.balance.BalanceNotFoundException;
 import com.example.Games.config.exception.balance.BalanceAlreadyExistsException;
+import com.example.Games.config.exception.balance.InsufficientFundsException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -15,6 +16,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -80,24 +83,13 @@ public class BalanceService {
     @Transactional
     public BalanceOperationResponse deposit(DepositRequest request) {
         User user = getCurrentUser();
-        Balance balance = getBalance(user);
-        
-        BigDecimal balanceBefore = balance.getAmount();
-        balance.deposit(request.amount());
-        balanceRepository.save(balance);
+        BalanceTransaction transaction = credit(user, request.amount());
 
-        BalanceTransaction transaction = balance.createTransaction(
-                OperationType.DEPOSIT,
-                request.amount(),
-                balanceBefore
-        );
-        transactionRepository.save(transaction);
-        
         log.info("Deposit successful - User: {}, Amount: ${}, New Balance: ${}", 
-                user.getUsername(), request.amount(), balance.getAmount());
+                user.getUsername(), request.amount(), transaction.getBalanceAfter());
         
         return balanceMapper.toBalanceOperationResponse(
-                balance.getAmount(),
+                transaction.getBalanceAfter(),
                 user.getId(),
                 request.amount(),
                 OperationType.DEPOSIT
@@ -107,24 +99,13 @@ public class BalanceService {
     @Transactional
     public BalanceOperationResponse withdraw(WithdrawRequest request) {
         User user = getCurrentUser();
-        Balance balance = getBalance(user);
-
-        BigDecimal balanceBefore = balance.getAmount();
-        balance.withdraw(request.amount());
-        balanceRepository.save(balance);
-
-        BalanceTransaction transaction = balance.createTransaction(
-                OperationType.WITHDRAWAL, 
-                request.amount(), 
-                balanceBefore
-        );
-        transactionRepository.save(transaction);
+        BalanceTransaction transaction = debitOrThrow(user, request.amount(), OperationType.WITHDRAWAL, "Withdrawal");
 
         log.info("Withdrawal successful - User: {}, Amount: ${}, New Balance: ${}", 
-                user.getUsername(), request.amount(), balance.getAmount());
+                user.getUsername(), request.amount(), transaction.getBalanceAfter());
 
         return balanceMapper.toBalanceOperationResponse(
-                balance.getAmount(),
+                transaction.getBalanceAfter(),
                 user.getId(),
                 request.amount(),
                 OperationType.WITHDRAWAL
@@ -142,17 +123,45 @@ public class BalanceService {
 
     @Transactional
     public BalanceTransaction createPurchaseTransaction(BigDecimal amount , User currentUser) {
-        Balance balance = getBalance(currentUser);
-        
-        BigDecimal balanceBefore = balance.getAmount();
-        balance.withdraw(amount);
-        balanceRepository.save(balance);
-        
-        BalanceTransaction transaction = balance.createTransaction(
-                OperationType.PURCHASE,
-                amount,
-                balanceBefore
-        );
-        return transactionRepository.save(transaction);
+        return debitOrThrow(currentUser, amount, OperationType.PURCHASE, "Purchase");
+    }
+
+    // For charges that must not abort their transaction when funds run short, such as pre-orders settled at
+    // release: empty when the user has no balance or too little on it, and nothing was changed
+    @Transactional
+    public Optional<BalanceTransaction> debit(User user, BigDecimal amount, OperationType type, String operation) {
+        Balance.requirePositive(amount, operation);
+        BigDecimal value = amount.setScale(2, RoundingMode.HALF_UP);
+        if (balanceRepository.debit(user.getId(), value, LocalDateTime.now()) == 0) {
+            return Optional.empty();
+        }
+        BalanceAmount after = currentAmount(user);
+        return Optional.of(record(after, type, value, after.amount().add(value)));
+    }
+
+    // Credits and debits change the row in one conditional UPDATE instead of a read-modify-write of the entity, then
+    // read the new amount back while that statement still holds the row lock, so the ledger's before and after are
+    // exact however many operations hit the same balance at once
+    private BalanceTransaction credit(User user, BigDecimal amount) {
+        Balance.requirePositive(amount, "Deposit");
+        BigDecimal value = amount.setScale(2, RoundingMode.HALF_UP);
+        balanceRepository.credit(user.getId(), value, LocalDateTime.now());
+        BalanceAmount after = currentAmount(user);
+        return record(after, OperationType.DEPOSIT, value, after.amount().subtract(value));
+    }
+
+    private BalanceTransaction debitOrThrow(User user, BigDecimal amount, OperationType type, String operation) {
+        return debit(user, amount, type, operation).orElseThrow(() -> InsufficientFundsException.requested(
+                currentAmount(user).amount(), amount.setScale(2, RoundingMode.HALF_UP)));
+    }
+
+    private BalanceAmount currentAmount(User user) {
+        return balanceRepository.findAmountByUserId(user.getId())
+                .orElseThrow(() -> new BalanceNotFoundException(user.getUsername()));
+    }
+
+    private BalanceTransaction record(BalanceAmount after, OperationType type, BigDecimal amount, BigDecimal before) {
+        return transactionRepository.save(BalanceTransaction.create(
+                balanceRepository.getReferenceById(after.balanceId()), type, amount, before, after.amount()));
     }
 }
@@ -0,0 +1,6 @@
+package com.example.Games.user.balance.dto;
+
+import java.math.BigDecimal;
+
+public record BalanceAmount(Long balanceId, BigDecimal amount) {
+}
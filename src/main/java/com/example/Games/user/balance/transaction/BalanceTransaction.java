@@ -20,7 +20,8 @@ import java.time.LocalDateTime;
 public class BalanceTransaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "balance_transactions_seq")
+    @SequenceGenerator(name = "balance_transactions_seq", sequenceName = "balance_transactions_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,3 @@
+-- Starts balances created before the version column existed at version 0, so their first versioned write and the
+-- conditional debits and credits, which bump the version in SQL, have a number to increment. Safe on every start.
+UPDATE balances SET version = 0 WHERE version IS NULL;
@@ -0,0 +1,31 @@
+-- Moves tables created with IDENTITY ids onto the pooled sequences their entities now use. Safe to run on every
+-- start: each sequence is only ever moved forward, to the highest id already in its table, and Hibernate hands
+-- out the next block above it. PostgreSQL only.
+
+CREATE SEQUENCE IF NOT EXISTS purchase_history_seq START WITH 1 INCREMENT BY 50;
+ALTER TABLE purchase_history ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE purchase_history ALTER COLUMN id DROP DEFAULT;
+SELECT setval('purchase_history_seq', ids.max_id)
+FROM (SELECT MAX(id) AS max_id FROM purchase_history) ids
+WHERE ids.max_id >= (SELECT last_value FROM purchase_history_seq);
+
+CREATE SEQUENCE IF NOT EXISTS game_history_seq START WITH 1 INCREMENT BY 50;
+ALTER TABLE game_history ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE game_history ALTER COLUMN id DROP DEFAULT;
+SELECT setval('game_history_seq', ids.max_id)
+FROM (SELECT MAX(id) AS max_id FROM game_history) ids
+WHERE ids.max_id >= (SELECT last_value FROM game_history_seq);
+
+CREATE SEQUENCE IF NOT EXISTS balance_transactions_seq START WITH 1 INCREMENT BY 50;
+ALTER TABLE balance_transactions ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE balance_transactions ALTER COLUMN id DROP DEFAULT;
+SELECT setval('balance_transactions_seq', ids.max_id)
+FROM (SELECT MAX(id) AS max_id FROM balance_transactions) ids
+WHERE ids.max_id >= (SELECT last_value FROM balance_transactions_seq);
+
+CREATE SEQUENCE IF NOT EXISTS cart_items_seq START WITH 1 INCREMENT BY 50;
+ALTER TABLE cart_items ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE cart_items ALTER COLUMN id DROP DEFAULT;
+SELECT setval('cart_items_seq', ids.max_id)
+FROM (SELECT MAX(id) AS max_id FROM cart_items) ids
+WHERE ids.max_id >= (SELECT last_value FROM cart_items_seq);
@@ -0,0 +1,7 @@
+-- Starts games, categories and tombstones written before sync versions existed at version 0, where a full delta
+-- sync still finds them, and seeds the sync clock row the committing writers increment. Safe on every start.
+-- PostgreSQL only.
+UPDATE games SET sync_version = 0 WHERE sync_version IS NULL;
+UPDATE categories SET sync_version = 0 WHERE sync_version IS NULL;
+UPDATE game_tombstones SET sync_version = 0 WHERE sync_version IS NULL;
+INSERT INTO game_sync_clock (id, version, purged_through) VALUES (1, 0, 0) ON CONFLICT (id) DO NOTHING;
@@ -6,6 +6,10 @@ import com.example.Games.config.test.WebMvcTestWithoutSecurity;
 import com.example.Games.cart.dto.AddToCartRequest;
 import com.example.Games.cart.dto.CartOperationResponse;
 import com.example.Games.cart.dto.CartSummaryResponse;
+import com.example.Games.cart.order.CheckoutOrderService;
+import com.example.Games.cart.order.CheckoutOrderStatus;
+import com.example.Games.cart.order.dto.CheckoutOrderResponse;
+import com.example.Games.config.exception.cart.CheckoutOrderNotFoundException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,8 +19,10 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -34,6 +40,9 @@ class CartControllerTest {
     @MockitoBean
     private CartService cartService;
 
+    @MockitoBean
+    private CheckoutOrderService checkoutOrderService;
+
     @MockitoBean
     private ResponseMapStruct responseMapper;
 
@@ -140,6 +149,43 @@ class CartControllerTest {
         verify(responseMapper).toSuccessResponse("Checkout completed successfully", operationResponse);
     }
 
+    @Test
+    @DisplayName("Should queue a checkout sent with an Idempotency-Key and answer 202 with its order")
+    void shouldQueueCheckoutWithIdempotencyKey() throws Exception {
+        CheckoutOrderResponse order = new CheckoutOrderResponse(7L, "key-1", CheckoutOrderStatus.PENDING,
+                null, null, null, LocalDateTime.now(), null);
+        when(checkoutOrderService.submit("key-1")).thenReturn(order);
+        when(responseMapper.toSuccessResponse("Checkout accepted", order))
+                .thenReturn(ApiResponse.success("Checkout accepted", order));
+
+        mockMvc.perform(post("/api/v1/cart/checkout").header("Idempotency-Key", "key-1"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.data.id").value(7))
+                .andExpect(jsonPath("$.data.status").value("PENDING"));
+
+        verify(cartService, never()).checkout();
+    }
+
+    @Test
+    @DisplayName("Should report a checkout order's status and 404 for an unknown order")
+    void shouldReportCheckoutOrder() throws Exception {
+        CheckoutOrderResponse order = new CheckoutOrderResponse(7L, "key-1", CheckoutOrderStatus.COMPLETED,
+                2, new BigDecimal("39.98"), null, LocalDateTime.now(), LocalDateTime.now());
+        when(checkoutOrderService.getOrder(7L)).thenReturn(order);
+        when(checkoutOrderService.getOrder(8L)).thenThrow(CheckoutOrderNotFoundException.byId(8L));
+        when(responseMapper.toSuccessResponse("Checkout order retrieved", order))
+                .thenReturn(ApiResponse.success("Checkout order retrieved", order));
+        when(responseMapper.toErrorResponse(anyString()))
+                .thenAnswer(invocation -> ApiResponse.error(invocation.getArgument(0)));
+
+        mockMvc.perform(get("/api/v1/cart/orders/7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.data.totalCharged").value(39.98));
+        mockMvc.perform(get("/api/v1/cart/orders/8"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @DisplayName("Should clear cart successfully")
     void shouldClearCartSuccessfully() throws Exception {
@@ -9,11 +9,13 @@ import com.example.Games.config.exception.cart.CartOperationException;
 import com.example.Games.config.exception.cart.GameAlreadyInCartException;
 import com.example.Games.config.exception.game.GameNotFoundException;
 import com.example.Games.config.exception.purchase.GameAlreadyOwnedException;
+import com.example.Games.config.exception.purchase.PurchaseException;
+import com.example.Games.discount.DiscountIndex;
 import com.example.Games.game.Game;
 import com.example.Games.game.GameMapStruct;
 import com.example.Games.game.GameRepository;
 import com.example.Games.game.dto.Response;
-import com.example.Games.purchase.PurchaseRepository;
+import com.example.Games.purchase.OwnershipIndex;
 import com.example.Games.purchase.PurchaseService;
 import com.example.Games.purchase.dto.PurchaseResponse;
 import com.example.Games.user.auth.User;
@@ -64,7 +66,10 @@ class CartServiceTest {
     private CartMapStruct cartMapper;
 
     @Mock
-    private PurchaseRepository purchaseRepository;
+    private OwnershipIndex ownership;
+
+    @Mock
+    private DiscountIndex discounts;
 
     @InjectMocks
     private CartService cartService;
@@ -164,7 +169,7 @@ class CartServiceTest {
         );
 
         when(gameRepository.findById(1L)).thenReturn(Optional.of(testGame));
-        when(purchaseRepository.existsByUserIdAndGameId(1L, 1L)).thenReturn(false);
+        when(ownership.owns(1L, 1L)).thenReturn(false);
         when(cartItemRepository.existsByUserAndGame(currentUser, testGame)).thenReturn(false);
         when(cartMapper.createCartItem(currentUser, testGame)).thenReturn(cartItem1);
         when(cartItemRepository.save(any(CartItem.class))).thenReturn(cartItem1);
@@ -207,7 +212,7 @@ class CartServiceTest {
         AddToCartRequest request = AddToCartRequest.of(1L);
 
         when(gameRepository.findById(1L)).thenReturn(Optional.of(testGame));
-        when(purchaseRepository.existsByUserIdAndGameId(1L, 1L)).thenReturn(true);
+        when(ownership.owns(1L, 1L)).thenReturn(true);
 
         // When & Then
         assertThatThrownBy(() -> cartService.addToCart(request))
@@ -217,6 +222,20 @@ class CartServiceTest {
         verify(cartItemRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("Should not add an unreleased game to the cart")
+    void shouldRejectUnreleasedGame() {
+        testGame.setReleaseAt(LocalDateTime.now().plusDays(1));
+        when(gameRepository.findById(1L)).thenReturn(Optional.of(testGame));
+        when(ownership.owns(1L, 1L)).thenReturn(false);
+
+        assertThatThrownBy(() -> cartService.addToCart(AddToCartRequest.of(1L)))
+                .isInstanceOf(PurchaseException.class)
+                .hasMessageContaining("pre-order");
+
+        verify(cartItemRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("Should throw exception when game already in cart")
     void shouldThrowExceptionWhenGameAlreadyInCart() {
@@ -224,7 +243,7 @@ class CartServiceTest {
         AddToCartRequest request = AddToCartRequest.of(1L);
 
         when(gameRepository.findById(1L)).thenReturn(Optional.of(testGame));
-        when(purchaseRepository.existsByUserIdAndGameId(1L, 1L)).thenReturn(false);
+        when(ownership.owns(1L, 1L)).thenReturn(false);
         when(cartItemRepository.existsByUserAndGame(currentUser, testGame)).thenReturn(true);
 
         // When & Then
@@ -332,6 +351,26 @@ class CartServiceTest {
         verify(cartItemRepository).findByUserWithGame(currentUser);
     }
 
+    @Test
+    @DisplayName("Should show and total the discounted price of a game on sale")
+    void shouldViewCartAtDiscountedPrices() {
+        Response gameResponse1 = Response.builder().id(1L).title("Test Game").price(new BigDecimal("29.99")).build();
+        Response gameResponse2 = Response.builder().id(2L).title("Test Game 2").price(new BigDecimal("39.99")).build();
+
+        when(cartItemRepository.findByUserWithGame(currentUser)).thenReturn(Arrays.asList(cartItem1, cartItem2));
+        when(gameMapStruct.toDto(testGame)).thenReturn(gameResponse1);
+        when(gameMapStruct.toDto(testGame2)).thenReturn(gameResponse2);
+        when(discounts.discountedPrice(gameResponse1)).thenReturn(Optional.of(new BigDecimal("14.99")));
+        when(cartMapper.toCartSummaryResponse(anyList()))
+                .thenAnswer(invocation -> CartSummaryResponse.from(invocation.getArgument(0)));
+
+        CartSummaryResponse result = cartService.viewCart();
+
+        assertThat(result.items()).extracting(item -> item.game().price())
+                .containsExactly(new BigDecimal("14.99"), new BigDecimal("39.99"));
+        assertThat(result.totalPrice()).isEqualByComparingTo("54.98");
+    }
+
     @Test
     @DisplayName("Should handle empty cart view")
     void shouldHandleEmptyCartView() {
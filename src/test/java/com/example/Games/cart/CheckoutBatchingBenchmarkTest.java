@@ -0,0 +1,155 @@
+package com.example.Games.cart;
+
+import com.example.Games.category.Category;
+import com.example.Games.category.CategoryMapStructImpl;
+import com.example.Games.config.TestJpaAuditingConfig;
+import com.example.Games.config.common.service.UserContextService;
+import com.example.Games.discount.DiscountIndex;
+import com.example.Games.game.Game;
+import com.example.Games.game.GameMapStructImpl;
+import com.example.Games.gameHistory.GameHistoryMapStructImpl;
+import com.example.Games.gameHistory.GameHistoryService;
+import com.example.Games.purchase.OwnershipIndex;
+import com.example.Games.purchase.PurchaseMapStructImpl;
+import com.example.Games.purchase.PurchaseService;
+import com.example.Games.user.auth.User;
+import com.example.Games.user.balance.Balance;
+import com.example.Games.user.balance.BalanceMapStructImpl;
+import com.example.Games.user.balance.BalanceService;
+import com.example.Games.user.role.Role;
+import com.example.Games.user.role.RoleType;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+// Checkout of a 50-item cart with one INSERT per row, which is all IDENTITY ids allowed, vs JDBC batches over pooled
+// sequence ids. The row-at-a-time side runs the same code with the session's batch size forced to 1.
+// Run with: mvn test -Pbenchmark
+@Tag("benchmark")
+@DataJpaTest
+@Import({TestJpaAuditingConfig.class, CartService.class, PurchaseService.class, BalanceService.class,
+        GameHistoryService.class, GameMapStructImpl.class, CategoryMapStructImpl.class, CartMapStructImpl.class,
+        PurchaseMapStructImpl.class, BalanceMapStructImpl.class, GameHistoryMapStructImpl.class})
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@DisplayName("Checkout batching Benchmark")
+class CheckoutBatchingBenchmarkTest {
+
+    private static final int CART_SIZE = 50;
+    private static final int WARMUP = 5;
+    private static final int RUNS = 20;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CartService cartService;
+
+    @MockitoBean
+    private UserContextService userContextService;
+
+    @MockitoBean
+    private OwnershipIndex ownership;
+
+    @MockitoBean
+    private DiscountIndex discounts;
+
+    private Statistics statistics;
+    private Role userRole;
+    private List<Game> games;
+    private int buyers;
+
+    @BeforeEach
+    void setUp() {
+        Role developerRole = entityManager.persist(Role.builder().name(RoleType.DEVELOPER).build());
+        userRole = entityManager.persist(Role.builder().name(RoleType.USER).build());
+        User developer = entityManager.persist(User.builder()
+                .username("benchdev").email("benchdev@example.com").password("password123").role(developerRole).build());
+        Category category = entityManager.persist(Category.builder().name("Benchmark").createdBy(developer).build());
+        games = IntStream.range(0, CART_SIZE)
+                .mapToObj(i -> entityManager.persist(Game.builder()
+                        .title("Benchmark Game " + i)
+                        .author(developer)
+                        .price(new BigDecimal("9.99"))
+                        .category(category)
+                        .build()))
+                .toList();
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Batched inserts should send a fraction of the statements of row-at-a-time inserts")
+    void batchedInsertsShouldCutStatements() {
+        Result rowAtATime = measure(1);
+        Result batched = measure(null);
+        System.out.printf("Checkout of %d items: row-at-a-time %d statements, %,d us; batched %d statements, %,d us (%.1fx)%n",
+                CART_SIZE, rowAtATime.statements(), rowAtATime.micros(), batched.statements(), batched.micros(),
+                (double) rowAtATime.micros() / Math.max(1, batched.micros()));
+
+        assertThat(batched.statements() * 5).isLessThan(rowAtATime.statements());
+    }
+
+    // A null batch size falls back to hibernate.jdbc.batch_size
+    private Result measure(Integer jdbcBatchSize) {
+        Session session = entityManager.getEntityManager().unwrap(Session.class);
+        session.setJdbcBatchSize(jdbcBatchSize);
+        long statements = 0;
+        long nanos = 0;
+        for (int run = 0; run < WARMUP + RUNS; run++) {
+            fillCart();
+            statistics.clear();
+            long start = System.nanoTime();
+            cartService.checkout();
+            entityManager.flush();
+            long elapsed = System.nanoTime() - start;
+            if (run >= WARMUP) {
+                statements += statistics.getPrepareStatementCount();
+                nanos += elapsed;
+            }
+            entityManager.clear();
+        }
+        session.setJdbcBatchSize(null);
+        return new Result(statements / RUNS, nanos / RUNS / 1_000);
+    }
+
+    // A fresh buyer per run, since a game can only be bought once per user
+    private void fillCart() {
+        buyers++;
+        User buyer = entityManager.persist(User.builder()
+                .username("buyer" + buyers).email("buyer" + buyers + "@example.com").password("password123")
+                .role(userRole).build());
+        entityManager.persist(Balance.builder().user(buyer).amount(new BigDecimal("10000.00")).build());
+        games.forEach(game -> entityManager.persist(CartItem.builder().user(buyer).game(game).build()));
+        entityManager.flush();
+        entityManager.clear();
+        when(userContextService.getAuthorizedUser()).thenReturn(buyer);
+    }
+
+    private record Result(long statements, long micros) {
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.Games.cart.order;
+
+import com.example.Games.cart.CartItemRepository;
+import com.example.Games.config.exception.cart.CartOperationException;
+import com.example.Games.config.exception.purchase.GameAlreadyOwnedException;
+import com.example.Games.game.Game;
+import com.example.Games.purchase.PurchaseService;
+import com.example.Games.user.auth.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CheckoutOrderProcessor Tests")
+class CheckoutOrderProcessorTest {
+
+    @Mock
+    private CheckoutOrderRepository orderRepository;
+
+    @Mock
+    private CheckoutOrderItemRepository itemRepository;
+
+    @Mock
+    private CartItemRepository cartItemRepository;
+
+    @Mock
+    private PurchaseService purchaseService;
+
+    @InjectMocks
+    private CheckoutOrderProcessor processor;
+
+    private User user;
+    private CheckoutOrder order;
+    private Game witcher;
+    private Game portal;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().id(1L).username("buyer").build();
+        witcher = Game.builder().id(10L).title("The Witcher 3").price(new BigDecimal("29.99")).build();
+        portal = Game.builder().id(11L).title("Portal 2").price(new BigDecimal("19.99")).build();
+        order = CheckoutOrder.submitted(user, "key-1");
+        order.setId(7L);
+        order.addItem(witcher, new BigDecimal("19.99"));
+        order.addItem(portal, new BigDecimal("19.99"));
+    }
+
+    @Test
+    @DisplayName("Should charge the games and prices captured with the order and record what was charged")
+    void shouldCompletePendingOrder() {
+        when(orderRepository.lockById(7L)).thenReturn(Optional.of(order));
+        when(itemRepository.findByOrderIdWithGame(7L)).thenReturn(order.getItems());
+
+        processor.process(7L);
+
+        verify(purchaseService).purchaseGames(List.of(witcher, portal),
+                List.of(new BigDecimal("19.99"), new BigDecimal("19.99")), user);
+        verify(cartItemRepository).deleteByUserAndGameIdIn(user, List.of(10L, 11L));
+        assertThat(order.getStatus()).isEqualTo(CheckoutOrderStatus.COMPLETED);
+        assertThat(order.getItemsPurchased()).isEqualTo(2);
+        assertThat(order.getTotalCharged()).isEqualByComparingTo("39.98");
+        assertThat(order.getSettledAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should not check out an order that another worker already settled")
+    void shouldSkipSettledOrder() {
+        order.complete(2, new BigDecimal("39.98"), LocalDateTime.now());
+        when(orderRepository.lockById(7L)).thenReturn(Optional.of(order));
+
+        processor.process(7L);
+
+        verifyNoInteractions(itemRepository, purchaseService, cartItemRepository);
+    }
+
+    @Test
+    @DisplayName("Should leave the order pending for the caller to fail when the purchase is refused")
+    void shouldPropagateCheckoutFailure() {
+        when(orderRepository.lockById(7L)).thenReturn(Optional.of(order));
+        when(itemRepository.findByOrderIdWithGame(7L)).thenReturn(order.getItems());
+        when(purchaseService.purchaseGames(anyList(), anyList(), eq(user)))
+                .thenThrow(new GameAlreadyOwnedException("You already own games with IDs: [10]"));
+
+        assertThatThrownBy(() -> processor.process(7L)).isInstanceOf(GameAlreadyOwnedException.class);
+        assertThat(order.isPending()).isTrue();
+        verifyNoInteractions(cartItemRepository);
+    }
+
+    @Test
+    @DisplayName("Should refuse an order without items")
+    void shouldRejectOrderWithoutItems() {
+        when(orderRepository.lockById(7L)).thenReturn(Optional.of(order));
+        when(itemRepository.findByOrderIdWithGame(7L)).thenReturn(List.of());
+
+        assertThatThrownBy(() -> processor.process(7L)).isInstanceOf(CartOperationException.class);
+        verifyNoInteractions(purchaseService);
+    }
+
+    @Test
+    @DisplayName("Should mark only a pending order failed")
+    void shouldFailPendingOrderOnly() {
+        when(orderRepository.lockById(7L)).thenReturn(Optional.of(order));
+
+        processor.fail(7L, "Insufficient funds");
+        order.setStatus(CheckoutOrderStatus.COMPLETED);
+        processor.fail(7L, "late failure");
+
+        assertThat(order.getStatus()).isEqualTo(CheckoutOrderStatus.COMPLETED);
+        assertThat(order.getFailureReason()).isEqualTo("Insufficient funds");
+    }
+
+    @Test
+    @DisplayName("Should fail an order once it has used every attempt")
+    void shouldFailOrderAfterMaxAttempts() {
+        when(orderRepository.lockById(7L)).thenReturn(Optional.of(order));
+
+        processor.attemptFailed(7L, 2);
+        assertThat(order.isPending()).isTrue();
+        processor.attemptFailed(7L, 2);
+
+        assertThat(order.getStatus()).isEqualTo(CheckoutOrderStatus.FAILED);
+        assertThat(order.getAttempts()).isEqualTo(2);
+        assertThat(order.getFailureReason()).contains("2 attempts");
+    }
+}
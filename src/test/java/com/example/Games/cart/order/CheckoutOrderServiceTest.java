@@ -0,0 +1,171 @@
+package com.example.Games.cart.order;
+
+import com.example.Games.cart.CartItem;
+import com.example.Games.cart.CartItemRepository;
+import com.example.Games.cart.order.dto.CheckoutOrderResponse;
+import com.example.Games.config.common.service.UserContextService;
+import com.example.Games.config.exception.cart.CartOperationException;
+import com.example.Games.config.exception.cart.CheckoutOrderNotFoundException;
+import com.example.Games.discount.DiscountIndex;
+import com.example.Games.game.Game;
+import com.example.Games.user.auth.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CheckoutOrderService Tests")
+class CheckoutOrderServiceTest {
+
+    @Mock
+    private CheckoutOrderRepository orderRepository;
+
+    @Mock
+    private CartItemRepository cartItemRepository;
+
+    @Mock
+    private CheckoutOrderMapStruct orderMapper;
+
+    @Mock
+    private UserContextService userContextService;
+
+    @Mock
+    private CheckoutQueue queue;
+
+    @Mock
+    private DiscountIndex discounts;
+
+    @InjectMocks
+    private CheckoutOrderService orderService;
+
+    private User user;
+    private Game witcher;
+    private Game portal;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().id(1L).username("buyer").build();
+        witcher = Game.builder().id(10L).title("The Witcher 3").price(new BigDecimal("29.99")).build();
+        portal = Game.builder().id(11L).title("Portal 2").price(new BigDecimal("19.99")).build();
+        lenient().when(userContextService.getAuthorizedUser()).thenReturn(user);
+        lenient().when(orderMapper.toDto(any())).thenAnswer(call -> {
+            CheckoutOrder order = call.getArgument(0);
+            return new CheckoutOrderResponse(order.getId(), order.getIdempotencyKey(), order.getStatus(),
+                    order.getItemsPurchased(), order.getTotalCharged(), order.getFailureReason(),
+                    order.getCreatedAt(), order.getSettledAt());
+        });
+    }
+
+    @Test
+    @DisplayName("Should store a new order as pending with the cart priced as quoted now, and queue it")
+    void shouldAcceptNewOrder() {
+        when(orderRepository.findByUserIdAndIdempotencyKey(1L, "key-1")).thenReturn(Optional.empty());
+        when(cartItemRepository.findByUserWithGame(user)).thenReturn(cart(witcher, portal));
+        when(discounts.discountedPrice(witcher)).thenReturn(Optional.of(new BigDecimal("14.99")));
+        when(discounts.discountedPrice(portal)).thenReturn(Optional.empty());
+        when(orderRepository.saveAndFlush(any())).thenAnswer(call -> {
+            CheckoutOrder order = call.getArgument(0);
+            order.setId(7L);
+            return order;
+        });
+
+        CheckoutOrderResponse response = orderService.submit("key-1");
+
+        ArgumentCaptor<CheckoutOrder> saved = ArgumentCaptor.forClass(CheckoutOrder.class);
+        verify(orderRepository).saveAndFlush(saved.capture());
+        assertThat(saved.getValue().getItems())
+                .extracting(item -> item.getGame().getId(), CheckoutOrderItem::getPrice)
+                .containsExactly(tuple(10L, new BigDecimal("14.99")), tuple(11L, new BigDecimal("19.99")));
+
+        assertThat(response.id()).isEqualTo(7L);
+        assertThat(response.status()).isEqualTo(CheckoutOrderStatus.PENDING);
+        assertThat(response.idempotencyKey()).isEqualTo("key-1");
+        verify(queue).submit(7L);
+    }
+
+    @Test
+    @DisplayName("Should answer a retry with the original order without queueing it again")
+    void shouldReturnOriginalOrderForRetry() {
+        CheckoutOrder completed = CheckoutOrder.submitted(user, "key-1");
+        completed.setId(7L);
+        completed.complete(2, new BigDecimal("39.98"), LocalDateTime.now());
+        when(orderRepository.findByUserIdAndIdempotencyKey(1L, "key-1")).thenReturn(Optional.of(completed));
+
+        CheckoutOrderResponse response = orderService.submit("key-1");
+
+        assertThat(response.status()).isEqualTo(CheckoutOrderStatus.COMPLETED);
+        assertThat(response.totalCharged()).isEqualByComparingTo("39.98");
+        verify(orderRepository, never()).saveAndFlush(any());
+        verifyNoInteractions(queue, cartItemRepository);
+    }
+
+    @Test
+    @DisplayName("Should answer a concurrent retry that lost the insert race with the winner's order")
+    void shouldReturnWinnerOfConcurrentRetry() {
+        CheckoutOrder winner = CheckoutOrder.submitted(user, "key-1");
+        winner.setId(8L);
+        when(orderRepository.findByUserIdAndIdempotencyKey(1L, "key-1"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(winner));
+        when(cartItemRepository.findByUserWithGame(user)).thenReturn(cart(portal));
+        when(orderRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        CheckoutOrderResponse response = orderService.submit("key-1");
+
+        assertThat(response.id()).isEqualTo(8L);
+        verifyNoInteractions(queue);
+    }
+
+    @Test
+    @DisplayName("Should reject an empty cart before creating an order")
+    void shouldRejectEmptyCart() {
+        when(orderRepository.findByUserIdAndIdempotencyKey(1L, "key-1")).thenReturn(Optional.empty());
+        when(cartItemRepository.findByUserWithGame(user)).thenReturn(List.of());
+
+        assertThatThrownBy(() -> orderService.submit("key-1"))
+                .isInstanceOf(CartOperationException.class)
+                .hasMessageContaining("empty cart");
+        verify(orderRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Should reject blank and oversized idempotency keys")
+    void shouldRejectInvalidKeys() {
+        assertThatThrownBy(() -> orderService.submit(" "))
+                .isInstanceOf(CartOperationException.class);
+        assertThatThrownBy(() -> orderService.submit("k".repeat(CheckoutOrderService.MAX_KEY_LENGTH + 1)))
+                .isInstanceOf(CartOperationException.class)
+                .hasMessageContaining("Idempotency-Key");
+        verifyNoInteractions(orderRepository, queue);
+    }
+
+    @Test
+    @DisplayName("Should only show users their own orders")
+    void shouldNotFindOtherUsersOrder() {
+        when(orderRepository.findByIdAndUserId(9L, 1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> orderService.getOrder(9L))
+                .isInstanceOf(CheckoutOrderNotFoundException.class)
+                .hasMessageContaining("9");
+    }
+
+    private List<CartItem> cart(Game... games) {
+        return Arrays.stream(games).map(game -> CartItem.builder().user(user).game(game).build()).toList();
+    }
+}
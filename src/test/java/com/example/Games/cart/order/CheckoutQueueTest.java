@@ -0,0 +1,124 @@
+package com.example.Games.cart.order;
+
+import com.example.Games.config.exception.balance.InsufficientFundsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CheckoutQueue Tests")
+class CheckoutQueueTest {
+
+    @Mock
+    private CheckoutOrderRepository orderRepository;
+
+    @Mock
+    private CheckoutOrderProcessor processor;
+
+    private CheckoutQueue queue;
+
+    @AfterEach
+    void tearDown() {
+        queue.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should process a submitted order on a worker")
+    void shouldProcessSubmittedOrder() {
+        queue = newQueue(2, 10);
+
+        queue.submit(7L);
+
+        verify(processor, timeout(1000)).process(7L);
+        verify(processor, never()).fail(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should fail an order whose checkout is rejected, with the rejection as its reason")
+    void shouldFailRejectedCheckout() {
+        queue = newQueue(1, 10);
+        doThrow(new InsufficientFundsException("Insufficient funds")).when(processor).process(7L);
+
+        queue.submit(7L);
+
+        verify(processor, timeout(1000)).fail(7L, "Insufficient funds");
+    }
+
+    @Test
+    @DisplayName("Should count a database failure as an attempt instead of failing the order")
+    void shouldCountAttemptOnDatabaseFailure() {
+        queue = newQueue(1, 10);
+        doThrow(new CannotAcquireLockException("lock timeout")).when(processor).process(7L);
+
+        queue.submit(7L);
+
+        verify(processor, timeout(1000)).attemptFailed(7L, 3);
+        verify(processor, after(200).never()).fail(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should fail an order at once when its checkout violates a constraint")
+    void shouldFailOrderOnIntegrityViolation() {
+        queue = newQueue(1, 10);
+        doThrow(new DataIntegrityViolationException("duplicate purchase")).when(processor).process(7L);
+
+        queue.submit(7L);
+
+        verify(processor, timeout(1000)).fail(eq(7L), contains("conflicts"));
+        verify(processor, never()).attemptFailed(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should refuse work beyond the queue bound and not dispatch a queued order twice")
+    void shouldBoundQueue() throws InterruptedException {
+        queue = newQueue(1, 1);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(call -> {
+            running.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(processor).process(1L);
+
+        assertThat(queue.dispatch(1L)).isTrue();
+        assertThat(running.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(queue.dispatch(2L)).isTrue();
+        assertThat(queue.dispatch(2L)).isFalse();
+        assertThat(queue.dispatch(3L)).isFalse();
+        release.countDown();
+
+        verify(processor, timeout(1000)).process(2L);
+        verify(processor, never()).process(3L);
+    }
+
+    @Test
+    @DisplayName("Should redispatch orders left pending past the retry delay")
+    void shouldSweepPendingOrders() {
+        queue = newQueue(2, 10);
+        when(orderRepository.findPendingIdsCreatedBefore(any())).thenReturn(List.of(4L, 5L));
+
+        queue.sweep();
+
+        verify(processor, timeout(1000)).process(4L);
+        verify(processor, timeout(1000)).process(5L);
+    }
+
+    private CheckoutQueue newQueue(int workers, int capacity) {
+        return new CheckoutQueue(orderRepository, processor, workers, capacity,
+                Duration.ofSeconds(30), Duration.ofDays(7), 3);
+    }
+}
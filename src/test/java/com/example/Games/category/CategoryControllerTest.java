@@ -1,5 +1,6 @@
 package com.example.Games.category;
 
+import com.example.Games.category.dto.CategoryGameCount;
 import com.example.Games.category.dto.CategoryRequest;
 import com.example.Games.category.dto.CategoryResponse;
 import com.example.Games.config.common.dto.ApiResponse;
@@ -181,6 +182,27 @@ class CategoryControllerTest {
         verify(responseMapper).toSuccessResponse(categoryList);
     }
 
+    @Test
+    @DisplayName("Should list categories with their game counts")
+    void shouldListCategoryGameCounts() throws Exception {
+        List<CategoryGameCount> counts = List.of(
+                new CategoryGameCount(1L, "Action", 3),
+                new CategoryGameCount(2L, "RPG", 0));
+        when(categoryService.getCategoryGameCounts()).thenReturn(counts);
+        when(responseMapper.toSuccessResponse(counts))
+                .thenReturn(new ApiResponse<>(null, counts, System.currentTimeMillis()));
+
+        mockMvc.perform(get("/api/v1/categories/counts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].categoryName").value("Action"))
+                .andExpect(jsonPath("$.data[0].gameCount").value(3))
+                .andExpect(jsonPath("$.data[1].gameCount").value(0));
+
+        verify(categoryService).getCategoryGameCounts();
+        verify(categoryService, never()).getCategoryById(any());
+    }
+
     @Test
     @DisplayName("Should return empty list when no categories exist")
     void shouldReturnEmptyListWhenNoCategoriesExist() throws Exception {
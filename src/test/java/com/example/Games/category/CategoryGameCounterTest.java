@@ -0,0 +1,108 @@
+package com.example.Games.category;
+
+import com.example.Games.category.dto.CategoryGameCount;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CategoryGameCounter Tests")
+class CategoryGameCounterTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    private CategoryGameCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new CategoryGameCounter(categoryRepository);
+        when(categoryRepository.countGamesPerCategory()).thenReturn(List.of(
+                new CategoryGameCount(1L, "Strategy", 2),
+                new CategoryGameCount(2L, "Action", 0)
+        ));
+        counter.reload();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should seed from one aggregate query and list by name")
+    void shouldSeedFromAggregate() {
+        assertThat(counter.all()).containsExactly(
+                new CategoryGameCount(2L, "Action", 0),
+                new CategoryGameCount(1L, "Strategy", 2));
+        assertThat(counter.count(3L)).isZero();
+        verify(categoryRepository).countGamesPerCategory();
+    }
+
+    @Test
+    @DisplayName("Should follow game creates, deletes and moves")
+    void shouldFollowGameWrites() {
+        counter.gameAdded(2L);
+        counter.gameAdded(2L);
+        counter.gameRemoved(1L);
+        counter.gameMoved(2L, 1L);
+        counter.gameMoved(1L, 1L);
+
+        assertThat(counter.count(1L)).isEqualTo(2);
+        assertThat(counter.count(2L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should follow category creates, renames and deletes")
+    void shouldFollowCategoryWrites() {
+        counter.categoryCreated(3L, "Puzzle");
+        counter.categoryRenamed(1L, "Tactics");
+        counter.categoryDeleted(2L);
+
+        assertThat(counter.all()).containsExactly(
+                new CategoryGameCount(3L, "Puzzle", 0),
+                new CategoryGameCount(1L, "Tactics", 2));
+    }
+
+    @Test
+    @DisplayName("Should converge on the database counts when reloaded, dropping drift from other nodes' writes")
+    void shouldConvergeOnReload() {
+        counter.gameAdded(2L);
+        when(categoryRepository.countGamesPerCategory()).thenReturn(List.of(
+                new CategoryGameCount(1L, "Strategy", 5),
+                new CategoryGameCount(3L, "Puzzle", 1)
+        ));
+
+        counter.reload();
+
+        assertThat(counter.all()).containsExactly(
+                new CategoryGameCount(3L, "Puzzle", 1),
+                new CategoryGameCount(1L, "Strategy", 5));
+        assertThat(counter.count(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should defer adjustments until the transaction commits")
+    void shouldDeferUntilCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        counter.gameAdded(1L);
+        assertThat(counter.count(1L)).isEqualTo(2);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(counter.count(1L)).isEqualTo(3);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.Games.category;
 
+import com.example.Games.category.dto.CategoryGameCount;
 import com.example.Games.config.TestJpaAuditingConfig;
 import com.example.Games.game.Game;
 import com.example.Games.user.auth.User;
@@ -141,6 +142,16 @@ class CategoryRepositoryTest {
         assertThat(count2).isEqualTo(0);
     }
 
+    @Test
+    @DisplayName("Should count games of every category in one aggregate, keeping empty ones")
+    void shouldCountGamesPerCategory() {
+        List<CategoryGameCount> counts = categoryRepository.countGamesPerCategory();
+
+        assertThat(counts).containsExactly(
+                new CategoryGameCount(actionCategory.getId(), "Action", 2),
+                new CategoryGameCount(adventureCategory.getId(), "Adventure", 0));
+    }
+
     @Test
     @DisplayName("Should find category with creator eagerly loaded")
     void shouldFindByIdWithCreator() {
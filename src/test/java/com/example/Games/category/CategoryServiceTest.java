@@ -2,6 +2,10 @@ package com.example.Games.category;
 
 import com.example.Games.category.dto.CategoryRequest;
 import com.example.Games.category.dto.CategoryResponse;
+import com.example.Games.config.cache.CatalogCacheEvictor;
+import com.example.Games.config.cache.CatalogVersion;
+import com.example.Games.game.GameCatalog;
+import com.example.Games.game.GameSyncStamper;
 import com.example.Games.config.common.service.UserContextService;
 import com.example.Games.config.exception.auth.UserNotFoundException;
 import com.example.Games.config.exception.category.CategoryAlreadyExistsException;
@@ -9,6 +13,7 @@ import com.example.Games.config.exception.category.CategoryInUseException;
 import com.example.Games.config.exception.category.CategoryNotFoundException;
 import com.example.Games.config.exception.category.UnauthorizedCategoryAccessException;
 import com.example.Games.game.Game;
+import com.example.Games.typeahead.TypeaheadIndex;
 import com.example.Games.user.auth.User;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,6 +44,18 @@ class CategoryServiceTest {
     private CategoryMapStruct categoryMapStruct;
     @Mock
     private UserContextService userContextService;
+    @Mock
+    private CatalogCacheEvictor catalogCache;
+    @Mock
+    private GameCatalog gameCatalog;
+    @Mock
+    private CatalogVersion catalogVersion;
+    @Mock
+    private CategoryGameCounter gameCounter;
+    @Mock
+    private TypeaheadIndex typeahead;
+    @Mock
+    private GameSyncStamper syncStamper;
     @InjectMocks
     private CategoryService categoryService;
 
@@ -138,6 +155,11 @@ class CategoryServiceTest {
         CategoryResponse result = categoryService.updateCategory(10L, request);
 
         assertThat(result).isEqualTo(response);
+        verify(catalogCache).evictCategory(10L);
+        verify(gameCatalog).refreshAll();
+        verify(gameCounter).categoryRenamed(10L, category.getName());
+        verify(typeahead).categorySaved(10L, category.getName());
+        verify(catalogVersion).bumpAfterCommit();
     }
 
     @Test
@@ -187,6 +209,10 @@ class CategoryServiceTest {
         categoryService.deleteCategory(10L);
 
         verify(categoryRepository).deleteById(10L);
+        verify(catalogCache).evictCategory(10L);
+        verify(gameCounter).categoryDeleted(10L);
+        verify(typeahead).categoryRemoved(10L);
+        verify(catalogVersion).bumpAfterCommit();
     }
 
     @Test
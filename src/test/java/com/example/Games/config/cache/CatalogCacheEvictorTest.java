@@ -0,0 +1,162 @@
+package com.example.Games.config.cache;
+
+import com.example.Games.category.dto.CategoryResponse;
+import com.example.Games.config.common.dto.ApiResponse;
+import com.example.Games.game.GameDocumentCache;
+import com.example.Games.game.dto.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CatalogCacheEvictor Tests")
+class CatalogCacheEvictorTest {
+
+    private CaffeineCacheManager cacheManager;
+    private GameDocumentCache gameDocuments;
+    private CatalogCacheEvictor evictor;
+    private Cache gamesById;
+    private Cache gamesByTitle;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CaffeineCacheManager(
+                CacheConfig.GAMES_BY_ID, CacheConfig.GAMES_BY_TITLE,
+                CacheConfig.CATEGORIES_BY_ID, CacheConfig.CATEGORIES);
+        gameDocuments = new GameDocumentCache(Jackson2ObjectMapperBuilder.json().build(),
+                DataSize.ofMegabytes(1), Duration.ofMinutes(10));
+        evictor = new CatalogCacheEvictor(cacheManager, gameDocuments);
+        gamesById = cacheManager.getCache(CacheConfig.GAMES_BY_ID);
+        gamesByTitle = cacheManager.getCache(CacheConfig.GAMES_BY_TITLE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should evict game by id and every given title only")
+    void shouldEvictGameByIdAndTitles() {
+        gamesById.put(1L, game(1L, "Old Title", 10L));
+        gamesById.put(2L, game(2L, "Untouched", 10L));
+        gamesByTitle.put("Old Title", game(1L, "Old Title", 10L));
+        gamesByTitle.put("Untouched", game(2L, "Untouched", 10L));
+
+        evictor.evictGame(1L, "Old Title", "New Title");
+
+        assertThat(gamesById.get(1L)).isNull();
+        assertThat(gamesByTitle.get("Old Title")).isNull();
+        assertThat(gamesById.get(2L)).isNotNull();
+        assertThat(gamesByTitle.get("Untouched")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should evict category and only the cached games embedding it")
+    void shouldEvictCategoryAndItsGames() {
+        Cache categoriesById = cacheManager.getCache(CacheConfig.CATEGORIES_BY_ID);
+        Cache categories = cacheManager.getCache(CacheConfig.CATEGORIES);
+        categoriesById.put(10L, category(10L));
+        categoriesById.put(20L, category(20L));
+        categories.put("all", List.of(category(10L), category(20L)));
+        gamesById.put(1L, game(1L, "In Category", 10L));
+        gamesById.put(2L, game(2L, "Other Category", 20L));
+        gamesByTitle.put("In Category", game(1L, "In Category", 10L));
+
+        evictor.evictCategory(10L);
+
+        assertThat(categoriesById.get(10L)).isNull();
+        assertThat(categoriesById.get(20L)).isNotNull();
+        assertThat(categories.get("all")).isNull();
+        assertThat(gamesById.get(1L)).isNull();
+        assertThat(gamesByTitle.get("In Category")).isNull();
+        assertThat(gamesById.get(2L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should evict a repriced game under any title, or a category's games but not the category")
+    void shouldEvictRepricedGames() {
+        Cache categoriesById = cacheManager.getCache(CacheConfig.CATEGORIES_BY_ID);
+        categoriesById.put(10L, category(10L));
+        gamesById.put(1L, game(1L, "On Sale", 10L));
+        gamesByTitle.put("On Sale", game(1L, "On Sale", 10L));
+        gamesByTitle.put("Untouched", game(2L, "Untouched", 20L));
+
+        evictor.evictGameById(1L);
+
+        assertThat(gamesById.get(1L)).isNull();
+        assertThat(gamesByTitle.get("On Sale")).isNull();
+        assertThat(gamesByTitle.get("Untouched")).isNotNull();
+
+        gamesById.put(1L, game(1L, "On Sale", 10L));
+        evictor.evictCategoryGames(10L);
+
+        assertThat(gamesById.get(1L)).isNull();
+        assertThat(categoriesById.get(10L)).isNotNull();
+        assertThat(gamesByTitle.get("Untouched")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should defer eviction until the surrounding transaction commits")
+    void shouldDeferEvictionUntilCommit() {
+        gamesById.put(1L, game(1L, "Title", 10L));
+        TransactionSynchronizationManager.initSynchronization();
+
+        evictor.evictGame(1L, "Title");
+        assertThat(gamesById.get(1L)).isNotNull();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(gamesById.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should drop rendered documents of the changed game and of games in the changed category")
+    void shouldEvictRenderedDocuments() {
+        AtomicInteger renders = new AtomicInteger();
+        Runnable warm = () -> {
+            gameDocuments.byId(1L, () -> rendered(renders, game(1L, "Old Title", 10L)));
+            gameDocuments.byTitle("Old Title", () -> rendered(renders, game(1L, "Old Title", 10L)));
+            gameDocuments.byId(2L, () -> rendered(renders, game(2L, "Other", 20L)));
+        };
+        warm.run();
+        assertThat(renders).hasValue(3);
+
+        evictor.evictGame(1L, "Old Title");
+        warm.run();
+        assertThat(renders).hasValue(5);
+
+        evictor.evictCategory(20L);
+        warm.run();
+        assertThat(renders).hasValue(6);
+    }
+
+    private ApiResponse<Response> rendered(AtomicInteger renders, Response game) {
+        renders.incrementAndGet();
+        return ApiResponse.success(game);
+    }
+
+    private Response game(Long id, String title, Long categoryId) {
+        return new Response(id, title, "dev", new BigDecimal("9.99"), category(categoryId),
+                LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    private CategoryResponse category(Long id) {
+        return new CategoryResponse(id, "Category " + id, "dev", 1L, LocalDateTime.now(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.Games.config.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CatalogVersion Tests")
+class CatalogVersionTest {
+
+    private final CatalogVersion catalogVersion = new CatalogVersion();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should produce a weak ETag that changes with every bump")
+    void shouldProduceWeakEtag() {
+        String before = catalogVersion.etag();
+
+        catalogVersion.bumpAfterCommit();
+
+        assertThat(before).startsWith("W/\"").endsWith("\"");
+        assertThat(catalogVersion.etag()).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("Should never share a tag with another instance at the same version")
+    void shouldScopeEtagToInstance() {
+        assertThat(new CatalogVersion().etag()).isNotEqualTo(catalogVersion.etag());
+    }
+
+    @Test
+    @DisplayName("Should bump only after the transaction commits")
+    void shouldBumpOnlyAfterCommit() {
+        long before = catalogVersion.current();
+        TransactionSynchronizationManager.initSynchronization();
+
+        catalogVersion.bumpAfterCommit();
+        assertThat(catalogVersion.current()).isEqualTo(before);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(catalogVersion.current()).isEqualTo(before + 1);
+    }
+}
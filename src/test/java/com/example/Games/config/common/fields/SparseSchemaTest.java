@@ -0,0 +1,51 @@
+package com.example.Games.config.common.fields;
+
+import com.example.Games.config.exception.common.InvalidFieldSelectionException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SparseSchema Tests")
+class SparseSchemaTest {
+
+    private final SparseSchema schema = new SparseSchema("Game g", List.of(
+            SparseField.of("id", "g.id"),
+            SparseField.of("title", "g.title"),
+            SparseField.of("author", "a.username", "JOIN g.author a"),
+            SparseField.of("authorRole", "r.name", "JOIN g.author a", "JOIN a.role r"),
+            SparseField.of("price", "g.price").converted(value -> "$" + value)
+    ));
+
+    @Test
+    @DisplayName("Should keep requested order and drop blanks and duplicates")
+    void shouldParseFieldList() {
+        FieldSelection selection = schema.select(" title, id,,title ");
+
+        assertThat(selection.names()).containsExactly("title", "id");
+        assertThat(selection.rootAlias()).isEqualTo("g");
+    }
+
+    @Test
+    @DisplayName("Should reject unknown and empty selections")
+    void shouldRejectInvalidSelections() {
+        assertThatThrownBy(() -> schema.select("title,secret"))
+                .isInstanceOf(InvalidFieldSelectionException.class)
+                .hasMessageContaining("'secret'");
+        assertThatThrownBy(() -> schema.select(" , "))
+                .isInstanceOf(InvalidFieldSelectionException.class);
+    }
+
+    @Test
+    @DisplayName("Should map a row to the selected names, converting values and ignoring trailing columns")
+    void shouldMapRows() {
+        FieldSelection selection = schema.select("price,authorRole");
+
+        assertThat(selection.toMap(new Object[]{"9.99", "DEVELOPER", 7L}))
+                .containsExactly(entry("price", "$9.99"), entry("authorRole", "DEVELOPER"));
+        assertThat(selection.extra(new Object[]{"9.99", "DEVELOPER", 7L}, 0)).isEqualTo(7L);
+        assertThat(selection.toMap(new Object[]{null, null})).containsEntry("price", null);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.Games.discount;
+
+import com.example.Games.config.common.dto.ApiResponse;
+import com.example.Games.config.common.mappers.ResponseMapStruct;
+import com.example.Games.config.test.WebMvcTestWithoutSecurity;
+import com.example.Games.discount.dto.DiscountRequest;
+import com.example.Games.discount.dto.DiscountResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTestWithoutSecurity(DiscountController.class)
+@DisplayName("DiscountController Tests")
+class DiscountControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private DiscountService discountService;
+
+    @MockitoBean
+    private ResponseMapStruct responseMapper;
+
+    @Test
+    @DisplayName("Should schedule a discount")
+    void shouldCreateDiscount() throws Exception {
+        LocalDateTime startsAt = LocalDateTime.of(2026, 12, 20, 0, 0);
+        DiscountRequest request = new DiscountRequest(DiscountScope.CATEGORY, 3L, new BigDecimal("30"),
+                startsAt, startsAt.plusDays(14));
+        DiscountResponse response = new DiscountResponse(5L, DiscountScope.CATEGORY, 3L, new BigDecimal("30"),
+                startsAt, startsAt.plusDays(14), "gamedev", LocalDateTime.now());
+        when(discountService.createDiscount(request)).thenReturn(response);
+        when(responseMapper.toSuccessResponse("Discount scheduled successfully", response))
+                .thenReturn(ApiResponse.success("Discount scheduled successfully", response));
+
+        mockMvc.perform(post("/api/v1/discounts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.id").value(5))
+                .andExpect(jsonPath("$.data.scope").value("CATEGORY"))
+                .andExpect(jsonPath("$.data.percent").value(30));
+    }
+
+    @Test
+    @DisplayName("Should reject a percentage of 100 or more")
+    void shouldRejectFullDiscount() throws Exception {
+        LocalDateTime startsAt = LocalDateTime.of(2026, 12, 20, 0, 0);
+        DiscountRequest request = new DiscountRequest(DiscountScope.GAME, 10L, new BigDecimal("100"),
+                startsAt, startsAt.plusDays(1));
+
+        mockMvc.perform(post("/api/v1/discounts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        verify(discountService, never()).createDiscount(any());
+    }
+
+    @Test
+    @DisplayName("Should list current and upcoming discounts")
+    void shouldListDiscounts() throws Exception {
+        List<DiscountResponse> discounts = List.of(new DiscountResponse(5L, DiscountScope.GAME, 10L,
+                new BigDecimal("25"), LocalDateTime.now(), LocalDateTime.now().plusDays(1), "gamedev",
+                LocalDateTime.now()));
+        when(discountService.getCurrentAndUpcomingDiscounts()).thenReturn(discounts);
+        when(responseMapper.toSuccessResponse(discounts)).thenReturn(ApiResponse.success(discounts));
+
+        mockMvc.perform(get("/api/v1/discounts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].targetId").value(10));
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.Games.discount;
+
+import com.example.Games.category.dto.CategoryResponse;
+import com.example.Games.config.cache.CatalogCacheEvictor;
+import com.example.Games.config.cache.CatalogVersion;
+import com.example.Games.game.dto.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DiscountIndex Tests")
+class DiscountIndexTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2026, 6, 1, 12, 0);
+
+    @Mock
+    private DiscountRepository discountRepository;
+
+    @Mock
+    private CatalogCacheEvictor catalogCache;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    private DiscountIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new DiscountIndex(discountRepository, catalogCache, catalogVersion);
+    }
+
+    @Test
+    @DisplayName("Should resolve the largest overlapping percentage at any instant")
+    void shouldResolveOverlappingDiscounts() {
+        DiscountTimeline timeline = DiscountTimeline.of(List.of(
+                discount(DiscountTarget.game(1L), "10", NOON, NOON.plusHours(4)),
+                discount(DiscountTarget.game(1L), "25", NOON.plusHours(1), NOON.plusHours(2))));
+
+        assertThat(timeline.percentAt(NOON.minusSeconds(1))).isNull();
+        assertThat(timeline.percentAt(NOON)).isEqualByComparingTo("10");
+        assertThat(timeline.percentAt(NOON.plusMinutes(90))).isEqualByComparingTo("25");
+        assertThat(timeline.percentAt(NOON.plusHours(2))).isEqualByComparingTo("10");
+        assertThat(timeline.percentAt(NOON.plusHours(4))).isNull();
+        assertThat(timeline.endedBy(NOON.plusHours(3))).isFalse();
+        assertThat(timeline.endedBy(NOON.plusHours(4))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should give a game the larger of its own and its category's discount")
+    void shouldTakeLargerOfGameAndCategoryDiscount() {
+        LocalDateTime now = LocalDateTime.now();
+        when(discountRepository.findNotEndedBy(any())).thenReturn(List.of(
+                discount(DiscountTarget.game(1L), "10", now.minusHours(1), now.plusHours(1)),
+                discount(DiscountTarget.category(7L), "20", now.minusHours(1), now.plusHours(1)),
+                discount(DiscountTarget.game(2L), "50", now.plusHours(1), now.plusHours(2))));
+        index.reload();
+
+        assertThat(index.percentOff(1L, 7L, now)).contains(new BigDecimal("20"));
+        assertThat(index.percentOff(1L, 8L, now)).contains(new BigDecimal("10"));
+        assertThat(index.percentOff(2L, 8L, now)).isEmpty();
+        assertThat(index.percentOff(2L, 8L, now.plusMinutes(90))).contains(new BigDecimal("50"));
+
+        Response game = new Response(1L, "Sale Game", "dev", new BigDecimal("39.99"),
+                new CategoryResponse(7L, "Action", "dev", 1L, now, now), now, now);
+        assertThat(index.discountedPrice(game)).contains(new BigDecimal("31.99"));
+    }
+
+    @Test
+    @DisplayName("Should round discounted prices half up and never below the minimum price")
+    void shouldRoundDiscountedPrices() {
+        assertThat(DiscountIndex.discounted(new BigDecimal("19.99"), new BigDecimal("15")))
+                .isEqualByComparingTo("16.99");
+        assertThat(DiscountIndex.discounted(new BigDecimal("0.01"), new BigDecimal("99.99")))
+                .isEqualByComparingTo("0.01");
+    }
+
+    @Test
+    @DisplayName("Should rebuild only the changed target and evict its cached games")
+    void shouldRebuildOnlyChangedTarget() {
+        LocalDateTime now = LocalDateTime.now();
+        when(discountRepository.findNotEndedByTarget(eq(DiscountScope.CATEGORY), eq(7L), any())).thenReturn(List.of(
+                discount(DiscountTarget.category(7L), "30", now.minusMinutes(1), now.plusHours(1))));
+
+        index.targetChanged(DiscountTarget.category(7L));
+
+        assertThat(index.percentOff(1L, 7L, now)).contains(new BigDecimal("30"));
+        verify(discountRepository, never()).findNotEndedBy(any());
+        verify(catalogCache).evictCategoryGames(7L);
+        verifyNoMoreInteractions(catalogCache);
+    }
+
+    @Test
+    @DisplayName("Should evict the targets whose boundary the clock crossed and drop ended timelines")
+    void shouldEvictTargetsAtBoundaries() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        when(discountRepository.findNotEndedBy(any())).thenReturn(List.of(
+                discount(DiscountTarget.game(1L), "10", now.minusHours(1), now.plusNanos(50_000_000)),
+                discount(DiscountTarget.game(2L), "10", now.minusHours(1), now.plusHours(1))));
+        index.reload();
+        clearInvocations(catalogCache, catalogVersion);
+        Thread.sleep(60);
+
+        index.applyBoundaries();
+
+        verify(catalogCache).evictGameById(1L);
+        verify(catalogCache, never()).evictGameById(2L);
+        verify(catalogVersion).bumpAfterCommit();
+        assertThat(index.percentOff(1L, null, now.minusMinutes(1))).isEmpty();
+        assertThat(index.percentOff(2L, null, LocalDateTime.now())).contains(new BigDecimal("10"));
+
+        index.applyBoundaries();
+        verifyNoMoreInteractions(catalogCache, catalogVersion);
+    }
+
+    @Test
+    @DisplayName("Should pick up discounts written elsewhere on reload and evict only the targets that changed")
+    void shouldReloadAndEvictChangedTargets() {
+        LocalDateTime now = LocalDateTime.now();
+        Discount kept = discount(DiscountTarget.game(1L), "10", now.minusHours(1), now.plusHours(1));
+        Discount dropped = discount(DiscountTarget.game(2L), "10", now.minusHours(1), now.plusHours(1));
+        Discount added = discount(DiscountTarget.category(7L), "25", now.minusHours(1), now.plusHours(1));
+        when(discountRepository.findNotEndedBy(any()))
+                .thenReturn(List.of(kept, dropped))
+                .thenReturn(List.of(kept, added));
+        index.reload();
+        clearInvocations(catalogCache, catalogVersion);
+
+        index.reload();
+
+        assertThat(index.percentOff(2L, null, now)).isEmpty();
+        assertThat(index.percentOff(3L, 7L, now)).contains(new BigDecimal("25"));
+        verify(catalogCache).evictGameById(2L);
+        verify(catalogCache).evictCategoryGames(7L);
+        verify(catalogVersion).bumpAfterCommit();
+        verifyNoMoreInteractions(catalogCache);
+    }
+
+    @Test
+    @DisplayName("Should price a game without discounts at its list price")
+    void shouldReturnEmptyWithoutDiscounts() {
+        assertThat(index.percentOff(1L, 7L, NOON)).isEqualTo(Optional.empty());
+    }
+
+    private Discount discount(DiscountTarget target, String percent, LocalDateTime startsAt, LocalDateTime endsAt) {
+        return Discount.builder()
+                .scope(target.scope())
+                .targetId(target.id())
+                .percent(new BigDecimal(percent))
+                .startsAt(startsAt)
+                .endsAt(endsAt)
+                .build();
+    }
+}
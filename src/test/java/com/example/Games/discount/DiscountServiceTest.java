@@ -0,0 +1,148 @@
+package com.example.Games.discount;
+
+import com.example.Games.category.Category;
+import com.example.Games.category.CategoryRepository;
+import com.example.Games.config.cache.CatalogVersion;
+import com.example.Games.config.common.service.UserContextService;
+import com.example.Games.config.exception.category.UnauthorizedCategoryAccessException;
+import com.example.Games.config.exception.discount.InvalidDiscountException;
+import com.example.Games.config.exception.discount.UnauthorizedDiscountAccessException;
+import com.example.Games.config.exception.game.GameNotFoundException;
+import com.example.Games.config.exception.game.UnauthorizedGameAccessException;
+import com.example.Games.discount.dto.DiscountRequest;
+import com.example.Games.discount.dto.DiscountResponse;
+import com.example.Games.game.Game;
+import com.example.Games.game.GameRepository;
+import com.example.Games.user.auth.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DiscountService Tests")
+class DiscountServiceTest {
+
+    @Mock
+    private DiscountRepository discountRepository;
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private DiscountMapStruct discountMapStruct;
+
+    @Mock
+    private DiscountIndex discountIndex;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    @Mock
+    private UserContextService userContextService;
+
+    @InjectMocks
+    private DiscountService discountService;
+
+    private User developer;
+    private User otherDeveloper;
+    private LocalDateTime startsAt;
+
+    @BeforeEach
+    void setUp() {
+        developer = User.builder().id(1L).username("gamedev").build();
+        otherDeveloper = User.builder().id(2L).username("otherdev").build();
+        startsAt = LocalDateTime.now().plusDays(1);
+        lenient().when(userContextService.getAuthorizedUser()).thenReturn(developer);
+    }
+
+    @Test
+    @DisplayName("Should schedule a discount on an owned game and refresh only that game")
+    void shouldCreateGameDiscount() {
+        DiscountRequest request = new DiscountRequest(DiscountScope.GAME, 10L, new BigDecimal("25"),
+                startsAt, startsAt.plusDays(7));
+        Discount discount = Discount.builder().id(5L).scope(DiscountScope.GAME).targetId(10L)
+                .percent(new BigDecimal("25")).startsAt(startsAt).endsAt(startsAt.plusDays(7)).build();
+        DiscountResponse response = new DiscountResponse(5L, DiscountScope.GAME, 10L, new BigDecimal("25"),
+                startsAt, startsAt.plusDays(7), "gamedev", LocalDateTime.now());
+        when(gameRepository.findByIdWithAuthor(10L))
+                .thenReturn(Optional.of(Game.builder().id(10L).author(developer).build()));
+        when(discountMapStruct.toEntity(request, developer)).thenReturn(discount);
+        when(discountRepository.save(discount)).thenReturn(discount);
+        when(discountMapStruct.toDto(discount)).thenReturn(response);
+
+        assertThat(discountService.createDiscount(request)).isEqualTo(response);
+
+        verify(discountIndex).targetChanged(DiscountTarget.game(10L));
+        verify(catalogVersion).bumpAfterCommit();
+    }
+
+    @Test
+    @DisplayName("Should reject a window that ends before it starts or has already ended")
+    void shouldRejectInvalidWindow() {
+        assertThatThrownBy(() -> discountService.createDiscount(new DiscountRequest(DiscountScope.GAME, 10L,
+                new BigDecimal("25"), startsAt, startsAt)))
+                .isInstanceOf(InvalidDiscountException.class);
+        LocalDateTime past = LocalDateTime.now().minusDays(2);
+        assertThatThrownBy(() -> discountService.createDiscount(new DiscountRequest(DiscountScope.GAME, 10L,
+                new BigDecimal("25"), past, past.plusDays(1))))
+                .isInstanceOf(InvalidDiscountException.class);
+
+        verifyNoInteractions(discountRepository, discountIndex);
+    }
+
+    @Test
+    @DisplayName("Should only let developers discount their own games and categories")
+    void shouldRejectForeignTargets() {
+        when(gameRepository.findByIdWithAuthor(10L))
+                .thenReturn(Optional.of(Game.builder().id(10L).author(otherDeveloper).build()));
+        when(gameRepository.findByIdWithAuthor(11L)).thenReturn(Optional.empty());
+        when(categoryRepository.findByIdWithCreator(3L))
+                .thenReturn(Optional.of(Category.builder().id(3L).createdBy(otherDeveloper).build()));
+
+        assertThatThrownBy(() -> discountService.createDiscount(request(DiscountScope.GAME, 10L)))
+                .isInstanceOf(UnauthorizedGameAccessException.class);
+        assertThatThrownBy(() -> discountService.createDiscount(request(DiscountScope.GAME, 11L)))
+                .isInstanceOf(GameNotFoundException.class);
+        assertThatThrownBy(() -> discountService.createDiscount(request(DiscountScope.CATEGORY, 3L)))
+                .isInstanceOf(UnauthorizedCategoryAccessException.class);
+
+        verify(discountRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should delete a discount only for its creator and refresh its target")
+    void shouldDeleteOwnDiscount() {
+        Discount own = Discount.builder().id(5L).scope(DiscountScope.CATEGORY).targetId(3L).createdBy(developer).build();
+        Discount foreign = Discount.builder().id(6L).scope(DiscountScope.GAME).targetId(10L)
+                .createdBy(otherDeveloper).build();
+        when(discountRepository.findByIdWithCreator(5L)).thenReturn(Optional.of(own));
+        when(discountRepository.findByIdWithCreator(6L)).thenReturn(Optional.of(foreign));
+
+        discountService.deleteDiscount(5L);
+        assertThatThrownBy(() -> discountService.deleteDiscount(6L))
+                .isInstanceOf(UnauthorizedDiscountAccessException.class);
+
+        verify(discountRepository).delete(own);
+        verify(discountRepository, never()).delete(foreign);
+        verify(discountIndex).targetChanged(DiscountTarget.category(3L));
+    }
+
+    private DiscountRequest request(DiscountScope scope, Long targetId) {
+        return new DiscountRequest(scope, targetId, new BigDecimal("25"), startsAt, startsAt.plusDays(7));
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.Games.game;
+
+import com.example.Games.category.dto.CategoryResponse;
+import com.example.Games.game.dto.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CatalogSnapshotFile Tests")
+class CatalogSnapshotFileTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2025, 10, 1, 12, 0, 0, 123_456_789);
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Should read back exactly the snapshot it wrote")
+    void shouldRoundTripSnapshot() {
+        CategoryResponse action = new CategoryResponse(10L, "Action", "owner", 1L, CREATED, null);
+        CategoryResponse puzzle = new CategoryResponse(20L, "Puzzle ✓", "owner", 1L, CREATED, CREATED.plusDays(1));
+        CatalogSnapshot snapshot = CatalogSnapshot.of(List.of(
+                new Response(1L, "Space Racer", "alice", new BigDecimal("29.99"), action, CREATED, CREATED),
+                new Response(2L, "Blocks", "alice", new BigDecimal("4.50"), puzzle, CREATED, null,
+                        new BigDecimal("4.33"), 3),
+                new Response(3L, "Dungeon", "bob", new BigDecimal("59.00"), action, CREATED, CREATED.plusHours(2))));
+        CatalogSnapshotFile file = new CatalogSnapshotFile(directory.resolve("catalog.snapshot").toString());
+
+        file.write(snapshot);
+
+        CatalogSnapshot read = file.read().orElseThrow();
+        assertThat(read.games()).containsExactlyElementsOf(snapshot.games());
+        assertThat(read.byCategory(10L, 0, 10)).extracting(Response::id).containsExactly(3L, 1L);
+        assertThat(read.lastModified()).contains(CREATED.plusDays(1));
+    }
+
+    @Test
+    @DisplayName("Should ignore a missing, corrupted or disabled snapshot file")
+    void shouldIgnoreUnusableFiles() throws IOException {
+        Path path = directory.resolve("catalog.snapshot");
+        CatalogSnapshotFile file = new CatalogSnapshotFile(path.toString());
+        assertThat(file.read()).isEmpty();
+
+        file.write(CatalogSnapshot.of(List.of(new Response(1L, "Space Racer", "alice", new BigDecimal("29.99"),
+                new CategoryResponse(10L, "Action", "owner", 1L, CREATED, CREATED), CREATED, CREATED))));
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length / 2] ^= 0x5A;
+        Files.write(path, bytes);
+        assertThat(file.read()).isEmpty();
+
+        CatalogSnapshotFile disabled = new CatalogSnapshotFile("");
+        disabled.write(CatalogSnapshot.EMPTY);
+        assertThat(disabled.read()).isEmpty();
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.Games.game;
+
+import com.example.Games.category.dto.CategoryResponse;
+import com.example.Games.game.dto.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CatalogSnapshot Tests")
+class CatalogSnapshotTest {
+
+    private CatalogSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = CatalogSnapshot.of(List.of(
+                game(1L, "Zelda Like", "alice", "29.99", 10L),
+                game(2L, "Asteroids", "bob", "9.99", 10L),
+                game(3L, "Medieval", "alice", "19.99", 20L),
+                game(4L, "Bargain", "carol", "9.99", 20L),
+                game(5L, "Mega Pack", "bob", "59.99", 10L)
+        ));
+    }
+
+    @Test
+    @DisplayName("Should slice an inclusive price range in price then id order")
+    void shouldSliceInclusivePriceRange() {
+        assertThat(ids(snapshot.inPriceRange(new BigDecimal("9.99"), new BigDecimal("29.99"), 10)))
+                .containsExactly(2L, 4L, 3L, 1L);
+        assertThat(ids(snapshot.inPriceRange(new BigDecimal("9.991"), new BigDecimal("29.989"), 10)))
+                .containsExactly(3L);
+        assertThat(ids(snapshot.inPriceRange(new BigDecimal("10"), new BigDecimal("1E30"), 2)))
+                .containsExactly(3L, 1L);
+        assertThat(snapshot.inPriceRange(new BigDecimal("30"), new BigDecimal("20"), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep the games an id filter accepts within optional price bounds")
+    void shouldFilterPriceRangeById() {
+        Set<Long> tagged = Set.of(1L, 3L, 4L, 5L);
+
+        assertThat(ids(snapshot.inPriceRange(null, null, tagged::contains, 10))).containsExactly(4L, 3L, 1L, 5L);
+        assertThat(ids(snapshot.inPriceRange(new BigDecimal("10"), null, tagged::contains, 2)))
+                .containsExactly(3L, 1L);
+        assertThat(ids(snapshot.inPriceRange(null, new BigDecimal("19.99"), id -> id % 2 == 0, 10)))
+                .containsExactly(2L, 4L);
+        assertThat(snapshot.inPriceRange(new BigDecimal("30"), new BigDecimal("20"), id -> true, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should sort by price in either direction")
+    void shouldSortByPrice() {
+        assertThat(ids(snapshot.sortedByPrice(true, 10))).containsExactly(2L, 4L, 3L, 1L, 5L);
+        assertThat(ids(snapshot.sortedByPrice(false, 2))).containsExactly(5L, 1L);
+    }
+
+    @Test
+    @DisplayName("Should list an author's games and page a category by title")
+    void shouldListByAuthorAndCategory() {
+        assertThat(ids(snapshot.byAuthor("alice", 10))).containsExactly(3L, 1L);
+        assertThat(snapshot.byAuthor("nobody", 10)).isEmpty();
+
+        assertThat(snapshot.countInCategory(10L)).isEqualTo(3);
+        assertThat(ids(snapshot.byCategory(10L, 0, 2))).containsExactly(2L, 5L);
+        assertThat(ids(snapshot.byCategory(10L, 2, 2))).containsExactly(1L);
+        assertThat(snapshot.byCategory(10L, 4, 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should publish changes as new snapshots and leave the old one untouched")
+    void shouldCopyOnWrite() {
+        CatalogSnapshot repriced = snapshot.with(game(5L, "Mega Pack", "bob", "4.99", 10L));
+        CatalogSnapshot removed = repriced.without(2L);
+
+        assertThat(ids(snapshot.sortedByPrice(true, 1))).containsExactly(2L);
+        assertThat(ids(repriced.sortedByPrice(true, 1))).containsExactly(5L);
+        assertThat(repriced.size()).isEqualTo(5);
+        assertThat(removed.size()).isEqualTo(4);
+        assertThat(ids(removed.byAuthor("bob", 10))).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("Should splice a single game into the same order a full rebuild gives")
+    void shouldSpliceGameInPriceOrder() {
+        Response added = game(6L, "Middle", "dave", "19.99", 20L);
+        Response moved = game(2L, "Cheap Thrills", "bob", "99.00", 10L);
+        List<Response> expected = new ArrayList<>(snapshot.games());
+        expected.removeIf(game -> game.id().equals(2L));
+        expected.add(added);
+        expected.add(moved);
+
+        CatalogSnapshot spliced = snapshot.with(added).with(moved);
+
+        assertThat(spliced.games()).containsExactlyElementsOf(CatalogSnapshot.of(expected).games());
+        assertThat(ids(spliced.sortedByPrice(true, 10))).containsExactly(4L, 3L, 6L, 1L, 5L, 2L);
+        assertThat(spliced.size()).isEqualTo(6);
+        assertThat(ids(spliced.sortedByPrice(false, 1))).containsExactly(2L);
+        assertThat(ids(spliced.byCategory(20L, 0, 10))).contains(6L);
+    }
+
+    @Test
+    @DisplayName("Should merge changed games and drop games that are gone")
+    void shouldMergeChangesAndDropMissingGames() {
+        CatalogSnapshot merged = snapshot.merge(
+                List.of(game(3L, "Medieval II", "alice", "4.99", 20L), game(6L, "Newcomer", "dave", "15.00", 10L)),
+                Set.of(1L, 3L, 5L, 6L));
+
+        assertThat(ids(merged.sortedByPrice(true, 10))).containsExactly(3L, 6L, 1L, 5L);
+        assertThat(merged.byAuthor("alice", 10)).extracting(Response::title).containsExactly("Medieval II", "Zelda Like");
+    }
+
+    @Test
+    @DisplayName("Should patch in another node's writes and keep the same snapshot when nothing differs")
+    void shouldPatchChangesAndKeepUnchangedSnapshot() {
+        CatalogSnapshot patched = snapshot.patch(
+                List.of(game(2L, "Asteroids", "bob", "9.99", 10L), game(6L, "Newcomer", "dave", "15.00", 10L)),
+                List.of(5L, 7L));
+
+        assertThat(ids(patched.sortedByPrice(true, 10))).containsExactly(2L, 4L, 6L, 3L, 1L);
+        Response unchanged = snapshot.games().getFirst();
+        assertThat(snapshot.patch(List.of(unchanged), List.of(7L))).isSameAs(snapshot);
+        assertThat(snapshot.patch(List.of(), List.of())).isSameAs(snapshot);
+    }
+
+    @Test
+    @DisplayName("Should swap a re-rated game in place and fall back to a splice when its position moves")
+    void shouldReplaceRatedGameInPlace() {
+        Response original = snapshot.games().get(2);
+        Response rated = new Response(original.id(), original.title(), original.author(), original.price(),
+                original.category(), original.createdAt(), LocalDateTime.now(), new BigDecimal("4.50"), 2);
+
+        CatalogSnapshot replaced = snapshot.replacing(rated);
+
+        assertThat(replaced.games().get(2)).isSameAs(rated);
+        assertThat(ids(replaced.byAuthor("alice", 10))).containsExactly(3L, 1L);
+        assertThat(replaced.byCategory(20L, 0, 10)).extracting(Response::averageRating)
+                .containsExactly(null, new BigDecimal("4.50"));
+        assertThat(snapshot.games().get(2)).isSameAs(original);
+
+        CatalogSnapshot renamed = snapshot.replacing(game(3L, "Another Medieval", "alice", "19.99", 20L));
+        assertThat(ids(renamed.byCategory(20L, 0, 10))).containsExactly(3L, 4L);
+    }
+
+    @Test
+    @DisplayName("Should add and replace a batch of games in one step")
+    void shouldAddAndReplaceBatch() {
+        CatalogSnapshot batched = snapshot.withAll(
+                List.of(game(1L, "Zelda Like", "alice", "5.00", 10L), game(6L, "Imported", "dave", "15.00", 20L)));
+
+        assertThat(ids(batched.sortedByPrice(true, 10))).containsExactly(1L, 2L, 4L, 6L, 3L, 5L);
+        assertThat(ids(batched.byCategory(20L, 0, 10))).containsExactly(4L, 6L, 3L);
+        assertThat(snapshot.size()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should report the newest game or category modification")
+    void shouldReportLastModification() {
+        LocalDateTime old = LocalDateTime.of(2025, 1, 1, 0, 0);
+        CategoryResponse renamed = new CategoryResponse(10L, "Action", "owner", 1L, old, old.plusDays(3));
+        CatalogSnapshot dated = CatalogSnapshot.of(List.of(
+                new Response(1L, "A", "alice", BigDecimal.ONE, renamed, old, old.plusDays(1)),
+                new Response(2L, "B", "bob", BigDecimal.TEN, renamed, old.plusDays(2), null)));
+
+        assertThat(dated.lastModified()).contains(old.plusDays(3));
+        assertThat(CatalogSnapshot.EMPTY.lastModified()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should hand out read-only views")
+    void shouldHandOutReadOnlyViews() {
+        List<Response> byPrice = snapshot.sortedByPrice(true, 10);
+        List<Response> byAuthor = snapshot.byAuthor("alice", 10);
+
+        assertThatThrownBy(() -> byPrice.set(0, null)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> byAuthor.add(null)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private static List<Long> ids(List<Response> games) {
+        return games.stream().map(Response::id).toList();
+    }
+
+    private static Response game(Long id, String title, String author, String price, Long categoryId) {
+        CategoryResponse category = new CategoryResponse(categoryId, "Category " + categoryId, "owner", 1L,
+                LocalDateTime.now(), LocalDateTime.now());
+        return new Response(id, title, author, new BigDecimal(price), category, LocalDateTime.now(), LocalDateTime.now());
+    }
+}
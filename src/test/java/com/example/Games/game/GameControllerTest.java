@@ -1,33 +1,60 @@
 package com.example.Games.game;
 
+import com.example.Games.config.cache.CatalogVersion;
 import com.example.Games.config.common.dto.ApiResponse;
 import com.example.Games.config.common.dto.PagedApiResponse;
 import com.example.Games.config.common.mappers.ResponseMapStruct;
 import com.example.Games.config.exception.game.GameNotFoundException;
 import com.example.Games.config.exception.game.GameTitleAlreadyExistsException;
 import com.example.Games.config.test.WebMvcTestWithoutSecurity;
+import com.example.Games.game.dto.BulkPriceUpdateRequest;
+import com.example.Games.game.dto.BulkPriceUpdateResponse;
 import com.example.Games.game.dto.CreateRequest;
+import com.example.Games.game.dto.CategoryFacet;
+import com.example.Games.game.dto.CursorPagedResponse;
+import com.example.Games.game.dto.GameBatchItem;
+import com.example.Games.game.dto.GameBatchResponse;
+import com.example.Games.game.dto.GameChangesResponse;
+import com.example.Games.game.dto.GameImportError;
+import com.example.Games.game.dto.GameImportProgress;
+import com.example.Games.game.dto.GameSearchRequest;
+import com.example.Games.game.dto.GameSearchResponse;
+import com.example.Games.game.dto.PriceBucket;
+import com.example.Games.game.dto.PriceChange;
+import com.example.Games.game.dto.PriceChangeMode;
+import com.example.Games.game.dto.SearchFacets;
+import com.example.Games.game.dto.SlicedResponse;
+import com.example.Games.game.dto.SparseCursorPagedResponse;
 import com.example.Games.game.dto.PagedResponse;
 import com.example.Games.game.dto.Response;
 import com.example.Games.game.dto.UpdateRequest;
 import com.example.Games.category.dto.CategoryResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTestWithoutSecurity(GameController.class)
+@Import(GameDocumentCache.class)
 @DisplayName("GameController Tests")
 class GameControllerTest {
 
@@ -43,6 +70,20 @@ class GameControllerTest {
     @MockitoBean
     private ResponseMapStruct responseMapper;
 
+    @MockitoBean
+    private GameImportService importService;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Autowired
+    private GameDocumentCache gameDocuments;
+
+    @BeforeEach
+    void clearRenderedDocuments() {
+        gameDocuments.clear();
+    }
+
     @Test
     @DisplayName("Should create game successfully")
     void shouldCreateGameSuccessfully() throws Exception {
@@ -168,29 +209,167 @@ class GameControllerTest {
         Response game2 = new Response(2L, "Game 2", "dev2", new BigDecimal("29.99"),
                 categoryResponse, LocalDateTime.now(), LocalDateTime.now());
 
-        List<Response> games = List.of(game1, game2);
-        ApiResponse<List<Response>> apiResponse = ApiResponse.success("Games retrieved successfully", games);
+        CursorPagedResponse games = new CursorPagedResponse(List.of(game1, game2), "next-token", true, 2);
+        ApiResponse<CursorPagedResponse> apiResponse = ApiResponse.success("Games retrieved successfully", games);
 
-        when(gameService.getAllGames()).thenReturn(games);
+        when(gameService.getAllGames("price", "desc", null, 2)).thenReturn(games);
         when(responseMapper.toSuccessResponse("Games retrieved successfully", games))
                 .thenReturn(apiResponse);
 
         // When & Then
         mockMvc.perform(get("/api/v1/games")
+                        .param("sort", "price")
+                        .param("direction", "desc")
+                        .param("limit", "2")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.message").value("Games retrieved successfully"))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data.length()").value(2))
-                .andExpect(jsonPath("$.data[0].id").value(1))
-                .andExpect(jsonPath("$.data[0].title").value("Game 1"))
-                .andExpect(jsonPath("$.data[1].id").value(2))
-                .andExpect(jsonPath("$.data[1].title").value("Game 2"));
-
-        verify(gameService).getAllGames();
+                .andExpect(jsonPath("$.data.games").isArray())
+                .andExpect(jsonPath("$.data.games.length()").value(2))
+                .andExpect(jsonPath("$.data.games[0].id").value(1))
+                .andExpect(jsonPath("$.data.games[0].title").value("Game 1"))
+                .andExpect(jsonPath("$.data.games[1].id").value(2))
+                .andExpect(jsonPath("$.data.games[1].title").value("Game 2"))
+                .andExpect(jsonPath("$.data.nextCursor").value("next-token"))
+                .andExpect(jsonPath("$.data.hasNext").value(true));
+
+        verify(gameService).getAllGames("price", "desc", null, 2);
         verify(responseMapper).toSuccessResponse("Games retrieved successfully", games);
     }
+    @Test
+    @DisplayName("Should route ?fields= to the sparse listing")
+    void shouldRouteFieldsToSparseListing() throws Exception {
+        // Given
+        SparseCursorPagedResponse games = new SparseCursorPagedResponse(
+                List.of(Map.of("id", 1, "title", "Adventure Quest")), null, false, 20);
+        ApiResponse<SparseCursorPagedResponse> apiResponse = ApiResponse.success("Games retrieved successfully", games);
+
+        when(gameService.getAllGames("id", "asc", null, 20, "id,title")).thenReturn(games);
+        when(responseMapper.toSuccessResponse("Games retrieved successfully", games)).thenReturn(apiResponse);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/games").param("fields", "id,title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.games[0].title").value("Adventure Quest"))
+                .andExpect(jsonPath("$.data.games[0].price").doesNotExist())
+                .andExpect(jsonPath("$.data.games[0].category").doesNotExist());
+
+        verify(gameService).getAllGames("id", "asc", null, 20, "id,title");
+        verify(gameService, never()).getAllGames(anyString(), anyString(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should run combined search with facets")
+    void shouldRunCombinedSearchWithFacets() throws Exception {
+        // Given
+        CategoryResponse categoryResponse = new CategoryResponse(
+                1L, "Action", "gamedev", 1L, LocalDateTime.now(), LocalDateTime.now()
+        );
+        Response game = new Response(1L, "Adventure Quest", "dev1", new BigDecimal("29.99"),
+                categoryResponse, LocalDateTime.now(), LocalDateTime.now());
+        SearchFacets facets = new SearchFacets(
+                List.of(new CategoryFacet(1L, "Action", 1)),
+                PriceBucket.of(List.of(new BigDecimal("10")), new long[]{0, 1}));
+        GameSearchResponse result = new GameSearchResponse(List.of(game), null, false, 20, facets);
+        GameSearchRequest request = new GameSearchRequest("quest", "dev1", List.of(1L, 2L),
+                new BigDecimal("10"), null, "price", "desc", null, 20);
+        ApiResponse<GameSearchResponse> apiResponse = ApiResponse.success("Search completed", result);
+
+        when(gameService.searchGames(request)).thenReturn(result);
+        when(responseMapper.toSuccessResponse("Search completed", result)).thenReturn(apiResponse);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/games/search")
+                        .param("title", "quest")
+                        .param("author", "dev1")
+                        .param("categoryIds", "1,2")
+                        .param("minPrice", "10")
+                        .param("sort", "price")
+                        .param("direction", "desc")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.games[0].title").value("Adventure Quest"))
+                .andExpect(jsonPath("$.data.facets.categories[0].count").value(1))
+                .andExpect(jsonPath("$.data.facets.priceBuckets[1].from").value(10))
+                .andExpect(jsonPath("$.data.facets.priceBuckets[1].count").value(1));
+
+        verify(gameService).searchGames(request);
+    }
+
+    @Test
+    @DisplayName("Should tag catalog reads with the catalog version and revalidation headers")
+    void shouldTagCatalogReadsWithVersion() throws Exception {
+        stubGame(1L, "Tagged Game");
+
+        mockMvc.perform(get("/api/v1/games/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", catalogVersion.etag()))
+                .andExpect(header().string("Cache-Control", "max-age=0, must-revalidate, public"));
+    }
+
+    @Test
+    @DisplayName("Should answer a current If-None-Match with 304 without calling the service")
+    void shouldAnswerCurrentIfNoneMatchWithNotModified() throws Exception {
+        mockMvc.perform(get("/api/v1/games/1").header("If-None-Match", catalogVersion.etag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", catalogVersion.etag()));
+        mockMvc.perform(get("/api/v1/games").header("If-None-Match", catalogVersion.etag()))
+                .andExpect(status().isNotModified());
+
+        verifyNoInteractions(gameService);
+    }
+
+    @Test
+    @DisplayName("Should serve a fresh body once a write has bumped the catalog version")
+    void shouldServeFreshBodyAfterVersionBump() throws Exception {
+        stubGame(1L, "Fresh Game");
+        String staleTag = catalogVersion.etag();
+        catalogVersion.bumpAfterCommit();
+
+        mockMvc.perform(get("/api/v1/games/1").header("If-None-Match", staleTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", catalogVersion.etag()));
+
+        verify(gameService).getGameById(1L);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads from the rendered document without calling the service")
+    void shouldServeRepeatedReadsFromRenderedDocument() throws Exception {
+        stubGame(1L, "Cached Game");
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/v1/games/1"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(header().string("Vary", "Accept-Encoding"))
+                    .andExpect(jsonPath("$.data.title").value("Cached Game"));
+        }
+
+        verify(gameService, times(1)).getGameById(1L);
+    }
+
+    @Test
+    @DisplayName("Should send the gzip variant only to clients that accept it")
+    void shouldNegotiateGzipVariant() throws Exception {
+        stubGame(1L, "Compressed Game");
+
+        byte[] compressed = mockMvc.perform(get("/api/v1/games/1").header("Accept-Encoding", "br, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            ApiResponse<?> body = objectMapper.readValue(in, ApiResponse.class);
+            assertThat(body.message()).isEqualTo("Game retrieved successfully");
+        }
+
+        mockMvc.perform(get("/api/v1/games/1").header("Accept-Encoding", "gzip;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(jsonPath("$.data.title").value("Compressed Game"));
+    }
+
     @Test
     @DisplayName("Should delete game successfully")
     void shouldDeleteGameSuccessfully() throws Exception {
@@ -229,7 +408,7 @@ class GameControllerTest {
         List<Response> searchResults = List.of(game1);
         ApiResponse<List<Response>> apiResponse = ApiResponse.success("Search completed", searchResults);
 
-        when(gameService.searchByTitle(searchTitle)).thenReturn(searchResults);
+        when(gameService.searchByTitle(searchTitle, 20)).thenReturn(searchResults);
         when(responseMapper.toSuccessResponse("Search completed", searchResults))
                 .thenReturn(apiResponse);
 
@@ -244,7 +423,7 @@ class GameControllerTest {
                 .andExpect(jsonPath("$.data.length()").value(1))
                 .andExpect(jsonPath("$.data[0].title").value("Adventure Quest"));
 
-        verify(gameService).searchByTitle(searchTitle);
+        verify(gameService).searchByTitle(searchTitle, 20);
         verify(responseMapper).toSuccessResponse("Search completed", searchResults);
     }
 
@@ -263,7 +442,7 @@ class GameControllerTest {
         List<Response> searchResults = List.of(game1);
         ApiResponse<List<Response>> apiResponse = ApiResponse.success("Search completed", searchResults);
 
-        when(gameService.searchGamesByAuthor(authorName)).thenReturn(searchResults);
+        when(gameService.searchGamesByAuthor(authorName, 20)).thenReturn(searchResults);
         when(responseMapper.toSuccessResponse("Search completed", searchResults))
                 .thenReturn(apiResponse);
 
@@ -275,7 +454,31 @@ class GameControllerTest {
                 .andExpect(jsonPath("$.message").value("Search completed"))
                 .andExpect(jsonPath("$.data[0].author").value("gamedev"));
 
-        verify(gameService).searchGamesByAuthor(authorName);
+        verify(gameService).searchGamesByAuthor(authorName, 20);
+    }
+
+    @Test
+    @DisplayName("Should search games by tag combination and price")
+    void shouldSearchGamesByTags() throws Exception {
+        // Given
+        CategoryResponse categoryResponse = new CategoryResponse(
+                1L, "Action", "gamedev", 1L, LocalDateTime.now(), LocalDateTime.now()
+        );
+        Response game1 = new Response(1L, "Dev Game", "gamedev", new BigDecimal("29.99"),
+                categoryResponse, LocalDateTime.now(), LocalDateTime.now());
+        List<Response> searchResults = List.of(game1);
+        when(gameService.searchGamesByTags(List.of("co-op", "roguelike"), null, List.of("horror"),
+                null, new BigDecimal("30"), 20)).thenReturn(searchResults);
+        when(responseMapper.toSuccessResponse("Search completed", searchResults))
+                .thenReturn(ApiResponse.success("Search completed", searchResults));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/games/search/tags")
+                        .param("all", "co-op", "roguelike")
+                        .param("none", "horror")
+                        .param("maxPrice", "30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].title").value("Dev Game"));
     }
 
     @Test
@@ -295,7 +498,7 @@ class GameControllerTest {
         List<Response> filteredGames = List.of(game1);
         ApiResponse<List<Response>> apiResponse = ApiResponse.success("Price filter applied", filteredGames);
 
-        when(gameService.getGamesInPriceRange(minPrice, maxPrice)).thenReturn(filteredGames);
+        when(gameService.getGamesInPriceRange(minPrice, maxPrice, 20)).thenReturn(filteredGames);
         when(responseMapper.toSuccessResponse("Price filter applied", filteredGames))
                 .thenReturn(apiResponse);
 
@@ -308,7 +511,7 @@ class GameControllerTest {
                 .andExpect(jsonPath("$.message").value("Price filter applied"))
                 .andExpect(jsonPath("$.data[0].price").value(35.99));
 
-        verify(gameService).getGamesInPriceRange(minPrice, maxPrice);
+        verify(gameService).getGamesInPriceRange(minPrice, maxPrice, 20);
     }
 
     @Test
@@ -327,7 +530,7 @@ class GameControllerTest {
 
         ApiResponse<List<Response>> apiResponse = ApiResponse.success("Games sorted by price ascending", sortedGames);
 
-        when(gameService.getGamesSortedByPrice(true)).thenReturn(sortedGames);
+        when(gameService.getGamesSortedByPrice(true, 20)).thenReturn(sortedGames);
         when(responseMapper.toSuccessResponse("Games sorted by price ascending", sortedGames))
                 .thenReturn(apiResponse);
 
@@ -340,7 +543,7 @@ class GameControllerTest {
                 .andExpect(jsonPath("$.data").isArray())
                 .andExpect(jsonPath("$.data.length()").value(2));
 
-        verify(gameService).getGamesSortedByPrice(true);
+        verify(gameService).getGamesSortedByPrice(true, 20);
     }
 
     @Test
@@ -483,4 +686,133 @@ class GameControllerTest {
         verify(responseMapper).toSuccessResponse("Games retrieved for category", pagedResponse);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should page a category without totals when count=false")
+    void shouldSliceGamesByCategory() throws Exception {
+        SlicedResponse slice = new SlicedResponse(List.of(), 2, 10, true);
+        when(gameService.getGamesByCategorySlice(1L, 2, 10)).thenReturn(slice);
+        when(responseMapper.toSuccessResponse("Games retrieved for category", slice))
+                .thenReturn(ApiResponse.success("Games retrieved for category", slice));
+
+        mockMvc.perform(get("/api/v1/games/category/{categoryId}", 1L)
+                        .param("page", "2")
+                        .param("count", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.totalElements").doesNotExist());
+
+        verify(gameService, never()).getGamesByCategoryPaged(anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should resolve a batch of ids in one call")
+    void shouldResolveBatchOfIds() throws Exception {
+        GameBatchResponse batch = new GameBatchResponse(List.of(GameBatchItem.notFound(7L)), 0, 1);
+        when(gameService.getGamesByIds(List.of(7L))).thenReturn(batch);
+        when(responseMapper.toSuccessResponse("Games retrieved successfully", batch))
+                .thenReturn(ApiResponse.success("Games retrieved successfully", batch));
+
+        mockMvc.perform(get("/api/v1/games/batch").param("ids", "7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.games[0].id").value(7))
+                .andExpect(jsonPath("$.data.games[0].found").value(false))
+                .andExpect(jsonPath("$.data.notFound").value(1));
+
+        verify(gameService).getGamesByIds(List.of(7L));
+        verify(gameService, never()).getGameById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should return changes since an ISO timestamp")
+    void shouldReturnChangesSinceTimestamp() throws Exception {
+        LocalDateTime since = LocalDateTime.of(2024, 1, 1, 12, 0);
+        GameChangesResponse changes = new GameChangesResponse(List.of(), List.of(5L), List.of(), "next", false);
+        when(gameService.getChanges(since, null, 200)).thenReturn(changes);
+        when(responseMapper.toSuccessResponse("Changes retrieved successfully", changes))
+                .thenReturn(ApiResponse.success("Changes retrieved successfully", changes));
+
+        mockMvc.perform(get("/api/v1/games/changes").param("since", "2024-01-01T12:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.deleted[0]").value(5))
+                .andExpect(jsonPath("$.data.nextToken").value("next"))
+                .andExpect(jsonPath("$.data.hasMore").value(false));
+
+        verify(gameService).getChanges(since, null, 200);
+    }
+
+    @Test
+    @DisplayName("Should stream import errors, progress and the summary back as NDJSON")
+    void shouldStreamImportResults() throws Exception {
+        when(importService.importGames(any(), eq(GameImportFormat.CSV), any())).thenAnswer(invocation -> {
+            GameImportListener listener = invocation.getArgument(2);
+            listener.rowFailed(new GameImportError(3, "Dup", "Game with title 'Dup' already exists"));
+            listener.batchImported(new GameImportProgress(2, 1, 1, false));
+            return new GameImportProgress(2, 1, 1, true);
+        });
+
+        String body = mockMvc.perform(post("/api/v1/games/import")
+                        .contentType("text/csv")
+                        .content("title,price,categoryId\nFresh,9.99,1\nDup,9.99,1\n"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body.lines().toList()).containsExactly(
+                "{\"line\":3,\"title\":\"Dup\",\"error\":\"Game with title 'Dup' already exists\"}",
+                "{\"processed\":2,\"imported\":1,\"failed\":1,\"done\":false}",
+                "{\"processed\":2,\"imported\":1,\"failed\":1,\"done\":true}");
+    }
+
+    @Test
+    @DisplayName("Should reject imports in other content types")
+    void shouldRejectUnsupportedImportContentType() throws Exception {
+        mockMvc.perform(post("/api/v1/games/import")
+                        .contentType(MediaType.APPLICATION_XML)
+                        .content("<games/>"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(importService);
+    }
+
+    @Test
+    @DisplayName("Should reprice games in bulk")
+    void shouldRepriceGamesInBulk() throws Exception {
+        BulkPriceUpdateRequest request = new BulkPriceUpdateRequest(
+                List.of(1L), null, PriceChangeMode.PERCENT, new BigDecimal("-10"));
+        BulkPriceUpdateResponse updated = new BulkPriceUpdateResponse(1, List.of(
+                new PriceChange(1L, "Game", new BigDecimal("20.00"), new BigDecimal("18.00"))));
+        when(gameService.updatePrices(request)).thenReturn(updated);
+        when(responseMapper.toSuccessResponse("Prices updated successfully", updated))
+                .thenReturn(ApiResponse.success("Prices updated successfully", updated));
+
+        mockMvc.perform(patch("/api/v1/games/prices")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.updated").value(1))
+                .andExpect(jsonPath("$.data.changes[0].newPrice").value(18.00));
+
+        verify(gameService).updatePrices(request);
+    }
+
+    @Test
+    @DisplayName("Should reject a bulk repricing without a mode")
+    void shouldRejectBulkRepricingWithoutMode() throws Exception {
+        mockMvc.perform(patch("/api/v1/games/prices")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"gameIds\":[1],\"value\":5}"))
+                .andExpect(status().isBadRequest());
+
+        verify(gameService, never()).updatePrices(any());
+    }
+
+    private void stubGame(Long id, String title) {
+        CategoryResponse category = new CategoryResponse(1L, "Action", "gamedev", 1L,
+                LocalDateTime.now(), LocalDateTime.now());
+        Response game = new Response(id, title, "gamedev", new BigDecimal("19.99"), category,
+                LocalDateTime.now(), LocalDateTime.now());
+        when(gameService.getGameById(id)).thenReturn(game);
+        when(responseMapper.toSuccessResponse("Game retrieved successfully", game))
+                .thenReturn(ApiResponse.success("Game retrieved successfully", game));
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.Games.game;
+
+import com.example.Games.category.dto.CategoryResponse;
+import com.example.Games.config.common.dto.ApiResponse;
+import com.example.Games.game.dto.Response;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+// Per-request CPU of GET /api/v1/games/{id}: serializing and gzipping every time vs writing the rendered bytes.
+// Run with: mvn test -Pbenchmark
+@Tag("benchmark")
+@DisplayName("GameDocumentCache Benchmark")
+class GameDocumentCacheBenchmarkTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 50_000;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    @Test
+    @DisplayName("Rendered documents should cost a fraction of the CPU of per-request serialization")
+    void renderedDocumentsShouldSaveCpu() throws Exception {
+        Response game = new Response(1L, "Benchmark Adventure: The Long Subtitle Edition", "benchmark-studio",
+                new BigDecimal("39.99"),
+                new CategoryResponse(7L, "Role-Playing", "benchmark-studio", 42L,
+                        LocalDateTime.now(), LocalDateTime.now()),
+                LocalDateTime.now(), LocalDateTime.now());
+        GameDocumentCache cache = new GameDocumentCache(objectMapper, DataSize.ofMegabytes(8), Duration.ofMinutes(10));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/games/1");
+        request.addHeader("Accept-Encoding", "gzip");
+        HttpServletResponse response = discardingResponse();
+
+        Request perRequest = () -> {
+            byte[] json = objectMapper.writeValueAsBytes(ApiResponse.success("Game retrieved successfully", game));
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+                out.write(json);
+            }
+            response.setContentType("application/json");
+            response.setHeader("Content-Encoding", "gzip");
+            response.getOutputStream().write(buffer.toByteArray());
+        };
+        Request rendered = () -> cache.byId(1L, () -> ApiResponse.success("Game retrieved successfully", game))
+                .writeTo(request, response);
+
+        long perRequestNanos = cpuNanosPerRequest(perRequest);
+        long renderedNanos = cpuNanosPerRequest(rendered);
+        System.out.printf("GET /api/v1/games/{id} CPU per request: serialize+gzip %,d ns, rendered bytes %,d ns (%.1fx)%n",
+                perRequestNanos, renderedNanos, (double) perRequestNanos / Math.max(1, renderedNanos));
+
+        assertThat(renderedNanos * 5).isLessThan(perRequestNanos);
+    }
+
+    private long cpuNanosPerRequest(Request request) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            request.serve();
+        }
+        long start = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            request.serve();
+        }
+        return (threads.getCurrentThreadCpuTime() - start) / ITERATIONS;
+    }
+
+    // Mock responses parse and store every header, which would cost more than the rendered path itself
+    private static HttpServletResponse discardingResponse() {
+        ServletOutputStream sink = new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+        };
+        return (HttpServletResponse) Proxy.newProxyInstance(HttpServletResponse.class.getClassLoader(),
+                new Class<?>[]{HttpServletResponse.class},
+                (proxy, method, args) -> method.getName().equals("getOutputStream") ? sink : null);
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        void serve() throws Exception;
+    }
+}
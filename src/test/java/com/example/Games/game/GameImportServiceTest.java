@@ -0,0 +1,169 @@
+package com.example.Games.game;
+
+import com.example.Games.config.common.service.UserContextService;
+import com.example.Games.config.exception.game.InvalidGameDataException;
+import com.example.Games.game.dto.CreateRequest;
+import com.example.Games.game.dto.GameImportError;
+import com.example.Games.game.dto.GameImportProgress;
+import com.example.Games.user.auth.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GameImportService Tests")
+class GameImportServiceTest {
+
+    @Mock
+    private GameImportWriter writer;
+
+    @Mock
+    private UserContextService userContextService;
+
+    @Captor
+    private ArgumentCaptor<List<GameImportWriter.Row>> batchCaptor;
+
+    private GameImportService importService;
+    private User developer;
+    private final List<GameImportError> errors = new ArrayList<>();
+    private final List<GameImportProgress> progress = new ArrayList<>();
+    private final GameImportListener listener = new GameImportListener() {
+        @Override
+        public void rowFailed(GameImportError error) {
+            errors.add(error);
+        }
+
+        @Override
+        public void batchImported(GameImportProgress batch) {
+            progress.add(batch);
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        importService = new GameImportService(writer, userContextService, new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator());
+        developer = User.builder().id(1L).username("gamedev").build();
+        lenient().when(userContextService.getAuthorizedUser()).thenReturn(developer);
+    }
+
+    @Test
+    @DisplayName("Should batch valid NDJSON rows and report unparsable and invalid ones by line")
+    void shouldImportNdjson() throws Exception {
+        String file = """
+                {"title":"First","price":9.99,"categoryId":1}
+                not json
+
+                {"title":"Cheap","price":0,"categoryId":1}
+                {"title":"Second","price":19.99,"categoryId":2}
+                """;
+        when(writer.importBatch(anyList(), eq(developer))).thenReturn(List.of());
+
+        GameImportProgress summary = importService.importGames(new StringReader(file), GameImportFormat.NDJSON, listener);
+
+        verify(writer).importBatch(batchCaptor.capture(), eq(developer));
+        assertThat(batchCaptor.getValue()).extracting(GameImportWriter.Row::line).containsExactly(1L, 5L);
+        assertThat(batchCaptor.getValue().getLast().game())
+                .isEqualTo(new CreateRequest("Second", new BigDecimal("19.99"), 2L));
+        assertThat(errors).extracting(GameImportError::line).containsExactly(2L, 4L);
+        assertThat(errors.get(1).title()).isEqualTo("Cheap");
+        assertThat(errors.get(1).error()).isEqualTo("Price must be at least $0.01");
+        assertThat(progress).containsExactly(new GameImportProgress(4, 2, 2, false));
+        assertThat(summary).isEqualTo(new GameImportProgress(4, 2, 2, true));
+    }
+
+    @Test
+    @DisplayName("Should read CSV columns by header name, with quoted titles")
+    void shouldImportCsv() throws Exception {
+        String file = """
+                categoryId,Title,price
+                3,"Heroes, Villains and ""Others\"\"",14.50
+                3,,14.50
+                """;
+        when(writer.importBatch(anyList(), eq(developer))).thenReturn(List.of());
+
+        GameImportProgress summary = importService.importGames(new StringReader(file), GameImportFormat.CSV, listener);
+
+        verify(writer).importBatch(batchCaptor.capture(), eq(developer));
+        assertThat(batchCaptor.getValue()).extracting(GameImportWriter.Row::game)
+                .containsExactly(new CreateRequest("Heroes, Villains and \"Others\"", new BigDecimal("14.50"), 3L));
+        assertThat(errors).containsExactly(new GameImportError(3, null, "Title is required"));
+        assertThat(summary).isEqualTo(new GameImportProgress(2, 1, 1, true));
+    }
+
+    @Test
+    @DisplayName("Should reject a CSV file without the required header")
+    void shouldRejectCsvWithoutHeader() {
+        assertThatThrownBy(() -> importService.importGames(
+                new StringReader("First,9.99,1\n"), GameImportFormat.CSV, listener))
+                .isInstanceOf(InvalidGameDataException.class)
+                .hasMessageContaining("header");
+
+        verifyNoInteractions(writer);
+    }
+
+    @Test
+    @DisplayName("Should write fixed-size batches and forward the rows each batch rejected")
+    void shouldWriteFixedSizeBatches() throws Exception {
+        int rows = GameImportService.BATCH_SIZE + 1;
+        String file = IntStream.rangeClosed(1, rows)
+                .mapToObj(i -> "{\"title\":\"Game " + i + "\",\"price\":9.99,\"categoryId\":1}")
+                .collect(Collectors.joining("\n"));
+        GameImportError duplicate = new GameImportError(7, "Game 7", "Game with title 'Game 7' already exists");
+        when(writer.importBatch(anyList(), eq(developer))).thenReturn(List.of(duplicate), List.of());
+
+        GameImportProgress summary = importService.importGames(new StringReader(file), GameImportFormat.NDJSON, listener);
+
+        verify(writer, times(2)).importBatch(batchCaptor.capture(), eq(developer));
+        assertThat(batchCaptor.getAllValues()).extracting(List::size)
+                .containsExactly(GameImportService.BATCH_SIZE, 1);
+        assertThat(errors).containsExactly(duplicate);
+        assertThat(progress).extracting(GameImportProgress::processed)
+                .containsExactly((long) GameImportService.BATCH_SIZE, (long) rows);
+        assertThat(summary).isEqualTo(new GameImportProgress(rows, rows - 1, 1, true));
+    }
+
+    @Test
+    @DisplayName("Should report every row of a batch that a concurrent write rolled back")
+    void shouldReportRolledBackBatch() throws Exception {
+        String file = """
+                {"title":"First","price":9.99,"categoryId":1}
+                {"title":"Second","price":9.99,"categoryId":1}
+                """;
+        when(writer.importBatch(anyList(), eq(developer)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        GameImportProgress summary = importService.importGames(new StringReader(file), GameImportFormat.NDJSON, listener);
+
+        assertThat(errors).extracting(GameImportError::line).containsExactly(1L, 2L);
+        assertThat(summary).isEqualTo(new GameImportProgress(2, 0, 2, true));
+    }
+
+    @Test
+    @DisplayName("Should split CSV lines on unquoted commas only")
+    void shouldSplitCsvFields() {
+        assertThat(GameImportService.csvFields("a,\"b,c\",,\"d\"\"e\""))
+                .containsExactly("a", "b,c", "", "d\"e");
+        assertThatThrownBy(() -> GameImportService.csvFields("\"open"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
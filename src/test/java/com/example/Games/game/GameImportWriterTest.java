@@ -0,0 +1,167 @@
+package com.example.Games.game;
+
+import com.example.Games.category.Category;
+import com.example.Games.category.CategoryGameCounter;
+import com.example.Games.config.TestJpaAuditingConfig;
+import com.example.Games.config.cache.CatalogVersion;
+import com.example.Games.config.common.service.UserContextService;
+import com.example.Games.game.dto.CreateRequest;
+import com.example.Games.game.dto.GameImportError;
+import com.example.Games.game.dto.GameTerm;
+import com.example.Games.gameHistory.ActionType;
+import com.example.Games.gameHistory.GameHistory;
+import com.example.Games.gameHistory.GameHistoryMapStructImpl;
+import com.example.Games.gameHistory.GameHistoryService;
+import com.example.Games.purchase.preorder.ReleaseScheduler;
+import com.example.Games.typeahead.TypeaheadIndex;
+import com.example.Games.user.auth.User;
+import com.example.Games.user.role.Role;
+import com.example.Games.user.role.RoleType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+@Import({TestJpaAuditingConfig.class, GameImportWriter.class, GameHistoryService.class, GameHistoryMapStructImpl.class})
+@ActiveProfiles("test")
+@DisplayName("GameImportWriter Tests")
+class GameImportWriterTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private GameImportWriter writer;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @MockitoBean
+    private GameTitleIndex titleIndex;
+
+    @MockitoBean
+    private GameCatalog catalog;
+
+    @MockitoBean
+    private CategoryGameCounter categoryCounter;
+
+    @MockitoBean
+    private TypeaheadIndex typeahead;
+
+    @MockitoBean
+    private CatalogVersion catalogVersion;
+
+    @MockitoBean
+    private ReleaseScheduler releases;
+
+    @MockitoBean
+    private GameSyncStamper syncStamper;
+
+    @MockitoBean
+    private UserContextService userContextService;
+
+    private User developer;
+    private Category actionCategory;
+
+    @BeforeEach
+    void setUp() {
+        // Startup listeners such as GameTitleIndex.rebuild run against these mocks when the context starts
+        clearInvocations(titleIndex, catalog, categoryCounter, typeahead, catalogVersion, releases);
+        Role role = entityManager.persistAndFlush(Role.builder().name(RoleType.DEVELOPER).build());
+        developer = entityManager.persistAndFlush(User.builder()
+                .username("gamedev").email("dev@example.com").password("password123").role(role).build());
+        actionCategory = entityManager.persistAndFlush(Category.builder().name("Action").createdBy(developer).build());
+        entityManager.persistAndFlush(Game.builder()
+                .title("Existing Game")
+                .author(developer)
+                .price(new BigDecimal("9.99"))
+                .category(actionCategory)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should insert the valid rows of a batch with their CREATE history and reject the rest")
+    void shouldInsertValidRowsAndRejectTheRest() {
+        Long categoryId = actionCategory.getId();
+        List<GameImportWriter.Row> rows = List.of(
+                new GameImportWriter.Row(2, new CreateRequest("Imported One", new BigDecimal("19.999"), categoryId)),
+                new GameImportWriter.Row(3, new CreateRequest("Existing Game", new BigDecimal("5.00"), categoryId)),
+                new GameImportWriter.Row(4, new CreateRequest("Imported Two", new BigDecimal("24.99"), 999L)),
+                new GameImportWriter.Row(5, new CreateRequest("Imported One", new BigDecimal("1.00"), categoryId)),
+                new GameImportWriter.Row(6, new CreateRequest("Imported Three", new BigDecimal("4.99"), categoryId)));
+
+        List<GameImportError> errors = writer.importBatch(rows, developer);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(errors).extracting(GameImportError::line).containsExactly(3L, 4L, 5L);
+        assertThat(errors.get(0).error()).contains("already exists");
+        assertThat(errors.get(1).error()).contains("999");
+
+        Game imported = gameRepository.findByTitle("Imported One").orElseThrow();
+        assertThat(imported.getPrice()).isEqualByComparingTo("20.00");
+        assertThat(imported.getAuthor().getId()).isEqualTo(developer.getId());
+        assertThat(imported.getCreatedAt()).isNotNull();
+        assertThat(gameRepository.findByTitle("Imported Three")).isPresent();
+
+        List<GameHistory> history = entityManager.getEntityManager()
+                .createQuery("SELECT h FROM GameHistory h WHERE h.actionType = :type", GameHistory.class)
+                .setParameter("type", ActionType.CREATE)
+                .getResultList();
+        assertThat(history).extracting(GameHistory::getDescription)
+                .containsExactlyInAnyOrder("Game 'Imported One' created", "Game 'Imported Three' created");
+
+        verify(titleIndex).index(imported.getId(), "Imported One");
+        verify(categoryCounter, times(2)).gameAdded(categoryId);
+        verify(typeahead).gamesSaved(argThat((Collection<GameTerm> terms) -> terms.size() == 2));
+        verify(typeahead, never()).gameSaved(any());
+        verify(catalog).refresh(argThat((Collection<Long> ids) -> ids.size() == 2));
+        verify(syncStamper).gamesChanged(argThat((Collection<Long> ids) -> ids.size() == 2));
+        verify(catalogVersion).bumpAfterCommit();
+        verifyNoInteractions(releases);
+    }
+
+    @Test
+    @DisplayName("Should store the release date of an imported pre-release game and schedule it")
+    void shouldScheduleImportedRelease() {
+        LocalDateTime releaseAt = LocalDateTime.now().plusDays(3).truncatedTo(ChronoUnit.SECONDS);
+
+        writer.importBatch(List.of(new GameImportWriter.Row(1, new CreateRequest("Coming Soon",
+                new BigDecimal("59.99"), actionCategory.getId(), releaseAt))), developer);
+        entityManager.flush();
+        entityManager.clear();
+
+        Game imported = gameRepository.findByTitle("Coming Soon").orElseThrow();
+        assertThat(imported.getReleaseAt()).isEqualTo(releaseAt);
+        assertThat(imported.isReleased()).isFalse();
+        verify(releases).schedule(imported.getId(), releaseAt);
+    }
+
+    @Test
+    @DisplayName("Should write nothing when every row of a batch is rejected")
+    void shouldWriteNothingForFullyRejectedBatch() {
+        List<GameImportError> errors = writer.importBatch(List.of(
+                new GameImportWriter.Row(1, new CreateRequest("Existing Game", new BigDecimal("5.00"),
+                        actionCategory.getId()))), developer);
+
+        assertThat(errors).hasSize(1);
+        assertThat(gameRepository.count()).isEqualTo(1);
+        verifyNoInteractions(titleIndex, catalog, categoryCounter, typeahead, catalogVersion);
+    }
+}
@@ -0,0 +1,248 @@
+package com.example.Games.game;
+
+import com.example.Games.category.Category;
+import com.example.Games.category.CategoryGameCounter;
+import com.example.Games.category.CategoryMapStructImpl;
+import com.example.Games.config.TestJpaAuditingConfig;
+import com.example.Games.config.cache.CatalogCacheEvictor;
+import com.example.Games.config.cache.CatalogVersion;
+import com.example.Games.config.common.service.UserContextService;
+import com.example.Games.discount.DiscountIndex;
+import com.example.Games.game.dto.CategoryFacet;
+import com.example.Games.game.dto.CursorPagedResponse;
+import com.example.Games.game.dto.GameBatchItem;
+import com.example.Games.game.dto.GameBatchResponse;
+import com.example.Games.game.dto.GameSearchRequest;
+import com.example.Games.game.dto.GameSearchResponse;
+import com.example.Games.game.dto.PagedResponse;
+import com.example.Games.game.dto.PriceBucket;
+import com.example.Games.game.dto.Response;
+import com.example.Games.game.dto.SparseCursorPagedResponse;
+import com.example.Games.gameHistory.GameHistoryService;
+import com.example.Games.purchase.preorder.ReleaseScheduler;
+import com.example.Games.tag.TagIndex;
+import com.example.Games.typeahead.TypeaheadIndex;
+import com.example.Games.user.auth.User;
+import com.example.Games.user.role.Role;
+import com.example.Games.user.role.RoleType;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@Import({TestJpaAuditingConfig.class, GameService.class, GameTitleIndex.class, GameCatalog.class, CatalogSnapshotFile.class, GameMapStructImpl.class, CategoryMapStructImpl.class})
+@ActiveProfiles("test")
+@DisplayName("Game list query count Tests")
+class GameQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private GameTitleIndex titleIndex;
+
+    @Autowired
+    private GameCatalog catalog;
+
+    @MockitoBean
+    private GameHistoryService historyService;
+
+    @MockitoBean
+    private UserContextService userContextService;
+
+    @MockitoBean
+    private CatalogCacheEvictor catalogCache;
+
+    @MockitoBean
+    private CatalogVersion catalogVersion;
+
+    @MockitoBean
+    private CategoryGameCounter categoryCounter;
+
+    @MockitoBean
+    private TypeaheadIndex typeahead;
+
+    @MockitoBean
+    private DiscountIndex discounts;
+
+    @MockitoBean
+    private ReleaseScheduler releases;
+
+    @MockitoBean
+    private TagIndex tagIndex;
+
+    @MockitoBean
+    private GameSyncStamper syncStamper;
+
+    private Statistics statistics;
+    private Category actionCategory;
+
+    @BeforeEach
+    void setUp() {
+        Role role = entityManager.persistAndFlush(Role.builder().name(RoleType.DEVELOPER).build());
+        User firstDev = entityManager.persistAndFlush(User.builder()
+                .username("firstdev").email("first@example.com").password("password123").role(role).build());
+        User secondDev = entityManager.persistAndFlush(User.builder()
+                .username("seconddev").email("second@example.com").password("password123").role(role).build());
+
+        actionCategory = entityManager.persistAndFlush(Category.builder().name("Action").createdBy(firstDev).build());
+        Category rpgCategory = entityManager.persistAndFlush(Category.builder().name("RPG").createdBy(secondDev).build());
+
+        persistGame("Quest One", firstDev, "19.99", actionCategory);
+        persistGame("Quest Two", secondDev, "29.99", rpgCategory);
+        persistGame("Quest Three", secondDev, "39.99", actionCategory);
+        persistGame("Other Title", firstDev, "49.99", rpgCategory);
+
+        titleIndex.rebuild();
+        catalog.reload();
+
+        // Start every test with an empty persistence context so lazy proxies would have to hit the database
+        entityManager.clear();
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Title search should issue a single statement")
+    void titleSearchShouldIssueSingleStatement() {
+        List<Response> games = countStatements(1, () -> gameService.searchByTitle("quest", 20));
+
+        assertThat(games).hasSize(3);
+        assertThat(games).allSatisfy(game -> assertThat(game.category().createdByUsername()).isNotNull());
+    }
+
+    @Test
+    @DisplayName("Author search should be served from the snapshot without SQL")
+    void authorSearchShouldIssueNoStatement() {
+        List<Response> games = countStatements(0, () -> gameService.searchGamesByAuthor("seconddev", 20));
+
+        assertThat(games).extracting(Response::title).containsExactlyInAnyOrder("Quest Two", "Quest Three");
+        assertThat(games).extracting(Response::author).containsOnly("seconddev");
+    }
+
+    @Test
+    @DisplayName("Price range filter should be served from the snapshot without SQL")
+    void priceRangeShouldIssueNoStatement() {
+        List<Response> games = countStatements(0,
+                () -> gameService.getGamesInPriceRange(new BigDecimal("20.00"), new BigDecimal("40.00"), 20));
+
+        assertThat(games).extracting(Response::title).containsExactly("Quest Two", "Quest Three");
+    }
+
+    @Test
+    @DisplayName("Price sort should be served from the snapshot without SQL")
+    void priceSortShouldIssueNoStatement() {
+        List<Response> games = countStatements(0, () -> gameService.getGamesSortedByPrice(false, 20));
+
+        assertThat(games).extracting(Response::title)
+                .containsExactly("Other Title", "Quest Three", "Quest Two", "Quest One");
+    }
+
+    @Test
+    @DisplayName("Category page should be served from the snapshot without SQL")
+    void categoryPageShouldIssueNoStatement() {
+        PagedResponse page = countStatements(0,
+                () -> gameService.getGamesByCategoryPaged(actionCategory.getId(), 0, 1));
+
+        assertThat(page.games()).extracting(Response::title).containsExactly("Quest One");
+        assertThat(page.games()).extracting(game -> game.category().name()).containsOnly("Action");
+        assertThat(page.totalElements()).isEqualTo(2);
+        assertThat(page.totalPages()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Keyset catalog page should issue a single statement")
+    void keysetPageShouldIssueSingleStatement() {
+        CursorPagedResponse page = countStatements(1, () -> gameService.getAllGames("price", "asc", null, 2));
+
+        assertThat(page.games()).extracting(Response::title).containsExactly("Quest One", "Quest Two");
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Sparse keyset page should issue a single statement and follow its cursor")
+    void sparseKeysetPageShouldIssueSingleStatement() {
+        SparseCursorPagedResponse first = countStatements(1,
+                () -> gameService.getAllGames("price", "asc", null, 2, "title,author"));
+        SparseCursorPagedResponse second = countStatements(1,
+                () -> gameService.getAllGames("price", "asc", first.nextCursor(), 2, "title,author"));
+
+        assertThat(first.games()).containsExactly(
+                Map.of("title", "Quest One", "author", "firstdev"),
+                Map.of("title", "Quest Two", "author", "seconddev"));
+        assertThat(second.games()).extracting(game -> game.get("title"))
+                .containsExactly("Quest Three", "Other Title");
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Faceted search should issue one page query plus two facet aggregates")
+    void facetedSearchShouldIssueThreeStatements() {
+        GameSearchRequest request = new GameSearchRequest("quest", null, List.of(actionCategory.getId()),
+                null, null, "price", "asc", null, 1);
+
+        GameSearchResponse first = countStatements(3, () -> gameService.searchGames(request));
+        GameSearchRequest next = new GameSearchRequest("quest", null, List.of(actionCategory.getId()),
+                null, null, "price", "asc", first.nextCursor(), 1);
+        GameSearchResponse second = countStatements(1, () -> gameService.searchGames(next));
+
+        assertThat(first.games()).extracting(Response::title).containsExactly("Quest One");
+        assertThat(first.facets().categories()).extracting(CategoryFacet::count).containsExactly(2L, 1L);
+        assertThat(first.facets().priceBuckets()).extracting(PriceBucket::count).containsExactly(0L, 1L, 1L, 0L, 0L);
+        assertThat(second.games()).extracting(Response::title).containsExactly("Quest Three");
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Batch lookup should issue one statement per id chunk and keep request order")
+    void batchLookupShouldIssueOneStatementPerChunk() {
+        List<Long> ids = new ArrayList<>(gameService.getAllGames("id", "desc", null, 4).games().stream()
+                .map(Response::id)
+                .toList());
+        LongStream.rangeClosed(1_000, 1_000 + GameService.BATCH_CHUNK_SIZE).forEach(ids::add);
+
+        GameBatchResponse batch = countStatements(2, () -> gameService.getGamesByIds(ids));
+
+        assertThat(batch.games()).extracting(GameBatchItem::id).containsExactlyElementsOf(ids);
+        assertThat(batch.games().subList(0, 4)).extracting(item -> item.game().title())
+                .containsExactly("Other Title", "Quest Three", "Quest Two", "Quest One");
+        assertThat(batch.found()).isEqualTo(4);
+        assertThat(batch.notFound()).isEqualTo(GameService.BATCH_CHUNK_SIZE + 1);
+    }
+
+    private <T> T countStatements(long expected, Supplier<T> call) {
+        statistics.clear();
+        T result = call.get();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+        return result;
+    }
+
+    private void persistGame(String title, User author, String price, Category category) {
+        entityManager.persistAndFlush(Game.builder()
+                .title(title)
+                .author(author)
+                .price(new BigDecimal(price))
+                .category(category)
+                .build());
+    }
+}
@@ -2,6 +2,12 @@ package com.example.Games.game;
 
 import com.example.Games.category.Category;
 import com.example.Games.config.TestJpaAuditingConfig;
+import com.example.Games.game.dto.CategoryFacet;
+import com.example.Games.game.dto.GamePrice;
+import com.example.Games.game.dto.GameSyncKey;
+import com.example.Games.game.dto.GameTerm;
+import com.example.Games.game.dto.GameView;
+import com.example.Games.game.dto.PriceBucket;
 import com.example.Games.user.auth.User;
 import com.example.Games.user.role.Role;
 import com.example.Games.user.role.RoleType;
@@ -22,6 +28,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -322,6 +329,13 @@ class GameRepositoryTest {
         assertThat(nonExistent).isEmpty();
     }
 
+    @Test
+    @DisplayName("Should project every game with its category and developer for the typeahead index")
+    void shouldFindAllTerms() {
+        assertThat(gameRepository.findAllTerms()).containsExactly(new GameTerm(
+                testGame.getId(), "Epic Adventure", actionCategory.getId(), testUser.getId(), "gamedev"));
+    }
+
     @Test
     @DisplayName("Should find all games by IDs with authors using fetch join")
     void shouldFindAllByIdWithAuthor() {
@@ -387,6 +401,191 @@ class GameRepositoryTest {
         assertThat(updatedGame.getUpdatedAt()).isAfter(updatedGame.getCreatedAt());
     }
 
+    @Test
+    @DisplayName("Should walk keyset pages in price order without gaps or duplicates")
+    void shouldWalkKeysetPagesInPriceOrder() {
+        // Given - two games share a price so the id tie-breaker is exercised
+        createAndSaveGame("Cheap Game", testUser, "9.99", actionCategory);
+        createAndSaveGame("Same Price A", otherUser, "29.99", rpgCategory);
+        createAndSaveGame("Same Price B", otherUser, "29.99", rpgCategory);
+        createAndSaveGame("Expensive Game", testUser, "59.99", actionCategory);
+        entityManager.clear();
+
+        // When
+        List<GameView> firstPage = gameRepository.search(GameSearchFilter.NONE, GameSortKey.PRICE, Sort.Direction.ASC, null, 2);
+        GameView lastOfFirst = firstPage.getLast();
+        GameCursor cursor = new GameCursor(GameSortKey.PRICE, Sort.Direction.ASC, lastOfFirst.id(), lastOfFirst.price());
+        List<GameView> secondPage = gameRepository.search(GameSearchFilter.NONE, GameSortKey.PRICE, Sort.Direction.ASC, cursor, 10);
+
+        // Then
+        assertThat(firstPage).extracting(GameView::title).containsExactly("Cheap Game", "Epic Adventure");
+        assertThat(secondPage).extracting(GameView::title)
+                .containsExactly("Same Price A", "Same Price B", "Expensive Game");
+        assertThat(secondPage.getFirst().author()).isEqualTo("othergamedev");
+        assertThat(secondPage.getFirst().categoryName()).isEqualTo("RPG");
+        assertThat(secondPage.getFirst().categoryCreatedByUsername()).isEqualTo("gamedev");
+    }
+
+    @Test
+    @DisplayName("Should walk keyset pages by id descending")
+    void shouldWalkKeysetPagesByIdDescending() {
+        // Given
+        Game newest = createAndSaveGame("Newest Game", testUser, "19.99", actionCategory);
+
+        // When
+        List<GameView> firstPage = gameRepository.search(GameSearchFilter.NONE, GameSortKey.ID, Sort.Direction.DESC, null, 1);
+        GameCursor cursor = new GameCursor(GameSortKey.ID, Sort.Direction.DESC, newest.getId(), newest.getId());
+        List<GameView> secondPage = gameRepository.search(GameSearchFilter.NONE, GameSortKey.ID, Sort.Direction.DESC, cursor, 10);
+
+        // Then
+        assertThat(firstPage).extracting(GameView::id).containsExactly(newest.getId());
+        assertThat(secondPage).extracting(GameView::id).containsExactly(testGame.getId());
+    }
+
+    @Test
+    @DisplayName("Should page changed games by (syncVersion, id) up to the clock")
+    void shouldFindSyncKeysChangedBetween() {
+        // Given
+        Game second = createAndSaveGame("Second Wave", otherUser, "19.99", rpgCategory);
+        Game later = createAndSaveGame("Later Wave", otherUser, "29.99", rpgCategory);
+        gameRepository.stampSyncVersion(5, List.of(testGame.getId(), second.getId()));
+        gameRepository.stampSyncVersion(6, List.of(later.getId()));
+        entityManager.clear();
+
+        // When
+        List<GameSyncKey> firstPage = gameRepository.findSyncKeysChangedBetween(4, Long.MAX_VALUE, 5,
+                PageRequest.of(0, 1));
+        GameSyncKey last = firstPage.getLast();
+        List<GameSyncKey> secondPage = gameRepository.findSyncKeysChangedBetween(last.syncVersion(), last.id(), 5,
+                PageRequest.of(0, 10));
+        List<GameSyncKey> caughtUp = gameRepository.findSyncKeysChangedBetween(5, Long.MAX_VALUE, 6,
+                PageRequest.of(0, 10));
+
+        // Then
+        assertThat(firstPage).containsExactly(new GameSyncKey(testGame.getId(), 5L));
+        assertThat(secondPage).containsExactly(new GameSyncKey(second.getId(), 5L));
+        assertThat(caughtUp).containsExactly(new GameSyncKey(later.getId(), 6L));
+        assertThat(gameRepository.findMinSyncVersionUpdatedAfter(testGame.getUpdatedAt().minusSeconds(1)))
+                .contains(5L);
+        assertThat(gameRepository.findMinSyncVersionUpdatedAfter(LocalDateTime.now().plusDays(1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should lock prices and reprice a set of games in one statement")
+    void shouldLockAndAdjustPrices() {
+        // Given
+        Game second = createAndSaveGame("Second Wave", testUser, "10.00", rpgCategory);
+        Game untouched = createAndSaveGame("Untouched", otherUser, "15.00", actionCategory);
+        LocalDateTime now = LocalDateTime.now().plusMinutes(1).truncatedTo(ChronoUnit.SECONDS);
+
+        // When
+        List<GamePrice> locked = gameRepository.lockPricesByIdIn(List.of(second.getId(), testGame.getId()));
+        List<GamePrice> inCategory = gameRepository.lockPricesByCategoryAndAuthor(actionCategory.getId(), testUser.getId());
+        int updated = gameRepository.adjustPrices(new BigDecimal("0.85"), BigDecimal.ZERO, now,
+                List.of(testGame.getId(), second.getId()));
+
+        // Then
+        assertThat(locked).extracting(GamePrice::id).containsExactly(testGame.getId(), second.getId());
+        assertThat(locked.getFirst().authorId()).isEqualTo(testUser.getId());
+        assertThat(inCategory).extracting(GamePrice::title).containsExactly("Epic Adventure");
+        assertThat(updated).isEqualTo(2);
+        assertThat(gameRepository.findById(testGame.getId()).orElseThrow().getPrice()).isEqualByComparingTo("25.49");
+        Game repriced = gameRepository.findById(second.getId()).orElseThrow();
+        assertThat(repriced.getPrice()).isEqualByComparingTo("8.50");
+        assertThat(repriced.getUpdatedAt()).isEqualTo(now);
+        assertThat(gameRepository.findById(untouched.getId()).orElseThrow().getPrice()).isEqualByComparingTo("15.00");
+    }
+
+    @Test
+    @DisplayName("Should combine search filters with the keyset condition")
+    void shouldCombineSearchFilters() {
+        // Given
+        Game cheapAction = createAndSaveGame("Cheap Action", otherUser, "9.99", actionCategory);
+        createAndSaveGame("Pricey RPG", otherUser, "59.99", rpgCategory);
+        Game midRpg = createAndSaveGame("Mid RPG", otherUser, "19.99", rpgCategory);
+        entityManager.clear();
+        GameSearchFilter filter = new GameSearchFilter(null, null, "othergamedev", null,
+                new BigDecimal("5.00"), new BigDecimal("30.00"));
+
+        // When
+        List<GameView> firstPage = gameRepository.search(filter, GameSortKey.PRICE, Sort.Direction.ASC, null, 1);
+        GameCursor cursor = new GameCursor(GameSortKey.PRICE, Sort.Direction.ASC, cheapAction.getId(), cheapAction.getPrice());
+        List<GameView> secondPage = gameRepository.search(filter, GameSortKey.PRICE, Sort.Direction.ASC, cursor, 10);
+        List<GameView> byIdsAndCategory = gameRepository.search(
+                new GameSearchFilter(List.of(testGame.getId(), midRpg.getId()), null, null, List.of(rpgCategory.getId()), null, null),
+                GameSortKey.ID, Sort.Direction.ASC, null, 10);
+
+        // Then
+        assertThat(firstPage).extracting(GameView::title).containsExactly("Cheap Action");
+        assertThat(secondPage).extracting(GameView::title).containsExactly("Mid RPG");
+        assertThat(byIdsAndCategory).extracting(GameView::id).containsExactly(midRpg.getId());
+    }
+
+    @Test
+    @DisplayName("Should match a title substring in SQL, case-insensitively and with LIKE wildcards taken literally")
+    void shouldFilterByTitleSubstring() {
+        createAndSaveGame("100% Orange Juice", otherUser, "9.99", actionCategory);
+        createAndSaveGame("1000 Oranges", otherUser, "9.99", actionCategory);
+        entityManager.clear();
+
+        List<GameView> oranges = gameRepository.search(new GameSearchFilter(null, "orange", null, null, null, null),
+                GameSortKey.ID, Sort.Direction.ASC, null, 10);
+        List<GameView> percent = gameRepository.search(new GameSearchFilter(null, "0% o", null, null, null, null),
+                GameSortKey.ID, Sort.Direction.ASC, null, 10);
+
+        assertThat(oranges).extracting(GameView::title).containsExactly("100% Orange Juice", "1000 Oranges");
+        assertThat(percent).extracting(GameView::title).containsExactly("100% Orange Juice");
+    }
+
+    @Test
+    @DisplayName("Should count search facets by category and price bucket")
+    void shouldCountSearchFacets() {
+        // Given
+        createAndSaveGame("Cheap Action", otherUser, "9.99", actionCategory);
+        createAndSaveGame("Pricey RPG", otherUser, "59.99", rpgCategory);
+        createAndSaveGame("Mid RPG", otherUser, "19.99", rpgCategory);
+        List<BigDecimal> bounds = List.of(new BigDecimal("10"), new BigDecimal("20"), new BigDecimal("40"));
+
+        // When
+        List<CategoryFacet> categories = gameRepository.countByCategory(GameSearchFilter.NONE);
+        List<PriceBucket> buckets = gameRepository.countByPriceBucket(GameSearchFilter.NONE, bounds);
+        List<PriceBucket> authorBuckets = gameRepository.countByPriceBucket(
+                new GameSearchFilter(null, null, "gamedev", null, null, null), bounds);
+
+        // Then
+        assertThat(categories).containsExactly(
+                new CategoryFacet(actionCategory.getId(), "Action", 2),
+                new CategoryFacet(rpgCategory.getId(), "RPG", 2));
+        assertThat(buckets).extracting(PriceBucket::count).containsExactly(1L, 1L, 1L, 1L);
+        assertThat(buckets.getFirst().from()).isNull();
+        assertThat(buckets.getLast().to()).isNull();
+        assertThat(authorBuckets).extracting(PriceBucket::count).containsExactly(0L, 0L, 1L, 0L);
+    }
+
+    @Test
+    @DisplayName("Should move rating totals in place and expose the average through the view projection")
+    void shouldAdjustRatingTotals() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+        gameRepository.adjustRating(testGame.getId(), 5, 1, now);
+        gameRepository.adjustRating(testGame.getId(), 4, 1, now);
+        gameRepository.adjustRating(testGame.getId(), -1, 0, now);
+        entityManager.clear();
+
+        Game rated = gameRepository.findById(testGame.getId()).orElseThrow();
+        assertThat(rated.getRatingSum()).isEqualTo(8);
+        assertThat(rated.getRatingCount()).isEqualTo(2);
+        assertThat(rated.getAverageRating()).isEqualByComparingTo("4.00");
+        assertThat(rated.getUpdatedAt()).isEqualTo(now);
+        assertThat(gameRepository.findViewsByIdIn(List.of(testGame.getId())))
+                .singleElement()
+                .satisfies(view -> {
+                    assertThat(view.ratingSum()).isEqualTo(8);
+                    assertThat(view.ratingCount()).isEqualTo(2);
+                });
+        assertThat(createAndSaveGame("Unrated", testUser, "9.99", rpgCategory).getAverageRating()).isNull();
+    }
+
     private Game createAndSaveGame(String title, User author, String price, Category category) {
         Game game = Game.builder()
                 .title(title)
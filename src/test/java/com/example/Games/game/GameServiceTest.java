@@ -1,19 +1,49 @@
 package com.example.Games.game;
 
 import com.example.Games.category.Category;
+import com.example.Games.category.CategoryGameCounter;
 import com.example.Games.category.CategoryRepository;
 import com.example.Games.category.dto.CategoryResponse;
+import com.example.Games.config.cache.CatalogCacheEvictor;
+import com.example.Games.config.cache.CatalogVersion;
 import com.example.Games.config.common.service.UserContextService;
 import com.example.Games.config.exception.category.CategoryNotFoundException;
 import com.example.Games.config.exception.game.GameNotFoundException;
 import com.example.Games.config.exception.game.GameTitleAlreadyExistsException;
+import com.example.Games.config.exception.game.InvalidGameDataException;
 import com.example.Games.config.exception.game.UnauthorizedGameAccessException;
+import com.example.Games.discount.DiscountIndex;
+import com.example.Games.game.dto.BulkPriceUpdateRequest;
+import com.example.Games.game.dto.BulkPriceUpdateResponse;
 import com.example.Games.game.dto.CreateRequest;
+import com.example.Games.game.dto.CursorPagedResponse;
+import com.example.Games.game.dto.GameBatchItem;
+import com.example.Games.game.dto.GameBatchResponse;
+import com.example.Games.game.dto.GameChangesResponse;
+import com.example.Games.game.dto.CategoryFacet;
+import com.example.Games.game.dto.GamePrice;
+import com.example.Games.game.dto.GameSearchRequest;
+import com.example.Games.game.dto.GameSearchResponse;
+import com.example.Games.game.dto.GameSyncKey;
+import com.example.Games.game.dto.GameTerm;
+import com.example.Games.game.dto.GameView;
+import com.example.Games.game.dto.PriceBucket;
+import com.example.Games.game.dto.PriceChange;
+import com.example.Games.game.dto.PriceChangeMode;
 import com.example.Games.game.dto.PagedResponse;
 import com.example.Games.game.dto.Response;
+import com.example.Games.game.dto.SlicedResponse;
 import com.example.Games.game.dto.UpdateRequest;
 import com.example.Games.gameHistory.GameHistoryService;
 import com.example.Games.gameHistory.dto.FieldChange;
+import com.example.Games.purchase.preorder.PreOrderRepository;
+import com.example.Games.purchase.preorder.ReleaseScheduler;
+import com.example.Games.review.ReviewRepository;
+import com.example.Games.review.ReviewVoteRepository;
+import com.example.Games.tag.GameTagRepository;
+import com.example.Games.tag.TagIndex;
+import com.example.Games.tag.TagSelection;
+import com.example.Games.typeahead.TypeaheadIndex;
 import com.example.Games.user.auth.User;
 import com.example.Games.user.role.Role;
 import com.example.Games.user.role.RoleType;
@@ -26,18 +56,18 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -62,6 +92,54 @@ class GameServiceTest {
     @Mock
     private UserContextService userContextService;
 
+    @Mock
+    private CatalogCacheEvictor catalogCache;
+
+    @Mock
+    private GameTitleIndex titleIndex;
+
+    @Mock
+    private GameCatalog catalog;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    @Mock
+    private CategoryGameCounter categoryCounter;
+
+    @Mock
+    private TypeaheadIndex typeahead;
+
+    @Mock
+    private GameTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private GameSyncClockRepository syncClockRepository;
+
+    @Mock
+    private GameSyncStamper syncStamper;
+
+    @Mock
+    private DiscountIndex discounts;
+
+    @Mock
+    private ReleaseScheduler releases;
+
+    @Mock
+    private PreOrderRepository preOrderRepository;
+
+    @Mock
+    private TagIndex tagIndex;
+
+    @Mock
+    private GameTagRepository gameTagRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private ReviewVoteRepository reviewVoteRepository;
+
     @InjectMocks
     private GameService gameService;
 
@@ -79,6 +157,8 @@ class GameServiceTest {
     private Game testGame2;
     private Response testGameResponse;
     private Response testGameResponse2;
+    private GameView testView;
+    private GameView testView2;
     private CategoryResponse categoryResponse;
 
     @BeforeEach
@@ -167,6 +247,13 @@ class GameServiceTest {
                 LocalDateTime.now(),
                 LocalDateTime.now()
         );
+
+        testView = new GameView(1L, "Test Game", "gamedev", new BigDecimal("29.99"),
+                1L, "Action", "gamedev", 1L, LocalDateTime.now(), LocalDateTime.now(),
+                LocalDateTime.now(), LocalDateTime.now(), 0, 0);
+        testView2 = new GameView(2L, "Second Game", "othergamedev", new BigDecimal("39.99"),
+                1L, "Action", "gamedev", 1L, LocalDateTime.now(), LocalDateTime.now(),
+                LocalDateTime.now(), LocalDateTime.now(), 0, 0);
     }
 
     @Test
@@ -199,6 +286,32 @@ class GameServiceTest {
         verify(categoryRepository).findById(1L);
         verify(gameRepository).save(any(Game.class));
         verify(historyService).recordGameCreation(eq(testGame), eq(testUser));
+        verify(syncStamper).gameChanged(testGame.getId());
+        verify(titleIndex).index(testGame.getId(), testGame.getTitle());
+        verify(catalog).refresh(testGame.getId());
+        verify(categoryCounter).gameAdded(1L);
+        verify(typeahead).gameSaved(new GameTerm(1L, "Test Game", 1L, 1L, "gamedev"));
+        verify(catalogVersion).bumpAfterCommit();
+        verifyNoInteractions(releases);
+    }
+
+    @Test
+    @DisplayName("Should schedule the release of a game created with a future release date")
+    void shouldScheduleReleaseOfUnreleasedGame() {
+        LocalDateTime releaseAt = LocalDateTime.now().plusDays(7);
+        CreateRequest request = new CreateRequest("Test Game", new BigDecimal("29.99"), 1L, releaseAt);
+        testGame.setReleaseAt(releaseAt);
+
+        when(userContextService.getAuthorizedUser()).thenReturn(testUser);
+        when(gameRepository.findByTitle("Test Game")).thenReturn(Optional.empty());
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(testCategory));
+        when(gameMapStruct.toEntity(request, testCategory, testUser)).thenReturn(testGame);
+        when(gameRepository.save(testGame)).thenReturn(testGame);
+        when(gameMapStruct.toDto(testGame)).thenReturn(testGameResponse);
+
+        gameService.createGame(request);
+
+        verify(releases).schedule(1L, releaseAt);
     }
 
     @Test
@@ -278,6 +391,13 @@ class GameServiceTest {
         verify(historyService).recordGameUpdates(eq(testGame), changesCaptor.capture(), eq(testUser));
         List<FieldChange> changes = changesCaptor.getValue();
         assertThat(changes).hasSize(3);
+
+        verify(catalogCache).evictGame(1L, "Test Game", "Updated Title");
+        verify(titleIndex).index(1L, "Updated Title");
+        verify(catalog).refresh(1L);
+        verify(categoryCounter).gameMoved(1L, 2L);
+        verify(typeahead).gameSaved(new GameTerm(1L, "Updated Title", 2L, 1L, "gamedev"));
+        verify(catalogVersion).bumpAfterCommit();
     }
 
     @Test
@@ -383,6 +503,18 @@ class GameServiceTest {
         verify(gameMapStruct).toDto(testGame);
     }
 
+    @Test
+    @DisplayName("Should return a game at its discounted price while a discount runs")
+    void shouldRetrieveGameAtDiscountedPrice() {
+        when(gameRepository.findById(1L)).thenReturn(Optional.of(testGame));
+        when(gameMapStruct.toDto(testGame)).thenReturn(testGameResponse);
+        when(discounts.discountedPrice(testGameResponse)).thenReturn(Optional.of(new BigDecimal("14.99")));
+
+        Response result = gameService.getGameById(1L);
+
+        assertThat(result).isEqualTo(testGameResponse.withPrice(new BigDecimal("14.99")));
+    }
+
     @Test
     @DisplayName("Should throw exception when game not found by ID")
     void shouldThrowExceptionWhenGameNotFoundById() {
@@ -428,24 +560,181 @@ class GameServiceTest {
     }
 
     @Test
-    @DisplayName("Should retrieve all games successfully")
-    void shouldRetrieveAllGamesSuccessfully() {
+    @DisplayName("Should retrieve first keyset page of games")
+    void shouldRetrieveFirstKeysetPageOfGames() {
         // Given
-        List<Game> allGames = Arrays.asList(testGame, testGame2);
+        when(gameRepository.search(GameSearchFilter.NONE, GameSortKey.ID, Sort.Direction.ASC, null, 3))
+                .thenReturn(Arrays.asList(testView, testView2));
+        when(gameMapStruct.fromView(testView)).thenReturn(testGameResponse);
+        when(gameMapStruct.fromView(testView2)).thenReturn(testGameResponse2);
 
-        when(gameRepository.findAll()).thenReturn(allGames);
-        when(gameMapStruct.toDto(testGame)).thenReturn(testGameResponse);
-        when(gameMapStruct.toDto(testGame2)).thenReturn(testGameResponse2);
+        // When
+        CursorPagedResponse result = gameService.getAllGames("id", "asc", null, 2);
+
+        // Then
+        assertThat(result.games()).containsExactly(testGameResponse, testGameResponse2);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+        assertThat(result.limit()).isEqualTo(2);
+
+        verify(gameRepository).search(GameSearchFilter.NONE, GameSortKey.ID, Sort.Direction.ASC, null, 3);
+        verify(gameRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should return continuation cursor when more games exist")
+    void shouldReturnContinuationCursorWhenMoreGamesExist() {
+        // Given
+        when(gameRepository.search(GameSearchFilter.NONE, GameSortKey.PRICE, Sort.Direction.DESC, null, 2))
+                .thenReturn(Arrays.asList(testView2, testView));
+        when(gameMapStruct.fromView(testView2)).thenReturn(testGameResponse2);
 
         // When
-        List<Response> result = gameService.getAllGames();
+        CursorPagedResponse result = gameService.getAllGames("price", "desc", null, 1);
 
         // Then
-        assertThat(result).isNotNull();
-        assertThat(result).hasSize(2);
-        assertThat(result).containsExactlyInAnyOrder(testGameResponse, testGameResponse2);
+        assertThat(result.games()).containsExactly(testGameResponse2);
+        assertThat(result.hasNext()).isTrue();
+
+        GameCursor cursor = GameCursor.decode(result.nextCursor());
+        assertThat(cursor.sortKey()).isEqualTo(GameSortKey.PRICE);
+        assertThat(cursor.direction()).isEqualTo(Sort.Direction.DESC);
+        assertThat(cursor.lastId()).isEqualTo(testGameResponse2.id());
+        assertThat(cursor.lastValue()).isEqualTo(testGameResponse2.price());
+
+        verify(gameMapStruct, never()).fromView(testView);
+    }
 
-        verify(gameRepository).findAll();
+    @Test
+    @DisplayName("Should continue from decoded cursor")
+    void shouldContinueFromDecodedCursor() {
+        // Given
+        String token = GameCursor.after(GameSortKey.TITLE, Sort.Direction.ASC, testGameResponse2).encode();
+        when(gameRepository.search(eq(GameSearchFilter.NONE), eq(GameSortKey.TITLE), eq(Sort.Direction.ASC), any(GameCursor.class), eq(11)))
+                .thenReturn(List.of(testView));
+        when(gameMapStruct.fromView(testView)).thenReturn(testGameResponse);
+
+        // When
+        CursorPagedResponse result = gameService.getAllGames("title", "asc", token, 10);
+
+        // Then
+        assertThat(result.games()).containsExactly(testGameResponse);
+        ArgumentCaptor<GameCursor> cursorCaptor = ArgumentCaptor.forClass(GameCursor.class);
+        verify(gameRepository).search(eq(GameSearchFilter.NONE), eq(GameSortKey.TITLE), eq(Sort.Direction.ASC), cursorCaptor.capture(), eq(11));
+        assertThat(cursorCaptor.getValue().lastValue()).isEqualTo("Second Game");
+        assertThat(cursorCaptor.getValue().lastId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Should cap page size at server-side limit")
+    void shouldCapPageSizeAtServerSideLimit() {
+        // Given
+        when(gameRepository.search(any(), any(), any(), any(), anyInt())).thenReturn(Collections.emptyList());
+
+        // When
+        CursorPagedResponse result = gameService.getAllGames("id", "asc", null, 10_000);
+
+        // Then
+        assertThat(result.limit()).isEqualTo(GameService.MAX_PAGE_SIZE);
+        verify(gameRepository).search(GameSearchFilter.NONE, GameSortKey.ID, Sort.Direction.ASC, null, GameService.MAX_PAGE_SIZE + 1);
+    }
+
+    @Test
+    @DisplayName("Should reject cursor issued for a different sort")
+    void shouldRejectCursorIssuedForDifferentSort() {
+        String token = GameCursor.after(GameSortKey.PRICE, Sort.Direction.ASC, testGameResponse).encode();
+
+        assertThatThrownBy(() -> gameService.getAllGames("title", "asc", token, 10))
+                .isInstanceOf(InvalidGameDataException.class);
+        assertThatThrownBy(() -> gameService.getAllGames("id", "asc", "not-a-cursor", 10))
+                .isInstanceOf(InvalidGameDataException.class);
+        assertThatThrownBy(() -> gameService.getAllGames("rating", "asc", null, 10))
+                .isInstanceOf(InvalidGameDataException.class);
+
+        verify(gameRepository, never()).search(any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should compile search filters into one query and compute facets on the first page")
+    void shouldSearchGamesWithFacetsOnFirstPage() {
+        // Given
+        GameSearchRequest request = new GameSearchRequest("test", "gamedev", List.of(1L),
+                new BigDecimal("10"), new BigDecimal("50"), "price", "asc", null, 20);
+        GameSearchFilter filter = new GameSearchFilter(Set.of(1L), null, "gamedev", List.of(1L),
+                new BigDecimal("10"), new BigDecimal("50"));
+        List<CategoryFacet> categoryFacets = List.of(new CategoryFacet(1L, "Action", 1));
+        List<PriceBucket> priceBuckets = PriceBucket.of(GameService.PRICE_BUCKET_BOUNDS, new long[]{0, 0, 1, 0, 0});
+
+        when(titleIndex.idsContaining("test")).thenReturn(Optional.of(Set.of(1L)));
+        when(gameRepository.search(filter, GameSortKey.PRICE, Sort.Direction.ASC, null, 21)).thenReturn(List.of(testView));
+        when(gameMapStruct.fromView(testView)).thenReturn(testGameResponse);
+        when(gameRepository.countByCategory(filter.withoutCategories())).thenReturn(categoryFacets);
+        when(gameRepository.countByPriceBucket(filter.withoutPrice(), GameService.PRICE_BUCKET_BOUNDS)).thenReturn(priceBuckets);
+
+        // When
+        GameSearchResponse result = gameService.searchGames(request);
+
+        // Then
+        assertThat(result.games()).containsExactly(testGameResponse);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.facets().categories()).isEqualTo(categoryFacets);
+        assertThat(result.facets().priceBuckets()).isEqualTo(priceBuckets);
+    }
+
+    @Test
+    @DisplayName("Should skip facets on continuation pages")
+    void shouldSkipFacetsOnContinuationPages() {
+        String token = GameCursor.after(GameSortKey.ID, Sort.Direction.ASC, testGameResponse).encode();
+        GameSearchRequest request = new GameSearchRequest(null, null, null, null, null, "id", "asc", token, 20);
+        when(gameRepository.search(eq(GameSearchFilter.NONE), eq(GameSortKey.ID), eq(Sort.Direction.ASC),
+                any(GameCursor.class), eq(21))).thenReturn(List.of());
+
+        GameSearchResponse result = gameService.searchGames(request);
+
+        assertThat(result.games()).isEmpty();
+        assertThat(result.facets()).isNull();
+        verify(gameRepository, never()).countByCategory(any());
+        verify(gameRepository, never()).countByPriceBucket(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should answer without SQL when no title matches")
+    void shouldAnswerWithoutSqlWhenNoTitleMatches() {
+        GameSearchRequest request = new GameSearchRequest("nothing", null, null, null, null, "id", "asc", null, 20);
+        when(titleIndex.idsContaining("nothing")).thenReturn(Optional.of(Set.of()));
+
+        GameSearchResponse result = gameService.searchGames(request);
+
+        assertThat(result.games()).isEmpty();
+        assertThat(result.facets().categories()).isEmpty();
+        assertThat(result.facets().priceBuckets()).hasSize(GameService.PRICE_BUCKET_BOUNDS.size() + 1)
+                .extracting(PriceBucket::count).containsOnly(0L);
+        verifyNoInteractions(gameRepository);
+    }
+
+    @Test
+    @DisplayName("Should filter a title matching too many games to bind in SQL")
+    void shouldFilterCommonTitleInSql() {
+        GameSearchRequest request = new GameSearchRequest("  The ", null, null, null, null, "id", "asc", null, 20);
+        GameSearchFilter filter = new GameSearchFilter(null, "the", null, null, null, null);
+        when(titleIndex.idsContaining("  The ")).thenReturn(Optional.empty());
+        when(gameRepository.search(filter, GameSortKey.ID, Sort.Direction.ASC, null, 21)).thenReturn(List.of());
+
+        GameSearchResponse result = gameService.searchGames(request);
+
+        assertThat(result.games()).isEmpty();
+        verify(gameRepository).countByCategory(filter.withoutCategories());
+    }
+
+    @Test
+    @DisplayName("Should reject an inverted price range in search")
+    void shouldRejectInvertedPriceRangeInSearch() {
+        GameSearchRequest request = new GameSearchRequest(null, null, null,
+                new BigDecimal("50"), new BigDecimal("10"), "id", "asc", null, 20);
+
+        assertThatThrownBy(() -> gameService.searchGames(request))
+                .isInstanceOf(InvalidGameDataException.class);
+        verifyNoInteractions(gameRepository);
     }
 
     @Test
@@ -464,7 +753,20 @@ class GameServiceTest {
         verify(gameRepository).findByIdWithAuthor(1L);
         verify(userContextService).getAuthorizedUser();
         verify(historyService).recordGameDeletion(eq(testGame), eq(testUser));
+        verify(preOrderRepository).deleteByGameId(1L);
+        verify(gameTagRepository).deleteByGameId(1L);
+        verify(reviewVoteRepository).deleteByGameId(1L);
+        verify(reviewRepository).deleteByGameId(1L);
+        verify(tagIndex).gameRemoved(1L);
         verify(gameRepository).deleteById(1L);
+        verify(tombstoneRepository).save(argThat(tombstone -> tombstone.getGameId().equals(1L)));
+        verify(syncStamper).gameDeleted(1L);
+        verify(catalogCache).evictGame(1L, "Test Game");
+        verify(titleIndex).unindex(1L);
+        verify(catalog).refresh(1L);
+        verify(categoryCounter).gameRemoved(1L);
+        verify(typeahead).gameRemoved(1L);
+        verify(catalogVersion).bumpAfterCommit();
     }
 
     @Test
@@ -494,165 +796,414 @@ class GameServiceTest {
 
         verify(historyService, never()).recordGameDeletion(any(), any());
         verify(gameRepository, never()).deleteById(any());
+        verify(catalogVersion, never()).bumpAfterCommit();
     }
 
     @Test
-    @DisplayName("Should search games by title successfully")
+    @DisplayName("Should search games by title in index rank order")
     void shouldSearchGamesByTitleSuccessfully() {
         // Given
-        List<Game> foundGames = Arrays.asList(testGame);
-
-        when(gameRepository.findByTitleContainingIgnoreCase("Test")).thenReturn(foundGames);
-        when(gameMapStruct.toDto(testGame)).thenReturn(testGameResponse);
+        when(titleIndex.search("Test", 20)).thenReturn(List.of(2L, 1L));
+        when(gameRepository.findViewsByIdIn(List.of(2L, 1L))).thenReturn(List.of(testView, testView2));
+        when(gameMapStruct.fromView(testView)).thenReturn(testGameResponse);
+        when(gameMapStruct.fromView(testView2)).thenReturn(testGameResponse2);
 
         // When
-        List<Response> result = gameService.searchByTitle("Test");
+        List<Response> result = gameService.searchByTitle("Test", 20);
 
         // Then
-        assertThat(result).isNotNull();
-        assertThat(result).hasSize(1);
-        assertThat(result).contains(testGameResponse);
+        assertThat(result).containsExactly(testGameResponse2, testGameResponse);
 
-        verify(gameRepository).findByTitleContainingIgnoreCase("Test");
+        verify(gameRepository, never()).findViewsByTitleContaining(any());
+        verify(gameMapStruct, never()).toDto(any(Game.class));
     }
 
     @Test
-    @DisplayName("Should search games by author successfully")
+    @DisplayName("Should cap title search limit and skip the query when nothing matches")
+    void shouldCapTitleSearchLimitAndSkipQueryWhenNothingMatches() {
+        when(titleIndex.search("zzz", GameService.MAX_PAGE_SIZE)).thenReturn(List.of());
+
+        List<Response> result = gameService.searchByTitle("zzz", 5000);
+
+        assertThat(result).isEmpty();
+        verify(gameRepository, never()).findViewsByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("Should search games by author from the catalog snapshot")
     void shouldSearchGamesByAuthorSuccessfully() {
         // Given
-        List<Game> authorGames = Arrays.asList(testGame);
-
-        when(gameRepository.findByAuthor_Username("gamedev")).thenReturn(authorGames);
-        when(gameMapStruct.toDto(testGame)).thenReturn(testGameResponse);
+        when(catalog.snapshot()).thenReturn(CatalogSnapshot.of(List.of(testGameResponse, testGameResponse2)));
 
         // When
-        List<Response> result = gameService.searchGamesByAuthor("gamedev");
+        List<Response> result = gameService.searchGamesByAuthor("gamedev", 20);
 
         // Then
-        assertThat(result).isNotNull();
-        assertThat(result).hasSize(1);
-        assertThat(result).contains(testGameResponse);
-
-        verify(gameRepository).findByAuthor_Username("gamedev");
+        assertThat(result).containsExactly(testGameResponse);
+        verifyNoInteractions(gameRepository);
     }
 
     @Test
-    @DisplayName("Should find games in price range successfully")
+    @DisplayName("Should find games in price range from the catalog snapshot")
     void shouldFindGamesInPriceRangeSuccessfully() {
         // Given
-        BigDecimal minPrice = new BigDecimal("20.00");
-        BigDecimal maxPrice = new BigDecimal("50.00");
-        List<Game> gamesInRange = Arrays.asList(testGame);
+        when(catalog.snapshot()).thenReturn(CatalogSnapshot.of(List.of(testGameResponse, testGameResponse2)));
 
-        when(gameRepository.findGamesInPriceRange(minPrice, maxPrice)).thenReturn(gamesInRange);
-        when(gameMapStruct.toDto(testGame)).thenReturn(testGameResponse);
+        // When
+        List<Response> result = gameService.getGamesInPriceRange(
+                new BigDecimal("20.00"), new BigDecimal("30.00"), 20);
+
+        // Then
+        assertThat(result).containsExactly(testGameResponse);
+        verifyNoInteractions(gameRepository);
+    }
+
+    @Test
+    @DisplayName("Should filter games by tag bitmaps within price bounds")
+    void shouldSearchGamesByTags() {
+        // Given
+        BitSet tagged = new BitSet();
+        tagged.set(1);
+        tagged.set(2);
+        BitSet excluded = new BitSet();
+        when(tagIndex.select(List.of("co-op"), null, List.of("horror"))).thenReturn(new TagSelection(tagged, excluded));
+        when(catalog.snapshot()).thenReturn(CatalogSnapshot.of(List.of(testGameResponse, testGameResponse2)));
 
         // When
-        List<Response> result = gameService.getGamesInPriceRange(minPrice, maxPrice);
+        List<Response> result = gameService.searchGamesByTags(List.of("co-op"), null, List.of("horror"),
+                new BigDecimal("30.00"), null, 20);
 
         // Then
-        assertThat(result).isNotNull();
-        assertThat(result).hasSize(1);
-        assertThat(result).contains(testGameResponse);
+        assertThat(result).containsExactly(testGameResponse2);
+        verifyNoInteractions(gameRepository);
+    }
 
-        verify(gameRepository).findGamesInPriceRange(minPrice, maxPrice);
+    @Test
+    @DisplayName("Should skip the catalog when no game carries the required tags")
+    void shouldReturnNothingForUnmatchedTags() {
+        // Given
+        when(tagIndex.select(List.of("unknown"), null, null)).thenReturn(new TagSelection(new BitSet(), new BitSet()));
+
+        // When
+        List<Response> result = gameService.searchGamesByTags(List.of("unknown"), null, null, null, null, 20);
+
+        // Then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(catalog);
+    }
+
+    @Test
+    @DisplayName("Should reject a tag search with an inverted price range")
+    void shouldRejectInvertedPriceRangeForTagSearch() {
+        assertThatThrownBy(() -> gameService.searchGamesByTags(List.of("co-op"), null, null,
+                new BigDecimal("50"), new BigDecimal("10"), 20))
+                .isInstanceOf(InvalidGameDataException.class);
+
+        verifyNoInteractions(tagIndex);
     }
 
     @Test
     @DisplayName("Should get games sorted by price ascending")
     void shouldGetGamesSortedByPriceAscending() {
         // Given
-        List<Game> sortedGames = Arrays.asList(testGame, testGame2);
-
-        when(gameRepository.findAllByOrderByPriceAsc()).thenReturn(sortedGames);
-        when(gameMapStruct.toDto(testGame)).thenReturn(testGameResponse);
-        when(gameMapStruct.toDto(testGame2)).thenReturn(testGameResponse2);
+        when(catalog.snapshot()).thenReturn(CatalogSnapshot.of(List.of(testGameResponse2, testGameResponse)));
 
         // When
-        List<Response> result = gameService.getGamesSortedByPrice(true);
+        List<Response> result = gameService.getGamesSortedByPrice(true, 20);
 
         // Then
-        assertThat(result).isNotNull();
-        assertThat(result).hasSize(2);
         assertThat(result).containsExactly(testGameResponse, testGameResponse2);
-
-        verify(gameRepository).findAllByOrderByPriceAsc();
-        verify(gameRepository, never()).findAllByOrderByPriceDesc();
+        verifyNoInteractions(gameRepository);
     }
 
     @Test
     @DisplayName("Should get games sorted by price descending")
     void shouldGetGamesSortedByPriceDescending() {
         // Given
-        List<Game> sortedGames = Arrays.asList(testGame2, testGame);
-
-        when(gameRepository.findAllByOrderByPriceDesc()).thenReturn(sortedGames);
-        when(gameMapStruct.toDto(testGame2)).thenReturn(testGameResponse2);
-        when(gameMapStruct.toDto(testGame)).thenReturn(testGameResponse);
+        when(catalog.snapshot()).thenReturn(CatalogSnapshot.of(List.of(testGameResponse, testGameResponse2)));
 
         // When
-        List<Response> result = gameService.getGamesSortedByPrice(false);
+        List<Response> result = gameService.getGamesSortedByPrice(false, 20);
 
         // Then
-        assertThat(result).isNotNull();
-        assertThat(result).hasSize(2);
         assertThat(result).containsExactly(testGameResponse2, testGameResponse);
+    }
+
+    @Test
+    @DisplayName("Should sort by list price but show discounted prices")
+    void shouldSortByListPriceAndShowDiscountedPrices() {
+        when(catalog.snapshot()).thenReturn(CatalogSnapshot.of(List.of(testGameResponse, testGameResponse2)));
+        when(discounts.discountedPrice(testGameResponse)).thenReturn(Optional.empty());
+        when(discounts.discountedPrice(testGameResponse2)).thenReturn(Optional.of(new BigDecimal("19.99")));
+
+        List<Response> result = gameService.getGamesSortedByPrice(true, 20);
 
-        verify(gameRepository).findAllByOrderByPriceDesc();
-        verify(gameRepository, never()).findAllByOrderByPriceAsc();
+        assertThat(result).extracting(Response::id).containsExactly(1L, 2L);
+        assertThat(result).extracting(Response::price)
+                .containsExactly(new BigDecimal("29.99"), new BigDecimal("19.99"));
+    }
+
+    @Test
+    @DisplayName("Should cap snapshot listings at the maximum page size")
+    void shouldCapSnapshotListingsAtMaxPageSize() {
+        when(catalog.snapshot()).thenReturn(CatalogSnapshot.of(List.of(testGameResponse, testGameResponse2)));
+
+        assertThat(gameService.getGamesSortedByPrice(true, 1)).containsExactly(testGameResponse);
+        assertThat(gameService.getGamesSortedByPrice(true, 5000)).hasSize(2);
     }
 
     @Test
     @DisplayName("Should retrieve games by category with pagination")
     void shouldRetrieveGamesByCategoryWithPagination() {
         // Given
-        Long categoryId = 1L;
-        int page = 0;
-        int size = 2;
-
-        List<Game> categoryGames = Arrays.asList(testGame);
-        Pageable pageable = PageRequest.of(page, size, Sort.by("title"));
-        Page<Game> gamesPage = new PageImpl<>(categoryGames, pageable, 1);
-
-        when(gameRepository.findByCategoryId(eq(categoryId), any(Pageable.class))).thenReturn(gamesPage);
-        when(gameMapStruct.toDto(testGame)).thenReturn(testGameResponse);
+        when(catalog.snapshot()).thenReturn(CatalogSnapshot.of(List.of(testGameResponse, testGameResponse2)));
 
         // When
-        PagedResponse result = gameService.getGamesByCategoryPaged(categoryId, page, size);
+        PagedResponse result = gameService.getGamesByCategoryPaged(1L, 1, 1);
 
         // Then
         assertThat(result).isNotNull();
-        assertThat(result.games()).hasSize(1);
-        assertThat(result.games()).contains(testGameResponse);
-        assertThat(result.pageNumber()).isEqualTo(0);
-        assertThat(result.pageSize()).isEqualTo(2);
-        assertThat(result.totalElements()).isEqualTo(1);
-        assertThat(result.totalPages()).isEqualTo(1);
+        assertThat(result.games()).containsExactly(testGameResponse);
+        assertThat(result.pageNumber()).isEqualTo(1);
+        assertThat(result.pageSize()).isEqualTo(1);
+        assertThat(result.totalElements()).isEqualTo(2);
+        assertThat(result.totalPages()).isEqualTo(2);
+        verifyNoInteractions(gameRepository);
+    }
+
+    @Test
+    @DisplayName("Should slice games by category without counting them")
+    void shouldSliceGamesByCategory() {
+        when(catalog.snapshot()).thenReturn(CatalogSnapshot.of(List.of(testGameResponse, testGameResponse2)));
+
+        SlicedResponse first = gameService.getGamesByCategorySlice(1L, 0, 1);
+        SlicedResponse last = gameService.getGamesByCategorySlice(1L, 1, 1);
+
+        assertThat(first.games()).hasSize(1);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.games()).hasSize(1);
+        assertThat(last.hasNext()).isFalse();
+        verifyNoInteractions(gameRepository);
+    }
+
+    @Test
+    @DisplayName("Should reprice owned games by percentage with set-based updates and one history batch")
+    void shouldRepriceGamesByPercentage() {
+        when(userContextService.getAuthorizedUser()).thenReturn(testUser);
+        when(gameRepository.lockPricesByIdIn(List.of(1L, 2L))).thenReturn(List.of(
+                new GamePrice(1L, "Test Game", new BigDecimal("29.99"), 1L),
+                new GamePrice(2L, "Second Game", new BigDecimal("10.00"), 1L)));
+
+        BulkPriceUpdateResponse result = gameService.updatePrices(
+                new BulkPriceUpdateRequest(List.of(1L, 2L, 1L), null, PriceChangeMode.PERCENT, new BigDecimal("-25")));
+
+        assertThat(result.updated()).isEqualTo(2);
+        assertThat(result.changes()).extracting(PriceChange::newPrice)
+                .containsExactly(new BigDecimal("22.49"), new BigDecimal("7.50"));
+        verify(gameRepository).adjustPrices(eq(new BigDecimal("0.75")), eq(BigDecimal.ZERO),
+                any(LocalDateTime.class), eq(List.of(1L, 2L)));
+        verify(historyService).recordPriceChanges(result.changes(), testUser);
+        verify(catalogCache).evictGame(1L, "Test Game");
+        verify(catalogCache).evictGame(2L, "Second Game");
+        verify(catalog).refresh(List.of(1L, 2L));
+        verify(catalogVersion).bumpAfterCommit();
+    }
+
+    @Test
+    @DisplayName("Should reprice the caller's games in a category by a fixed amount")
+    void shouldRepriceCategoryByAmount() {
+        when(userContextService.getAuthorizedUser()).thenReturn(testUser);
+        when(categoryRepository.existsById(1L)).thenReturn(true);
+        when(gameRepository.lockPricesByCategoryAndAuthor(1L, 1L)).thenReturn(List.of(
+                new GamePrice(1L, "Test Game", new BigDecimal("29.99"), 1L)));
+
+        BulkPriceUpdateResponse result = gameService.updatePrices(
+                new BulkPriceUpdateRequest(null, 1L, PriceChangeMode.AMOUNT, new BigDecimal("5.00")));
 
-        verify(gameRepository).findByCategoryId(eq(categoryId), any(Pageable.class));
+        assertThat(result.changes()).containsExactly(
+                new PriceChange(1L, "Test Game", new BigDecimal("29.99"), new BigDecimal("34.99")));
+        verify(gameRepository).adjustPrices(eq(BigDecimal.ONE), eq(new BigDecimal("5.00")),
+                any(LocalDateTime.class), eq(List.of(1L)));
+    }
+
+    @Test
+    @DisplayName("Should reject a bulk repricing that touches another developer's game")
+    void shouldRejectRepricingForeignGame() {
+        when(userContextService.getAuthorizedUser()).thenReturn(testUser);
+        when(gameRepository.lockPricesByIdIn(List.of(1L, 2L))).thenReturn(List.of(
+                new GamePrice(1L, "Test Game", new BigDecimal("29.99"), 1L),
+                new GamePrice(2L, "Second Game", new BigDecimal("39.99"), 2L)));
+
+        assertThatThrownBy(() -> gameService.updatePrices(
+                new BulkPriceUpdateRequest(List.of(1L, 2L), null, PriceChangeMode.AMOUNT, BigDecimal.ONE)))
+                .isInstanceOf(UnauthorizedGameAccessException.class);
+
+        verify(gameRepository, never()).adjustPrices(any(), any(), any(), any());
+        verifyNoInteractions(historyService);
+    }
+
+    @Test
+    @DisplayName("Should reject bulk repricing with a missing game, an ambiguous scope or a price below minimum")
+    void shouldRejectInvalidRepricing() {
+        when(userContextService.getAuthorizedUser()).thenReturn(testUser);
+        when(gameRepository.lockPricesByIdIn(List.of(1L, 99L))).thenReturn(List.of(
+                new GamePrice(1L, "Test Game", new BigDecimal("29.99"), 1L)));
+        when(gameRepository.lockPricesByIdIn(List.of(1L))).thenReturn(List.of(
+                new GamePrice(1L, "Test Game", new BigDecimal("29.99"), 1L)));
+
+        assertThatThrownBy(() -> gameService.updatePrices(
+                new BulkPriceUpdateRequest(List.of(1L, 99L), null, PriceChangeMode.AMOUNT, BigDecimal.ONE)))
+                .isInstanceOf(GameNotFoundException.class)
+                .hasMessageContaining("99");
+        assertThatThrownBy(() -> gameService.updatePrices(
+                new BulkPriceUpdateRequest(List.of(1L), 1L, PriceChangeMode.AMOUNT, BigDecimal.ONE)))
+                .isInstanceOf(InvalidGameDataException.class);
+        assertThatThrownBy(() -> gameService.updatePrices(
+                new BulkPriceUpdateRequest(List.of(1L), null, PriceChangeMode.PERCENT, new BigDecimal("-100"))))
+                .isInstanceOf(InvalidGameDataException.class)
+                .hasMessageContaining("below");
+
+        verify(gameRepository, never()).adjustPrices(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should resolve a batch in request order with not-found markers")
+    void shouldResolveBatchInRequestOrder() {
+        when(gameRepository.findViewsByIdIn(List.of(2L, 1L, 99L))).thenReturn(List.of(testView, testView2));
+        when(gameMapStruct.fromView(testView)).thenReturn(testGameResponse);
+        when(gameMapStruct.fromView(testView2)).thenReturn(testGameResponse2);
+
+        GameBatchResponse result = gameService.getGamesByIds(List.of(2L, 1L, 99L, 2L));
+
+        assertThat(result.games()).extracting(GameBatchItem::id).containsExactly(2L, 1L, 99L, 2L);
+        assertThat(result.games()).extracting(GameBatchItem::found).containsExactly(true, true, false, true);
+        assertThat(result.games().get(2).game()).isNull();
+        assertThat(result.found()).isEqualTo(3);
+        assertThat(result.notFound()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should split large batches into bounded IN chunks and reject oversized ones")
+    void shouldChunkLargeBatches() {
+        List<Long> ids = LongStream.rangeClosed(1, GameService.MAX_BATCH_SIZE).boxed().toList();
+        when(gameRepository.findViewsByIdIn(anyList())).thenReturn(List.of());
+
+        GameBatchResponse result = gameService.getGamesByIds(ids);
+
+        assertThat(result.notFound()).isEqualTo(GameService.MAX_BATCH_SIZE);
+        verify(gameRepository, times(GameService.MAX_BATCH_SIZE / GameService.BATCH_CHUNK_SIZE))
+                .findViewsByIdIn(argThat(chunk -> chunk.size() == GameService.BATCH_CHUNK_SIZE));
+
+        List<Long> tooMany = LongStream.rangeClosed(1, GameService.MAX_BATCH_SIZE + 1).boxed().toList();
+        assertThatThrownBy(() -> gameService.getGamesByIds(tooMany))
+                .isInstanceOf(InvalidGameDataException.class);
+        assertThatThrownBy(() -> gameService.getGamesByIds(List.of()))
+                .isInstanceOf(InvalidGameDataException.class);
+    }
+
+    @Test
+    @DisplayName("Should end a short change page at the clock with deletions and renames in the window")
+    void shouldReturnShortChangePage() {
+        LocalDateTime since = LocalDateTime.now().minusHours(1);
+        when(syncClockRepository.findById(GameSyncClock.ID)).thenReturn(Optional.of(new GameSyncClock(1, 20, 0)));
+        when(gameRepository.findMinSyncVersionUpdatedAfter(since)).thenReturn(Optional.of(12L));
+        when(categoryRepository.findMinSyncVersionUpdatedAfter(since)).thenReturn(Optional.empty());
+        when(tombstoneRepository.findMinSyncVersionDeletedAfter(since)).thenReturn(Optional.of(10L));
+        when(gameRepository.findSyncKeysChangedBetween(eq(9L), eq(Long.MAX_VALUE), eq(20L), any(Pageable.class)))
+                .thenReturn(List.of(new GameSyncKey(1L, 15L)));
+        when(gameRepository.findViewsByIdIn(List.of(1L))).thenReturn(List.of(testView));
+        when(gameMapStruct.fromView(testView)).thenReturn(testGameResponse);
+        when(tombstoneRepository.findGameIdsDeletedBetween(9L, 20L)).thenReturn(List.of(7L));
+        when(categoryRepository.findResponsesChangedBetween(9L, 20L)).thenReturn(List.of(categoryResponse));
+
+        GameChangesResponse result = gameService.getChanges(since, null, 10);
+
+        assertThat(result.changed()).containsExactly(testGameResponse);
+        assertThat(result.deleted()).containsExactly(7L);
+        assertThat(result.changedCategories()).containsExactly(categoryResponse);
+        assertThat(result.hasMore()).isFalse();
+        assertThat(GameSyncToken.decode(result.nextToken())).isEqualTo(GameSyncToken.since(20));
+        verify(gameRepository).findSyncKeysChangedBetween(eq(9L), eq(Long.MAX_VALUE), eq(20L),
+                argThat(page -> page.getPageSize() == 11));
+    }
+
+    @Test
+    @DisplayName("Should continue a full change page from its last game")
+    void shouldContinueFullChangePageFromLastGame() {
+        String token = new GameSyncToken(10, 4L).encode();
+        when(syncClockRepository.findById(GameSyncClock.ID)).thenReturn(Optional.of(new GameSyncClock(1, 20, 0)));
+        when(gameRepository.findSyncKeysChangedBetween(eq(10L), eq(4L), eq(20L), any(Pageable.class)))
+                .thenReturn(List.of(new GameSyncKey(1L, 12L), new GameSyncKey(2L, 13L)));
+        when(gameRepository.findViewsByIdIn(List.of(1L))).thenReturn(List.of(testView));
+        when(gameMapStruct.fromView(testView)).thenReturn(testGameResponse);
+
+        GameChangesResponse result = gameService.getChanges(null, token, 1);
+
+        assertThat(result.changed()).containsExactly(testGameResponse);
+        assertThat(result.hasMore()).isTrue();
+        verify(gameMapStruct, never()).fromView(testView2);
+        assertThat(GameSyncToken.decode(result.nextToken())).isEqualTo(new GameSyncToken(12, 1L));
+        verify(tombstoneRepository).findGameIdsDeletedBetween(10L, 12L);
+        verify(categoryRepository).findResponsesChangedBetween(10L, 12L);
+    }
+
+    @Test
+    @DisplayName("Should answer a token at the committed clock with no changes and the same token")
+    void shouldReturnNothingForCaughtUpToken() {
+        String token = GameSyncToken.since(20).encode();
+        when(syncClockRepository.findById(GameSyncClock.ID)).thenReturn(Optional.of(new GameSyncClock(1, 20, 0)));
+
+        GameChangesResponse result = gameService.getChanges(null, token, 50);
+
+        assertThat(result.changed()).isEmpty();
+        assertThat(result.hasMore()).isFalse();
+        assertThat(result.nextToken()).isEqualTo(token);
+        verifyNoInteractions(gameRepository, tombstoneRepository, categoryRepository);
+    }
+
+    @Test
+    @DisplayName("Should refuse a token older than the purged tombstones but still serve a full sync")
+    void shouldRefuseTokenBehindPurgedTombstones() {
+        when(syncClockRepository.findById(GameSyncClock.ID)).thenReturn(Optional.of(new GameSyncClock(1, 40, 30)));
+
+        assertThatThrownBy(() -> gameService.getChanges(null, GameSyncToken.since(25).encode(), 50))
+                .isInstanceOf(InvalidGameDataException.class)
+                .hasMessageContaining("full sync");
+
+        gameService.getChanges(null, null, 50);
+
+        verify(gameRepository).findSyncKeysChangedBetween(eq(-1L), eq(Long.MAX_VALUE), eq(40L), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed sync token")
+    void shouldRejectMalformedSyncToken() {
+        assertThatThrownBy(() -> gameService.getChanges(null, "not-a-token", 50))
+                .isInstanceOf(InvalidGameDataException.class)
+                .hasMessageContaining("Sync token");
     }
 
     @Test
     @DisplayName("Should handle empty results appropriately")
     void shouldHandleEmptyResultsAppropriately() {
         // Test empty game list
-        when(gameRepository.findAll()).thenReturn(Collections.emptyList());
-        List<Response> emptyResult = gameService.getAllGames();
-        assertThat(emptyResult).isEmpty();
+        when(gameRepository.search(any(), any(), any(), any(), anyInt())).thenReturn(Collections.emptyList());
+        CursorPagedResponse emptyResult = gameService.getAllGames("id", "asc", null, 20);
+        assertThat(emptyResult.games()).isEmpty();
+        assertThat(emptyResult.hasNext()).isFalse();
 
         // Test empty search results
-        when(gameRepository.findByTitleContainingIgnoreCase("NonExistent")).thenReturn(Collections.emptyList());
-        List<Response> emptySearch = gameService.searchByTitle("NonExistent");
+        when(titleIndex.search("NonExistent", 20)).thenReturn(Collections.emptyList());
+        List<Response> emptySearch = gameService.searchByTitle("NonExistent", 20);
         assertThat(emptySearch).isEmpty();
 
         // Test empty author search
-        when(gameRepository.findByAuthor_Username("unknown")).thenReturn(Collections.emptyList());
-        List<Response> emptyAuthorSearch = gameService.searchGamesByAuthor("unknown");
+        when(catalog.snapshot()).thenReturn(CatalogSnapshot.EMPTY);
+        List<Response> emptyAuthorSearch = gameService.searchGamesByAuthor("unknown", 20);
         assertThat(emptyAuthorSearch).isEmpty();
 
         // Test empty price range
-        when(gameRepository.findGamesInPriceRange(any(), any())).thenReturn(Collections.emptyList());
-        List<Response> emptyPriceRange = gameService.getGamesInPriceRange(BigDecimal.ONE, BigDecimal.TEN);
+        List<Response> emptyPriceRange = gameService.getGamesInPriceRange(BigDecimal.ONE, BigDecimal.TEN, 20);
         assertThat(emptyPriceRange).isEmpty();
     }
 
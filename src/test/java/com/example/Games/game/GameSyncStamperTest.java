@@ -0,0 +1,151 @@
+package com.example.Games.game;
+
+import com.example.Games.category.Category;
+import com.example.Games.category.CategoryRepository;
+import com.example.Games.config.TestJpaAuditingConfig;
+import com.example.Games.user.auth.User;
+import com.example.Games.user.auth.UserRepository;
+import com.example.Games.user.role.Role;
+import com.example.Games.user.role.RoleRepository;
+import com.example.Games.user.role.RoleType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+// Stamping happens as a transaction commits, so nothing here runs in a rolled-back test transaction
+@DataJpaTest
+@Import({TestJpaAuditingConfig.class, GameSyncStamper.class})
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Game sync stamper Tests")
+class GameSyncStamperTest {
+
+    @Autowired
+    private GameSyncStamper stamper;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private GameTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private GameSyncClockRepository clockRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Category category;
+    private Game first;
+    private Game second;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            Role role = roleRepository.save(Role.builder().name(RoleType.DEVELOPER).build());
+            User developer = userRepository.save(User.builder()
+                    .username("syncdev").email("syncdev@example.com").password("password123").role(role).build());
+            category = categoryRepository.save(Category.builder().name("Sync").createdBy(developer).build());
+            first = gameRepository.save(game("First Sync", developer));
+            second = gameRepository.save(game("Second Sync", developer));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        tombstoneRepository.deleteAllInBatch();
+        gameRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        roleRepository.deleteAllInBatch();
+        clockRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Should stamp games, categories and tombstones with one version per committed transaction")
+    void shouldStampOneVersionPerCommit() {
+        transaction.executeWithoutResult(status -> {
+            stamper.gameChanged(first.getId());
+            stamper.categoryChanged(category.getId());
+        });
+        transaction.executeWithoutResult(status -> {
+            tombstoneRepository.save(GameTombstone.of(99L));
+            stamper.gamesChanged(List.of(second.getId()));
+            stamper.gameDeleted(99L);
+        });
+
+        assertThat(syncVersion(first)).isEqualTo(1L);
+        assertThat(categoryRepository.findById(category.getId()).orElseThrow().getSyncVersion()).isEqualTo(1L);
+        assertThat(syncVersion(second)).isEqualTo(2L);
+        assertThat(tombstoneRepository.findById(99L).orElseThrow().getSyncVersion()).isEqualTo(2L);
+        assertThat(clockRepository.findVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Should version by commit order, so a transaction that started first but commits last comes after")
+    void shouldVersionByCommitOrder() {
+        TransactionTemplate inner = new TransactionTemplate(transactionManager);
+        inner.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        transaction.executeWithoutResult(status -> {
+            stamper.gameChanged(first.getId());
+            inner.executeWithoutResult(innerStatus -> stamper.gameChanged(second.getId()));
+        });
+
+        assertThat(syncVersion(second)).isEqualTo(1L);
+        assertThat(syncVersion(first)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Should leave the clock and rows alone when the transaction rolls back")
+    void shouldNotStampOnRollback() {
+        transaction.executeWithoutResult(status -> {
+            stamper.gameChanged(first.getId());
+            status.setRollbackOnly();
+        });
+
+        assertThat(syncVersion(first)).isNull();
+        assertThat(clockRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should refuse to register a write outside a transaction")
+    void shouldRequireTransaction() {
+        assertThatThrownBy(() -> stamper.gameChanged(first.getId()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private Long syncVersion(Game game) {
+        return gameRepository.findById(game.getId()).orElseThrow().getSyncVersion();
+    }
+
+    private Game game(String title, User author) {
+        return Game.builder().title(title).author(author).price(new BigDecimal("9.99")).category(category).build();
+    }
+}
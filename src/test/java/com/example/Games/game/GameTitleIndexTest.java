@@ -0,0 +1,160 @@
+package com.example.Games.game;
+
+import com.example.Games.config.cache.CatalogVersion;
+import com.example.Games.game.dto.GameTitle;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GameTitleIndex Tests")
+class GameTitleIndexTest {
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private GameTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    private GameTitleIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new GameTitleIndex(gameRepository, tombstoneRepository, catalogVersion, 0.3, 2, Duration.ofMinutes(1));
+        when(gameRepository.findAllTitles()).thenReturn(List.of(
+                new GameTitle(1L, "Adventure Quest"),
+                new GameTitle(2L, "Space Adventure"),
+                new GameTitle(3L, "Dungeon Crawler"),
+                new GameTitle(4L, "Quest")
+        ));
+        index.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should rebuild from the games table")
+    void shouldRebuildFromGamesTable() {
+        assertThat(index.size()).isEqualTo(4);
+        verify(gameRepository).findAllTitles();
+    }
+
+    @Test
+    @DisplayName("Should find case-insensitive substring matches, shorter titles first")
+    void shouldFindSubstringMatches() {
+        assertThat(index.search("QUEST", 10)).containsExactly(4L, 1L);
+        assertThat(index.search("venture", 10)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("ng", 10)).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Should tolerate typos and rank by similarity")
+    void shouldTolerateTypos() {
+        assertThat(index.search("dungeon crawlr", 10)).containsExactly(3L);
+        assertThat(index.search("adventur quest", 10)).first().isEqualTo(1L);
+        assertThat(index.search("zzzz", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return every exact substring match as a filter set")
+    void shouldReturnSubstringMatchesAsFilter() {
+        assertThat(index.idsContaining("adventure")).hasValueSatisfying(ids -> assertThat(ids).containsExactlyInAnyOrder(1L, 2L));
+        assertThat(index.idsContaining("Q")).hasValueSatisfying(ids -> assertThat(ids).containsExactlyInAnyOrder(1L, 4L));
+        assertThat(index.idsContaining("adventur quest")).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should leave a title matching more games than the filter cap to SQL")
+    void shouldNotReturnOversizedFilter() {
+        assertThat(index.idsContaining("e")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should honour the result limit")
+    void shouldHonourLimit() {
+        assertThat(index.search("e", 2)).hasSize(2);
+        assertThat(index.search("quest", 0)).isEmpty();
+        assertThat(index.search("   ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reindex renamed titles and drop deleted games")
+    void shouldApplyIncrementalChanges() {
+        index.index(3L, "Dungeon Quest");
+        index.index(5L, "Racing Legends");
+        index.unindex(4L);
+
+        assertThat(index.search("crawler", 10)).isEmpty();
+        assertThat(index.search("quest", 10)).containsExactly(3L, 1L);
+        assertThat(index.search("racing", 10)).containsExactly(5L);
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should catch up with titles and deletions written on other nodes")
+    void shouldCatchUpWithOtherNodesWrites() {
+        when(gameRepository.findTitlesModifiedSince(any(LocalDateTime.class))).thenReturn(List.of(
+                new GameTitle(1L, "Adventure Quest"),
+                new GameTitle(3L, "Dungeon Quest"),
+                new GameTitle(5L, "Racing Legends")));
+        when(tombstoneRepository.findGameIdsDeletedSince(any(LocalDateTime.class))).thenReturn(List.of(4L, 9L));
+
+        index.catchUp();
+
+        assertThat(index.search("quest", 10)).containsExactly(3L, 1L);
+        assertThat(index.search("racing", 10)).containsExactly(5L);
+        assertThat(index.size()).isEqualTo(4);
+        verify(catalogVersion).bumpAfterCommit();
+    }
+
+    @Test
+    @DisplayName("Should leave the catalog version alone when a catch-up finds nothing new")
+    void shouldNotBumpVersionForUnchangedCatchUp() {
+        when(gameRepository.findTitlesModifiedSince(any(LocalDateTime.class)))
+                .thenReturn(List.of(new GameTitle(2L, "space  adventure")));
+        when(tombstoneRepository.findGameIdsDeletedSince(any(LocalDateTime.class))).thenReturn(List.of());
+
+        index.catchUp();
+
+        assertThat(index.size()).isEqualTo(4);
+        verifyNoInteractions(catalogVersion);
+    }
+
+    @Test
+    @DisplayName("Should defer changes until the transaction commits")
+    void shouldDeferChangesUntilCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        index.index(5L, "Racing Legends");
+        index.unindex(1L);
+
+        assertThat(index.search("racing", 10)).isEmpty();
+        assertThat(index.search("adventure quest", 10)).contains(1L);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(index.search("racing", 10)).containsExactly(5L);
+        assertThat(index.search("adventure quest", 10)).doesNotContain(1L);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.Games.game;
+
+import com.example.Games.config.TestJpaAuditingConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@Import({TestJpaAuditingConfig.class, GameTombstoneRetention.class})
+@ActiveProfiles("test")
+@TestPropertySource(properties = "games.sync.tombstone-retention=P30D")
+@DisplayName("Game tombstone retention Tests")
+class GameTombstoneRetentionTest {
+
+    @Autowired
+    private GameTombstoneRetention retention;
+
+    @Autowired
+    private GameTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private GameSyncClockRepository clockRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("Should purge tombstones past retention and record the newest purged version on the clock")
+    void shouldPurgeOldTombstonesAndRecordVersion() {
+        // Given
+        entityManager.persist(new GameSyncClock(GameSyncClock.ID, 12, 0));
+        tombstoneRepository.save(tombstone(1L, LocalDateTime.now().minusDays(40)));
+        tombstoneRepository.save(tombstone(2L, LocalDateTime.now().minusDays(31)));
+        tombstoneRepository.save(tombstone(3L, LocalDateTime.now().minusDays(1)));
+        entityManager.flush();
+        tombstoneRepository.stampSyncVersion(4, List.of(1L));
+        tombstoneRepository.stampSyncVersion(7, List.of(2L));
+        tombstoneRepository.stampSyncVersion(11, List.of(3L));
+
+        // When
+        retention.purge();
+        entityManager.clear();
+
+        // Then
+        assertThat(tombstoneRepository.findAll()).extracting(GameTombstone::getGameId).containsExactly(3L);
+        assertThat(clockRepository.findById(GameSyncClock.ID).orElseThrow().getPurgedThrough()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("Should leave the clock alone when no tombstone is past retention")
+    void shouldKeepRecentTombstones() {
+        // Given
+        entityManager.persist(new GameSyncClock(GameSyncClock.ID, 3, 2));
+        tombstoneRepository.save(tombstone(5L, LocalDateTime.now().minusDays(2)));
+        entityManager.flush();
+        tombstoneRepository.stampSyncVersion(3, List.of(5L));
+
+        // When
+        retention.purge();
+        entityManager.clear();
+
+        // Then
+        assertThat(tombstoneRepository.count()).isEqualTo(1);
+        assertThat(clockRepository.findById(GameSyncClock.ID).orElseThrow().getPurgedThrough()).isEqualTo(2L);
+    }
+
+    private static GameTombstone tombstone(Long gameId, LocalDateTime deletedAt) {
+        return GameTombstone.builder().gameId(gameId).deletedAt(deletedAt).build();
+    }
+}
@@ -23,6 +23,7 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -180,6 +181,28 @@ class GameHistoryRepositoryTest {
                 .allMatch(h -> h.getChangedBy().getId().equals(developerUser.getId()));
     }
 
+    @Test
+    @DisplayName("Should select only the requested history fields")
+    void shouldSelectOnlyRequestedHistoryFields() {
+        createHistoryEntry(testGame, ActionType.CREATE, developerUser, "Created");
+        createHistoryEntry(testGame, ActionType.PURCHASE, purchaserUser, "Purchased");
+        createHistoryEntry(secondGame, ActionType.CREATE, developerUser, "Created second");
+        entityManager.clear();
+
+        Page<Map<String, Object>> byGame = historyRepository.findFieldsByGameId(
+                GameHistoryFields.SCHEMA.select("action_type,action_description,changed_by"),
+                testGame.getId(), PageRequest.of(0, 1));
+        Page<Map<String, Object>> byUser = historyRepository.findFieldsByChangedById(
+                GameHistoryFields.SCHEMA.select("game_title"), developerUser.getId(), PageRequest.of(0, 10));
+
+        assertThat(byGame.getTotalElements()).isEqualTo(2);
+        assertThat(byGame.getContent()).containsExactly(Map.of(
+                "action_type", "PURCHASE", "action_description", "Game Purchased", "changed_by", "purchaser"));
+        assertThat(byUser.getContent()).extracting(row -> row.get("game_title"))
+                .containsExactly("Space Quest", "Epic Adventure");
+        assertThat(byUser.getContent()).allSatisfy(row -> assertThat(row).containsOnlyKeys("game_title"));
+    }
+
     @Test
     @DisplayName("Should count user actions correctly by action type")
     void shouldCountUserActionsByActionType() {
@@ -598,6 +621,6 @@ class GameHistoryRepositoryTest {
                 .changedBy(changedBy)
                 .description(description)
                 .build();
-        return historyRepository.save(history);
+        return historyRepository.saveAndFlush(history);
     }
 }
@@ -6,6 +6,7 @@ import com.example.Games.config.exception.game.GameNotFoundException;
 import com.example.Games.config.exception.gameHistory.GameHistoryException;
 import com.example.Games.game.Game;
 import com.example.Games.game.GameRepository;
+import com.example.Games.game.dto.PriceChange;
 import com.example.Games.category.Category;
 import com.example.Games.gameHistory.dto.DeveloperActivityResponse;
 import com.example.Games.gameHistory.dto.FieldChange;
@@ -34,6 +35,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -281,6 +283,53 @@ class GameHistoryServiceTest {
         assertThat(historyCaptor.getValue()).isEqualTo(deleteHistory);
     }
 
+    @Test
+    @DisplayName("Should record a repricing as one saveAll of game references without no-op rows")
+    void shouldRecordPriceChangesInOneBatch() {
+        PriceChange changed = new PriceChange(1L, "Test Game", new BigDecimal("29.99"), new BigDecimal("24.99"));
+        PriceChange unchanged = new PriceChange(2L, "Other Game", new BigDecimal("10.00"), new BigDecimal("10.0"));
+        when(gameRepository.getReferenceById(1L)).thenReturn(testGame);
+
+        historyService.recordPriceChanges(List.of(changed, unchanged), developer);
+
+        verify(historyRepository).saveAll(historyListCaptor.capture());
+        assertThat(historyListCaptor.getValue()).singleElement().satisfies(history -> {
+            assertThat(history.getGame()).isSameAs(testGame);
+            assertThat(history.getActionType()).isEqualTo(ActionType.UPDATE);
+            assertThat(history.getFieldChanged()).isEqualTo("price");
+            assertThat(history.getOldValue()).isEqualTo("29.99");
+            assertThat(history.getNewValue()).isEqualTo("24.99");
+            assertThat(history.getChangedBy()).isSameAs(developer);
+            assertThat(history.getDescription()).isEqualTo("Game 'Test Game' field 'price' updated");
+        });
+        verify(gameRepository, never()).getReferenceById(2L);
+    }
+
+    @Test
+    @DisplayName("Should record CREATE rows for imported games by id without loading them")
+    void shouldRecordGameCreations() {
+        when(gameRepository.getReferenceById(1L)).thenReturn(testGame);
+
+        historyService.recordGameCreations(Map.of(1L, "Test Game"), developer);
+
+        verify(historyRepository).saveAll(historyListCaptor.capture());
+        assertThat(historyListCaptor.getValue()).singleElement().satisfies(history -> {
+            assertThat(history.getGame()).isSameAs(testGame);
+            assertThat(history.getActionType()).isEqualTo(ActionType.CREATE);
+            assertThat(history.getChangedBy()).isSameAs(developer);
+            assertThat(history.getDescription()).isEqualTo("Game 'Test Game' created");
+        });
+    }
+
+    @Test
+    @DisplayName("Should record nothing for a repricing without actual changes")
+    void shouldSkipRepricingWithoutChanges() {
+        historyService.recordPriceChanges(List.of(
+                new PriceChange(2L, "Other Game", new BigDecimal("10.00"), new BigDecimal("10.0"))), developer);
+
+        verifyNoInteractions(historyRepository, gameRepository);
+    }
+
     @Test
     @DisplayName("Should record single game purchase successfully")
     void shouldRecordSingleGamePurchaseSuccessfully() {
@@ -0,0 +1,73 @@
+package com.example.Games.license;
+
+import com.example.Games.config.common.dto.ApiResponse;
+import com.example.Games.config.common.mappers.ResponseMapStruct;
+import com.example.Games.config.exception.license.LicenseNotGrantedException;
+import com.example.Games.config.test.WebMvcTestWithoutSecurity;
+import com.example.Games.license.dto.LicenseKeyResponse;
+import com.example.Games.license.dto.LicenseResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTestWithoutSecurity(LicenseController.class)
+@DisplayName("LicenseController Tests")
+class LicenseControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private LicenseService licenseService;
+
+    @MockitoBean
+    private ResponseMapStruct responseMapper;
+
+    @Test
+    @DisplayName("Should issue a license for an owned game")
+    void shouldIssueLicense() throws Exception {
+        LicenseResponse license = new LicenseResponse(10L, "header.claims.signature", LocalDateTime.now().plusDays(7));
+        when(licenseService.getLicense(10L)).thenReturn(license);
+        when(responseMapper.toSuccessResponse("License issued", license))
+                .thenReturn(ApiResponse.success("License issued", license));
+
+        mockMvc.perform(get("/api/v1/licenses/game/10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.gameId").value(10))
+                .andExpect(jsonPath("$.data.token").value("header.claims.signature"));
+    }
+
+    @Test
+    @DisplayName("Should return 403 when the user does not own the game")
+    void shouldReturn403ForUnownedGame() throws Exception {
+        when(licenseService.getLicense(10L)).thenThrow(LicenseNotGrantedException.notOwned(10L));
+        when(responseMapper.toErrorResponse(anyString()))
+                .thenAnswer(invocation -> ApiResponse.error(invocation.getArgument(0)));
+
+        mockMvc.perform(get("/api/v1/licenses/game/10"))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.message").value("You do not own the game with ID: 10"));
+    }
+
+    @Test
+    @DisplayName("Should publish the license verification key")
+    void shouldPublishPublicKey() throws Exception {
+        LicenseKeyResponse key = new LicenseKeyResponse("kid", "ES256", "MFkw");
+        when(licenseService.getPublicKey()).thenReturn(key);
+        when(responseMapper.toSuccessResponse(key)).thenReturn(ApiResponse.success(key));
+
+        mockMvc.perform(get("/api/v1/licenses/public-key"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.algorithm").value("ES256"))
+                .andExpect(jsonPath("$.data.publicKey").value("MFkw"));
+    }
+}
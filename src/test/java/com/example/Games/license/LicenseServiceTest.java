@@ -0,0 +1,143 @@
+package com.example.Games.license;
+
+import com.example.Games.config.common.service.UserContextService;
+import com.example.Games.config.exception.license.LicenseNotGrantedException;
+import com.example.Games.license.dto.LicenseKeyResponse;
+import com.example.Games.license.dto.LicenseResponse;
+import com.example.Games.purchase.OwnershipIndex;
+import com.example.Games.user.auth.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LicenseService Tests")
+class LicenseServiceTest {
+
+    @Mock
+    private OwnershipIndex ownership;
+
+    @Mock
+    private UserContextService userContextService;
+
+    private final LicenseKeys keys = new LicenseKeys("", "", true);
+    private LicenseService licenseService;
+
+    @BeforeEach
+    void setUp() {
+        licenseService = new LicenseService(ownership, userContextService, keys, Duration.ofDays(7), 100);
+        lenient().when(userContextService.getAuthorizedUser())
+                .thenReturn(User.builder().id(1L).username("player").build());
+    }
+
+    @Test
+    @DisplayName("Should issue a license that verifies offline with only the published public key")
+    void shouldIssueOfflineVerifiableLicense() throws Exception {
+        when(ownership.owns(1L, 10L)).thenReturn(true);
+
+        LicenseResponse license = licenseService.getLicense(10L);
+        LicenseKeyResponse published = licenseService.getPublicKey();
+
+        PublicKey publicKey = KeyFactory.getInstance("EC")
+                .generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(published.publicKey())));
+        Jws<Claims> verified = Jwts.parserBuilder().setSigningKey(publicKey).build().parseClaimsJws(license.token());
+
+        assertThat(published.algorithm()).isEqualTo("ES256");
+        assertThat(verified.getHeader().getKeyId()).isEqualTo(published.keyId());
+        assertThat(verified.getBody().getSubject()).isEqualTo("1");
+        assertThat(verified.getBody().get(LicenseService.GAME_CLAIM, Long.class)).isEqualTo(10L);
+        assertThat(verified.getBody().getIssuer()).isEqualTo(LicenseService.ISSUER);
+        assertThat(license.gameId()).isEqualTo(10L);
+        assertThat(license.expiresAt()).isBetween(LocalDateTime.now().plusDays(7).minusMinutes(1),
+                LocalDateTime.now().plusDays(7));
+    }
+
+    @Test
+    @DisplayName("Should hand out the same license again instead of signing a new one")
+    void shouldReuseIssuedLicense() {
+        when(ownership.owns(1L, 10L)).thenReturn(true);
+
+        LicenseResponse first = licenseService.getLicense(10L);
+        LicenseResponse second = licenseService.getLicense(10L);
+
+        assertThat(second).isSameAs(first);
+        verify(ownership, times(2)).owns(1L, 10L);
+    }
+
+    @Test
+    @DisplayName("Should refuse a license for a game the user does not own")
+    void shouldRefuseUnownedGame() {
+        when(ownership.owns(1L, 10L)).thenReturn(false);
+
+        assertThatThrownBy(() -> licenseService.getLicense(10L))
+                .isInstanceOf(LicenseNotGrantedException.class)
+                .hasMessageContaining("10");
+    }
+
+    @Test
+    @DisplayName("Should produce licenses that fail verification once altered or checked against another key")
+    void shouldRejectTamperedLicense() {
+        when(ownership.owns(1L, 10L)).thenReturn(true);
+        String token = licenseService.getLicense(10L).token();
+        String[] parts = token.split("\\.");
+        String forged = parts[0] + "." + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"sub\":\"1\",\"gid\":11}".getBytes()) + "." + parts[2];
+        KeyPair other = Keys.keyPairFor(SignatureAlgorithm.ES256);
+
+        assertThatThrownBy(() -> Jwts.parserBuilder().setSigningKey(keys.publicKey()).build().parseClaimsJws(forged))
+                .isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> Jwts.parserBuilder().setSigningKey(other.getPublic()).build().parseClaimsJws(token))
+                .isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("Should sign with configured keys and reject keys that do not decode")
+    void shouldLoadConfiguredKeys() {
+        KeyPair pair = Keys.keyPairFor(SignatureAlgorithm.ES256);
+        Base64.Encoder encoder = Base64.getEncoder();
+
+        LicenseKeys configured = new LicenseKeys(encoder.encodeToString(pair.getPrivate().getEncoded()),
+                encoder.encodeToString(pair.getPublic().getEncoded()), false);
+
+        assertThat(configured.publicKey()).isEqualTo(pair.getPublic());
+        assertThat(configured.keyId()).isNotEqualTo(keys.keyId());
+        assertThatThrownBy(() -> new LicenseKeys("not-a-key", "not-a-key", true))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should refuse to start without keys outside dev, or with halves of different pairs")
+    void shouldRejectMissingOrMismatchedKeys() {
+        KeyPair pair = Keys.keyPairFor(SignatureAlgorithm.ES256);
+        KeyPair other = Keys.keyPairFor(SignatureAlgorithm.ES256);
+        Base64.Encoder encoder = Base64.getEncoder();
+
+        assertThatThrownBy(() -> new LicenseKeys("", "", false))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("must be set");
+        assertThatThrownBy(() -> new LicenseKeys(encoder.encodeToString(pair.getPrivate().getEncoded()),
+                encoder.encodeToString(other.getPublic().getEncoded()), true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("does not belong");
+    }
+}
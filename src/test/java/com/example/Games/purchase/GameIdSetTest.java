@@ -0,0 +1,62 @@
+package com.example.Games.purchase;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("GameIdSet Tests")
+class GameIdSetTest {
+
+    @Test
+    @DisplayName("Should keep a sparse library as a sorted array")
+    void shouldStoreSparseLibraryAsArray() {
+        GameIdSet owned = GameIdSet.of(List.of(90_000L, 12L, 512L, 12L));
+
+        assertThat(owned.isBitmap()).isFalse();
+        assertThat(owned.size()).isEqualTo(3);
+        assertThat(owned.contains(512L)).isTrue();
+        assertThat(owned.contains(513L)).isFalse();
+        assertThat(owned.contains(-1L)).isFalse();
+        assertThat(owned.contains(Long.MAX_VALUE)).isFalse();
+        assertThat(owned.toList()).containsExactly(12L, 512L, 90_000L);
+    }
+
+    @Test
+    @DisplayName("Should switch to a bitmap once that is smaller")
+    void shouldStoreDenseLibraryAsBitmap() {
+        GameIdSet owned = GameIdSet.of(LongStream.rangeClosed(1, 40).boxed().toList());
+
+        assertThat(owned.isBitmap()).isTrue();
+        assertThat(owned.contains(40L)).isTrue();
+        assertThat(owned.contains(41L)).isFalse();
+        assertThat(owned.toList()).hasSize(40).startsWith(1L, 2L).endsWith(40L);
+    }
+
+    @Test
+    @DisplayName("Should add purchases into a new set and leave the old one unchanged")
+    void shouldCopyOnAdd() {
+        GameIdSet before = GameIdSet.of(List.of(5L));
+        GameIdSet after = before.with(List.of(3L, 5L));
+
+        assertThat(before.toList()).containsExactly(5L);
+        assertThat(after.toList()).containsExactly(3L, 5L);
+        assertThat(GameIdSet.EMPTY.with(List.of()).size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should hold ids beyond the int range alongside the compact layouts")
+    void shouldHoldIdsBeyondIntRange() {
+        long wide = Integer.MAX_VALUE + 10L;
+        GameIdSet owned = GameIdSet.of(List.of(wide, 7L)).with(List.of(Long.MAX_VALUE));
+
+        assertThat(owned.size()).isEqualTo(3);
+        assertThat(owned.contains(wide)).isTrue();
+        assertThat(owned.contains(wide + 1)).isFalse();
+        assertThat(owned.contains(7L)).isTrue();
+        assertThat(owned.toList()).containsExactly(7L, wide, Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.Games.purchase;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OwnershipIndex Tests")
+class OwnershipIndexTest {
+
+    @Mock
+    private PurchaseRepository purchaseRepository;
+
+    private OwnershipIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new OwnershipIndex(purchaseRepository, 100, Duration.ofMinutes(30), Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should load a library once and answer every later check from memory")
+    void shouldLoadLibraryOnce() {
+        when(purchaseRepository.findGameIdsByUserId(1L)).thenReturn(List.of(4L, 2L));
+
+        assertThat(index.owns(1L, 2L)).isTrue();
+        assertThat(index.owns(1L, 3L)).isFalse();
+        assertThat(index.ownedAmong(1L, List.of(9L, 4L, 2L, 4L))).containsExactly(4L, 2L);
+        assertThat(index.library(1L)).containsExactly(2L, 4L);
+
+        verify(purchaseRepository, times(1)).findGameIdsByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("Should add purchases to a loaded library only after commit")
+    void shouldApplyPurchasesAfterCommit() {
+        when(purchaseRepository.findGameIdsByUserId(1L)).thenReturn(List.of(2L));
+        index.owns(1L, 2L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        index.purchased(1L, List.of(7L, 8L));
+
+        assertThat(index.owns(1L, 7L)).isFalse();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(index.library(1L)).containsExactly(2L, 7L, 8L);
+        verify(purchaseRepository, times(1)).findGameIdsByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("Should leave an unloaded library to be read from the database")
+    void shouldNotLoadOnPurchase() {
+        index.purchased(5L, List.of(7L));
+
+        verifyNoInteractions(purchaseRepository);
+
+        when(purchaseRepository.findGameIdsByUserId(5L)).thenReturn(List.of(7L));
+        assertThat(index.owns(5L, 7L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reload a library older than the refresh interval even while it is in use")
+    void shouldRefreshActiveLibrary() throws InterruptedException {
+        index = new OwnershipIndex(purchaseRepository, 100, Duration.ofMinutes(30), Duration.ofNanos(1));
+        when(purchaseRepository.findGameIdsByUserId(1L)).thenReturn(List.of(2L)).thenReturn(List.of(2L, 9L));
+
+        assertThat(index.owns(1L, 9L)).isFalse();
+        index.owns(1L, 2L);
+
+        verify(purchaseRepository, timeout(1000).atLeast(2)).findGameIdsByUserId(1L);
+        // The refreshed set replaces the old one once the background load completes
+        for (int i = 0; i < 100 && !index.owns(1L, 9L); i++) {
+            Thread.sleep(10);
+        }
+        assertThat(index.owns(1L, 9L)).isTrue();
+    }
+}
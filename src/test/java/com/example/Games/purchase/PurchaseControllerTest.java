@@ -216,6 +216,21 @@ class PurchaseControllerTest {
                 .andExpect(jsonPath("$.data[0].purchaseId").value(1));
     }
 
+    @Test
+    @DisplayName("Should get my library game ids")
+    void shouldGetMyLibraryIds() throws Exception {
+        List<Long> gameIds = List.of(1L, 7L);
+
+        when(purchaseService.getMyLibraryIds()).thenReturn(gameIds);
+        when(responseMapper.toSuccessResponse("Library retrieved", gameIds))
+                .thenReturn(ApiResponse.success("Library retrieved", gameIds));
+
+        mockMvc.perform(get("/api/v1/purchase/library/ids"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(2)))
+                .andExpect(jsonPath("$.data[1]").value(7));
+    }
+
     @Test
     @DisplayName("Should get paginated purchase history")
     void shouldGetPaginatedPurchaseHistory() throws Exception {
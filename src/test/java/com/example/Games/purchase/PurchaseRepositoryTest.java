@@ -3,6 +3,7 @@ package com.example.Games.purchase;
 import com.example.Games.category.Category;
 import com.example.Games.config.TestJpaAuditingConfig;
 import com.example.Games.game.Game;
+import com.example.Games.purchase.dto.GamePurchaseCount;
 import com.example.Games.user.auth.User;
 import com.example.Games.user.role.Role;
 import com.example.Games.user.role.RoleType;
@@ -22,8 +23,8 @@ import org.springframework.test.context.ActiveProfiles;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -92,6 +93,34 @@ class PurchaseRepositoryTest {
     }
 
 
+    @Test
+    @DisplayName("Should select only the requested purchase fields, newest first")
+    void shouldSelectOnlyRequestedPurchaseFields() {
+        entityManager.clear();
+
+        List<Map<String, Object>> purchases = purchaseRepository.findFieldsByUserId(
+                PurchaseFields.SCHEMA.select("gameTitle,gameAuthor,priceDifference"), buyer2.getId());
+        Page<Map<String, Object>> page = purchaseRepository.findFieldsByUserId(
+                PurchaseFields.SCHEMA.select("purchasePrice"), buyer1.getId(), PageRequest.of(0, 2));
+
+        assertThat(purchases).containsExactly(
+                Map.of("gameTitle", "RPG Game 2", "gameAuthor", "dev2", "priceDifference", new BigDecimal("0.00")),
+                Map.of("gameTitle", "RPG Game 1", "gameAuthor", "dev1", "priceDifference", new BigDecimal("4.00")));
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(row -> row.get("purchasePrice"))
+                .containsExactly(new BigDecimal("49.99"), new BigDecimal("39.99"));
+    }
+
+    @Test
+    @DisplayName("Should count purchases per game in one aggregate")
+    void shouldCountPurchasesPerGame() {
+        assertThat(purchaseRepository.countPurchasesPerGame()).containsExactlyInAnyOrder(
+                new GamePurchaseCount(game1.getId(), 1),
+                new GamePurchaseCount(game2.getId(), 2),
+                new GamePurchaseCount(game3.getId(), 1),
+                new GamePurchaseCount(game4.getId(), 1));
+    }
+
     @Test
     @DisplayName("Should check if user owns a game")
     void shouldCheckIfUserOwnsGame() {
@@ -115,56 +144,17 @@ class PurchaseRepositoryTest {
     }
 
     @Test
-    @DisplayName("Should find owned game IDs from a list")
-    void shouldFindOwnedGameIdsFromList() {
-        // Given
-        List<Long> gameIdsToCheck = Arrays.asList(
-                game1.getId(), game2.getId(), game3.getId(), game4.getId()
-        );
-
-        // When - Check for buyer1
-        List<Long> buyer1OwnedIds = purchaseRepository.findOwnedGameIds(
-                buyer1.getId(), gameIdsToCheck
-        );
-
-        // Then
-        assertThat(buyer1OwnedIds).hasSize(3);
-        assertThat(buyer1OwnedIds).containsExactlyInAnyOrder(
-                game1.getId(), game2.getId(), game3.getId()
-        );
-
-        // When - Check for buyer2
-        List<Long> buyer2OwnedIds = purchaseRepository.findOwnedGameIds(
-                buyer2.getId(), gameIdsToCheck
-        );
-
-        // Then
-        assertThat(buyer2OwnedIds).hasSize(2);
-        assertThat(buyer2OwnedIds).containsExactlyInAnyOrder(
-                game2.getId(), game4.getId()
-        );
-
-        // When - Check with partial list
-        List<Long> partialCheck = Arrays.asList(game1.getId(), game4.getId());
-        List<Long> buyer1PartialOwned = purchaseRepository.findOwnedGameIds(
-                buyer1.getId(), partialCheck
-        );
-
-        // Then
-        assertThat(buyer1PartialOwned).hasSize(1);
-        assertThat(buyer1PartialOwned).contains(game1.getId());
-
-        // When - Check with empty list
-        List<Long> emptyCheck = purchaseRepository.findOwnedGameIds(
-                buyer1.getId(), Arrays.asList()
-        );
-        assertThat(emptyCheck).isEmpty();
+    @DisplayName("Should find every game id a user owns")
+    void shouldFindGameIdsOwnedByUser() {
+        // When & Then
+        assertThat(purchaseRepository.findGameIdsByUserId(buyer1.getId()))
+                .containsExactlyInAnyOrder(game1.getId(), game2.getId(), game3.getId());
+        assertThat(purchaseRepository.findGameIdsByUserId(buyer2.getId()))
+                .containsExactlyInAnyOrder(game2.getId(), game4.getId());
 
-        // When - User owns none
-        List<Long> developerOwned = purchaseRepository.findOwnedGameIds(
-                developer1.getId(), gameIdsToCheck
-        );
-        assertThat(developerOwned).isEmpty();
+        // User owns none
+        assertThat(purchaseRepository.findGameIdsByUserId(developer1.getId())).isEmpty();
+        assertThat(purchaseRepository.findGameIdsByUserId(999L)).isEmpty();
     }
 
     @Test
@@ -4,6 +4,7 @@ import com.example.Games.config.common.service.UserContextService;
 import com.example.Games.config.exception.game.GameNotFoundException;
 import com.example.Games.config.exception.purchase.GameAlreadyOwnedException;
 import com.example.Games.config.exception.purchase.PurchaseException;
+import com.example.Games.discount.DiscountIndex;
 import com.example.Games.game.Game;
 import com.example.Games.game.GameRepository;
 import com.example.Games.gameHistory.GameHistoryService;
@@ -62,6 +63,12 @@ class PurchaseServiceTest {
     @Mock
     private UserContextService userContextService;
 
+    @Mock
+    private DiscountIndex discounts;
+
+    @Mock
+    private OwnershipIndex ownership;
+
     @InjectMocks
     private PurchaseService purchaseService;
 
@@ -166,10 +173,10 @@ class PurchaseServiceTest {
     void shouldSuccessfullyPurchaseSingleGame() {
         // Given
         when(gameRepository.findByIdWithAuthor(1L)).thenReturn(Optional.of(testGame));
-        when(purchaseRepository.existsByUserIdAndGameId(1L, 1L)).thenReturn(false);
+        when(ownership.owns(1L, 1L)).thenReturn(false);
         when(balanceService.createPurchaseTransaction(any(BigDecimal.class), any(User.class)))
                 .thenReturn(balanceTransaction);
-        when(purchaseMapper.createPurchase(currentUser, testGame)).thenReturn(purchaseHistory);
+        when(purchaseMapper.createPurchase(currentUser, testGame, testGame.getPrice())).thenReturn(purchaseHistory);
         when(purchaseRepository.save(any(PurchaseHistory.class))).thenReturn(purchaseHistory);
         when(purchaseMapper.toPurchaseResponse(purchaseHistory)).thenReturn(purchaseResponse);
 
@@ -194,6 +201,35 @@ class PurchaseServiceTest {
                 eq(currentUser),
                 eq(new BigDecimal("29.99"))
         );
+        verify(ownership).purchased(1L, List.of(1L));
+    }
+
+    @Test
+    @DisplayName("Should list my library ids from the ownership index")
+    void shouldListMyLibraryIds() {
+        // Given
+        when(ownership.library(1L)).thenReturn(List.of(1L, 7L));
+
+        // When & Then
+        assertThat(purchaseService.getMyLibraryIds()).containsExactly(1L, 7L);
+        verifyNoInteractions(purchaseRepository);
+    }
+
+    @Test
+    @DisplayName("Should charge and record the discounted price while a discount runs")
+    void shouldChargeDiscountedPrice() {
+        BigDecimal salePrice = new BigDecimal("14.99");
+        when(gameRepository.findByIdWithAuthor(1L)).thenReturn(Optional.of(testGame));
+        when(ownership.owns(1L, 1L)).thenReturn(false);
+        when(discounts.discountedPrice(testGame)).thenReturn(Optional.of(salePrice));
+        when(balanceService.createPurchaseTransaction(salePrice, currentUser)).thenReturn(balanceTransaction);
+        when(purchaseMapper.createPurchase(currentUser, testGame, salePrice)).thenReturn(purchaseHistory);
+        when(purchaseRepository.save(purchaseHistory)).thenReturn(purchaseHistory);
+        when(purchaseMapper.toPurchaseResponse(purchaseHistory)).thenReturn(purchaseResponse);
+
+        purchaseService.purchaseGame(1L);
+
+        verify(gameHistoryService).recordGamePurchase(testGame, currentUser, salePrice);
     }
 
     @Test
@@ -216,7 +252,7 @@ class PurchaseServiceTest {
     void shouldThrowExceptionWhenUserAlreadyOwnsGame() {
         // Given
         when(gameRepository.findByIdWithAuthor(1L)).thenReturn(Optional.of(testGame));
-        when(purchaseRepository.existsByUserIdAndGameId(1L, 1L)).thenReturn(true);
+        when(ownership.owns(1L, 1L)).thenReturn(true);
 
         // When & Then
         assertThatThrownBy(() -> purchaseService.purchaseGame(1L))
@@ -239,7 +275,7 @@ class PurchaseServiceTest {
                 .build();
 
         when(gameRepository.findByIdWithAuthor(3L)).thenReturn(Optional.of(ownGame));
-        when(purchaseRepository.existsByUserIdAndGameId(1L, 3L)).thenReturn(false);
+        when(ownership.owns(1L, 3L)).thenReturn(false);
 
         // When & Then
         assertThatThrownBy(() -> purchaseService.purchaseGame(3L))
@@ -250,6 +286,19 @@ class PurchaseServiceTest {
         verify(balanceService, never()).createPurchaseTransaction(any(), any());
     }
 
+    @Test
+    @DisplayName("Should refuse to sell a game before its release")
+    void shouldRejectPurchaseOfUnreleasedGame() {
+        testGame.setReleaseAt(LocalDateTime.now().plusDays(1));
+        when(gameRepository.findByIdWithAuthor(1L)).thenReturn(Optional.of(testGame));
+
+        assertThatThrownBy(() -> purchaseService.purchaseGame(1L))
+                .isInstanceOf(PurchaseException.class)
+                .hasMessage("Game is not released yet, pre-order it instead: Test Game");
+
+        verify(balanceService, never()).createPurchaseTransaction(any(), any());
+    }
+
     @Test
     @DisplayName("Should successfully purchase multiple games")
     void shouldSuccessfullyPurchaseMultipleGames() {
@@ -278,11 +327,11 @@ class PurchaseServiceTest {
                 .build();
 
         when(gameRepository.findAllByIdWithAuthor(gameIds)).thenReturn(games);
-        when(purchaseRepository.findOwnedGameIds(1L, gameIds)).thenReturn(Collections.emptyList());
+        when(ownership.ownedAmong(1L, gameIds)).thenReturn(Collections.emptyList());
         when(balanceService.createPurchaseTransaction(any(BigDecimal.class), any(User.class)))
                 .thenReturn(balanceTransaction);
-        when(purchaseMapper.createPurchase(currentUser, testGame)).thenReturn(purchaseHistory);
-        when(purchaseMapper.createPurchase(currentUser, testGame2)).thenReturn(purchase2);
+        when(purchaseMapper.createPurchase(currentUser, testGame, testGame.getPrice())).thenReturn(purchaseHistory);
+        when(purchaseMapper.createPurchase(currentUser, testGame2, testGame2.getPrice())).thenReturn(purchase2);
         when(purchaseRepository.saveAll(anyList()))
                 .thenReturn(Arrays.asList(purchaseHistory, purchase2));
         when(purchaseMapper.toPurchaseResponse(purchaseHistory)).thenReturn(purchaseResponse);
@@ -301,7 +350,9 @@ class PurchaseServiceTest {
                 argThat(amount -> amount.compareTo(expectedTotal) == 0),
                 eq(currentUser)
         );
-        verify(gameHistoryService).recordGamePurchases(eq(games), eq(currentUser));
+        verify(gameHistoryService).recordGamePurchases(eq(games), eq(currentUser),
+                eq(List.of(new BigDecimal("29.99"), new BigDecimal("39.99"))));
+        verify(ownership).purchased(1L, List.of(1L, 2L));
     }
 
     @Test
@@ -331,7 +382,7 @@ class PurchaseServiceTest {
         PurchaseGamesRequest request = new PurchaseGamesRequest(gameIds);
 
         when(gameRepository.findAllByIdWithAuthor(gameIds)).thenReturn(games);
-        when(purchaseRepository.findOwnedGameIds(1L, gameIds))
+        when(ownership.ownedAmong(1L, gameIds))
                 .thenReturn(Arrays.asList(1L)); // User already owns game 1
 
         // When & Then
@@ -350,7 +401,7 @@ class PurchaseServiceTest {
         List<Game> games = Arrays.asList(testGame, testGame2);
 
         when(gameRepository.findAllByIdWithAuthor(gameIds)).thenReturn(games);
-        when(purchaseRepository.findOwnedGameIds(1L, gameIds)).thenReturn(Collections.emptyList());
+        when(ownership.ownedAmong(1L, gameIds)).thenReturn(Collections.emptyList());
         when(balanceService.canAfford(any(BigDecimal.class))).thenReturn(true);
 
         // When
@@ -539,7 +590,7 @@ class PurchaseServiceTest {
         PurchaseGamesRequest request = new PurchaseGamesRequest(gameIds);
 
         when(gameRepository.findAllByIdWithAuthor(gameIds)).thenReturn(games);
-        when(purchaseRepository.findOwnedGameIds(1L, gameIds)).thenReturn(Collections.emptyList());
+        when(ownership.ownedAmong(1L, gameIds)).thenReturn(Collections.emptyList());
 
         // When & Then
         assertThatThrownBy(() -> purchaseService.purchaseGamesByIds(request))
@@ -556,7 +607,7 @@ class PurchaseServiceTest {
         List<Game> games = Arrays.asList(testGame, testGame2);
 
         when(gameRepository.findAllByIdWithAuthor(gameIds)).thenReturn(games);
-        when(purchaseRepository.findOwnedGameIds(1L, gameIds)).thenReturn(Collections.emptyList());
+        when(ownership.ownedAmong(1L, gameIds)).thenReturn(Collections.emptyList());
         when(balanceService.canAfford(any(BigDecimal.class))).thenReturn(false);
 
         boolean result = purchaseService.canPurchaseGames(gameIds);
@@ -577,8 +628,8 @@ class PurchaseServiceTest {
         PurchaseResponse resp2 = PurchaseResponse.builder().purchaseId(2L).gameTitle("Test Game 2").build();
 
         when(balanceService.createPurchaseTransaction(new BigDecimal("69.98"), currentUser)).thenReturn(balanceTransaction);
-        when(purchaseMapper.createPurchase(currentUser, testGame)).thenReturn(ph1);
-        when(purchaseMapper.createPurchase(currentUser, testGame2)).thenReturn(ph2);
+        when(purchaseMapper.createPurchase(currentUser, testGame, testGame.getPrice())).thenReturn(ph1);
+        when(purchaseMapper.createPurchase(currentUser, testGame2, testGame2.getPrice())).thenReturn(ph2);
         when(purchaseRepository.saveAll(anyList())).thenReturn(Arrays.asList(ph1, ph2));
         when(purchaseMapper.toPurchaseResponse(ph1)).thenReturn(resp1);
         when(purchaseMapper.toPurchaseResponse(ph2)).thenReturn(resp2);
@@ -586,7 +637,36 @@ class PurchaseServiceTest {
         List<PurchaseResponse> results = purchaseService.purchaseGames(games, currentUser);
 
         assertThat(results).hasSize(2);
-        verify(gameHistoryService).recordGamePurchases(games, currentUser);
+        verify(gameHistoryService).recordGamePurchases(games, currentUser,
+                List.of(new BigDecimal("29.99"), new BigDecimal("39.99")));
+    }
+
+    @Test
+    @DisplayName("Should refuse quoted purchases of games owned since the quote, before charging")
+    void shouldRejectQuotedPurchaseOfGamesOwnedSince() {
+        List<Game> games = Arrays.asList(testGame, testGame2);
+        when(purchaseRepository.findGameIdsOwnedAmong(1L, List.of(1L, 2L))).thenReturn(List.of(2L));
+
+        assertThatThrownBy(() -> purchaseService.purchaseGames(games,
+                List.of(new BigDecimal("9.99"), new BigDecimal("19.99")), currentUser))
+                .isInstanceOf(GameAlreadyOwnedException.class)
+                .hasMessageContaining("2");
+
+        verifyNoInteractions(balanceService, ownership);
+        verify(purchaseRepository, never()).saveAll(any());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should refuse quoted purchases of games unreleased since the quote, before charging")
+    void shouldRejectQuotedPurchaseOfUnreleasedGames() {
+        testGame2.setReleaseAt(LocalDateTime.now().plusDays(30));
+
+        assertThatThrownBy(() -> purchaseService.purchaseGames(List.of(testGame, testGame2),
+                List.of(new BigDecimal("9.99"), new BigDecimal("19.99")), currentUser))
+                .isInstanceOf(PurchaseException.class)
+                .hasMessageContaining("Test Game 2");
+
+        verifyNoInteractions(balanceService);
+        verify(purchaseRepository, never()).saveAll(any());
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.Games.purchase.preorder;
+
+import com.example.Games.config.common.dto.ApiResponse;
+import com.example.Games.config.common.mappers.ResponseMapStruct;
+import com.example.Games.config.test.WebMvcTestWithoutSecurity;
+import com.example.Games.purchase.preorder.dto.PreOrderResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTestWithoutSecurity(PreOrderController.class)
+@DisplayName("PreOrderController Tests")
+class PreOrderControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PreOrderService preOrderService;
+
+    @MockitoBean
+    private ResponseMapStruct responseMapper;
+
+    @Test
+    @DisplayName("Should place a pre-order")
+    void shouldPreOrder() throws Exception {
+        PreOrderResponse response = new PreOrderResponse(5L, 10L, "Coming Soon",
+                LocalDateTime.of(2026, 12, 20, 0, 0), PreOrderStatus.PENDING, null, null, LocalDateTime.now(), null);
+        when(preOrderService.preOrder(10L)).thenReturn(response);
+        when(responseMapper.toSuccessResponse("Game pre-ordered successfully", response))
+                .thenReturn(ApiResponse.success("Game pre-ordered successfully", response));
+
+        mockMvc.perform(post("/api/v1/preorders/10"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.gameId").value(10))
+                .andExpect(jsonPath("$.data.status").value("PENDING"));
+    }
+
+    @Test
+    @DisplayName("Should cancel a pre-order")
+    void shouldCancelPreOrder() throws Exception {
+        when(responseMapper.toSuccessResponse("Pre-order cancelled successfully"))
+                .thenReturn(ApiResponse.success("Pre-order cancelled successfully", null));
+
+        mockMvc.perform(delete("/api/v1/preorders/10"))
+                .andExpect(status().isOk());
+
+        verify(preOrderService).cancel(10L);
+    }
+
+    @Test
+    @DisplayName("Should list my pre-orders")
+    void shouldListMyPreOrders() throws Exception {
+        List<PreOrderResponse> preOrders = List.of(new PreOrderResponse(5L, 10L, "Coming Soon",
+                LocalDateTime.now().minusDays(1), PreOrderStatus.FULFILLED, new BigDecimal("59.99"), null,
+                LocalDateTime.now().minusDays(7), LocalDateTime.now().minusDays(1)));
+        when(preOrderService.getMyPreOrders()).thenReturn(preOrders);
+        when(responseMapper.toSuccessResponse(preOrders)).thenReturn(ApiResponse.success(preOrders));
+
+        mockMvc.perform(get("/api/v1/preorders/me"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].chargedPrice").value(59.99));
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.Games.purchase.preorder;
+
+import com.example.Games.category.Category;
+import com.example.Games.config.TestJpaAuditingConfig;
+import com.example.Games.config.common.service.UserContextService;
+import com.example.Games.discount.DiscountIndex;
+import com.example.Games.game.Game;
+import com.example.Games.gameHistory.GameHistoryService;
+import com.example.Games.purchase.OwnershipIndex;
+import com.example.Games.purchase.PurchaseHistory;
+import com.example.Games.purchase.PurchaseMapStructImpl;
+import com.example.Games.user.auth.User;
+import com.example.Games.user.balance.Balance;
+import com.example.Games.user.balance.BalanceMapStructImpl;
+import com.example.Games.user.balance.BalanceService;
+import com.example.Games.user.balance.transaction.BalanceTransaction;
+import com.example.Games.user.role.Role;
+import com.example.Games.user.role.RoleType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+@Import({TestJpaAuditingConfig.class, PreOrderFulfiller.class, PurchaseMapStructImpl.class, BalanceService.class,
+        BalanceMapStructImpl.class})
+@ActiveProfiles("test")
+@DisplayName("PreOrderFulfiller Tests")
+class PreOrderFulfillerTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PreOrderFulfiller fulfiller;
+
+    @MockitoBean
+    private GameHistoryService gameHistoryService;
+
+    @MockitoBean
+    private DiscountIndex discounts;
+
+    @MockitoBean
+    private OwnershipIndex ownership;
+
+    @MockitoBean
+    private UserContextService userContextService;
+
+    private Role userRole;
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        userRole = entityManager.persistAndFlush(Role.builder().name(RoleType.USER).build());
+        User developer = user("gamedev");
+        Category category = entityManager.persistAndFlush(Category.builder().name("Action").createdBy(developer).build());
+        game = entityManager.persistAndFlush(Game.builder()
+                .title("Coming Soon")
+                .author(developer)
+                .price(new BigDecimal("59.99"))
+                .category(category)
+                .releaseAt(LocalDateTime.now().minusSeconds(1))
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should charge funded pre-orders the price at release and fail the rest")
+    void shouldSettleChunk() {
+        when(discounts.discountedPrice(any(Game.class))).thenReturn(Optional.of(new BigDecimal("44.99")));
+        User funded = user("funded");
+        User broke = user("broke");
+        User noWallet = user("nowallet");
+        Balance fundedBalance = balance(funded, "100.00");
+        balance(broke, "10.00");
+        List<Long> ids = List.of(preOrder(funded), preOrder(broke), preOrder(noWallet));
+
+        ReleaseResult result = fulfiller.fulfil(game.getId(), ids);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(result).isEqualTo(new ReleaseResult(1, 2, 0));
+        assertThat(entityManager.find(Balance.class, fundedBalance.getId()).getAmount()).isEqualByComparingTo("55.01");
+        assertThat(entityManager.getEntityManager()
+                .createQuery("SELECT p FROM PurchaseHistory p", PurchaseHistory.class).getResultList())
+                .singleElement()
+                .satisfies(purchase -> {
+                    assertThat(purchase.getUser().getId()).isEqualTo(funded.getId());
+                    assertThat(purchase.getPurchasePrice()).isEqualByComparingTo("44.99");
+                });
+        assertThat(entityManager.getEntityManager()
+                .createQuery("SELECT t FROM BalanceTransaction t", BalanceTransaction.class).getResultList())
+                .singleElement()
+                .satisfies(transaction -> assertThat(transaction.getBalanceBefore()).isEqualByComparingTo("100.00"));
+
+        PreOrder fulfilled = entityManager.find(PreOrder.class, ids.get(0));
+        assertThat(fulfilled.getStatus()).isEqualTo(PreOrderStatus.FULFILLED);
+        assertThat(fulfilled.getChargedPrice()).isEqualByComparingTo("44.99");
+        PreOrder failed = entityManager.find(PreOrder.class, ids.get(1));
+        assertThat(failed.getStatus()).isEqualTo(PreOrderStatus.FAILED);
+        assertThat(failed.getFailureReason()).contains("Insufficient funds");
+        assertThat(entityManager.find(PreOrder.class, ids.get(2)).getStatus()).isEqualTo(PreOrderStatus.FAILED);
+        verify(gameHistoryService).recordGamePurchase(any(Game.class), any(User.class), any(BigDecimal.class));
+        verify(ownership).purchased(funded.getId(), List.of(game.getId()));
+        verifyNoMoreInteractions(ownership);
+    }
+
+    @Test
+    @DisplayName("Should settle each pre-order once when a chunk is dispatched twice")
+    void shouldSkipSettledPreOrders() {
+        User funded = user("funded");
+        balance(funded, "100.00");
+        List<Long> ids = List.of(preOrder(funded));
+
+        assertThat(fulfiller.fulfil(game.getId(), ids)).isEqualTo(new ReleaseResult(1, 0, 0));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(fulfiller.fulfil(game.getId(), ids)).isEqualTo(ReleaseResult.EMPTY);
+        verify(gameHistoryService, times(1)).recordGamePurchase(any(), any(), any());
+    }
+
+    private User user(String username) {
+        return entityManager.persistAndFlush(User.builder()
+                .username(username).email(username + "@example.com").password("password123").role(userRole).build());
+    }
+
+    private Balance balance(User user, String amount) {
+        return entityManager.persistAndFlush(Balance.builder().user(user).amount(new BigDecimal(amount)).build());
+    }
+
+    private Long preOrder(User user) {
+        return entityManager.persistAndFlush(PreOrder.builder().user(user).game(game).build()).getId();
+    }
+}
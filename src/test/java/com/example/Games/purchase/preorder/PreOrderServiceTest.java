@@ -0,0 +1,138 @@
+package com.example.Games.purchase.preorder;
+
+import com.example.Games.config.common.service.UserContextService;
+import com.example.Games.config.exception.game.GameNotFoundException;
+import com.example.Games.config.exception.purchase.PurchaseException;
+import com.example.Games.game.Game;
+import com.example.Games.game.GameRepository;
+import com.example.Games.purchase.preorder.dto.PreOrderResponse;
+import com.example.Games.user.auth.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PreOrderService Tests")
+class PreOrderServiceTest {
+
+    @Mock
+    private PreOrderRepository preOrderRepository;
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private PreOrderMapStruct preOrderMapper;
+
+    @Mock
+    private UserContextService userContextService;
+
+    @InjectMocks
+    private PreOrderService preOrderService;
+
+    private User buyer;
+    private User developer;
+    private Game upcoming;
+
+    @BeforeEach
+    void setUp() {
+        buyer = User.builder().id(1L).username("buyer").build();
+        developer = User.builder().id(2L).username("gamedev").build();
+        upcoming = Game.builder()
+                .id(10L)
+                .title("Coming Soon")
+                .author(developer)
+                .price(new BigDecimal("59.99"))
+                .releaseAt(LocalDateTime.now().plusDays(7))
+                .build();
+        lenient().when(userContextService.getAuthorizedUser()).thenReturn(buyer);
+    }
+
+    @Test
+    @DisplayName("Should place a pending pre-order without charging anything")
+    void shouldPreOrderUnreleasedGame() {
+        PreOrder preOrder = PreOrder.builder().user(buyer).game(upcoming).build();
+        PreOrderResponse response = new PreOrderResponse(5L, 10L, "Coming Soon", upcoming.getReleaseAt(),
+                PreOrderStatus.PENDING, null, null, LocalDateTime.now(), null);
+        when(gameRepository.findByIdWithAuthor(10L)).thenReturn(Optional.of(upcoming));
+        when(preOrderMapper.createPreOrder(buyer, upcoming)).thenReturn(preOrder);
+        when(preOrderRepository.save(preOrder)).thenReturn(preOrder);
+        when(preOrderMapper.toDto(preOrder)).thenReturn(response);
+
+        assertThat(preOrderService.preOrder(10L)).isEqualTo(response);
+        verify(preOrderRepository).save(preOrder);
+    }
+
+    @Test
+    @DisplayName("Should send a released game to the purchase endpoint instead")
+    void shouldRejectReleasedGame() {
+        upcoming.setReleaseAt(LocalDateTime.now().minusMinutes(1));
+        when(gameRepository.findByIdWithAuthor(10L)).thenReturn(Optional.of(upcoming));
+
+        assertThatThrownBy(() -> preOrderService.preOrder(10L))
+                .isInstanceOf(PurchaseException.class)
+                .hasMessage("Game is already released, purchase it instead: Coming Soon");
+        verify(preOrderRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a pre-order of an own game or a second pre-order of the same game")
+    void shouldRejectSelfAndDuplicatePreOrders() {
+        when(gameRepository.findByIdWithAuthor(10L)).thenReturn(Optional.of(upcoming));
+        when(userContextService.getAuthorizedUser()).thenReturn(developer, buyer);
+        when(preOrderRepository.existsByUserIdAndGameId(1L, 10L)).thenReturn(true);
+
+        assertThatThrownBy(() -> preOrderService.preOrder(10L))
+                .isInstanceOf(PurchaseException.class)
+                .hasMessageContaining("your own game");
+        assertThatThrownBy(() -> preOrderService.preOrder(10L))
+                .isInstanceOf(PurchaseException.class)
+                .hasMessage("You already pre-ordered this game: Coming Soon");
+        verify(preOrderRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should throw when the game does not exist")
+    void shouldThrowWhenGameNotFound() {
+        when(gameRepository.findByIdWithAuthor(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> preOrderService.preOrder(99L))
+                .isInstanceOf(GameNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should cancel a pending pre-order")
+    void shouldCancelPendingPreOrder() {
+        PreOrder preOrder = PreOrder.builder().id(5L).user(buyer).game(upcoming).build();
+        when(preOrderRepository.lockByUserIdAndGameId(1L, 10L)).thenReturn(Optional.of(preOrder));
+
+        preOrderService.cancel(10L);
+
+        verify(preOrderRepository).delete(preOrder);
+    }
+
+    @Test
+    @DisplayName("Should refuse to cancel a pre-order that was already settled")
+    void shouldNotCancelSettledPreOrder() {
+        PreOrder preOrder = PreOrder.builder().id(5L).user(buyer).game(upcoming).build();
+        preOrder.fulfil(new BigDecimal("59.99"), LocalDateTime.now());
+        when(preOrderRepository.lockByUserIdAndGameId(1L, 10L)).thenReturn(Optional.of(preOrder));
+
+        assertThatThrownBy(() -> preOrderService.cancel(10L))
+                .isInstanceOf(PurchaseException.class)
+                .hasMessage("You have no pending pre-order for game with ID: 10");
+        verify(preOrderRepository, never()).delete(any());
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.Games.purchase.preorder;
+
+import com.example.Games.game.GameRepository;
+import com.example.Games.game.dto.GameRelease;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReleaseScheduler Tests")
+class ReleaseSchedulerTest {
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private PreOrderRepository preOrderRepository;
+
+    @Mock
+    private PreOrderFulfiller fulfiller;
+
+    private ReleaseScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new ReleaseScheduler(gameRepository, preOrderRepository, fulfiller,
+                Duration.ofMillis(10), 64, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should settle a release in chunks and add up their results")
+    void shouldReleaseInChunks() {
+        List<Long> ids = LongStream.rangeClosed(1, ReleaseScheduler.CHUNK_SIZE + 1).boxed().toList();
+        when(preOrderRepository.findPendingIdsByGameId(10L)).thenReturn(ids);
+        when(fulfiller.fulfil(eq(10L), anyCollection())).thenAnswer(call -> {
+            int size = call.<List<Long>>getArgument(1).size();
+            return new ReleaseResult(size - 1, 1, 0);
+        });
+
+        ReleaseResult result = scheduler.release(10L).join();
+
+        assertThat(result).isEqualTo(new ReleaseResult(ReleaseScheduler.CHUNK_SIZE - 1, 2, 0));
+        verify(fulfiller).fulfil(10L, ids.subList(0, ReleaseScheduler.CHUNK_SIZE));
+        verify(fulfiller).fulfil(10L, List.of((long) ReleaseScheduler.CHUNK_SIZE + 1));
+    }
+
+    @Test
+    @DisplayName("Should count a failing chunk as errored and leave it for the sweep")
+    void shouldReportFailedChunk() {
+        when(preOrderRepository.findPendingIdsByGameId(10L)).thenReturn(List.of(1L, 2L));
+        when(fulfiller.fulfil(eq(10L), anyCollection())).thenThrow(new IllegalStateException("lock timeout"));
+
+        assertThat(scheduler.release(10L).join()).isEqualTo(ReleaseResult.errored(2));
+    }
+
+    @Test
+    @DisplayName("Should release a scheduled game once its tick comes round")
+    void shouldReleaseOnTick() throws InterruptedException {
+        when(preOrderRepository.findPendingIdsByGameId(10L)).thenReturn(List.of());
+        scheduler.schedule(10L, LocalDateTime.now().plusNanos(Duration.ofMillis(30).toNanos()));
+
+        scheduler.tick();
+        verify(preOrderRepository, never()).findPendingIdsByGameId(any());
+
+        Thread.sleep(60);
+        scheduler.tick();
+        verify(preOrderRepository).findPendingIdsByGameId(10L);
+    }
+
+    @Test
+    @DisplayName("Should put upcoming releases on the wheel and sweep overdue ones at startup")
+    void shouldLoadAndSweepAtStartup() {
+        when(gameRepository.findReleasesAfter(any(LocalDateTime.class)))
+                .thenReturn(List.of(new GameRelease(10L, LocalDateTime.now().plusDays(1))));
+        when(preOrderRepository.findGameIdsPendingReleasedBy(any(LocalDateTime.class))).thenReturn(List.of(20L));
+        when(preOrderRepository.findPendingIdsByGameId(20L)).thenReturn(List.of());
+
+        scheduler.load();
+        scheduler.tick();
+
+        verify(preOrderRepository).findPendingIdsByGameId(20L);
+        verify(preOrderRepository, never()).findPendingIdsByGameId(10L);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.Games.purchase.preorder;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TimingWheel Tests")
+class TimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("Should expire an entry on the first tick at or after its deadline, never before")
+    void shouldExpireAtDeadline() {
+        TimingWheel<String> wheel = new TimingWheel<>(Duration.ofSeconds(1), 8, START);
+        wheel.schedule("a", START + 2_500);
+
+        assertThat(wheel.advance(START + 2_999)).isEmpty();
+        assertThat(wheel.advance(START + 3_000)).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep entries more than a revolution away for their remaining turns")
+    void shouldCountTurnsBeyondOneRevolution() {
+        TimingWheel<String> wheel = new TimingWheel<>(Duration.ofSeconds(1), 4, START);
+        wheel.schedule("soon", START + 1_000);
+        wheel.schedule("later", START + 9_000);
+
+        assertThat(wheel.advance(START + 1_000)).containsExactly("soon");
+        assertThat(wheel.advance(START + 8_999)).isEmpty();
+        assertThat(wheel.advance(START + 9_000)).containsExactly("later");
+    }
+
+    @Test
+    @DisplayName("Should expire everything due across a long gap in deadline order")
+    void shouldCatchUpAfterGap() {
+        TimingWheel<String> wheel = new TimingWheel<>(Duration.ofSeconds(1), 4, START);
+        wheel.schedule("third", START + 10_000);
+        wheel.schedule("first", START + 2_000);
+        wheel.schedule("second", START + 5_000);
+        wheel.schedule("not yet", START + 30_000);
+
+        assertThat(wheel.advance(START + 20_000)).containsExactly("first", "second", "third");
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should make a past deadline due on the next advance")
+    void shouldExpirePastDeadlineNextTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(Duration.ofSeconds(1), 4, START);
+        wheel.advance(START + 5_000);
+        wheel.schedule("late", START);
+
+        assertThat(wheel.advance(START + 6_000)).containsExactly("late");
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive tick or wheel size")
+    void shouldRejectInvalidShape() {
+        assertThatThrownBy(() -> new TimingWheel<>(Duration.ZERO, 4, START))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TimingWheel<>(Duration.ofSeconds(1), 0, START))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
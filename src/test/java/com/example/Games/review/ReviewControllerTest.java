@@ -0,0 +1,111 @@
+package com.example.Games.review;
+
+import com.example.Games.config.common.dto.ApiResponse;
+import com.example.Games.config.common.mappers.ResponseMapStruct;
+import com.example.Games.config.exception.review.ReviewNotAllowedException;
+import com.example.Games.config.test.WebMvcTestWithoutSecurity;
+import com.example.Games.review.dto.ReviewPageResponse;
+import com.example.Games.review.dto.ReviewRequest;
+import com.example.Games.review.dto.ReviewResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTestWithoutSecurity(ReviewController.class)
+@DisplayName("ReviewController Tests")
+class ReviewControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private ReviewService reviewService;
+
+    @MockitoBean
+    private ResponseMapStruct responseMapper;
+
+    @Test
+    @DisplayName("Should list a game's reviews by the requested sort")
+    void shouldListReviews() throws Exception {
+        ReviewPageResponse page = new ReviewPageResponse(List.of(new ReviewResponse(5L, 10L, "owner", 4,
+                "Fast and fun", 3, LocalDateTime.now(), LocalDateTime.now())), "next", true, 1);
+        when(reviewService.getReviews(10L, "recent", null, 1)).thenReturn(page);
+        when(responseMapper.toSuccessResponse(page)).thenReturn(ApiResponse.success(page));
+
+        mockMvc.perform(get("/api/v1/reviews/game/10").param("sort", "recent").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.reviews[0].rating").value(4))
+                .andExpect(jsonPath("$.data.nextCursor").value("next"))
+                .andExpect(jsonPath("$.data.hasNext").value(true));
+    }
+
+    @Test
+    @DisplayName("Should post a review")
+    void shouldPostReview() throws Exception {
+        ReviewRequest request = new ReviewRequest(5, "Great");
+        ReviewResponse response = new ReviewResponse(5L, 10L, "owner", 5, "Great", 0,
+                LocalDateTime.now(), LocalDateTime.now());
+        when(reviewService.createReview(10L, request)).thenReturn(response);
+        when(responseMapper.toSuccessResponse("Review posted successfully", response))
+                .thenReturn(ApiResponse.success("Review posted successfully", response));
+
+        mockMvc.perform(post("/api/v1/reviews/game/10")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.rating").value(5));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for a rating outside one to five")
+    void shouldRejectOutOfRangeRating() throws Exception {
+        mockMvc.perform(post("/api/v1/reviews/game/10")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"rating\": 6}"))
+                .andExpect(status().isBadRequest());
+
+        verify(reviewService, never()).createReview(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should return 403 when the reviewer does not own the game")
+    void shouldReturn403ForNonOwner() throws Exception {
+        when(reviewService.createReview(eq(10L), any()))
+                .thenThrow(ReviewNotAllowedException.notOwned("Space Racer"));
+        when(responseMapper.toErrorResponse(anyString()))
+                .thenAnswer(invocation -> ApiResponse.error(invocation.getArgument(0)));
+
+        mockMvc.perform(post("/api/v1/reviews/game/10")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"rating\": 3}"))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.message").value("You can only review games you own: Space Racer"));
+    }
+
+    @Test
+    @DisplayName("Should mark a review as helpful")
+    void shouldMarkHelpful() throws Exception {
+        when(responseMapper.toSuccessResponse("Review marked as helpful"))
+                .thenReturn(ApiResponse.success("Review marked as helpful", null));
+
+        mockMvc.perform(post("/api/v1/reviews/5/helpful"))
+                .andExpect(status().isOk());
+
+        verify(reviewService).markHelpful(5L);
+    }
+}
@@ -0,0 +1,256 @@
+package com.example.Games.review;
+
+import com.example.Games.config.cache.CatalogCacheEvictor;
+import com.example.Games.config.common.service.UserContextService;
+import com.example.Games.config.exception.game.GameNotFoundException;
+import com.example.Games.config.exception.review.InvalidReviewException;
+import com.example.Games.config.exception.review.ReviewConflictException;
+import com.example.Games.config.exception.review.ReviewNotAllowedException;
+import com.example.Games.config.exception.review.ReviewNotFoundException;
+import com.example.Games.game.Game;
+import com.example.Games.game.GameCatalog;
+import com.example.Games.game.GameRepository;
+import com.example.Games.purchase.OwnershipIndex;
+import com.example.Games.review.dto.ReviewPageResponse;
+import com.example.Games.review.dto.ReviewRequest;
+import com.example.Games.review.dto.ReviewResponse;
+import com.example.Games.user.auth.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReviewService Tests")
+class ReviewServiceTest {
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private ReviewVoteRepository voteRepository;
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private OwnershipIndex ownership;
+
+    @Mock
+    private ReviewMapStruct reviewMapper;
+
+    @Mock
+    private UserContextService userContextService;
+
+    @Mock
+    private CatalogCacheEvictor catalogCache;
+
+    @Mock
+    private GameCatalog catalog;
+
+    @InjectMocks
+    private ReviewService reviewService;
+
+    private User owner;
+    private User reader;
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        owner = User.builder().id(1L).username("owner").build();
+        reader = User.builder().id(2L).username("reader").build();
+        game = Game.builder().id(10L).title("Space Racer").price(new BigDecimal("29.99")).build();
+        lenient().when(userContextService.getAuthorizedUser()).thenReturn(owner);
+    }
+
+    @Test
+    @DisplayName("Should post an owner's review and add its rating to the game totals")
+    void shouldCreateReview() {
+        ReviewRequest request = new ReviewRequest(4, "Fast and fun");
+        Review review = Review.builder().id(5L).user(owner).game(game).rating(4).body("Fast and fun").build();
+        ReviewResponse response = new ReviewResponse(5L, 10L, "owner", 4, "Fast and fun", 0,
+                LocalDateTime.now(), LocalDateTime.now());
+        when(gameRepository.findById(10L)).thenReturn(Optional.of(game));
+        when(ownership.owns(1L, 10L)).thenReturn(true);
+        when(reviewMapper.toEntity(request, owner, game)).thenReturn(review);
+        when(reviewRepository.saveAndFlush(review)).thenReturn(review);
+        when(reviewMapper.toDto(review)).thenReturn(response);
+
+        assertThat(reviewService.createReview(10L, request)).isEqualTo(response);
+
+        verify(gameRepository).adjustRating(eq(10L), eq(4L), eq(1L), any(LocalDateTime.class));
+        verify(catalogCache).evictGameById(10L);
+        verify(catalog).refreshRating(10L);
+        verifyNoMoreInteractions(catalog);
+    }
+
+    @Test
+    @DisplayName("Should report a concurrent duplicate review as already reviewed")
+    void shouldMapUniqueKeyViolationToConflict() {
+        ReviewRequest request = new ReviewRequest(4, null);
+        Review review = Review.builder().user(owner).game(game).rating(4).build();
+        when(gameRepository.findById(10L)).thenReturn(Optional.of(game));
+        when(ownership.owns(1L, 10L)).thenReturn(true);
+        when(reviewMapper.toEntity(request, owner, game)).thenReturn(review);
+        when(reviewRepository.saveAndFlush(review)).thenThrow(new DataIntegrityViolationException("uk_review"));
+
+        assertThatThrownBy(() -> reviewService.createReview(10L, request))
+                .isInstanceOf(ReviewConflictException.class)
+                .hasMessage("You already reviewed this game: Space Racer");
+
+        verify(gameRepository, never()).adjustRating(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should only let owners review, and only once")
+    void shouldRejectNonOwnersAndDuplicates() {
+        ReviewRequest request = new ReviewRequest(5, null);
+        when(gameRepository.findById(10L)).thenReturn(Optional.of(game));
+        when(ownership.owns(1L, 10L)).thenReturn(false, true);
+        when(reviewRepository.existsByUserIdAndGameId(1L, 10L)).thenReturn(true);
+
+        assertThatThrownBy(() -> reviewService.createReview(10L, request))
+                .isInstanceOf(ReviewNotAllowedException.class)
+                .hasMessage("You can only review games you own: Space Racer");
+        assertThatThrownBy(() -> reviewService.createReview(10L, request))
+                .isInstanceOf(ReviewConflictException.class);
+
+        verify(reviewRepository, never()).saveAndFlush(any());
+        verify(gameRepository, never()).adjustRating(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should apply only the rating difference when a review is edited")
+    void shouldUpdateReviewByDelta() {
+        Review review = Review.builder().id(5L).user(owner).game(game).rating(2).build();
+        when(reviewRepository.lockByUserIdAndGameId(1L, 10L)).thenReturn(Optional.of(review));
+
+        reviewService.updateMyReview(10L, new ReviewRequest(5, "Grew on me"));
+
+        assertThat(review.getRating()).isEqualTo(5);
+        assertThat(review.getBody()).isEqualTo("Grew on me");
+        verify(gameRepository).adjustRating(eq(10L), eq(3L), eq(0L), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Should leave the game totals alone when an edit keeps the rating")
+    void shouldNotAdjustTotalsForTextOnlyEdit() {
+        Review review = Review.builder().id(5L).user(owner).game(game).rating(4).build();
+        when(reviewRepository.lockByUserIdAndGameId(1L, 10L)).thenReturn(Optional.of(review));
+
+        reviewService.updateMyReview(10L, new ReviewRequest(4, "Edited"));
+
+        verifyNoInteractions(gameRepository, catalog);
+    }
+
+    @Test
+    @DisplayName("Should remove a deleted review's rating and votes")
+    void shouldDeleteReview() {
+        Review review = Review.builder().id(5L).user(owner).game(game).rating(3).build();
+        when(reviewRepository.lockByUserIdAndGameId(1L, 10L)).thenReturn(Optional.of(review));
+
+        reviewService.deleteMyReview(10L);
+
+        verify(voteRepository).deleteByReviewId(5L);
+        verify(reviewRepository).delete(review);
+        verify(gameRepository).adjustRating(eq(10L), eq(-3L), eq(-1L), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Should throw when deleting a review that does not exist")
+    void shouldThrowWhenDeletingMissingReview() {
+        when(reviewRepository.lockByUserIdAndGameId(1L, 10L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> reviewService.deleteMyReview(10L))
+                .isInstanceOf(ReviewNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should count a helpful vote once per reader and never on the author's own review")
+    void shouldMarkHelpful() {
+        Review review = Review.builder().id(5L).user(reader).game(game).rating(4).build();
+        when(reviewRepository.findByIdWithUser(5L)).thenReturn(Optional.of(review));
+        when(voteRepository.existsByReviewIdAndUserId(5L, 1L)).thenReturn(false, true);
+
+        reviewService.markHelpful(5L);
+        assertThatThrownBy(() -> reviewService.markHelpful(5L))
+                .isInstanceOf(ReviewConflictException.class);
+
+        verify(voteRepository).save(argThat(vote -> vote.getReview() == review && vote.getUser() == owner));
+        verify(reviewRepository).incrementHelpfulCount(5L);
+
+        when(userContextService.getAuthorizedUser()).thenReturn(reader);
+        assertThatThrownBy(() -> reviewService.markHelpful(5L))
+                .isInstanceOf(ReviewNotAllowedException.class);
+    }
+
+    @Test
+    @DisplayName("Should page reviews by helpfulness with a cursor after the last row")
+    void shouldPageByHelpfulness() {
+        Review first = Review.builder().id(7L).user(owner).game(game).rating(5).helpfulCount(9).build();
+        Review second = Review.builder().id(3L).user(reader).game(game).rating(2).helpfulCount(4).build();
+        Review extra = Review.builder().id(8L).user(reader).game(game).rating(3).helpfulCount(1).build();
+        when(gameRepository.existsById(10L)).thenReturn(true);
+        when(reviewRepository.findMostHelpful(10L, PageRequest.of(0, 3))).thenReturn(List.of(first, second, extra));
+        when(reviewMapper.toDtoList(List.of(first, second))).thenReturn(List.of());
+
+        ReviewPageResponse page = reviewService.getReviews(10L, "helpful", null, 2);
+
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.limit()).isEqualTo(2);
+        ReviewCursor cursor = ReviewCursor.decode(page.nextCursor());
+        assertThat(cursor).isEqualTo(new ReviewCursor(ReviewSort.HELPFUL, 3L, 4));
+
+        when(reviewRepository.findMostHelpfulAfter(10L, 4, 3L, PageRequest.of(0, 3))).thenReturn(List.of(extra));
+        when(reviewMapper.toDtoList(List.of(extra))).thenReturn(List.of());
+
+        ReviewPageResponse next = reviewService.getReviews(10L, "helpful", page.nextCursor(), 2);
+        assertThat(next.hasNext()).isFalse();
+        assertThat(next.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should continue a recency page from its cursor")
+    void shouldPageByRecency() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 3, 1, 10, 15, 30, 123_000);
+        String cursor = new ReviewCursor(ReviewSort.RECENT, 12L, createdAt).encode();
+        when(gameRepository.existsById(10L)).thenReturn(true);
+        when(reviewRepository.findMostRecentAfter(10L, createdAt, 12L, PageRequest.of(0, 21))).thenReturn(List.of());
+        when(reviewMapper.toDtoList(List.of())).thenReturn(List.of());
+
+        ReviewPageResponse page = reviewService.getReviews(10L, "recent", cursor, 20);
+
+        assertThat(page.reviews()).isEmpty();
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown sort, a cursor from another sort and an unknown game")
+    void shouldRejectInvalidListings() {
+        String recentCursor = new ReviewCursor(ReviewSort.RECENT, 12L, LocalDateTime.now()).encode();
+        when(gameRepository.existsById(99L)).thenReturn(false);
+
+        assertThatThrownBy(() -> reviewService.getReviews(10L, "stars", null, 20))
+                .isInstanceOf(InvalidReviewException.class);
+        assertThatThrownBy(() -> reviewService.getReviews(10L, "helpful", recentCursor, 20))
+                .isInstanceOf(InvalidReviewException.class);
+        assertThatThrownBy(() -> reviewService.getReviews(10L, "helpful", "not-a-cursor", 20))
+                .isInstanceOf(InvalidReviewException.class);
+        assertThatThrownBy(() -> reviewService.getReviews(99L, "recent", null, 20))
+                .isInstanceOf(GameNotFoundException.class);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.Games.tag;
+
+import com.example.Games.config.common.dto.ApiResponse;
+import com.example.Games.config.common.mappers.ResponseMapStruct;
+import com.example.Games.config.test.WebMvcTestWithoutSecurity;
+import com.example.Games.tag.dto.GameTagsRequest;
+import com.example.Games.tag.dto.GameTagsResponse;
+import com.example.Games.tag.dto.TagResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTestWithoutSecurity(TagController.class)
+@DisplayName("TagController Tests")
+class TagControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private TagService tagService;
+
+    @MockitoBean
+    private ResponseMapStruct responseMapper;
+
+    @Test
+    @DisplayName("Should list tags with their game counts")
+    void shouldListTags() throws Exception {
+        List<TagResponse> tags = List.of(new TagResponse("co-op", 3), new TagResponse("roguelike", 1));
+        when(tagService.getAllTags()).thenReturn(tags);
+        when(responseMapper.toSuccessResponse(tags)).thenReturn(ApiResponse.success(tags));
+
+        mockMvc.perform(get("/api/v1/tags"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].name").value("co-op"))
+                .andExpect(jsonPath("$.data[0].gameCount").value(3));
+    }
+
+    @Test
+    @DisplayName("Should replace a game's tags")
+    void shouldSetGameTags() throws Exception {
+        GameTagsRequest request = new GameTagsRequest(List.of("co-op", "pixel art"));
+        GameTagsResponse response = new GameTagsResponse(10L, List.of("co-op", "pixel-art"));
+        when(tagService.setGameTags(10L, request)).thenReturn(response);
+        when(responseMapper.toSuccessResponse("Game tags updated successfully", response))
+                .thenReturn(ApiResponse.success("Game tags updated successfully", response));
+
+        mockMvc.perform(put("/api/v1/tags/game/10")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.tags[1]").value("pixel-art"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for a tag with unsupported characters")
+    void shouldRejectInvalidTag() throws Exception {
+        mockMvc.perform(put("/api/v1/tags/game/10")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"tags\": [\"co-op\", \"<script>\"]}"))
+                .andExpect(status().isBadRequest());
+
+        verify(tagService, never()).setGameTags(any(), any());
+    }
+}
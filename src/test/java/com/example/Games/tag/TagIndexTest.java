@@ -0,0 +1,170 @@
+package com.example.Games.tag;
+
+import com.example.Games.config.cache.CatalogVersion;
+import com.example.Games.game.GameTombstoneRepository;
+import com.example.Games.tag.dto.GameTagName;
+import com.example.Games.tag.dto.TagResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TagIndex Tests")
+class TagIndexTest {
+
+    @Mock
+    private GameTagRepository gameTagRepository;
+
+    @Mock
+    private GameTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    private TagIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TagIndex(gameTagRepository, tombstoneRepository, catalogVersion, Duration.ofMinutes(1));
+        when(gameTagRepository.findAllNames()).thenReturn(List.of(
+                new GameTagName(1L, "co-op"),
+                new GameTagName(1L, "roguelike"),
+                new GameTagName(2L, "co-op"),
+                new GameTagName(2L, "pixel-art"),
+                new GameTagName(3L, "roguelike"),
+                new GameTagName(3L, "pixel-art"),
+                new GameTagName(4L, "co-op"),
+                new GameTagName(4L, "roguelike"),
+                new GameTagName(4L, "pixel-art")
+        ));
+        index.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should intersect required tags and union alternative ones")
+    void shouldCombineTags() {
+        assertThat(matches(index.select(List.of("co-op", "roguelike"), null, null))).containsExactly(1L, 4L);
+        assertThat(matches(index.select(List.of("co-op"), List.of("pixel-art", "roguelike"), null)))
+                .containsExactly(1L, 2L, 4L);
+        assertThat(matches(index.select(null, List.of("pixel-art"), null))).containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("Should drop excluded tags and treat no required tag as every game")
+    void shouldExcludeTags() {
+        assertThat(matches(index.select(List.of("roguelike"), null, List.of("pixel-art")))).containsExactly(1L);
+        assertThat(matches(index.select(null, null, List.of("co-op")))).containsExactly(3L, 5L);
+    }
+
+    @Test
+    @DisplayName("Should normalize names and match nothing for an unknown required tag")
+    void shouldNormalizeAndHandleUnknownTags() {
+        assertThat(matches(index.select(List.of(" Pixel Art "), null, null))).containsExactly(2L, 3L, 4L);
+        assertThat(index.select(List.of("co-op", "horror"), null, null).isEmpty()).isTrue();
+        assertThat(index.select(null, List.of("horror"), null).isEmpty()).isTrue();
+        assertThat(matches(index.select(List.of("co-op"), null, List.of("horror")))).containsExactly(1L, 2L, 4L);
+    }
+
+    @Test
+    @DisplayName("Should hand out a copy that later writes do not change")
+    void shouldReturnIndependentSelection() {
+        TagSelection selection = index.select(List.of("co-op"), null, null);
+
+        index.gameRemoved(1L);
+
+        assertThat(selection.test(1L)).isTrue();
+        assertThat(index.select(List.of("co-op"), null, null).test(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should count games per tag, most used first")
+    void shouldCountGamesPerTag() {
+        assertThat(index.tags()).containsExactly(
+                new TagResponse("co-op", 3),
+                new TagResponse("pixel-art", 3),
+                new TagResponse("roguelike", 3));
+
+        index.gameRemoved(2L);
+
+        assertThat(index.tags()).containsExactly(
+                new TagResponse("roguelike", 3),
+                new TagResponse("co-op", 2),
+                new TagResponse("pixel-art", 2));
+    }
+
+    @Test
+    @DisplayName("Should apply retagging only after the transaction commits")
+    void shouldApplyChangesAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        index.gameTagged(3L, Set.of("co-op", "horror"));
+
+        assertThat(matches(index.select(List.of("horror"), null, null))).isEmpty();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(matches(index.select(List.of("horror"), null, null))).containsExactly(3L);
+        assertThat(matches(index.select(List.of("roguelike"), null, null))).containsExactly(1L, 4L);
+        assertThat(index.tags()).contains(new TagResponse("co-op", 4), new TagResponse("horror", 1));
+    }
+
+    @Test
+    @DisplayName("Should catch up with retagging and deletions done on other nodes")
+    void shouldCatchUpWithOtherNodesWrites() {
+        when(gameTagRepository.findGameIdsRetaggedSince(any(LocalDateTime.class))).thenReturn(List.of(1L, 2L, 3L));
+        when(gameTagRepository.findNamesByGameIdIn(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                new GameTagName(1L, "co-op"),
+                new GameTagName(1L, "roguelike"),
+                new GameTagName(3L, "horror")));
+        when(tombstoneRepository.findGameIdsDeletedSince(any(LocalDateTime.class))).thenReturn(List.of(4L));
+
+        index.catchUp();
+
+        assertThat(matches(index.select(List.of("co-op"), null, null))).containsExactly(1L);
+        assertThat(matches(index.select(List.of("horror"), null, null))).containsExactly(3L);
+        assertThat(matches(index.select(null, List.of("pixel-art"), null))).isEmpty();
+        verify(catalogVersion).bumpAfterCommit();
+    }
+
+    @Test
+    @DisplayName("Should filter games whose ids lie beyond the bitmap range")
+    void shouldFilterIdsBeyondIntRange() {
+        long wide = Integer.MAX_VALUE + 1L;
+        TransactionSynchronizationManager.initSynchronization();
+        index.gameTagged(wide, Set.of("co-op", "horror"));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(index.select(List.of("horror"), null, null).test(wide)).isTrue();
+        assertThat(index.select(List.of("horror"), null, null).isEmpty()).isFalse();
+        assertThat(index.select(List.of("roguelike"), null, null).test(wide)).isFalse();
+        assertThat(index.select(null, null, List.of("horror")).test(wide)).isFalse();
+        assertThat(index.select(null, null, List.of("pixel-art")).test(wide)).isTrue();
+        assertThat(index.tags()).contains(new TagResponse("co-op", 4), new TagResponse("horror", 1));
+    }
+
+    private static List<Long> matches(TagSelection selection) {
+        return LongStream.rangeClosed(1, 5).filter(selection).boxed().toList();
+    }
+}
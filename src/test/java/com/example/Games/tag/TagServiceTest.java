@@ -0,0 +1,124 @@
+package com.example.Games.tag;
+
+import com.example.Games.config.cache.CatalogVersion;
+import com.example.Games.config.common.service.UserContextService;
+import com.example.Games.config.exception.game.GameNotFoundException;
+import com.example.Games.config.exception.game.UnauthorizedGameAccessException;
+import com.example.Games.game.Game;
+import com.example.Games.game.GameRepository;
+import com.example.Games.tag.dto.GameTagsRequest;
+import com.example.Games.tag.dto.GameTagsResponse;
+import com.example.Games.user.auth.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TagService Tests")
+class TagServiceTest {
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Mock
+    private GameTagRepository gameTagRepository;
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private TagIndex tagIndex;
+
+    @Mock
+    private UserContextService userContextService;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    @InjectMocks
+    private TagService tagService;
+
+    private User developer;
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        developer = User.builder().id(1L).username("gamedev").build();
+        game = Game.builder().id(10L).title("Dungeon Duo").author(developer).build();
+        lenient().when(userContextService.getAuthorizedUser()).thenReturn(developer);
+    }
+
+    @Test
+    @DisplayName("Should replace a game's tags, creating the ones that are new")
+    void shouldSetGameTags() {
+        Tag coop = Tag.builder().id(1L).name("co-op").build();
+        when(gameRepository.findByIdWithAuthor(10L)).thenReturn(Optional.of(game));
+        when(tagRepository.findByNameIn(Set.of("co-op", "pixel-art"))).thenReturn(List.of(coop));
+        when(tagRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        GameTagsResponse response = tagService.setGameTags(10L,
+                new GameTagsRequest(List.of("Pixel Art", "co-op", "CO-OP")));
+
+        assertThat(response).isEqualTo(new GameTagsResponse(10L, List.of("co-op", "pixel-art")));
+        verify(tagRepository).saveAll(argThat((Collection<Tag> tags) ->
+                tags.stream().map(Tag::getName).toList().equals(List.of("pixel-art"))));
+        verify(gameTagRepository).deleteByGameId(10L);
+        verify(gameTagRepository).markRetagged(eq(10L), any(LocalDateTime.class));
+        verify(gameTagRepository).saveAll(argThat((Collection<GameTag> rows) -> rows.size() == 2
+                && rows.stream().allMatch(row -> row.getGame() == game)
+                && rows.stream().anyMatch(row -> row.getTag() == coop)));
+        verify(tagIndex).gameTagged(10L, Set.of("co-op", "pixel-art"));
+        verify(catalogVersion).bumpAfterCommit();
+    }
+
+    @Test
+    @DisplayName("Should clear every tag when given an empty list")
+    void shouldClearGameTags() {
+        when(gameRepository.findByIdWithAuthor(10L)).thenReturn(Optional.of(game));
+
+        GameTagsResponse response = tagService.setGameTags(10L, new GameTagsRequest(List.of()));
+
+        assertThat(response.tags()).isEmpty();
+        verify(gameTagRepository).deleteByGameId(10L);
+        verify(tagIndex).gameTagged(10L, Set.of());
+    }
+
+    @Test
+    @DisplayName("Should only let the game's author tag it")
+    void shouldRejectTaggingByOtherDeveloper() {
+        User other = User.builder().id(2L).username("otherdev").build();
+        when(userContextService.getAuthorizedUser()).thenReturn(other);
+        when(gameRepository.findByIdWithAuthor(10L)).thenReturn(Optional.of(game));
+
+        assertThatThrownBy(() -> tagService.setGameTags(10L, new GameTagsRequest(List.of("co-op"))))
+                .isInstanceOf(UnauthorizedGameAccessException.class);
+
+        verifyNoInteractions(tagRepository, gameTagRepository, tagIndex, catalogVersion);
+    }
+
+    @Test
+    @DisplayName("Should read a game's tags and fail for an unknown game")
+    void shouldGetGameTags() {
+        when(gameRepository.existsById(10L)).thenReturn(true);
+        when(gameTagRepository.findNamesByGameId(10L)).thenReturn(List.of("co-op", "roguelike"));
+        when(gameRepository.existsById(99L)).thenReturn(false);
+
+        assertThat(tagService.getGameTags(10L).tags()).containsExactly("co-op", "roguelike");
+        assertThatThrownBy(() -> tagService.getGameTags(99L))
+                .isInstanceOf(GameNotFoundException.class);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.Games.typeahead;
+
+import com.example.Games.config.common.dto.ApiResponse;
+import com.example.Games.config.common.mappers.ResponseMapStruct;
+import com.example.Games.config.test.WebMvcTestWithoutSecurity;
+import com.example.Games.typeahead.dto.Suggestion;
+import com.example.Games.typeahead.dto.SuggestionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTestWithoutSecurity(TypeaheadController.class)
+@DisplayName("TypeaheadController Tests")
+class TypeaheadControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TypeaheadIndex typeaheadIndex;
+
+    @MockitoBean
+    private ResponseMapStruct responseMapper;
+
+    @Test
+    @DisplayName("Should return suggestions for a prefix")
+    void shouldReturnSuggestions() throws Exception {
+        List<Suggestion> suggestions = List.of(
+                new Suggestion(SuggestionType.DEVELOPER, 100L, "stardev"),
+                new Suggestion(SuggestionType.GAME, 2L, "Space Racer"));
+        when(typeaheadIndex.complete("s", 8)).thenReturn(suggestions);
+        when(responseMapper.toSuccessResponse(suggestions)).thenReturn(ApiResponse.success(suggestions));
+
+        mockMvc.perform(get("/api/v1/typeahead").param("q", "s"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].type").value("DEVELOPER"))
+                .andExpect(jsonPath("$.data[0].label").value("stardev"))
+                .andExpect(jsonPath("$.data[1].type").value("GAME"))
+                .andExpect(jsonPath("$.data[1].id").value(2));
+    }
+
+    @Test
+    @DisplayName("Should cap the number of suggestions")
+    void shouldCapSuggestionLimit() throws Exception {
+        when(typeaheadIndex.complete("sp", TypeaheadController.MAX_SUGGESTIONS)).thenReturn(List.of());
+        when(responseMapper.toSuccessResponse(List.<Suggestion>of())).thenReturn(ApiResponse.success(List.of()));
+
+        mockMvc.perform(get("/api/v1/typeahead").param("q", "sp").param("limit", "500"))
+                .andExpect(status().isOk());
+
+        verify(typeaheadIndex).complete("sp", TypeaheadController.MAX_SUGGESTIONS);
+    }
+}
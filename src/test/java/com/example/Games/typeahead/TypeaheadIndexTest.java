@@ -0,0 +1,186 @@
+package com.example.Games.typeahead;
+
+import com.example.Games.category.Category;
+import com.example.Games.category.CategoryRepository;
+import com.example.Games.game.GameRepository;
+import com.example.Games.game.dto.GameTerm;
+import com.example.Games.purchase.PurchaseRepository;
+import com.example.Games.purchase.dto.GamePurchaseCount;
+import com.example.Games.typeahead.dto.Suggestion;
+import com.example.Games.typeahead.dto.SuggestionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TypeaheadIndex Tests")
+class TypeaheadIndexTest {
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private PurchaseRepository purchaseRepository;
+
+    @InjectMocks
+    private TypeaheadIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(gameRepository.findAllTerms()).thenReturn(List.of(
+                new GameTerm(1L, "Space Adventure", 10L, 100L, "stardev"),
+                new GameTerm(2L, "Space Racer", 11L, 100L, "stardev"),
+                new GameTerm(3L, "The Witcher", 10L, 101L, "sapkowski"),
+                new GameTerm(4L, "Spaceport Tycoon", 12L, 101L, "sapkowski")
+        ));
+        when(categoryRepository.findAll()).thenReturn(List.of(
+                category(10L, "Adventure"),
+                category(11L, "Racing"),
+                category(12L, "Simulation"),
+                category(13L, "Sports")
+        ));
+        when(purchaseRepository.countPurchasesPerGame()).thenReturn(List.of(
+                new GamePurchaseCount(2L, 7),
+                new GamePurchaseCount(3L, 3),
+                new GamePurchaseCount(4L, 1)
+        ));
+        index.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static Category category(Long id, String name) {
+        return Category.builder().id(id).name(name).build();
+    }
+
+    private static Suggestion game(Long id, String title) {
+        return new Suggestion(SuggestionType.GAME, id, title);
+    }
+
+    @Test
+    @DisplayName("Should rebuild games, categories and developers from the repositories")
+    void shouldRebuildFromRepositories() {
+        assertThat(index.size()).isEqualTo(10);
+        verify(gameRepository).findAllTerms();
+        verify(categoryRepository).findAll();
+        verify(purchaseRepository).countPurchasesPerGame();
+    }
+
+    @Test
+    @DisplayName("Should complete a prefix across all kinds, most popular first")
+    void shouldCompleteAcrossKindsByPopularity() {
+        // stardev: 2 games + 7 sales; Sports has no games, so it weighs nothing
+        assertThat(index.complete("s", 10)).containsExactly(
+                new Suggestion(SuggestionType.DEVELOPER, 100L, "stardev"),
+                game(2L, "Space Racer"),
+                new Suggestion(SuggestionType.DEVELOPER, 101L, "sapkowski"),
+                new Suggestion(SuggestionType.CATEGORY, 12L, "Simulation"),
+                game(4L, "Spaceport Tycoon"),
+                game(1L, "Space Adventure"),
+                new Suggestion(SuggestionType.CATEGORY, 13L, "Sports"));
+        assertThat(index.complete("SPACE", 2)).containsExactly(game(2L, "Space Racer"), game(4L, "Spaceport Tycoon"));
+    }
+
+    @Test
+    @DisplayName("Should complete from any word of a label, listing each label once")
+    void shouldCompleteFromAnyWord() {
+        assertThat(index.complete("witch", 10)).containsExactly(game(3L, "The Witcher"));
+        assertThat(index.complete("adv", 10)).containsExactly(
+                new Suggestion(SuggestionType.CATEGORY, 10L, "Adventure"),
+                game(1L, "Space Adventure"));
+        assertThat(index.complete("space adv", 10)).containsExactly(game(1L, "Space Adventure"));
+    }
+
+    @Test
+    @DisplayName("Should return nothing for blank, unknown or zero-limit queries")
+    void shouldReturnNothingForEmptyQueries() {
+        assertThat(index.complete("   ", 10)).isEmpty();
+        assertThat(index.complete("zzz", 10)).isEmpty();
+        assertThat(index.complete("space", 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should apply game and category writes")
+    void shouldApplyIncrementalChanges() {
+        index.gameSaved(new GameTerm(5L, "Rally Legends", 11L, 102L, "rallyteam"));
+        index.gameSaved(new GameTerm(2L, "Galaxy Racer", 11L, 100L, "stardev"));
+        index.gameRemoved(4L);
+        index.categorySaved(12L, "Strategy");
+        index.categoryRemoved(13L);
+        index.publishPending();
+
+        assertThat(index.complete("space", 10)).containsExactly(game(1L, "Space Adventure"));
+        assertThat(index.complete("ra", 10)).extracting(Suggestion::label)
+                .containsExactly("Racing", "Galaxy Racer", "rallyteam", "Rally Legends");
+        assertThat(index.complete("s", 10)).extracting(Suggestion::label)
+                .containsExactly("stardev", "sapkowski", "Space Adventure", "Strategy");
+    }
+
+    @Test
+    @DisplayName("Should apply a batch of saved games as one change")
+    void shouldApplySavedBatch() {
+        index.gamesSaved(List.of(
+                new GameTerm(5L, "Rally Legends", 11L, 102L, "rallyteam"),
+                new GameTerm(6L, "Rally Legends II", 11L, 102L, "rallyteam")));
+        index.publishPending();
+
+        assertThat(index.complete("rally", 10)).extracting(Suggestion::label)
+                .containsExactlyInAnyOrder("rallyteam", "Rally Legends", "Rally Legends II");
+        verifyNoMoreInteractions(gameRepository);
+    }
+
+    @Test
+    @DisplayName("Should coalesce writes into the next publish")
+    void shouldCoalesceWritesIntoOnePublish() {
+        index.gameSaved(new GameTerm(5L, "Rally Legends", 11L, 102L, "rallyteam"));
+        index.gameRemoved(1L);
+
+        assertThat(index.complete("rally", 10)).isEmpty();
+        assertThat(index.complete("space adv", 10)).containsExactly(game(1L, "Space Adventure"));
+
+        index.publishPending();
+
+        assertThat(index.complete("rally", 10)).hasSize(2);
+        assertThat(index.complete("space adv", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should defer changes until the transaction commits")
+    void shouldDeferChangesUntilCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        index.gameSaved(new GameTerm(5L, "Rally Legends", 11L, 102L, "rallyteam"));
+        index.gameRemoved(3L);
+
+        assertThat(index.complete("rally", 10)).isEmpty();
+        assertThat(index.complete("witcher", 10)).containsExactly(game(3L, "The Witcher"));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        index.publishPending();
+
+        assertThat(index.complete("rally", 10)).containsExactly(
+                new Suggestion(SuggestionType.DEVELOPER, 102L, "rallyteam"),
+                game(5L, "Rally Legends"));
+        assertThat(index.complete("witcher", 10)).isEmpty();
+    }
+}
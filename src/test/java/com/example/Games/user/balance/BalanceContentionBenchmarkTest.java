@@ -0,0 +1,209 @@
+package com.example.Games.user.balance;
+
+import com.example.Games.config.TestJpaAuditingConfig;
+import com.example.Games.config.common.service.UserContextService;
+import com.example.Games.config.exception.balance.InsufficientFundsException;
+import com.example.Games.user.auth.User;
+import com.example.Games.user.auth.UserRepository;
+import com.example.Games.user.balance.transaction.BalanceTransactionRepository;
+import com.example.Games.user.balance.transaction.OperationType;
+import com.example.Games.user.role.Role;
+import com.example.Games.user.role.RoleRepository;
+import com.example.Games.user.role.RoleType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+// Threads debiting one balance at once: a read-modify-write under a row lock, a read-modify-write guarded by
+// @Version and retried on conflict, and the conditional UPDATE BalanceService now uses. Each run starts with funds
+// for only part of the attempts, so it also checks that no debit is lost and the balance never goes negative.
+// Run with: mvn test -Pbenchmark
+@Tag("benchmark")
+@DataJpaTest
+@Import({TestJpaAuditingConfig.class, BalanceService.class, BalanceMapStructImpl.class})
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.example.Games=WARN"
+})
+@DisplayName("Balance contention Benchmark")
+class BalanceContentionBenchmarkTest {
+
+    private static final int THREADS = 8;
+    private static final int DEBITS_PER_THREAD = 250;
+    private static final int MAX_ATTEMPTS = 50;
+    private static final BigDecimal PRICE = new BigDecimal("1.00");
+    private static final BigDecimal STARTING_FUNDS = new BigDecimal("1500.00");
+
+    @Autowired
+    private BalanceService balanceService;
+
+    @Autowired
+    private BalanceRepository balanceRepository;
+
+    @Autowired
+    private BalanceTransactionRepository transactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private UserContextService userContextService;
+
+    private TransactionTemplate transaction;
+    private User buyer;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        buyer = transaction.execute(status -> {
+            Role role = roleRepository.save(Role.builder().name(RoleType.USER).build());
+            User user = userRepository.save(User.builder()
+                    .username("contended").email("contended@example.com").password("password123").role(role).build());
+            balanceRepository.save(Balance.builder().user(user).amount(STARTING_FUNDS).build());
+            return user;
+        });
+    }
+
+    // Nothing here runs in a rolled-back test transaction, so the shared in-memory database is emptied by hand
+    @AfterEach
+    void tearDown() {
+        transactionRepository.deleteAllInBatch();
+        balanceRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        roleRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Conditional updates should keep every debit without retries or locks held across reads")
+    void conditionalUpdatesShouldKeepEveryDebit() throws Exception {
+        Result locked = measure("row lock", this::debitUnderLock);
+        Result versioned = measure("@Version + retry", this::debitVersioned);
+        Result conditional = measure("conditional UPDATE",
+                () -> balanceService.createPurchaseTransaction(PRICE, buyer));
+
+        for (Result result : List.of(locked, versioned, conditional)) {
+            System.out.printf("%-20s %,8.0f debits/s, %d accepted, %d refused, %d retries%n",
+                    result.name(), result.throughput(), result.accepted(), result.refused(), result.retries());
+        }
+        assertThat(conditional.retries()).isZero();
+    }
+
+    // Runs every debit attempt across the threads, then checks the books against what was accepted
+    private Result measure(String name, Runnable debit) throws Exception {
+        reset();
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger refused = new AtomicInteger();
+        AtomicInteger retries = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            workers.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < DEBITS_PER_THREAD; i++) {
+                    if (attempt(debit, retries)) {
+                        accepted.incrementAndGet();
+                    } else {
+                        refused.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+        pool.shutdown();
+
+        int attempts = THREADS * DEBITS_PER_THREAD;
+        BigDecimal remaining = balanceRepository.findAmountByUserId(buyer.getId()).orElseThrow().amount();
+        assertThat(accepted.get() + refused.get()).as(name).isEqualTo(attempts);
+        assertThat(accepted.get()).as(name).isEqualTo(STARTING_FUNDS.divide(PRICE).intValue());
+        assertThat(remaining).as(name).isEqualByComparingTo(
+                STARTING_FUNDS.subtract(PRICE.multiply(BigDecimal.valueOf(accepted.get()))));
+        assertThat(remaining.signum()).as(name).isGreaterThanOrEqualTo(0);
+        assertThat(transactionRepository.count()).as(name).isEqualTo(accepted.get());
+
+        return new Result(name, attempts * 1e9 / elapsed, accepted.get(), refused.get(), retries.get());
+    }
+
+    // Retries a debit that lost a lock or version race; false when the balance no longer covers it
+    private boolean attempt(Runnable debit, AtomicInteger retries) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                debit.run();
+                return true;
+            } catch (InsufficientFundsException e) {
+                return false;
+            } catch (ConcurrencyFailureException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+                retries.incrementAndGet();
+            }
+        }
+    }
+
+    private void debitUnderLock() {
+        transaction.executeWithoutResult(status -> {
+            Balance balance = balanceRepository.lockByUserIdIn(List.of(buyer.getId())).getFirst();
+            debit(balance);
+        });
+    }
+
+    private void debitVersioned() {
+        transaction.executeWithoutResult(status -> debit(balanceRepository.findByUser(buyer).orElseThrow()));
+    }
+
+    private void debit(Balance balance) {
+        BigDecimal before = balance.getAmount();
+        balance.withdraw(PRICE);
+        transactionRepository.save(balance.createTransaction(OperationType.PURCHASE, PRICE, before));
+    }
+
+    private void reset() {
+        transactionRepository.deleteAllInBatch();
+        transaction.executeWithoutResult(status ->
+                balanceRepository.findByUser(buyer).orElseThrow().setAmount(STARTING_FUNDS));
+    }
+
+    private record Result(String name, double throughput, int accepted, int refused, int retries) {
+    }
+}
@@ -2,6 +2,7 @@ package com.example.Games.user.balance;
 
 import com.example.Games.config.TestJpaAuditingConfig;
 import com.example.Games.user.auth.User;
+import com.example.Games.user.balance.dto.BalanceAmount;
 import com.example.Games.user.role.Role;
 import com.example.Games.user.role.RoleRepository;
 import com.example.Games.user.role.RoleType;
@@ -14,9 +15,11 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -216,4 +219,38 @@ class BalanceRepositoryTest {
         assertThat(updated.getUpdatedAt()).isAfter(originalUpdatedAt);
         assertThat(updated.getAmount()).isEqualByComparingTo("200.00");
     }
+
+    @Test
+    @DisplayName("Should debit only while the balance covers the amount and bump the version")
+    void shouldDebitOnlyWhileCovered() {
+        Balance balance = entityManager.persistAndFlush(Balance.builder()
+                .user(testUser)
+                .amount(new BigDecimal("100.00"))
+                .build());
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(balanceRepository.debit(testUser.getId(), new BigDecimal("60.00"), now)).isEqualTo(1);
+        assertThat(balanceRepository.debit(testUser.getId(), new BigDecimal("60.00"), now)).isZero();
+        assertThat(balanceRepository.credit(testUser.getId(), new BigDecimal("5.50"), now)).isEqualTo(1);
+
+        assertThat(balanceRepository.findAmountByUserId(testUser.getId()))
+                .contains(new BalanceAmount(balance.getId(), new BigDecimal("45.50")));
+        entityManager.clear();
+        assertThat(balanceRepository.findById(balance.getId()).orElseThrow().getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Should reject a write from a copy loaded before a conditional update")
+    void shouldRejectStaleEntityWrite() {
+        Balance stale = entityManager.persistAndFlush(Balance.builder()
+                .user(testUser)
+                .amount(new BigDecimal("100.00"))
+                .build());
+
+        balanceRepository.debit(testUser.getId(), new BigDecimal("30.00"), LocalDateTime.now());
+        stale.setAmount(new BigDecimal("500.00"));
+
+        assertThatThrownBy(() -> balanceRepository.saveAndFlush(stale))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
 }
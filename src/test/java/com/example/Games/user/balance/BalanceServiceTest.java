@@ -258,23 +258,17 @@ class BalanceServiceTest {
 
     // DEPOSIT TESTS
     @Test
-    @DisplayName("Should deposit successfully")
+    @DisplayName("Should deposit with one conditional update")
     void shouldDepositSuccessfully() {
         // Given
         DepositRequest depositRequest = new DepositRequest(new BigDecimal("50.00"));
 
-        BalanceTransaction transaction = BalanceTransaction.builder()
-                .balance(testBalance)
-                .type(OperationType.DEPOSIT)
-                .amount(new BigDecimal("50.00"))
-                .balanceBefore(new BigDecimal("100.00"))
-                .balanceAfter(new BigDecimal("150.00"))
-                .build();
-
         when(userContextService.getAuthorizedUser()).thenReturn(testUser);
-        when(balanceRepository.findByUser(testUser)).thenReturn(Optional.of(testBalance));
-        when(balanceRepository.save(testBalance)).thenReturn(testBalance);
-        when(transactionRepository.save(any(BalanceTransaction.class))).thenReturn(transaction);
+        when(balanceRepository.credit(eq(1L), eq(new BigDecimal("50.00")), any(LocalDateTime.class))).thenReturn(1);
+        when(balanceRepository.findAmountByUserId(1L))
+                .thenReturn(Optional.of(new BalanceAmount(1L, new BigDecimal("150.00"))));
+        when(balanceRepository.getReferenceById(1L)).thenReturn(testBalance);
+        when(transactionRepository.save(any(BalanceTransaction.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(balanceMapper.toBalanceOperationResponse(
                 eq(new BigDecimal("150.00")),
                 eq(1L),
@@ -287,10 +281,8 @@ class BalanceServiceTest {
 
         // Then
         assertThat(result).isEqualTo(operationResponse);
-        assertThat(testBalance.getAmount()).isEqualByComparingTo(new BigDecimal("150.00"));
-
-        verify(balanceRepository).save(testBalance);
-        verify(transactionRepository).save(any(BalanceTransaction.class));
+        verify(balanceRepository, never()).findByUser(any());
+        verify(balanceRepository, never()).save(any());
     }
 
     @Test
@@ -300,14 +292,14 @@ class BalanceServiceTest {
         DepositRequest depositRequest = new DepositRequest(new BigDecimal("50.00"));
         
         when(userContextService.getAuthorizedUser()).thenReturn(testUser);
-        when(balanceRepository.findByUser(testUser)).thenReturn(Optional.empty());
+        when(balanceRepository.credit(eq(1L), any(), any())).thenReturn(0);
+        when(balanceRepository.findAmountByUserId(1L)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> balanceService.deposit(depositRequest))
                 .isInstanceOf(BalanceNotFoundException.class)
                 .hasMessageContaining("testuser");
 
-        verify(balanceRepository, never()).save(any());
         verify(transactionRepository, never()).save(any());
     }
 
@@ -318,8 +310,11 @@ class BalanceServiceTest {
         DepositRequest depositRequest = new DepositRequest(new BigDecimal("75.25"));
 
         when(userContextService.getAuthorizedUser()).thenReturn(testUser);
-        when(balanceRepository.findByUser(testUser)).thenReturn(Optional.of(testBalance));
-        when(balanceRepository.save(testBalance)).thenReturn(testBalance);
+        when(balanceRepository.credit(eq(1L), eq(new BigDecimal("75.25")), any())).thenReturn(1);
+        when(balanceRepository.findAmountByUserId(1L))
+                .thenReturn(Optional.of(new BalanceAmount(1L, new BigDecimal("175.25"))));
+        when(balanceRepository.getReferenceById(1L)).thenReturn(testBalance);
+        when(transactionRepository.save(any(BalanceTransaction.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(balanceMapper.toBalanceOperationResponse(any(), any(), any(), any())).thenReturn(operationResponse);
 
         // When
@@ -337,9 +332,23 @@ class BalanceServiceTest {
         assertThat(savedTransaction.getBalanceAfter()).isEqualByComparingTo(new BigDecimal("175.25"));
     }
 
+    @Test
+    @DisplayName("Should throw exception when deposit amount is invalid")
+    void shouldThrowExceptionWhenDepositAmountIsInvalid() {
+        // Given
+        when(userContextService.getAuthorizedUser()).thenReturn(testUser);
+
+        // When & Then
+        assertThatThrownBy(() -> balanceService.deposit(new DepositRequest(new BigDecimal("-5.00"))))
+                .isInstanceOf(InvalidAmountException.class)
+                .hasMessageContaining("Deposit");
+
+        verify(balanceRepository, never()).credit(any(), any(), any());
+    }
+
     // WITHDRAWAL TESTS
     @Test
-    @DisplayName("Should withdraw successfully")
+    @DisplayName("Should withdraw with one conditional update")
     void shouldWithdrawSuccessfully() {
         // Given
         WithdrawRequest withdrawRequest = new WithdrawRequest(new BigDecimal("30.00"));
@@ -352,8 +361,11 @@ class BalanceServiceTest {
         );
 
         when(userContextService.getAuthorizedUser()).thenReturn(testUser);
-        when(balanceRepository.findByUser(testUser)).thenReturn(Optional.of(testBalance));
-        when(balanceRepository.save(testBalance)).thenReturn(testBalance);
+        when(balanceRepository.debit(eq(1L), eq(new BigDecimal("30.00")), any(LocalDateTime.class))).thenReturn(1);
+        when(balanceRepository.findAmountByUserId(1L))
+                .thenReturn(Optional.of(new BalanceAmount(1L, new BigDecimal("70.00"))));
+        when(balanceRepository.getReferenceById(1L)).thenReturn(testBalance);
+        when(transactionRepository.save(any(BalanceTransaction.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(balanceMapper.toBalanceOperationResponse(
                 eq(new BigDecimal("70.00")),
                 eq(1L),
@@ -366,7 +378,6 @@ class BalanceServiceTest {
 
         // Then
         assertThat(result).isEqualTo(withdrawResponse);
-        assertThat(testBalance.getAmount()).isEqualByComparingTo(new BigDecimal("70.00"));
         
         ArgumentCaptor<BalanceTransaction> transactionCaptor = ArgumentCaptor.forClass(BalanceTransaction.class);
         verify(transactionRepository).save(transactionCaptor.capture());
@@ -374,6 +385,8 @@ class BalanceServiceTest {
         BalanceTransaction savedTransaction = transactionCaptor.getValue();
         assertThat(savedTransaction.getType()).isEqualTo(OperationType.WITHDRAWAL);
         assertThat(savedTransaction.getAmount()).isEqualByComparingTo(new BigDecimal("30.00"));
+        assertThat(savedTransaction.getBalanceBefore()).isEqualByComparingTo(new BigDecimal("100.00"));
+        assertThat(savedTransaction.getBalanceAfter()).isEqualByComparingTo(new BigDecimal("70.00"));
     }
 
     @Test
@@ -383,7 +396,9 @@ class BalanceServiceTest {
         WithdrawRequest withdrawRequest = new WithdrawRequest(new BigDecimal("150.00"));
 
         when(userContextService.getAuthorizedUser()).thenReturn(testUser);
-        when(balanceRepository.findByUser(testUser)).thenReturn(Optional.of(testBalance));
+        when(balanceRepository.debit(eq(1L), eq(new BigDecimal("150.00")), any())).thenReturn(0);
+        when(balanceRepository.findAmountByUserId(1L))
+                .thenReturn(Optional.of(new BalanceAmount(1L, new BigDecimal("100.00"))));
 
         // When & Then
         assertThatThrownBy(() -> balanceService.withdraw(withdrawRequest))
@@ -391,7 +406,6 @@ class BalanceServiceTest {
                 .hasMessageContaining("Current: $100.00")
                 .hasMessageContaining("Requested: $150.00");
 
-        verify(balanceRepository, never()).save(any());
         verify(transactionRepository, never()).save(any());
     }
 
@@ -402,14 +416,14 @@ class BalanceServiceTest {
         WithdrawRequest withdrawRequest = new WithdrawRequest(new BigDecimal("50.00"));
         
         when(userContextService.getAuthorizedUser()).thenReturn(testUser);
-        when(balanceRepository.findByUser(testUser)).thenReturn(Optional.empty());
+        when(balanceRepository.debit(eq(1L), any(), any())).thenReturn(0);
+        when(balanceRepository.findAmountByUserId(1L)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> balanceService.withdraw(withdrawRequest))
                 .isInstanceOf(BalanceNotFoundException.class)
                 .hasMessageContaining("testuser");
 
-        verify(balanceRepository, never()).save(any());
         verify(transactionRepository, never()).save(any());
     }
 
@@ -420,14 +434,13 @@ class BalanceServiceTest {
         WithdrawRequest withdrawRequest = new WithdrawRequest(BigDecimal.ZERO);
         
         when(userContextService.getAuthorizedUser()).thenReturn(testUser);
-        when(balanceRepository.findByUser(testUser)).thenReturn(Optional.of(testBalance));
 
         // When & Then
         assertThatThrownBy(() -> balanceService.withdraw(withdrawRequest))
                 .isInstanceOf(InvalidAmountException.class)
                 .hasMessageContaining("Withdrawal");
 
-        verify(balanceRepository, never()).save(any());
+        verify(balanceRepository, never()).debit(any(), any(), any());
         verify(transactionRepository, never()).save(any());
     }
 
@@ -464,29 +477,24 @@ class BalanceServiceTest {
     void shouldCreatePurchaseTransactionSuccessfully() {
         // Given
         BigDecimal purchaseAmount = new BigDecimal("25.00");
-        
-        BalanceTransaction expectedTransaction = BalanceTransaction.builder()
-                .balance(testBalance)
-                .type(OperationType.PURCHASE)
-                .amount(purchaseAmount)
-                .balanceBefore(new BigDecimal("100.00"))
-                .balanceAfter(new BigDecimal("75.00"))
-                .build();
 
-        when(balanceRepository.findByUser(testUser)).thenReturn(Optional.of(testBalance));
-        when(balanceRepository.save(testBalance)).thenReturn(testBalance);
-        when(transactionRepository.save(any(BalanceTransaction.class))).thenReturn(expectedTransaction);
+        when(balanceRepository.debit(eq(1L), eq(purchaseAmount), any(LocalDateTime.class))).thenReturn(1);
+        when(balanceRepository.findAmountByUserId(1L))
+                .thenReturn(Optional.of(new BalanceAmount(1L, new BigDecimal("75.00"))));
+        when(balanceRepository.getReferenceById(1L)).thenReturn(testBalance);
+        when(transactionRepository.save(any(BalanceTransaction.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
         BalanceTransaction result = balanceService.createPurchaseTransaction(purchaseAmount, testUser);
 
         // Then
-        assertThat(result).isEqualTo(expectedTransaction);
-        assertThat(testBalance.getAmount()).isEqualByComparingTo(new BigDecimal("75.00"));
-        
-        verify(balanceRepository).findByUser(testUser);
-        verify(balanceRepository).save(testBalance);
-        verify(transactionRepository).save(any(BalanceTransaction.class));
+        assertThat(result.getBalance()).isEqualTo(testBalance);
+        assertThat(result.getType()).isEqualTo(OperationType.PURCHASE);
+        assertThat(result.getBalanceBefore()).isEqualByComparingTo(new BigDecimal("100.00"));
+        assertThat(result.getBalanceAfter()).isEqualByComparingTo(new BigDecimal("75.00"));
+
+        verify(balanceRepository, never()).findByUser(any());
+        verify(balanceRepository, never()).save(any());
     }
 
     @Test
@@ -495,7 +503,9 @@ class BalanceServiceTest {
         // Given
         BigDecimal purchaseAmount = new BigDecimal("150.00");
 
-        when(balanceRepository.findByUser(testUser)).thenReturn(Optional.of(testBalance));
+        when(balanceRepository.debit(eq(1L), eq(purchaseAmount), any())).thenReturn(0);
+        when(balanceRepository.findAmountByUserId(1L))
+                .thenReturn(Optional.of(new BalanceAmount(1L, new BigDecimal("100.00"))));
 
         // When & Then
         assertThatThrownBy(() -> balanceService.createPurchaseTransaction(purchaseAmount, testUser))
@@ -503,7 +513,6 @@ class BalanceServiceTest {
                 .hasMessageContaining("Current: $100.00")
                 .hasMessageContaining("Requested: $150.00");
 
-        verify(balanceRepository, never()).save(any());
         verify(transactionRepository, never()).save(any());
     }
 
@@ -513,14 +522,36 @@ class BalanceServiceTest {
         // Given
         BigDecimal purchaseAmount = new BigDecimal("50.00");
         
-        when(balanceRepository.findByUser(testUser)).thenReturn(Optional.empty());
+        when(balanceRepository.debit(eq(1L), any(), any())).thenReturn(0);
+        when(balanceRepository.findAmountByUserId(1L)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> balanceService.createPurchaseTransaction(purchaseAmount, testUser))
                 .isInstanceOf(BalanceNotFoundException.class)
                 .hasMessageContaining("testuser");
 
-        verify(balanceRepository, never()).save(any());
         verify(transactionRepository, never()).save(any());
     }
+
+    @Test
+    @DisplayName("Should report a short debit as empty without touching the ledger")
+    void shouldReturnEmptyDebitWhenFundsRunShort() {
+        when(balanceRepository.debit(eq(1L), eq(new BigDecimal("150.00")), any())).thenReturn(0);
+
+        assertThat(balanceService.debit(testUser, new BigDecimal("150"), OperationType.PURCHASE, "Pre-order"))
+                .isEmpty();
+
+        verify(balanceRepository, never()).findAmountByUserId(any());
+        verify(transactionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should name the operation when a debit amount is invalid")
+    void shouldNameOperationOfInvalidDebit() {
+        assertThatThrownBy(() -> balanceService.createPurchaseTransaction(BigDecimal.ZERO, testUser))
+                .isInstanceOf(InvalidAmountException.class)
+                .hasMessage("Purchase amount must be positive");
+
+        verifyNoInteractions(balanceRepository);
+    }
 }